@@ -0,0 +1,99 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.benchmark;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import org.joda.time.Chronology;
+import org.joda.time.DateTimeZone;
+import org.joda.time.chrono.BuddhistChronology;
+import org.joda.time.chrono.GJChronology;
+import org.joda.time.chrono.GregorianChronology;
+import org.joda.time.chrono.ISOChronology;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks obtaining chronologies from their <code>getInstance</code>
+ * factories when many threads do so at once.
+ * <p>
+ * Each thread cycles through more zones than the ISO fast cache holds,
+ * so the shared registry is exercised as well as the fast cache.
+ *
+ * @author Stephen Colebourne
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(64)
+@State(Scope.Thread)
+public class ChronologyCacheBenchmark {
+
+    /** The number of distinct values cycled through. */
+    private static final int SIZE = 128;
+
+    private DateTimeZone[] iZones;
+    private int iIndex;
+
+    @Setup
+    public void setUp() {
+        iZones = new DateTimeZone[SIZE];
+        Iterator<String> it = DateTimeZone.getAvailableIDs().iterator();
+        for (int i = 0; i < SIZE; i++) {
+            iZones[i] = DateTimeZone.forID(it.next());
+            // measure lookups, not the creation of each chronology
+            BuddhistChronology.getInstance(iZones[i]);
+            ISOChronology.getInstance(iZones[i]);
+        }
+    }
+
+    private int next() {
+        return iIndex = (iIndex + 1) & (SIZE - 1);
+    }
+
+    @Benchmark
+    public Chronology isoInstance() {
+        return ISOChronology.getInstance(iZones[next()]);
+    }
+
+    @Benchmark
+    public Chronology gregorianInstance() {
+        return GregorianChronology.getInstance(iZones[next()]);
+    }
+
+    @Benchmark
+    public Chronology gjInstance() {
+        return GJChronology.getInstance(iZones[next()]);
+    }
+
+    @Benchmark
+    public Chronology buddhistInstance() {
+        return BuddhistChronology.getInstance(iZones[next()]);
+    }
+
+}
@@ -0,0 +1,178 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.benchmark;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.joda.time.Chronology;
+import org.joda.time.DateTimeField;
+import org.joda.time.chrono.GregorianChronology;
+import org.joda.time.chrono.ISOChronology;
+import org.joda.time.chrono.JulianChronology;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks extracting the calendar fields from a millisecond instant.
+ * <p>
+ * The fields are obtained through the public field API, which delegates to
+ * the year, month and day calculations in <code>BasicChronology</code>,
+ * or all at once through {@link Chronology#getDateTimeFields(long, int[])}.
+ * The reverse, composing instants from columns of field values, is measured
+ * both one instant at a time and in bulk.
+ *
+ * @author Stephen Colebourne
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ChronologyFieldBenchmark {
+
+    /** The number of distinct values cycled through. */
+    private static final int SIZE = 1024;
+
+    @Param({"ISO", "Gregorian", "Julian"})
+    public String chronology;
+
+    private Chronology iChronology;
+    private DateTimeField iYear;
+    private DateTimeField iMonthOfYear;
+    private DateTimeField iDayOfMonth;
+    private DateTimeField iMillisOfDay;
+    private DateTimeField[] iFields;
+    private int[] iValues = new int[7];
+    private long[] iInstants;
+    private int[][] iColumns;
+    private long[] iResults = new long[SIZE];
+    private int iIndex;
+
+    @Setup
+    public void setUp() {
+        Chronology chrono;
+        if ("ISO".equals(chronology)) {
+            chrono = ISOChronology.getInstanceUTC();
+        } else if ("Gregorian".equals(chronology)) {
+            chrono = GregorianChronology.getInstanceUTC();
+        } else if ("Julian".equals(chronology)) {
+            chrono = JulianChronology.getInstanceUTC();
+        } else {
+            throw new IllegalArgumentException("Unknown chronology: " + chronology);
+        }
+        iChronology = chrono;
+        iYear = chrono.year();
+        iMonthOfYear = chrono.monthOfYear();
+        iDayOfMonth = chrono.dayOfMonth();
+        iMillisOfDay = chrono.millisOfDay();
+        iFields = new DateTimeField[] {
+            chrono.year(), chrono.monthOfYear(), chrono.dayOfMonth(), chrono.hourOfDay(),
+            chrono.minuteOfHour(), chrono.secondOfMinute(), chrono.millisOfSecond(),
+        };
+
+        Random random = new Random(0);
+        iInstants = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            // 1900-01-01 to 2100-01-01
+            iInstants[i] = -2208988800000L + (long) (random.nextDouble() * 6311433600000L);
+        }
+        // a year of sorted timestamps, as is typical of columnar storage
+        long[] sorted = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            // 2011-01-01 to 2012-01-01
+            sorted[i] = 1293840000000L + (long) (random.nextDouble() * 31536000000L);
+        }
+        Arrays.sort(sorted);
+        iColumns = new int[7][SIZE];
+        int[] values = new int[7];
+        for (int i = 0; i < SIZE; i++) {
+            chrono.getDateTimeFields(sorted[i], values);
+            for (int j = 0; j < 7; j++) {
+                iColumns[j][i] = values[j];
+            }
+        }
+    }
+
+    private long next() {
+        return iInstants[iIndex = (iIndex + 1) & (SIZE - 1)];
+    }
+
+    @Benchmark
+    public int getYear() {
+        return iYear.get(next());
+    }
+
+    @Benchmark
+    public int getMonthOfYear() {
+        return iMonthOfYear.get(next());
+    }
+
+    @Benchmark
+    public int getDayOfMonth() {
+        return iDayOfMonth.get(next());
+    }
+
+    @Benchmark
+    public int getYearMonthDayMillisOfDay() {
+        long instant = next();
+        return iYear.get(instant) + iMonthOfYear.get(instant)
+            + iDayOfMonth.get(instant) + iMillisOfDay.get(instant);
+    }
+
+    @Benchmark
+    public int[] getAllFieldsSeparately() {
+        long instant = next();
+        int[] values = iValues;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = iFields[i].get(instant);
+        }
+        return values;
+    }
+
+    @Benchmark
+    public int[] getDateTimeFields() {
+        return iChronology.getDateTimeFields(next(), iValues);
+    }
+
+    @Benchmark
+    public long[] getDateTimeMillisSeparately() {
+        int[][] c = iColumns;
+        long[] results = iResults;
+        for (int i = 0; i < SIZE; i++) {
+            results[i] = iChronology.getDateTimeMillis(c[0][i], c[1][i], c[2][i], c[3][i], c[4][i], c[5][i], c[6][i]);
+        }
+        return results;
+    }
+
+    @Benchmark
+    public long[] getDateTimeMillisBulk() {
+        int[][] c = iColumns;
+        return iChronology.getDateTimeMillis(c[0], c[1], c[2], c[3], c[4], c[5], c[6], iResults);
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeUtils;
+import org.joda.time.LocalDate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks obtaining the current time and date, as when stamping requests.
+ * <p>
+ * The current time is read from the system clock each time, or from the value
+ * published by the coarse clock installed with
+ * {@link DateTimeUtils#setCurrentMillisCoarse(long)}.
+ *
+ * @author Stephen Colebourne
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CurrentTimeBenchmark {
+
+    @Param({"system", "coarse"})
+    public String clock;
+
+    @Setup
+    public void setUp() {
+        if ("system".equals(clock)) {
+            DateTimeUtils.setCurrentMillisSystem();
+        } else if ("coarse".equals(clock)) {
+            DateTimeUtils.setCurrentMillisCoarse(1L);
+        } else {
+            throw new IllegalArgumentException("Unknown clock: " + clock);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        DateTimeUtils.setCurrentMillisSystem();
+    }
+
+    @Benchmark
+    public long currentTimeMillis() {
+        return DateTimeUtils.currentTimeMillis();
+    }
+
+    @Benchmark
+    public DateTime newDateTime() {
+        return new DateTime();
+    }
+
+    @Benchmark
+    public LocalDate newLocalDate() {
+        return new LocalDate();
+    }
+
+    @Benchmark
+    public LocalDate currentLocalDate() {
+        return DateTimeUtils.currentLocalDate();
+    }
+
+}
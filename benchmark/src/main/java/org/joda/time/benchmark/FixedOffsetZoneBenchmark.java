@@ -0,0 +1,93 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.format.DateTimeFormatter;
+import org.joda.time.format.ISODateTimeFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks obtaining fixed offset zones, as when parsing with the offset retained.
+ *
+ * @author Stephen Colebourne
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FixedOffsetZoneBenchmark {
+
+    /** The number of distinct values cycled through. */
+    private static final int SIZE = 1024;
+
+    private DateTimeFormatter iParser;
+    private int[] iQuarterHours;
+    private int[] iSeconds;
+    private String[] iTexts;
+    private int iIndex;
+
+    @Setup
+    public void setUp() {
+        iParser = ISODateTimeFormat.dateTimeParser().withOffsetParsed();
+        Random random = new Random(0);
+        iQuarterHours = new int[SIZE];
+        iSeconds = new int[SIZE];
+        iTexts = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            iQuarterHours[i] = (random.nextInt(57) - 24) * 15 * 60 * 1000;
+            iSeconds[i] = (random.nextInt(200) + 1) * 1000 + 7;
+            int hours = random.nextInt(27) - 12;
+            iTexts[i] = "2011-06-09T12:30:00" + (hours < 0 ? "-" : "+")
+                + (Math.abs(hours) < 10 ? "0" : "") + Math.abs(hours) + ":00";
+        }
+    }
+
+    private int next() {
+        return iIndex = (iIndex + 1) & (SIZE - 1);
+    }
+
+    @Benchmark
+    public DateTimeZone forOffsetMillisQuarterHour() {
+        return DateTimeZone.forOffsetMillis(iQuarterHours[next()]);
+    }
+
+    @Benchmark
+    public DateTimeZone forOffsetMillisOther() {
+        return DateTimeZone.forOffsetMillis(iSeconds[next()]);
+    }
+
+    @Benchmark
+    public DateTime parseWithOffset() {
+        return iParser.parseDateTime(iTexts[next()]);
+    }
+
+}
@@ -0,0 +1,235 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.benchmark;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.joda.time.DateTimeZone;
+import org.joda.time.format.DateTimeFormatter;
+import org.joda.time.format.DateTimeParserBucket;
+import org.joda.time.format.DateTimePrintCache;
+import org.joda.time.format.ISODateTimeFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks printing and parsing with the ISO formatters.
+ * <p>
+ * Each invocation works on the next value of a pre-generated set of instants
+ * spread over several decades, so that the results are not dominated by a
+ * single year or zone transition period.
+ *
+ * @author Stephen Colebourne
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FormatterBenchmark {
+
+    /** The number of distinct values cycled through. */
+    private static final int SIZE = 1024;
+
+    @Param({"dateTime", "dateTimeNoMillis", "basicDateTime"})
+    public String format;
+
+    @Param({"UTC", "Europe/London"})
+    public String zone;
+
+    private DateTimeFormatter iPrinter;
+    private DateTimeFormatter iParser;
+    private long[] iInstants;
+    private long[] iSortedInstants;
+    private long[] iDayInstants;
+    private char[] iBatchChars = new char[SIZE * 64];
+    private String[] iTexts;
+    private String[] iExtendedTexts;
+    private byte[][] iTextBytes;
+    private DateTimeParserBucket iBucket;
+    private DateTimePrintCache iPrintCache;
+    /** A steadily increasing instant, as found in logs. */
+    private long iMonotonic = 1300000000000L;
+    private long[] iResults = new long[SIZE];
+    private int[] iErrors = new int[SIZE];
+    private char[] iChars = new char[64];
+    private byte[] iBytes = new byte[64];
+    private ByteBuffer iByteBuffer = ByteBuffer.allocateDirect(64);
+    private int iIndex;
+
+    @Setup
+    public void setUp() {
+        DateTimeFormatter formatter;
+        if ("dateTime".equals(format)) {
+            formatter = ISODateTimeFormat.dateTime();
+        } else if ("dateTimeNoMillis".equals(format)) {
+            formatter = ISODateTimeFormat.dateTimeNoMillis();
+        } else if ("basicDateTime".equals(format)) {
+            formatter = ISODateTimeFormat.basicDateTime();
+        } else {
+            throw new IllegalArgumentException("Unknown format: " + format);
+        }
+        iPrinter = formatter.withZone(DateTimeZone.forID(zone));
+        iParser = formatter.withOffsetParsed();
+        iBucket = iParser.createParserBucket();
+        iPrintCache = iPrinter.createPrintCache();
+
+        Random random = new Random(0);
+        iInstants = new long[SIZE];
+        iTexts = new String[SIZE];
+        iExtendedTexts = new String[SIZE];
+        iTextBytes = new byte[SIZE][];
+        DateTimeFormatter extended = ISODateTimeFormat.dateTime().withZone(DateTimeZone.forID(zone));
+        for (int i = 0; i < SIZE; i++) {
+            // 1950-01-01 to 2050-01-01
+            long millis = -631152000000L + (long) (random.nextDouble() * 3155760000000L);
+            iInstants[i] = millis;
+            iTexts[i] = iPrinter.print(millis);
+            iExtendedTexts[i] = extended.print(millis);
+            iTextBytes[i] = iTexts[i].getBytes(Charset.forName("US-ASCII"));
+        }
+        iSortedInstants = iInstants.clone();
+        Arrays.sort(iSortedInstants);
+        // a column of sorted values within one day, about a minute apart
+        iDayInstants = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            iDayInstants[i] = 1086739200000L + i * 84375L + random.nextInt(1000);
+        }
+    }
+
+    private int next() {
+        return iIndex = (iIndex + 1) & (SIZE - 1);
+    }
+
+    @Benchmark
+    public String print() {
+        return iPrinter.print(iInstants[next()]);
+    }
+
+    @Benchmark
+    public int printCharArray() {
+        return iPrinter.printTo(iChars, 0, iInstants[next()]);
+    }
+
+    @Benchmark
+    public int printCharArrayMonotonic() {
+        return iPrinter.printTo(iChars, 0, iMonotonic += 3);
+    }
+
+    @Benchmark
+    public int printCacheMonotonic() {
+        return iPrintCache.printTo(iChars, 0, iMonotonic += 3);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int printCharArrayLoop() {
+        char[] buf = iBatchChars;
+        int pos = 0;
+        for (int i = 0; i < SIZE; i++) {
+            if (i > 0) {
+                buf[pos++] = ',';
+            }
+            pos += iPrinter.printTo(buf, pos, iSortedInstants[i]);
+        }
+        return pos;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int printCharArrayBatch() {
+        return iPrinter.printTo(iBatchChars, 0, iSortedInstants, null, ",");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int printCharArrayLoopDay() {
+        char[] buf = iBatchChars;
+        int pos = 0;
+        for (int i = 0; i < SIZE; i++) {
+            if (i > 0) {
+                buf[pos++] = ',';
+            }
+            pos += iPrinter.printTo(buf, pos, iDayInstants[i]);
+        }
+        return pos;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int printCharArrayBatchDay() {
+        return iPrinter.printTo(iBatchChars, 0, iDayInstants, null, ",");
+    }
+
+    @Benchmark
+    public int printByteArray() {
+        return iPrinter.printTo(iBytes, 0, iInstants[next()]);
+    }
+
+    @Benchmark
+    public int printByteBuffer() {
+        iByteBuffer.clear();
+        return iPrinter.printTo(iByteBuffer, iInstants[next()]);
+    }
+
+    @Benchmark
+    public byte[] printStringEncode() throws Exception {
+        return iPrinter.print(iInstants[next()]).getBytes("US-ASCII");
+    }
+
+    @Benchmark
+    public long parseMillis() {
+        return iParser.parseMillis(iTexts[next()]);
+    }
+
+    @Benchmark
+    public long parseMillisReusedBucket() {
+        return iBucket.parseMillis(iParser.getParser(), iTexts[next()]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int parseMillisBatch() {
+        return iParser.parseMillis(iTexts, iResults, iErrors);
+    }
+
+    @Benchmark
+    public long parseMillisByteArray() {
+        byte[] bytes = iTextBytes[next()];
+        return iParser.parseMillis(bytes, 0, bytes.length);
+    }
+
+    @Benchmark
+    public long parseMillisDateTimeParser() {
+        return ISODateTimeFormat.dateTimeParser().parseMillis(iExtendedTexts[next()]);
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.benchmark;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks obtaining formatters from the caches in {@link DateTimeFormat}
+ * when many threads do so at once.
+ * <p>
+ * Each thread cycles through a few patterns and locales, as a server
+ * formatting for different clients would.
+ *
+ * @author Stephen Colebourne
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Thread)
+public class FormatterCacheBenchmark {
+
+    /** The number of distinct values cycled through. */
+    private static final int SIZE = 4;
+
+    private static final String[] PATTERNS = {
+        "yyyy-MM-dd HH:mm:ss", "dd/MMM/yyyy:HH:mm:ss Z", "EEE, dd MMM yyyy HH:mm:ss zzz", "HH:mm:ss.SSS",
+    };
+    private static final Locale[] LOCALES = {
+        Locale.UK, Locale.FRANCE, Locale.GERMANY, Locale.US,
+    };
+
+    private DateTimeFormatter[] iStyleFormatters;
+    private int iIndex;
+
+    @Setup
+    public void setUp() {
+        DateTimeFormatter f = DateTimeFormat.mediumDateTime().withZoneUTC();
+        iStyleFormatters = new DateTimeFormatter[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            iStyleFormatters[i] = f.withLocale(LOCALES[i]);
+        }
+    }
+
+    private int next() {
+        return iIndex = (iIndex + 1) & (SIZE - 1);
+    }
+
+    @Benchmark
+    public DateTimeFormatter forPattern() {
+        return DateTimeFormat.forPattern(PATTERNS[next()]);
+    }
+
+    @Benchmark
+    public DateTimeFormatter forStyle() {
+        return DateTimeFormat.forStyle("MS");
+    }
+
+    @Benchmark
+    public String printStyle() {
+        return iStyleFormatters[next()].print(1086776430040L);
+    }
+
+    @Benchmark
+    public String printStyleSameLocale() {
+        return iStyleFormatters[0].print(1086776430040L);
+    }
+
+}
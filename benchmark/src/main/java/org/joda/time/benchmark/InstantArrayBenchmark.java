@@ -0,0 +1,114 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.joda.time.DateTime;
+import org.joda.time.InstantArray;
+import org.joda.time.chrono.ISOChronology;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks a sorted time series held as a list of <code>DateTime</code>
+ * objects against the same series held in an {@link InstantArray}.
+ *
+ * @author Stephen Colebourne
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InstantArrayBenchmark {
+
+    /** The number of instants in the series. */
+    private static final int SIZE = 1024 * 1024;
+    /** The number of distinct keys searched for. */
+    private static final int KEYS = 1024;
+
+    private List<DateTime> iList;
+    private InstantArray iArray;
+    private DateTime[] iKeys;
+    private int iIndex;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(0);
+        iArray = new InstantArray(ISOChronology.getInstanceUTC());
+        iArray.ensureCapacity(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            // 2011-01-01 to 2012-01-01
+            iArray.addMillis(1293840000000L + (long) (random.nextDouble() * 31536000000L));
+        }
+        iArray.sort();
+        iList = new ArrayList<DateTime>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            iList.add(iArray.getDateTime(i));
+        }
+        iKeys = new DateTime[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            iKeys[i] = iArray.getDateTime(random.nextInt(SIZE));
+        }
+    }
+
+    private DateTime next() {
+        return iKeys[iIndex = (iIndex + 1) & (KEYS - 1)];
+    }
+
+    @Benchmark
+    public int binarySearchList() {
+        return Collections.binarySearch(iList, next());
+    }
+
+    @Benchmark
+    public int binarySearchInstantArray() {
+        return iArray.binarySearch(next());
+    }
+
+    @Benchmark
+    public long sumList() {
+        long total = 0;
+        for (int i = 0; i < SIZE; i++) {
+            total += iList.get(i).getMillis();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long sumInstantArray() {
+        long total = 0;
+        for (int i = 0; i < SIZE; i++) {
+            total += iArray.getMillis(i);
+        }
+        return total;
+    }
+
+}
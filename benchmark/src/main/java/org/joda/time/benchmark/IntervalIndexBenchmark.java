@@ -0,0 +1,124 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.joda.time.InstantIndex;
+import org.joda.time.Interval;
+import org.joda.time.IntervalIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks finding bookings that overlap a query interval, by checking
+ * each <code>Interval</code> in a list or using an {@link IntervalIndex},
+ * and counting instants within an interval using an {@link InstantIndex}.
+ *
+ * @author Stephen Colebourne
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IntervalIndexBenchmark {
+
+    /** The number of distinct queries cycled through. */
+    private static final int QUERIES = 1024;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private List<Interval> iIntervals;
+    private IntervalIndex iIntervalIndex;
+    private long[] iInstants;
+    private InstantIndex iInstantIndex;
+    private Interval[] iQueries;
+    private int iIndex;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(0);
+        iIntervals = new ArrayList<Interval>(size);
+        iInstants = new long[size];
+        for (int i = 0; i < size; i++) {
+            // bookings of up to four hours during 2011
+            long start = 1293840000000L + (long) (random.nextDouble() * 31536000000L);
+            iIntervals.add(new Interval(start, start + random.nextInt(4 * 60 * 60 * 1000)));
+            iInstants[i] = start;
+        }
+        iIntervalIndex = new IntervalIndex(iIntervals);
+        iInstantIndex = new InstantIndex(iInstants);
+        iQueries = new Interval[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            long start = 1293840000000L + (long) (random.nextDouble() * 31536000000L);
+            iQueries[i] = new Interval(start, start + 60 * 60 * 1000);
+        }
+    }
+
+    private Interval next() {
+        return iQueries[iIndex = (iIndex + 1) & (QUERIES - 1)];
+    }
+
+    @Benchmark
+    public int countOverlappingList() {
+        Interval query = next();
+        int count = 0;
+        for (int i = 0; i < iIntervals.size(); i++) {
+            if (iIntervals.get(i).overlaps(query)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int countOverlappingIndex() {
+        return iIntervalIndex.countOverlapping(next());
+    }
+
+    @Benchmark
+    public int countInstantsArray() {
+        Interval query = next();
+        int count = 0;
+        for (int i = 0; i < iInstants.length; i++) {
+            if (query.contains(iInstants[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int countInstantsIndex() {
+        return iInstantIndex.count(next());
+    }
+
+}
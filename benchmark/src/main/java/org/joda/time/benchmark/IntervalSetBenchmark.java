@@ -0,0 +1,118 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Interval;
+import org.joda.time.IntervalSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks intersecting ten years of nightly maintenance windows with
+ * weekday business hours, using lists of <code>Interval</code> objects
+ * or an {@link IntervalSet}.
+ *
+ * @author Stephen Colebourne
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IntervalSetBenchmark {
+
+    private List<Interval> iMaintenance;
+    private List<Interval> iBusinessHours;
+    private IntervalSet iMaintenanceSet;
+    private IntervalSet iBusinessHoursSet;
+
+    @Setup
+    public void setUp() {
+        DateTimeZone zone = DateTimeZone.forID("Europe/London");
+        iMaintenance = new ArrayList<Interval>();
+        iBusinessHours = new ArrayList<Interval>();
+        DateTime day = new DateTime(2001, 1, 1, 0, 0, 0, 0, zone);
+        DateTime end = day.plusYears(10);
+        while (day.isBefore(end)) {
+            // 07:00 to 09:30 overlaps the start of business hours
+            iMaintenance.add(new Interval(day.withHourOfDay(7), day.withHourOfDay(9).withMinuteOfHour(30)));
+            if (day.getDayOfWeek() <= 5) {
+                iBusinessHours.add(new Interval(day.withHourOfDay(9), day.withHourOfDay(17)));
+            }
+            day = day.plusDays(1);
+        }
+        iMaintenanceSet = new IntervalSet(iMaintenance, null);
+        iBusinessHoursSet = new IntervalSet(iBusinessHours, null);
+    }
+
+    @Benchmark
+    public List<Interval> intersectionList() {
+        // both lists are sorted and disjoint, thus a merge suffices
+        List<Interval> a = iMaintenance;
+        List<Interval> b = iBusinessHours;
+        List<Interval> result = new ArrayList<Interval>();
+        int i = 0;
+        int j = 0;
+        while (i < a.size() && j < b.size()) {
+            Interval overlap = a.get(i).overlap(b.get(j));
+            if (overlap != null) {
+                result.add(overlap);
+            }
+            if (a.get(i).getEndMillis() < b.get(j).getEndMillis()) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public IntervalSet intersectionSet() {
+        return iMaintenanceSet.intersection(iBusinessHoursSet);
+    }
+
+    @Benchmark
+    public IntervalSet unionSet() {
+        return iMaintenanceSet.union(iBusinessHoursSet);
+    }
+
+    @Benchmark
+    public IntervalSet differenceSet() {
+        return iBusinessHoursSet.difference(iMaintenanceSet);
+    }
+
+    @Benchmark
+    public IntervalSet gapsSet() {
+        return iBusinessHoursSet.getGaps();
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.joda.time.Period;
+import org.joda.time.PeriodType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the normalization of periods.
+ *
+ * @author Stephen Colebourne
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PeriodBenchmark {
+
+    /** The number of distinct values cycled through. */
+    private static final int SIZE = 1024;
+
+    private Period[] iPeriods;
+    private int iIndex;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(0);
+        iPeriods = new Period[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            iPeriods[i] = new Period(
+                random.nextInt(5), random.nextInt(30), random.nextInt(10), random.nextInt(60),
+                random.nextInt(48), random.nextInt(120), random.nextInt(120), random.nextInt(2000));
+        }
+    }
+
+    private Period next() {
+        return iPeriods[iIndex = (iIndex + 1) & (SIZE - 1)];
+    }
+
+    @Benchmark
+    public Period normalizedStandard() {
+        return next().normalizedStandard();
+    }
+
+    @Benchmark
+    public Period normalizedStandardDayTime() {
+        return next().normalizedStandard(PeriodType.dayTime());
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.benchmark;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.joda.time.Chronology;
+import org.joda.time.DateTimeField;
+import org.joda.time.DateTimeZone;
+import org.joda.time.chrono.ISOChronology;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks truncating a column of sorted instants to the hour, day or month.
+ * <p>
+ * Each instant is rounded one at a time through {@link DateTimeField#roundFloor(long)},
+ * or all at once through {@link DateTimeField#roundFloor(long[], long[])}.
+ *
+ * @author Stephen Colebourne
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RoundingBenchmark {
+
+    /** The number of instants rounded. */
+    private static final int SIZE = 1024;
+
+    @Param({"UTC", "Europe/London"})
+    public String zone;
+
+    @Param({"hourOfDay", "dayOfMonth", "monthOfYear"})
+    public String field;
+
+    private DateTimeField iField;
+    private long[] iInstants;
+    private long[] iResults = new long[SIZE];
+
+    @Setup
+    public void setUp() {
+        Chronology chrono = ISOChronology.getInstance(DateTimeZone.forID(zone));
+        if ("hourOfDay".equals(field)) {
+            iField = chrono.hourOfDay();
+        } else if ("dayOfMonth".equals(field)) {
+            iField = chrono.dayOfMonth();
+        } else if ("monthOfYear".equals(field)) {
+            iField = chrono.monthOfYear();
+        } else {
+            throw new IllegalArgumentException("Unknown field: " + field);
+        }
+        Random random = new Random(0);
+        iInstants = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            // 2011-01-01 to 2012-01-01
+            iInstants[i] = 1293840000000L + (long) (random.nextDouble() * 31536000000L);
+        }
+        Arrays.sort(iInstants);
+    }
+
+    @Benchmark
+    public long[] roundFloorSeparately() {
+        long[] instants = iInstants;
+        long[] results = iResults;
+        for (int i = 0; i < SIZE; i++) {
+            results[i] = iField.roundFloor(instants[i]);
+        }
+        return results;
+    }
+
+    @Benchmark
+    public long[] roundFloorBulk() {
+        return iField.roundFloor(iInstants, iResults);
+    }
+
+    @Benchmark
+    public long[] roundCeilingSeparately() {
+        long[] instants = iInstants;
+        long[] results = iResults;
+        for (int i = 0; i < SIZE; i++) {
+            results[i] = iField.roundCeiling(instants[i]);
+        }
+        return results;
+    }
+
+    @Benchmark
+    public long[] roundCeilingBulk() {
+        return iField.roundCeiling(iInstants, iResults);
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.joda.time.DateTimeZone;
+import org.joda.time.tz.CachedDateTimeZone;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks time zone offset calculations.
+ * <p>
+ * The zones loaded by the default provider are wrapped in a
+ * {@link CachedDateTimeZone}. The <code>mode</code> parameter selects
+ * between that wrapper, the wrapper compiled for 1970 to 2100, and the
+ * underlying precalculated zone it delegates to.
+ *
+ * @author Stephen Colebourne
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ZoneOffsetBenchmark {
+
+    /** The number of distinct values cycled through. */
+    private static final int SIZE = 1024;
+
+    @Param({"Europe/London", "America/New_York", "Australia/Sydney"})
+    public String zone;
+
+    @Param({"compiled", "cached", "uncached"})
+    public String mode;
+
+    private DateTimeZone iZone;
+    private long[] iInstants;
+    private int iIndex;
+
+    @Setup
+    public void setUp() {
+        DateTimeZone zone = DateTimeZone.forID(this.zone);
+        if ("compiled".equals(mode)) {
+            zone = CachedDateTimeZone.forZone(zone, 1970, 2100);
+        } else if ("cached".equals(mode)) {
+            zone = CachedDateTimeZone.forZone(zone);
+        } else if ("uncached".equals(mode)) {
+            if (zone instanceof CachedDateTimeZone) {
+                zone = ((CachedDateTimeZone) zone).getUncachedZone();
+            }
+        } else {
+            throw new IllegalArgumentException("Unknown mode: " + mode);
+        }
+        iZone = zone;
+
+        Random random = new Random(0);
+        iInstants = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            // 1970-01-01 to 2040-01-01
+            iInstants[i] = (long) (random.nextDouble() * 2208988800000L);
+        }
+    }
+
+    private long next() {
+        return iInstants[iIndex = (iIndex + 1) & (SIZE - 1)];
+    }
+
+    @Benchmark
+    public int getOffset() {
+        return iZone.getOffset(next());
+    }
+
+    @Benchmark
+    public int getOffsetFromLocal() {
+        return iZone.getOffsetFromLocal(next());
+    }
+
+    @Benchmark
+    public int getStandardOffset() {
+        return iZone.getStandardOffset(next());
+    }
+
+}
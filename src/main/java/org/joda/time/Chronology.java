@@ -152,6 +152,48 @@ public abstract class Chronology {
                            int hourOfDay, int minuteOfHour,
                            int secondOfMinute, int millisOfSecond);
 
+    /**
+     * Returns the millisecond instants formed from arrays of year, month,
+     * day, hour, minute, second and millisecond values.
+     * <p>
+     * This is equivalent to calling {@link #getDateTimeMillis(int, int, int, int, int, int, int)}
+     * for each index, but allows the chronology to validate and calculate
+     * the instants in bulk, as is useful when the fields are stored in columns.
+     * The number of instants is the length of the year array, the other
+     * arrays must be at least as long.
+     *
+     * @param year  the years to use, not null
+     * @param monthOfYear  the months to use, not null
+     * @param dayOfMonth  the days of month to use, not null
+     * @param hourOfDay  the hours to use, not null
+     * @param minuteOfHour  the minutes to use, not null
+     * @param secondOfMinute  the seconds to use, not null
+     * @param millisOfSecond  the milliseconds to use, not null
+     * @param results  the array to fill, null to create one
+     * @return the millisecond instants from 1970-01-01T00:00:00Z
+     * @throws IllegalArgumentException if any of the values are invalid
+     * @since 2.0
+     */
+    public abstract long[] getDateTimeMillis(int[] year, int[] monthOfYear, int[] dayOfMonth,
+                           int[] hourOfDay, int[] minuteOfHour,
+                           int[] secondOfMinute, int[] millisOfSecond, long[] results);
+
+    /**
+     * Gets the year, month, day, hour, minute, second and millisecond
+     * of an instant in one call.
+     * <p>
+     * This is the reverse of {@link #getDateTimeMillis(int, int, int, int, int, int, int)},
+     * filling the array with the same fields in the same order.
+     * It is equivalent to querying each field separately, but allows the
+     * chronology to calculate the year and month just once.
+     *
+     * @param instant  the millisecond instant from 1970-01-01T00:00:00Z to query
+     * @param values  the array to fill, at least seven long, null to create one
+     * @return the array of year, month, day, hour, minute, second and millisecond
+     * @since 2.0
+     */
+    public abstract int[] getDateTimeFields(long instant, int[] values);
+
     //-----------------------------------------------------------------------
     /**
      * Validates whether the values are valid for the fields of a partial instant.
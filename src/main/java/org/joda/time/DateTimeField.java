@@ -612,6 +612,34 @@ public abstract class DateTimeField {
      */
     public abstract long roundCeiling(long instant);
 
+    /**
+     * Rounds each instant in an array to the lowest whole unit of this field.
+     * <p>
+     * This is equivalent to calling {@link #roundFloor(long)} for each
+     * instant, but allows the field to reuse calculations between instants,
+     * which is most effective when the instants are sorted or clustered.
+     *
+     * @param instants  the milliseconds from 1970-01-01T00:00:00Z to round, not null
+     * @param results  the array to fill, may be the instants array, null to create one
+     * @return the rounded milliseconds
+     * @since 2.0
+     */
+    public abstract long[] roundFloor(long[] instants, long[] results);
+
+    /**
+     * Rounds each instant in an array to the highest whole unit of this field.
+     * <p>
+     * This is equivalent to calling {@link #roundCeiling(long)} for each
+     * instant, but allows the field to reuse calculations between instants,
+     * which is most effective when the instants are sorted or clustered.
+     *
+     * @param instants  the milliseconds from 1970-01-01T00:00:00Z to round, not null
+     * @param results  the array to fill, may be the instants array, null to create one
+     * @return the rounded milliseconds
+     * @since 2.0
+     */
+    public abstract long[] roundCeiling(long[] instants, long[] results);
+
     /**
      * Round to the nearest whole unit of this field. If the given millisecond
      * value is closer to the floor or is exactly halfway, this function
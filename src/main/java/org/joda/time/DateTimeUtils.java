@@ -35,6 +35,8 @@ public class DateTimeUtils {
     private static final SystemMillisProvider SYSTEM_MILLIS_PROVIDER = new SystemMillisProvider();
     /** The millisecond provider currently in use. */
     private static volatile MillisProvider cMillisProvider = SYSTEM_MILLIS_PROVIDER;
+    /** The cached current date. */
+    private static volatile CurrentDate cCurrentDate;
 
     /**
      * Restrictive constructor
@@ -66,7 +68,7 @@ public class DateTimeUtils {
      */
     public static final void setCurrentMillisSystem() throws SecurityException {
         checkPermission();
-        cMillisProvider = SYSTEM_MILLIS_PROVIDER;
+        setMillisProvider(SYSTEM_MILLIS_PROVIDER);
     }
 
     /**
@@ -80,7 +82,7 @@ public class DateTimeUtils {
      */
     public static final void setCurrentMillisFixed(long fixedMillis) throws SecurityException {
         checkPermission();
-        cMillisProvider = new FixedMillisProvider(fixedMillis);
+        setMillisProvider(new FixedMillisProvider(fixedMillis));
     }
 
     /**
@@ -96,12 +98,38 @@ public class DateTimeUtils {
     public static final void setCurrentMillisOffset(long offsetMillis) throws SecurityException {
         checkPermission();
         if (offsetMillis == 0) {
-            cMillisProvider = SYSTEM_MILLIS_PROVIDER;
+            setMillisProvider(SYSTEM_MILLIS_PROVIDER);
         } else {
-            cMillisProvider = new OffsetMillisProvider(offsetMillis);
+            setMillisProvider(new OffsetMillisProvider(offsetMillis));
         }
     }
 
+    /**
+     * Sets the current time to return the system time as published by a ticker.
+     * <p>
+     * This method changes the behaviour of {@link #currentTimeMillis()}.
+     * A daemon thread reads {@link System#currentTimeMillis()} once per
+     * granularity, and whenever the current time is queried the last value
+     * read is returned. The current time thus lags the system time by up to
+     * the granularity, in return for not calling the system clock each time.
+     * <p>
+     * The thread stops once the provider is changed again.
+     * 
+     * @param granularityMillis  the interval between readings of the system time, one or more
+     * @throws IllegalArgumentException if the granularity is less than one
+     * @throws SecurityException if the application does not have sufficient security rights
+     * @since 2.0
+     */
+    public static final void setCurrentMillisCoarse(long granularityMillis) throws SecurityException {
+        if (granularityMillis < 1) {
+            throw new IllegalArgumentException("The granularity must be one or more: " + granularityMillis);
+        }
+        checkPermission();
+        CoarseMillisProvider provider = new CoarseMillisProvider(granularityMillis);
+        setMillisProvider(provider);
+        provider.start();
+    }
+
     /**
      * Sets the provider of the current time to class specified.
      * <p>
@@ -117,7 +145,21 @@ public class DateTimeUtils {
             throw new IllegalArgumentException("The MillisProvider must not be null");
         }
         checkPermission();
+        setMillisProvider(millisProvider);
+    }
+
+    /**
+     * Sets the provider of the current time, stopping the thread of a
+     * previous coarse provider.
+     * 
+     * @param millisProvider  the provider of the current time to use, not null
+     */
+    private static void setMillisProvider(MillisProvider millisProvider) {
+        MillisProvider previous = cMillisProvider;
         cMillisProvider = millisProvider;
+        if (previous instanceof CoarseMillisProvider && previous != millisProvider) {
+            ((CoarseMillisProvider) previous).stop();
+        }
     }
 
     /**
@@ -132,6 +174,39 @@ public class DateTimeUtils {
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the current date using ISO chronology in the default zone.
+     * <p>
+     * The result is the same as <code>new LocalDate()</code>, however the date
+     * is cached until the end of the day, or the next change of offset in the zone.
+     * Thus, when called repeatedly, the date is not calculated from the
+     * {@link #currentTimeMillis() current time} each time.
+     * 
+     * @return the current date, never null
+     * @since 2.0
+     */
+    public static final LocalDate currentLocalDate() {
+        long now = currentTimeMillis();
+        DateTimeZone zone = DateTimeZone.getDefault();
+        CurrentDate current = cCurrentDate;
+        if (current != null && current.iZone == zone && now >= current.iStart && now < current.iEnd) {
+            return current.iDate;
+        }
+        LocalDate date = new LocalDate(now, ISOChronology.getInstance(zone));
+        long localMillis = date.getLocalMillis();
+        if (localMillis < Long.MAX_VALUE - DateTimeConstants.MILLIS_PER_DAY) {
+            // the date is valid until the next day or offset, whichever comes first
+            long end = localMillis + DateTimeConstants.MILLIS_PER_DAY - zone.getOffset(now);
+            long transition = zone.nextTransition(now);
+            if (transition > now && transition < end) {
+                end = transition;
+            }
+            cCurrentDate = new CurrentDate(zone, now, end, date);
+        }
+        return date;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Gets the millisecond instant from the specified instant object handling null.
@@ -424,6 +499,73 @@ public class DateTimeUtils {
         }
     }
 
+    /**
+     * Coarse millis provider, reading the system time on a daemon thread.
+     */
+    static class CoarseMillisProvider implements MillisProvider, Runnable {
+        /** The interval between readings. */
+        private final long iGranularity;
+        /** The thread reading the system time. */
+        private final Thread iThread;
+        /** The last system time read. */
+        private volatile long iMillis;
+        
+        /**
+         * Constructor.
+         * @param granularity  the interval between readings
+         */
+        CoarseMillisProvider(long granularity) {
+            iGranularity = granularity;
+            iMillis = System.currentTimeMillis();
+            iThread = new Thread(this, "joda-time-coarse-clock");
+            iThread.setDaemon(true);
+        }
+        
+        /**
+         * Starts reading the system time.
+         */
+        void start() {
+            iThread.start();
+        }
+        
+        /**
+         * Stops reading the system time, without waiting for the granularity to elapse.
+         */
+        void stop() {
+            iThread.interrupt();
+        }
+        
+        /**
+         * Gets the thread reading the system time.
+         * @return the thread
+         */
+        Thread getThread() {
+            return iThread;
+        }
+        
+        /**
+         * Reads the system time until this is no longer the provider in use.
+         */
+        public void run() {
+            try {
+                while (cMillisProvider == this) {
+                    iMillis = System.currentTimeMillis();
+                    Thread.sleep(iGranularity);
+                }
+            } catch (InterruptedException ex) {
+                // stop reading
+            }
+        }
+        
+        /**
+         * Gets the current time.
+         * @return the current time in millis
+         */
+        public long getMillis() {
+            return iMillis;
+        }
+    }
+
     /**
      * Offset from system millis provider.
      */
@@ -448,4 +590,32 @@ public class DateTimeUtils {
         }
     }
 
+    /**
+     * Cached current date.
+     */
+    static final class CurrentDate {
+        /** The zone of the date. */
+        final DateTimeZone iZone;
+        /** The first instant the date is cached for, inclusive. */
+        final long iStart;
+        /** The last instant the date is cached for, exclusive. */
+        final long iEnd;
+        /** The date. */
+        final LocalDate iDate;
+        
+        /**
+         * Constructor.
+         * @param zone  the zone
+         * @param start  the start, inclusive
+         * @param end  the end, exclusive
+         * @param date  the date
+         */
+        CurrentDate(DateTimeZone zone, long start, long end, LocalDate date) {
+            iZone = zone;
+            iStart = start;
+            iEnd = end;
+            iDate = date;
+        }
+    }
+
 }
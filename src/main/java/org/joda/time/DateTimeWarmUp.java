@@ -0,0 +1,447 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.joda.time.chrono.ISOChronology;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+import org.joda.time.format.PeriodFormat;
+
+/**
+ * Loads time zones, locale data and formatters ahead of their first use.
+ * <p>
+ * The first use of a time zone, locale or pattern loads data files, initializes
+ * classes and populates caches, which can take several milliseconds. Services
+ * that are sensitive to latency can use this class to do that work at startup,
+ * before they receive requests:
+ * <pre>
+ * DateTimeWarmUp.Result result = new DateTimeWarmUp()
+ *     .addZones(Arrays.asList("Europe/London", "America/New_York"))
+ *     .addLocale(Locale.UK)
+ *     .addPattern("yyyy-MM-dd HH:mm:ss")
+ *     .run(4);
+ * </pre>
+ * For each zone, the zone and its ISO chronology are loaded. For each locale,
+ * the text of the date fields, the style formatters and the period formatter
+ * are loaded. For each pattern, the formatter is created and used to print,
+ * and then parse, the current time. Each item is timed, and an item that fails,
+ * such as an unknown zone, is recorded rather than stopping the others.
+ * <p>
+ * DateTimeWarmUp is mutable and not thread-safe.
+ * The results are thread-safe and immutable.
+ *
+ * @author Stephen Colebourne
+ * @since 2.0
+ */
+public final class DateTimeWarmUp {
+
+    /** The type of a zone item. */
+    public static final String ZONE = "zone";
+    /** The type of a locale item. */
+    public static final String LOCALE = "locale";
+    /** The type of a pattern item. */
+    public static final String PATTERN = "pattern";
+
+    /** The style formatters loaded for each locale. */
+    private static final String[] STYLES = {"SS", "MM", "LL", "FF"};
+
+    /** The zone ids. */
+    private final List<String> iZones = new ArrayList<String>();
+    /** The locales. */
+    private final List<Locale> iLocales = new ArrayList<Locale>();
+    /** The patterns. */
+    private final List<String> iPatterns = new ArrayList<String>();
+
+    /**
+     * Constructor.
+     */
+    public DateTimeWarmUp() {
+        super();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Adds a time zone to load.
+     *
+     * @param id  the zone id, not null
+     * @return this, for chaining
+     */
+    public DateTimeWarmUp addZone(String id) {
+        checkNotNull(id, "Zone id");
+        iZones.add(id);
+        return this;
+    }
+
+    /**
+     * Adds time zones to load.
+     *
+     * @param ids  the zone ids, not null
+     * @return this, for chaining
+     */
+    public DateTimeWarmUp addZones(Collection<String> ids) {
+        for (String id : ids) {
+            addZone(id);
+        }
+        return this;
+    }
+
+    /**
+     * Adds every time zone available from the zone provider.
+     *
+     * @return this, for chaining
+     */
+    public DateTimeWarmUp addAllZones() {
+        return addZones(DateTimeZone.getAvailableIDs());
+    }
+
+    /**
+     * Adds a locale to load.
+     *
+     * @param locale  the locale, not null
+     * @return this, for chaining
+     */
+    public DateTimeWarmUp addLocale(Locale locale) {
+        checkNotNull(locale, "Locale");
+        iLocales.add(locale);
+        return this;
+    }
+
+    /**
+     * Adds locales to load.
+     *
+     * @param locales  the locales, not null
+     * @return this, for chaining
+     */
+    public DateTimeWarmUp addLocales(Collection<Locale> locales) {
+        for (Locale locale : locales) {
+            addLocale(locale);
+        }
+        return this;
+    }
+
+    /**
+     * Adds a formatter pattern to load, as used by {@link DateTimeFormat#forPattern(String)}.
+     *
+     * @param pattern  the pattern, not null
+     * @return this, for chaining
+     */
+    public DateTimeWarmUp addPattern(String pattern) {
+        checkNotNull(pattern, "Pattern");
+        iPatterns.add(pattern);
+        return this;
+    }
+
+    /**
+     * Adds formatter patterns to load, as used by {@link DateTimeFormat#forPattern(String)}.
+     *
+     * @param patterns  the patterns, not null
+     * @return this, for chaining
+     */
+    public DateTimeWarmUp addPatterns(Collection<String> patterns) {
+        for (String pattern : patterns) {
+            addPattern(pattern);
+        }
+        return this;
+    }
+
+    private static void checkNotNull(Object object, String name) {
+        if (object == null) {
+            throw new IllegalArgumentException(name + " must not be null");
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Loads everything added, using a number of threads in parallel.
+     * <p>
+     * This method blocks until every item has been loaded, or has failed.
+     * The threads are only used for the duration of the call.
+     *
+     * @param threads  the number of threads to use, at least one
+     * @return the timings, not null
+     * @throws IllegalArgumentException if the number of threads is less than one
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public Result run(int threads) throws InterruptedException {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Threads must be at least one: " + threads);
+        }
+        final long now = DateTimeUtils.currentTimeMillis();
+        List<Callable<Timing>> items = new ArrayList<Callable<Timing>>();
+        for (final String id : iZones) {
+            items.add(new Item(ZONE, id) {
+                void load() {
+                    DateTimeZone zone = DateTimeZone.forID(id);
+                    ISOChronology.getInstance(zone);
+                    zone.getOffset(now);
+                }
+            });
+        }
+        for (final Locale locale : iLocales) {
+            items.add(new Item(LOCALE, locale.toString()) {
+                void load() {
+                    ISOChronology chrono = ISOChronology.getInstanceUTC();
+                    chrono.monthOfYear().getAsText(now, locale);
+                    chrono.dayOfWeek().getAsText(now, locale);
+                    chrono.halfdayOfDay().getAsText(now, locale);
+                    chrono.era().getAsText(now, locale);
+                    for (int i = 0; i < STYLES.length; i++) {
+                        DateTimeFormat.forStyle(STYLES[i]).withLocale(locale).print(now);
+                    }
+                    PeriodFormat.wordBased(locale).print(Period.days(1));
+                }
+            });
+        }
+        for (final String pattern : iPatterns) {
+            items.add(new Item(PATTERN, pattern) {
+                void load() {
+                    DateTimeFormatter formatter = DateTimeFormat.forPattern(pattern);
+                    String text = formatter.print(now);
+                    try {
+                        formatter.parseMillis(text);
+                    } catch (IllegalArgumentException ex) {
+                        // not every pattern can parse what it prints
+                    }
+                }
+            });
+        }
+
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new WarmUpThreadFactory());
+        try {
+            List<Future<Timing>> futures = executor.invokeAll(items);
+            List<Timing> timings = new ArrayList<Timing>(futures.size());
+            for (Future<Timing> future : futures) {
+                try {
+                    timings.add(future.get());
+                } catch (ExecutionException ex) {
+                    // an Item catches everything its load throws
+                    throw new IllegalStateException(ex.getCause());
+                }
+            }
+            return new Result(System.nanoTime() - start, timings);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * An item to load.
+     */
+    private static abstract class Item implements Callable<Timing> {
+        private final String iType;
+        private final String iName;
+
+        Item(String type, String name) {
+            iType = type;
+            iName = name;
+        }
+
+        abstract void load();
+
+        public Timing call() {
+            long start = System.nanoTime();
+            Throwable failure = null;
+            try {
+                load();
+            } catch (RuntimeException ex) {
+                failure = ex;
+            } catch (LinkageError ex) {
+                failure = ex;
+            }
+            return new Timing(iType, iName, System.nanoTime() - start, failure);
+        }
+    }
+
+    /**
+     * Creates daemon threads, so the loading never prevents the JVM exiting.
+     */
+    private static final class WarmUpThreadFactory implements ThreadFactory {
+        private static final AtomicInteger cCount = new AtomicInteger();
+
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "joda-time-warm-up-" + cCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The time taken to load one zone, locale or pattern.
+     * <p>
+     * Timing is thread-safe and immutable.
+     */
+    public static final class Timing {
+        private final String iType;
+        private final String iName;
+        private final long iNanos;
+        private final Throwable iFailure;
+
+        Timing(String type, String name, long nanos, Throwable failure) {
+            iType = type;
+            iName = name;
+            iNanos = nanos;
+            iFailure = failure;
+        }
+
+        /**
+         * Gets the type of the item, one of {@link DateTimeWarmUp#ZONE},
+         * {@link DateTimeWarmUp#LOCALE} or {@link DateTimeWarmUp#PATTERN}.
+         *
+         * @return the type, not null
+         */
+        public String getType() {
+            return iType;
+        }
+
+        /**
+         * Gets the zone id, locale or pattern.
+         *
+         * @return the name, not null
+         */
+        public String getName() {
+            return iName;
+        }
+
+        /**
+         * Gets the time taken to load the item.
+         *
+         * @return the time in nanoseconds
+         */
+        public long getNanos() {
+            return iNanos;
+        }
+
+        /**
+         * Gets the exception thrown while loading the item.
+         *
+         * @return the failure, null if the item loaded successfully
+         */
+        public Throwable getFailure() {
+            return iFailure;
+        }
+
+        /**
+         * Outputs the type, name and time in milliseconds, and the failure if any.
+         *
+         * @return a description of the timing, not null
+         */
+        public String toString() {
+            String str = iType + " " + iName + " " + formatMillis(iNanos);
+            return (iFailure == null ? str : str + " failed: " + iFailure);
+        }
+    }
+
+    /**
+     * The timings from loading everything.
+     * <p>
+     * Result is thread-safe and immutable.
+     */
+    public static final class Result {
+        private final long iElapsedNanos;
+        private final List<Timing> iTimings;
+        private final List<Timing> iFailures;
+
+        Result(long elapsedNanos, List<Timing> timings) {
+            iElapsedNanos = elapsedNanos;
+            iTimings = Collections.unmodifiableList(timings);
+            List<Timing> failures = new ArrayList<Timing>();
+            for (Timing timing : timings) {
+                if (timing.getFailure() != null) {
+                    failures.add(timing);
+                }
+            }
+            iFailures = Collections.unmodifiableList(failures);
+        }
+
+        /**
+         * Gets the elapsed time taken to load everything.
+         *
+         * @return the time in nanoseconds
+         */
+        public long getElapsedNanos() {
+            return iElapsedNanos;
+        }
+
+        /**
+         * Gets the timing of each item, zones first, then locales, then patterns,
+         * each in the order they were added.
+         *
+         * @return the unmodifiable timings, not null
+         */
+        public List<Timing> getTimings() {
+            return iTimings;
+        }
+
+        /**
+         * Gets the timing of each item that failed to load.
+         *
+         * @return the unmodifiable timings of failures, not null
+         */
+        public List<Timing> getFailures() {
+            return iFailures;
+        }
+
+        /**
+         * Gets the timing of the item that took longest to load.
+         *
+         * @return the slowest timing, null if nothing was loaded
+         */
+        public Timing getSlowest() {
+            Timing slowest = null;
+            for (Timing timing : iTimings) {
+                if (slowest == null || timing.getNanos() > slowest.getNanos()) {
+                    slowest = timing;
+                }
+            }
+            return slowest;
+        }
+
+        /**
+         * Outputs a summary of the number of items, failures and time taken.
+         *
+         * @return a summary, not null
+         */
+        public String toString() {
+            Timing slowest = getSlowest();
+            return "DateTimeWarmUp[items=" + iTimings.size() + ",failures=" + iFailures.size() +
+                ",elapsed=" + formatMillis(iElapsedNanos) +
+                (slowest == null ? "" : ",slowest=" + slowest) + "]";
+        }
+    }
+
+    private static String formatMillis(long nanos) {
+        long micros = nanos / 1000;
+        String fraction = Long.toString(1000 + micros % 1000).substring(1);
+        return (micros / 1000) + "." + fraction + "ms";
+    }
+
+}
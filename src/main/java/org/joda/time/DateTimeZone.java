@@ -20,13 +20,12 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.ObjectStreamException;
 import java.io.Serializable;
-import java.lang.ref.Reference;
-import java.lang.ref.SoftReference;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.joda.convert.FromString;
 import org.joda.convert.ToString;
@@ -105,9 +104,6 @@ public abstract class DateTimeZone implements Serializable {
     /** A formatter for printing and parsing zones. */
     private static DateTimeFormatter cOffsetFormatter;
 
-    /** Cache that maps fixed offset strings to softly referenced DateTimeZones */
-    private static Map<String, SoftReference<DateTimeZone>> iFixedOffsetCache;
-
     /** Cache of old zone IDs to new zone IDs */
     private static Map<String, String> cZoneIdConversion;
 
@@ -216,8 +212,7 @@ public abstract class DateTimeZone implements Serializable {
             if (offset == 0L) {
                 return DateTimeZone.UTC;
             } else {
-                id = printOffset(offset);
-                return fixedOffsetZone(id, offset);
+                return fixedOffsetZone(offset);
             }
         }
         throw new IllegalArgumentException("The datetime zone id '" + id + "' is not recognised");
@@ -279,8 +274,7 @@ public abstract class DateTimeZone implements Serializable {
      * @return the DateTimeZone object for the offset
      */
     public static DateTimeZone forOffsetMillis(int millisOffset) {
-        String id = printOffset(millisOffset);
-        return fixedOffsetZone(id, millisOffset);
+        return fixedOffsetZone(millisOffset);
     }
 
     /**
@@ -329,8 +323,7 @@ public abstract class DateTimeZone implements Serializable {
                 if (offset == 0L) {
                     return DateTimeZone.UTC;
                 } else {
-                    convId = printOffset(offset);
-                    return fixedOffsetZone(convId, offset);
+                    return fixedOffsetZone(offset);
                 }
             }
         }
@@ -340,28 +333,36 @@ public abstract class DateTimeZone implements Serializable {
     //-----------------------------------------------------------------------
     /**
      * Gets the zone using a fixed offset amount.
+     * <p>
+     * Zones for whole quarter hours between -18:00 and +18:00 are held in
+     * a table, thus are obtained without locking or allocation.
+     * Zones for other offsets are cached in a concurrent map.
      * 
-     * @param id  the zone id
      * @param offset  the offset in millis
      * @return the zone
      */
-    private static synchronized DateTimeZone fixedOffsetZone(String id, int offset) {
+    private static DateTimeZone fixedOffsetZone(int offset) {
         if (offset == 0) {
             return DateTimeZone.UTC;
         }
-        if (iFixedOffsetCache == null) {
-            iFixedOffsetCache = new HashMap<String, SoftReference<DateTimeZone>>();
+        if (offset % FixedOffsetCache.QUARTER_HOUR == 0) {
+            int index = offset / FixedOffsetCache.QUARTER_HOUR + FixedOffsetCache.MAX_QUARTER_HOURS;
+            if (index >= 0 && index < FixedOffsetCache.QUARTER_HOURS.length) {
+                return FixedOffsetCache.QUARTER_HOURS[index];
+            }
         }
-        DateTimeZone zone;
-        Reference<DateTimeZone> ref = iFixedOffsetCache.get(id);
-        if (ref != null) {
-            zone = ref.get();
-            if (zone != null) {
-                return zone;
+        Integer key = Integer.valueOf(offset);
+        DateTimeZone zone = FixedOffsetCache.OTHERS.get(key);
+        if (zone != null) {
+            return zone;
+        }
+        zone = new FixedDateTimeZone(printOffset(offset), null, offset, offset);
+        if (FixedOffsetCache.OTHERS.size() < FixedOffsetCache.MAX_OTHERS) {
+            DateTimeZone existing = FixedOffsetCache.OTHERS.putIfAbsent(key, zone);
+            if (existing != null) {
+                return existing;
             }
         }
-        zone = new FixedDateTimeZone(id, null, offset, offset);
-        iFixedOffsetCache.put(id, new SoftReference<DateTimeZone>(zone));
         return zone;
     }
 
@@ -1256,4 +1257,28 @@ public abstract class DateTimeZone implements Serializable {
             return forID(iID);
         }
     }
+    //-----------------------------------------------------------------------
+    /**
+     * Holds the fixed offset zones, created when first used.
+     */
+    private static final class FixedOffsetCache {
+        /** The millis in a quarter hour. */
+        static final int QUARTER_HOUR = 15 * DateTimeConstants.MILLIS_PER_MINUTE;
+        /** The number of quarter hours in 18 hours. */
+        static final int MAX_QUARTER_HOURS = 18 * 4;
+        /** The maximum number of other offsets cached. */
+        static final int MAX_OTHERS = 512;
+        /** The zones for the quarter hours from -18:00 to +18:00, indexed from -18:00. */
+        static final DateTimeZone[] QUARTER_HOURS = new DateTimeZone[MAX_QUARTER_HOURS * 2 + 1];
+        /** The zones for other offsets, keyed by offset. */
+        static final ConcurrentHashMap<Integer, DateTimeZone> OTHERS =
+            new ConcurrentHashMap<Integer, DateTimeZone>();
+        static {
+            for (int i = 0; i < QUARTER_HOURS.length; i++) {
+                int offset = (i - MAX_QUARTER_HOURS) * QUARTER_HOUR;
+                QUARTER_HOURS[i] = (offset == 0 ? UTC : new FixedDateTimeZone(printOffset(offset), null, offset, offset));
+            }
+        }
+    }
+
 }
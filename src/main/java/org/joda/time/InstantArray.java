@@ -0,0 +1,374 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * InstantArray is a compact, growable list of instants held as
+ * milliseconds in a <code>long</code> array.
+ * <p>
+ * Holding many <code>DateTime</code> objects costs an object header,
+ * a chronology reference and padding for each element. This list holds just
+ * the millisecond instants, sharing a single chronology between them.
+ * The elements are returned as <code>Instant</code> objects via the
+ * <code>List</code> interface, or as <code>DateTime</code> objects in the
+ * shared chronology via {@link #getDateTime(int)}, created on each call.
+ * The <code>xxxMillis</code> methods avoid creating objects altogether.
+ * <p>
+ * Once sorted, the list can be searched using {@link #binarySearch(long)}.
+ * <p>
+ * InstantArray is mutable and not thread-safe, unless concurrent threads
+ * are not invoking mutator methods.
+ *
+ * @author Stephen Colebourne
+ * @since 2.0
+ */
+public class InstantArray
+        extends AbstractList<Instant>
+        implements RandomAccess, Serializable {
+
+    /** Serialization lock */
+    private static final long serialVersionUID = -1835274063497230981L;
+
+    /** The millisecond instants. */
+    private transient long[] iMillis;
+    /** The number of instants. */
+    private int iSize;
+    /** The chronology shared by the instants. */
+    private final Chronology iChronology;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructs an empty list using <code>ISOChronology</code> in the default zone.
+     */
+    public InstantArray() {
+        this(null);
+    }
+
+    /**
+     * Constructs an empty list using the specified chronology.
+     *
+     * @param chronology  the chronology shared by the instants, null means ISOChronology in default zone
+     */
+    public InstantArray(Chronology chronology) {
+        super();
+        iChronology = DateTimeUtils.getChronology(chronology);
+        iMillis = new long[10];
+    }
+
+    /**
+     * Constructs a list holding a copy of the specified milliseconds.
+     *
+     * @param millis  the millisecond instants from 1970-01-01T00:00:00Z, not null
+     * @param chronology  the chronology shared by the instants, null means ISOChronology in default zone
+     */
+    public InstantArray(long[] millis, Chronology chronology) {
+        super();
+        iChronology = DateTimeUtils.getChronology(chronology);
+        iMillis = new long[Math.max(10, millis.length)];
+        System.arraycopy(millis, 0, iMillis, 0, millis.length);
+        iSize = millis.length;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the chronology shared by the instants.
+     *
+     * @return the chronology, never null
+     */
+    public Chronology getChronology() {
+        return iChronology;
+    }
+
+    /**
+     * Gets the number of instants.
+     *
+     * @return the size
+     */
+    public int size() {
+        return iSize;
+    }
+
+    /**
+     * Gets the instant at the specified index.
+     *
+     * @param index  the index
+     * @return the instant, never null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public Instant get(int index) {
+        return new Instant(getMillis(index));
+    }
+
+    /**
+     * Gets the instant at the specified index as a datetime in the shared chronology.
+     *
+     * @param index  the index
+     * @return the datetime, never null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public DateTime getDateTime(int index) {
+        return new DateTime(getMillis(index), iChronology);
+    }
+
+    /**
+     * Gets the milliseconds of the instant at the specified index.
+     *
+     * @param index  the index
+     * @return the milliseconds from 1970-01-01T00:00:00Z
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public long getMillis(int index) {
+        checkIndex(index);
+        return iMillis[index];
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Sets the instant at the specified index.
+     *
+     * @param index  the index
+     * @param instant  the instant to set, not null
+     * @return the previous instant, never null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public Instant set(int index, Instant instant) {
+        return set(index, (ReadableInstant) instant);
+    }
+
+    /**
+     * Sets the instant at the specified index.
+     *
+     * @param index  the index
+     * @param instant  the instant to set, not null
+     * @return the previous instant, never null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public Instant set(int index, ReadableInstant instant) {
+        return new Instant(setMillis(index, instant.getMillis()));
+    }
+
+    /**
+     * Sets the milliseconds of the instant at the specified index.
+     *
+     * @param index  the index
+     * @param millis  the milliseconds from 1970-01-01T00:00:00Z
+     * @return the previous milliseconds
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public long setMillis(int index, long millis) {
+        checkIndex(index);
+        long previous = iMillis[index];
+        iMillis[index] = millis;
+        return previous;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Adds an instant to the end of the list.
+     *
+     * @param instant  the instant to add, not null
+     * @return true
+     */
+    public boolean add(Instant instant) {
+        return add((ReadableInstant) instant);
+    }
+
+    /**
+     * Adds an instant to the end of the list.
+     *
+     * @param instant  the instant to add, not null
+     * @return true
+     */
+    public boolean add(ReadableInstant instant) {
+        addMillis(instant.getMillis());
+        return true;
+    }
+
+    /**
+     * Inserts an instant at the specified index.
+     *
+     * @param index  the index to insert at
+     * @param instant  the instant to insert, not null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public void add(int index, Instant instant) {
+        if (index < 0 || index > iSize) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + iSize);
+        }
+        long millis = instant.getMillis();
+        ensureCapacity(iSize + 1);
+        System.arraycopy(iMillis, index, iMillis, index + 1, iSize - index);
+        iMillis[index] = millis;
+        iSize++;
+    }
+
+    /**
+     * Adds the milliseconds of an instant to the end of the list.
+     *
+     * @param millis  the milliseconds from 1970-01-01T00:00:00Z
+     */
+    public void addMillis(long millis) {
+        ensureCapacity(iSize + 1);
+        iMillis[iSize++] = millis;
+    }
+
+    /**
+     * Removes the instant at the specified index.
+     *
+     * @param index  the index
+     * @return the removed instant, never null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public Instant remove(int index) {
+        long millis = getMillis(index);
+        modCount++;
+        System.arraycopy(iMillis, index + 1, iMillis, index, iSize - index - 1);
+        iSize--;
+        return new Instant(millis);
+    }
+
+    /**
+     * Removes all the instants.
+     */
+    public void clear() {
+        modCount++;
+        iSize = 0;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Sorts the instants into ascending order.
+     */
+    public void sort() {
+        modCount++;
+        Arrays.sort(iMillis, 0, iSize);
+    }
+
+    /**
+     * Searches for an instant, which must be sorted in ascending order.
+     *
+     * @param instant  the instant to search for, null means now
+     * @return the index of the instant if found, otherwise <code>(-(insertion point) - 1)</code>
+     */
+    public int binarySearch(ReadableInstant instant) {
+        return binarySearch(DateTimeUtils.getInstantMillis(instant));
+    }
+
+    /**
+     * Searches for the milliseconds of an instant, which must be sorted in ascending order.
+     * <p>
+     * If the list contains the milliseconds more than once, any matching index may be returned.
+     *
+     * @param millis  the milliseconds from 1970-01-01T00:00:00Z to search for
+     * @return the index of the instant if found, otherwise <code>(-(insertion point) - 1)</code>
+     */
+    public int binarySearch(long millis) {
+        long[] array = iMillis;
+        int low = 0;
+        int high = iSize - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long value = array[mid];
+            if (value < millis) {
+                low = mid + 1;
+            } else if (value > millis) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets a copy of the milliseconds of the instants.
+     *
+     * @return the milliseconds from 1970-01-01T00:00:00Z, never null
+     */
+    public long[] toMillisArray() {
+        long[] millis = new long[iSize];
+        System.arraycopy(iMillis, 0, millis, 0, iSize);
+        return millis;
+    }
+
+    /**
+     * Ensures that the list can hold the specified number of instants without growing.
+     *
+     * @param capacity  the capacity required
+     */
+    public void ensureCapacity(int capacity) {
+        modCount++;
+        if (capacity > iMillis.length) {
+            long[] millis = new long[Math.max(capacity, iMillis.length + (iMillis.length >> 1))];
+            System.arraycopy(iMillis, 0, millis, 0, iSize);
+            iMillis = millis;
+        }
+    }
+
+    /**
+     * Reduces the capacity of the list to its size.
+     */
+    public void trimToSize() {
+        modCount++;
+        if (iSize < iMillis.length) {
+            long[] millis = new long[iSize];
+            System.arraycopy(iMillis, 0, millis, 0, iSize);
+            iMillis = millis;
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= iSize) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + iSize);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Writes the size, chronology and only the instants in use, not the spare capacity.
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        for (int i = 0; i < iSize; i++) {
+            out.writeLong(iMillis[i]);
+        }
+    }
+
+    /**
+     * Reads the instants written by {@link #writeObject(ObjectOutputStream)}.
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (iSize < 0) {
+            throw new InvalidObjectException("Invalid size: " + iSize);
+        }
+        iMillis = new long[Math.max(10, iSize)];
+        for (int i = 0; i < iSize; i++) {
+            iMillis[i] = in.readLong();
+        }
+    }
+
+}
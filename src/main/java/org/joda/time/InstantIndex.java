@@ -0,0 +1,253 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time;
+
+/**
+ * InstantIndex is an immutable index of instants, each with an identifier,
+ * that answers queries expressed as intervals.
+ * <p>
+ * The instants are held as milliseconds sorted in a <code>long</code> array,
+ * with the identifiers in a parallel <code>int</code> array. The identifier
+ * is typically the position of the related object in an application list.
+ * <p>
+ * The instants within an interval occupy a range of indices, from
+ * {@link #startIndex(ReadableInterval)} inclusive to
+ * {@link #endIndex(ReadableInterval)} exclusive, found by binary search.
+ * As with {@link ReadableInterval#contains(ReadableInstant)}, the start of
+ * the interval is inclusive and the end exclusive.
+ * <p>
+ * InstantIndex is thread-safe and immutable.
+ *
+ * @author Stephen Colebourne
+ * @since 2.0
+ */
+public final class InstantIndex {
+
+    /** The sorted milliseconds. */
+    private final long[] iMillis;
+    /** The identifiers, in the order of the milliseconds. */
+    private final int[] iIds;
+
+    /**
+     * Constructs an index of the specified instants, identified by their position.
+     *
+     * @param millis  the milliseconds from 1970-01-01T00:00:00Z, in any order, not null
+     */
+    public InstantIndex(long[] millis) {
+        this(millis, null);
+    }
+
+    /**
+     * Constructs an index of the specified instants and identifiers.
+     * <p>
+     * Instants with the same milliseconds retain the order of the arrays.
+     *
+     * @param millis  the milliseconds from 1970-01-01T00:00:00Z, in any order, not null
+     * @param ids  the identifiers, the same length as the millis, null to use the position
+     * @throws IllegalArgumentException if the arrays differ in length
+     */
+    public InstantIndex(long[] millis, int[] ids) {
+        super();
+        if (ids != null && ids.length != millis.length) {
+            throw new IllegalArgumentException("The millis and ids must be the same length");
+        }
+        int[] order = sortedOrder(millis);
+        iMillis = new long[millis.length];
+        iIds = new int[millis.length];
+        for (int i = 0; i < order.length; i++) {
+            int j = order[i];
+            iMillis[i] = millis[j];
+            iIds[i] = (ids == null ? j : ids[j]);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of instants.
+     *
+     * @return the size
+     */
+    public int size() {
+        return iMillis.length;
+    }
+
+    /**
+     * Gets the milliseconds of the instant at the specified index.
+     *
+     * @param index  the index, in ascending order of instant
+     * @return the milliseconds from 1970-01-01T00:00:00Z
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public long getMillis(int index) {
+        return iMillis[index];
+    }
+
+    /**
+     * Gets the identifier of the instant at the specified index.
+     *
+     * @param index  the index, in ascending order of instant
+     * @return the identifier
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public int getId(int index) {
+        return iIds[index];
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the index of the first instant at or after the start of the interval.
+     *
+     * @param interval  the interval, null means now to now
+     * @return the index, from zero to the size
+     */
+    public int startIndex(ReadableInterval interval) {
+        interval = DateTimeUtils.getReadableInterval(interval);
+        return lowerBound(iMillis, iMillis.length, interval.getStartMillis());
+    }
+
+    /**
+     * Gets the index of the first instant at or after the end of the interval.
+     *
+     * @param interval  the interval, null means now to now
+     * @return the index, from zero to the size
+     */
+    public int endIndex(ReadableInterval interval) {
+        interval = DateTimeUtils.getReadableInterval(interval);
+        return lowerBound(iMillis, iMillis.length, interval.getEndMillis());
+    }
+
+    /**
+     * Counts the instants within the interval.
+     *
+     * @param interval  the interval, null means now to now
+     * @return the number of instants within the interval
+     */
+    public int count(ReadableInterval interval) {
+        interval = DateTimeUtils.getReadableInterval(interval);
+        return countBetween(interval.getStartMillis(), interval.getEndMillis());
+    }
+
+    /**
+     * Gets the index of the first instant within the interval.
+     *
+     * @param interval  the interval, null means now to now
+     * @return the index, or -1 if there are no instants within the interval
+     */
+    public int first(ReadableInterval interval) {
+        interval = DateTimeUtils.getReadableInterval(interval);
+        int start = lowerBound(iMillis, iMillis.length, interval.getStartMillis());
+        return (start < iMillis.length && iMillis[start] < interval.getEndMillis() ? start : -1);
+    }
+
+    /**
+     * Gets the index of the last instant within the interval.
+     *
+     * @param interval  the interval, null means now to now
+     * @return the index, or -1 if there are no instants within the interval
+     */
+    public int last(ReadableInterval interval) {
+        interval = DateTimeUtils.getReadableInterval(interval);
+        int end = lowerBound(iMillis, iMillis.length, interval.getEndMillis());
+        return (end > 0 && iMillis[end - 1] >= interval.getStartMillis() ? end - 1 : -1);
+    }
+
+    /**
+     * Gets the identifiers of the instants within the interval, in ascending order of instant.
+     *
+     * @param interval  the interval, null means now to now
+     * @return the identifiers, never null
+     */
+    public int[] getIds(ReadableInterval interval) {
+        interval = DateTimeUtils.getReadableInterval(interval);
+        int start = lowerBound(iMillis, iMillis.length, interval.getStartMillis());
+        int end = Math.max(start, lowerBound(iMillis, iMillis.length, interval.getEndMillis()));
+        int[] ids = new int[end - start];
+        System.arraycopy(iIds, start, ids, 0, ids.length);
+        return ids;
+    }
+
+    private int countBetween(long startMillis, long endMillis) {
+        int start = lowerBound(iMillis, iMillis.length, startMillis);
+        int end = lowerBound(iMillis, iMillis.length, endMillis);
+        return Math.max(0, end - start);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Finds the first index whose value is at or after the specified value.
+     *
+     * @param sorted  the values in ascending order
+     * @param length  the number of values to search
+     * @param value  the value to find
+     * @return the index, from zero to the length
+     */
+    static int lowerBound(long[] sorted, int length, long value) {
+        int low = 0;
+        int high = length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Gets the order that sorts the values, retaining the order of equal values.
+     *
+     * @param values  the values to sort, not altered
+     * @return the indices of the values in ascending order of value
+     */
+    static int[] sortedOrder(long[] values) {
+        int length = values.length;
+        int[] order = new int[length];
+        boolean sorted = true;
+        for (int i = 0; i < length; i++) {
+            order[i] = i;
+            if (i > 0 && values[i - 1] > values[i]) {
+                sorted = false;
+            }
+        }
+        if (sorted) {
+            return order;
+        }
+        // bottom up merge sort, which is stable
+        int[] work = new int[length];
+        for (int width = 1; width < length; width <<= 1) {
+            for (int low = 0; low < length; low += width << 1) {
+                int mid = Math.min(low + width, length);
+                int high = Math.min(low + (width << 1), length);
+                int i = low;
+                int j = mid;
+                for (int k = low; k < high; k++) {
+                    if (i < mid && (j >= high || values[order[i]] <= values[order[j]])) {
+                        work[k] = order[i++];
+                    } else {
+                        work[k] = order[j++];
+                    }
+                }
+            }
+            int[] swap = order;
+            order = work;
+            work = swap;
+        }
+        return order;
+    }
+
+}
@@ -0,0 +1,290 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time;
+
+import java.util.List;
+
+/**
+ * IntervalIndex is an immutable index of intervals, each with an identifier,
+ * that finds the intervals overlapping a query interval.
+ * <p>
+ * The intervals are held as start and end milliseconds in arrays sorted by
+ * start. These form an implicit balanced tree, in which each node also
+ * records the latest end of the intervals below it. A query thus visits only
+ * the branches that can overlap, taking logarithmic time plus the time to
+ * report each match, rather than checking every interval in turn.
+ * <p>
+ * Overlap is defined as by {@link ReadableInterval#overlaps(ReadableInterval)}.
+ * <p>
+ * IntervalIndex is thread-safe and immutable.
+ *
+ * @author Stephen Colebourne
+ * @since 2.0
+ */
+public final class IntervalIndex {
+
+    /** The start milliseconds, sorted. */
+    private final long[] iStarts;
+    /** The end milliseconds, in the order of the starts. */
+    private final long[] iEnds;
+    /** The identifiers, in the order of the starts. */
+    private final int[] iIds;
+    /** The latest end in the subtree rooted at each index. */
+    private final long[] iMaxEnds;
+
+    /**
+     * Constructs an index of the specified intervals, identified by their position in the list.
+     *
+     * @param intervals  the intervals, not null
+     * @throws IllegalArgumentException if any interval is null
+     */
+    public IntervalIndex(List<? extends ReadableInterval> intervals) {
+        this(starts(intervals), ends(intervals), null);
+    }
+
+    /**
+     * Constructs an index of the specified intervals and identifiers.
+     *
+     * @param startMillis  the start of each interval, in any order, not null
+     * @param endMillis  the end of each interval, the same length as the starts, not null
+     * @param ids  the identifiers, the same length as the starts, null to use the position
+     * @throws IllegalArgumentException if the arrays differ in length, or an end is before its start
+     */
+    public IntervalIndex(long[] startMillis, long[] endMillis, int[] ids) {
+        super();
+        int size = startMillis.length;
+        if (endMillis.length != size || (ids != null && ids.length != size)) {
+            throw new IllegalArgumentException("The starts, ends and ids must be the same length");
+        }
+        for (int i = 0; i < size; i++) {
+            if (endMillis[i] < startMillis[i]) {
+                throw new IllegalArgumentException("The end instant must be greater or equal to the start");
+            }
+        }
+        int[] order = InstantIndex.sortedOrder(startMillis);
+        iStarts = new long[size];
+        iEnds = new long[size];
+        iIds = new int[size];
+        for (int i = 0; i < size; i++) {
+            int j = order[i];
+            iStarts[i] = startMillis[j];
+            iEnds[i] = endMillis[j];
+            iIds[i] = (ids == null ? j : ids[j]);
+        }
+        iMaxEnds = new long[size];
+        buildMaxEnds(0, size);
+    }
+
+    private static long[] starts(List<? extends ReadableInterval> intervals) {
+        long[] starts = new long[intervals.size()];
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = interval(intervals, i).getStartMillis();
+        }
+        return starts;
+    }
+
+    private static long[] ends(List<? extends ReadableInterval> intervals) {
+        long[] ends = new long[intervals.size()];
+        for (int i = 0; i < ends.length; i++) {
+            ends[i] = interval(intervals, i).getEndMillis();
+        }
+        return ends;
+    }
+
+    private static ReadableInterval interval(List<? extends ReadableInterval> intervals, int index) {
+        ReadableInterval interval = intervals.get(index);
+        if (interval == null) {
+            throw new IllegalArgumentException("The interval must not be null");
+        }
+        return interval;
+    }
+
+    /**
+     * Records the latest end of the subtree of the range, rooted at its middle.
+     *
+     * @param low  the start of the range, inclusive
+     * @param high  the end of the range, exclusive
+     * @return the latest end in the range
+     */
+    private long buildMaxEnds(int low, int high) {
+        if (low >= high) {
+            return Long.MIN_VALUE;
+        }
+        int mid = (low + high) >>> 1;
+        long max = Math.max(iEnds[mid], Math.max(buildMaxEnds(low, mid), buildMaxEnds(mid + 1, high)));
+        iMaxEnds[mid] = max;
+        return max;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of intervals.
+     *
+     * @return the size
+     */
+    public int size() {
+        return iStarts.length;
+    }
+
+    /**
+     * Gets the start milliseconds of the interval at the specified index.
+     *
+     * @param index  the index, in ascending order of start
+     * @return the milliseconds from 1970-01-01T00:00:00Z
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public long getStartMillis(int index) {
+        return iStarts[index];
+    }
+
+    /**
+     * Gets the end milliseconds of the interval at the specified index.
+     *
+     * @param index  the index, in ascending order of start
+     * @return the milliseconds from 1970-01-01T00:00:00Z
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public long getEndMillis(int index) {
+        return iEnds[index];
+    }
+
+    /**
+     * Gets the identifier of the interval at the specified index.
+     *
+     * @param index  the index, in ascending order of start
+     * @return the identifier
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public int getId(int index) {
+        return iIds[index];
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks whether any interval overlaps the specified interval.
+     *
+     * @param interval  the interval to query, null means now
+     * @return true if any interval overlaps
+     */
+    public boolean overlaps(ReadableInterval interval) {
+        interval = DateTimeUtils.getReadableInterval(interval);
+        long start = interval.getStartMillis();
+        long end = interval.getEndMillis();
+        return find(0, iStarts.length, start, end, null, 0, true) > 0;
+    }
+
+    /**
+     * Counts the intervals overlapping the specified interval.
+     *
+     * @param interval  the interval to query, null means now
+     * @return the number of overlapping intervals
+     */
+    public int countOverlapping(ReadableInterval interval) {
+        interval = DateTimeUtils.getReadableInterval(interval);
+        long start = interval.getStartMillis();
+        long end = interval.getEndMillis();
+        return find(0, iStarts.length, start, end, null, 0, false);
+    }
+
+    /**
+     * Gets the indices of the intervals overlapping the specified interval.
+     *
+     * @param interval  the interval to query, null means now
+     * @return the indices, in ascending order of start, never null
+     */
+    public int[] getOverlappingIndices(ReadableInterval interval) {
+        interval = DateTimeUtils.getReadableInterval(interval);
+        long start = interval.getStartMillis();
+        long end = interval.getEndMillis();
+        int[] indices = new int[find(0, iStarts.length, start, end, null, 0, false)];
+        find(0, iStarts.length, start, end, indices, 0, false);
+        return indices;
+    }
+
+    /**
+     * Gets the identifiers of the intervals overlapping the specified interval.
+     *
+     * @param interval  the interval to query, null means now
+     * @return the identifiers, in ascending order of start, never null
+     */
+    public int[] getOverlappingIds(ReadableInterval interval) {
+        int[] ids = getOverlappingIndices(interval);
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = iIds[ids[i]];
+        }
+        return ids;
+    }
+
+    /**
+     * Gets the identifiers of the intervals containing the specified instant.
+     *
+     * @param instant  the instant to query, null means now
+     * @return the identifiers, in ascending order of start, never null
+     */
+    public int[] getContainingIds(ReadableInstant instant) {
+        long millis = DateTimeUtils.getInstantMillis(instant);
+        // contained if start <= millis < end, as for an overlap with millis to millis + 1
+        long end = (millis == Long.MAX_VALUE ? millis : millis + 1);
+        int[] ids = new int[find(0, iStarts.length, millis, end, null, 0, false)];
+        find(0, iStarts.length, millis, end, ids, 0, false);
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = iIds[ids[i]];
+        }
+        return ids;
+    }
+
+    /**
+     * Finds the intervals in the subtree of the range that overlap the query.
+     *
+     * @param low  the start of the range, inclusive
+     * @param high  the end of the range, exclusive
+     * @param start  the start of the query
+     * @param end  the end of the query
+     * @param indices  the array to store the indices in, null to only count
+     * @param count  the number found so far
+     * @param any  true to stop once one is found
+     * @return the number found so far
+     */
+    private int find(int low, int high, long start, long end, int[] indices, int count, boolean any) {
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (iMaxEnds[mid] <= start) {
+                return count;
+            }
+            if (iStarts[mid] >= end) {
+                // neither this interval nor those after it can overlap
+                high = mid;
+                continue;
+            }
+            count = find(low, mid, start, end, indices, count, any);
+            if (any && count > 0) {
+                return count;
+            }
+            if (iEnds[mid] > start) {
+                if (indices != null) {
+                    indices[count] = mid;
+                }
+                count++;
+                if (any) {
+                    return count;
+                }
+            }
+            low = mid + 1;
+        }
+        return count;
+    }
+
+}
@@ -0,0 +1,552 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+import org.joda.time.field.FieldUtils;
+
+/**
+ * IntervalSet is an immutable set of instants, held as disjoint intervals.
+ * <p>
+ * The intervals are normalized when the set is created. Overlapping and
+ * abutting intervals are merged and zero duration intervals, which contain
+ * no instants, are removed. The remaining intervals are held in ascending
+ * order as pairs of start and end milliseconds in a single <code>long</code>
+ * array. As with {@link ReadableInterval}, each start is inclusive and each
+ * end exclusive.
+ * <p>
+ * The set operations {@link #union(IntervalSet) union},
+ * {@link #intersection(IntervalSet) intersection} and
+ * {@link #difference(IntervalSet) difference} merge the two sets in a single
+ * pass, taking time proportional to their combined size, without creating
+ * an <code>Interval</code> for each element. The intervals are only created
+ * on request, in the chronology of the set.
+ * <p>
+ * IntervalSet is thread-safe and immutable.
+ *
+ * @author Stephen Colebourne
+ * @since 2.0
+ */
+public final class IntervalSet implements Serializable {
+
+    /** Serialization lock */
+    private static final long serialVersionUID = 4073519836529107123L;
+
+    /**
+     * The truth table for union, indexed by inside this set plus two if inside the other.
+     */
+    private static final int UNION = 0xE;
+    /** The truth table for intersection. */
+    private static final int INTERSECTION = 0x8;
+    /** The truth table for difference. */
+    private static final int DIFFERENCE = 0x2;
+
+    /** The start and end of each interval, in ascending order. */
+    private final long[] iBounds;
+    /** The chronology of the intervals. */
+    private final Chronology iChronology;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructs an empty set using <code>ISOChronology</code> in the default zone.
+     */
+    public IntervalSet() {
+        this(new long[0], null);
+    }
+
+    /**
+     * Constructs a set of the instants within the specified interval.
+     * <p>
+     * The chronology of the interval is used.
+     *
+     * @param interval  the interval, null means an empty set
+     */
+    public IntervalSet(ReadableInterval interval) {
+        this(interval == null ? new long[0] : bounds(interval),
+                interval == null ? null : interval.getChronology());
+    }
+
+    /**
+     * Constructs a set of the instants within any of the specified intervals.
+     *
+     * @param intervals  the intervals, in any order, not null
+     * @param chronology  the chronology, null means ISOChronology in default zone
+     * @throws IllegalArgumentException if any interval is null
+     */
+    public IntervalSet(Collection<? extends ReadableInterval> intervals, Chronology chronology) {
+        this(bounds(intervals), chronology);
+    }
+
+    /**
+     * Constructs a set of the instants within any of the specified intervals.
+     *
+     * @param startMillis  the start of each interval, in any order, not null
+     * @param endMillis  the end of each interval, the same length as the starts, not null
+     * @param chronology  the chronology, null means ISOChronology in default zone
+     * @throws IllegalArgumentException if the arrays differ in length, or an end is before its start
+     */
+    public IntervalSet(long[] startMillis, long[] endMillis, Chronology chronology) {
+        this(bounds(startMillis, endMillis), chronology);
+    }
+
+    /**
+     * Constructs a set from normalized bounds.
+     *
+     * @param bounds  the normalized bounds, not copied
+     * @param chronology  the chronology, null means ISOChronology in default zone
+     */
+    private IntervalSet(long[] bounds, Chronology chronology) {
+        super();
+        iBounds = bounds;
+        iChronology = DateTimeUtils.getChronology(chronology);
+    }
+
+    private static long[] bounds(ReadableInterval interval) {
+        long start = interval.getStartMillis();
+        long end = interval.getEndMillis();
+        return (start < end ? new long[] {start, end} : new long[0]);
+    }
+
+    private static long[] bounds(Collection<? extends ReadableInterval> intervals) {
+        long[] starts = new long[intervals.size()];
+        long[] ends = new long[starts.length];
+        Iterator<? extends ReadableInterval> it = intervals.iterator();
+        for (int i = 0; i < starts.length; i++) {
+            ReadableInterval interval = it.next();
+            if (interval == null) {
+                throw new IllegalArgumentException("The interval must not be null");
+            }
+            starts[i] = interval.getStartMillis();
+            ends[i] = interval.getEndMillis();
+        }
+        return bounds(starts, ends);
+    }
+
+    /**
+     * Sorts and merges the intervals into normalized bounds.
+     *
+     * @param starts  the starts, not null
+     * @param ends  the ends, not null
+     * @return the normalized bounds
+     */
+    private static long[] bounds(long[] starts, long[] ends) {
+        if (starts.length != ends.length) {
+            throw new IllegalArgumentException("The starts and ends must be the same length");
+        }
+        for (int i = 0; i < starts.length; i++) {
+            if (ends[i] < starts[i]) {
+                throw new IllegalArgumentException("The end instant must be greater or equal to the start");
+            }
+        }
+        int[] order = InstantIndex.sortedOrder(starts);
+        long[] bounds = new long[starts.length * 2];
+        int size = 0;
+        for (int i = 0; i < order.length; i++) {
+            long start = starts[order[i]];
+            long end = ends[order[i]];
+            if (start == end) {
+                continue;
+            }
+            if (size > 0 && start <= bounds[size - 1]) {
+                // overlaps or abuts the previous interval
+                if (end > bounds[size - 1]) {
+                    bounds[size - 1] = end;
+                }
+            } else {
+                bounds[size++] = start;
+                bounds[size++] = end;
+            }
+        }
+        return trim(bounds, size);
+    }
+
+    private static long[] trim(long[] bounds, int size) {
+        if (size == bounds.length) {
+            return bounds;
+        }
+        long[] trimmed = new long[size];
+        System.arraycopy(bounds, 0, trimmed, 0, size);
+        return trimmed;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the chronology of the intervals.
+     *
+     * @return the chronology, never null
+     */
+    public Chronology getChronology() {
+        return iChronology;
+    }
+
+    /**
+     * Returns a copy of this set with a different chronology.
+     *
+     * @param chronology  the chronology to use, null means ISOChronology in default zone
+     * @return a set with the chronology, never null
+     */
+    public IntervalSet withChronology(Chronology chronology) {
+        chronology = DateTimeUtils.getChronology(chronology);
+        if (chronology == iChronology) {
+            return this;
+        }
+        return new IntervalSet(iBounds, chronology);
+    }
+
+    /**
+     * Gets the number of disjoint intervals.
+     *
+     * @return the number of intervals
+     */
+    public int size() {
+        return iBounds.length >> 1;
+    }
+
+    /**
+     * Checks whether the set contains no instants.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return iBounds.length == 0;
+    }
+
+    /**
+     * Gets the start milliseconds of the interval at the specified index.
+     *
+     * @param index  the index, in ascending order
+     * @return the milliseconds from 1970-01-01T00:00:00Z, inclusive
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public long getStartMillis(int index) {
+        checkIndex(index);
+        return iBounds[index << 1];
+    }
+
+    /**
+     * Gets the end milliseconds of the interval at the specified index.
+     *
+     * @param index  the index, in ascending order
+     * @return the milliseconds from 1970-01-01T00:00:00Z, exclusive
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public long getEndMillis(int index) {
+        checkIndex(index);
+        return iBounds[(index << 1) + 1];
+    }
+
+    /**
+     * Gets the interval at the specified index in the chronology of the set.
+     *
+     * @param index  the index, in ascending order
+     * @return the interval, never null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public Interval getInterval(int index) {
+        return new Interval(getStartMillis(index), getEndMillis(index), iChronology);
+    }
+
+    /**
+     * Gets the intervals in the chronology of the set.
+     *
+     * @return a new list of intervals, in ascending order, never null
+     */
+    public List<Interval> toIntervals() {
+        List<Interval> intervals = new ArrayList<Interval>(size());
+        for (int i = 0; i < size(); i++) {
+            intervals.add(getInterval(i));
+        }
+        return intervals;
+    }
+
+    /**
+     * Gets the total duration of the intervals.
+     *
+     * @return the total duration in milliseconds
+     * @throws ArithmeticException if the total exceeds the capacity of a long
+     */
+    public long getTotalDurationMillis() {
+        long total = 0;
+        for (int i = 0; i < iBounds.length; i += 2) {
+            total = FieldUtils.safeAdd(total, iBounds[i + 1] - iBounds[i]);
+        }
+        return total;
+    }
+
+    /**
+     * Gets the total duration of the intervals.
+     *
+     * @return the total duration, never null
+     * @throws ArithmeticException if the total exceeds the capacity of a long
+     */
+    public Duration getTotalDuration() {
+        return new Duration(getTotalDurationMillis());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks whether the set contains the specified instant.
+     *
+     * @param millisInstant  the instant to check
+     * @return true if an interval contains the instant
+     */
+    public boolean contains(long millisInstant) {
+        // the number of bounds at or before the instant is odd within an interval
+        return (upperBound(millisInstant) & 1) == 1;
+    }
+
+    /**
+     * Checks whether the set contains the specified instant.
+     *
+     * @param instant  the instant to check, null means now
+     * @return true if an interval contains the instant
+     */
+    public boolean contains(ReadableInstant instant) {
+        return contains(DateTimeUtils.getInstantMillis(instant));
+    }
+
+    /**
+     * Checks whether the set contains every instant of the specified interval.
+     * <p>
+     * As with {@link ReadableInterval#contains(ReadableInterval)},
+     * a zero duration interval is contained if its instant is contained.
+     *
+     * @param interval  the interval to check, null means now
+     * @return true if a single interval of the set contains the interval
+     */
+    public boolean contains(ReadableInterval interval) {
+        interval = DateTimeUtils.getReadableInterval(interval);
+        long start = interval.getStartMillis();
+        int index = upperBound(start);
+        return (index & 1) == 1 && interval.getEndMillis() <= iBounds[index];
+    }
+
+    /**
+     * Checks whether the set contains any instant of the specified interval.
+     * <p>
+     * As with {@link ReadableInterval#overlaps(ReadableInterval)}, a zero
+     * duration interval overlaps if it is strictly within an interval of the set.
+     *
+     * @param interval  the interval to check, null means now
+     * @return true if any interval of the set overlaps the interval
+     */
+    public boolean overlaps(ReadableInterval interval) {
+        interval = DateTimeUtils.getReadableInterval(interval);
+        long start = interval.getStartMillis();
+        long end = interval.getEndMillis();
+        // the first interval ending after the start
+        int index = upperBound(start);
+        if ((index & 1) == 0) {
+            index++;
+        }
+        return index < iBounds.length && iBounds[index - 1] < end;
+    }
+
+    /**
+     * Finds the number of bounds at or before the specified instant.
+     *
+     * @param millis  the instant
+     * @return the index of the first bound after the instant
+     */
+    private int upperBound(long millis) {
+        long[] bounds = iBounds;
+        int low = 0;
+        int high = bounds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (bounds[mid] <= millis) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the set of instants in this set or the specified set.
+     * <p>
+     * The result has the chronology of this set.
+     *
+     * @param other  the other set, not null
+     * @return the union, never null
+     */
+    public IntervalSet union(IntervalSet other) {
+        return combine(other, UNION);
+    }
+
+    /**
+     * Gets the set of instants in both this set and the specified set.
+     * <p>
+     * The result has the chronology of this set.
+     *
+     * @param other  the other set, not null
+     * @return the intersection, never null
+     */
+    public IntervalSet intersection(IntervalSet other) {
+        return combine(other, INTERSECTION);
+    }
+
+    /**
+     * Gets the set of instants in this set but not the specified set.
+     * <p>
+     * The result has the chronology of this set.
+     *
+     * @param other  the other set, not null
+     * @return the difference, never null
+     */
+    public IntervalSet difference(IntervalSet other) {
+        return combine(other, DIFFERENCE);
+    }
+
+    /**
+     * Gets the set of instants within the bound that are not in this set.
+     * <p>
+     * The result has the chronology of this set.
+     *
+     * @param bound  the interval to complement within, null means now to now
+     * @return the complement, never null
+     */
+    public IntervalSet complement(ReadableInterval bound) {
+        bound = DateTimeUtils.getReadableInterval(bound);
+        return new IntervalSet(bounds(bound), iChronology).combine(this, DIFFERENCE);
+    }
+
+    /**
+     * Gets the gaps between the intervals of this set.
+     * <p>
+     * This is the complement within the span from the first start to the last end.
+     * The result has the chronology of this set.
+     *
+     * @return the gaps, never null
+     */
+    public IntervalSet getGaps() {
+        int length = iBounds.length;
+        if (length <= 2) {
+            return new IntervalSet(new long[0], iChronology);
+        }
+        long[] gaps = new long[length - 2];
+        System.arraycopy(iBounds, 1, gaps, 0, length - 2);
+        return new IntervalSet(gaps, iChronology);
+    }
+
+    /**
+     * Merges the bounds of the two sets in a single pass.
+     * <p>
+     * Within each set the bounds are strictly ascending, thus the number of
+     * bounds passed so far is odd exactly when inside an interval.
+     *
+     * @param other  the other set, not null
+     * @param table  the truth table of the set operation
+     * @return the combined set, never null
+     */
+    private IntervalSet combine(IntervalSet other, int table) {
+        long[] a = iBounds;
+        long[] b = other.iBounds;
+        long[] result = new long[a.length + b.length];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        int inside = 0;
+        while (i < a.length || j < b.length) {
+            long bound;
+            if (j == b.length) {
+                bound = a[i++];
+            } else if (i == a.length) {
+                bound = b[j++];
+            } else {
+                long boundA = a[i];
+                long boundB = b[j];
+                if (boundA < boundB) {
+                    bound = boundA;
+                    i++;
+                } else if (boundB < boundA) {
+                    bound = boundB;
+                    j++;
+                } else {
+                    bound = boundA;
+                    i++;
+                    j++;
+                }
+            }
+            int now = (table >>> ((i & 1) | ((j & 1) << 1))) & 1;
+            if (now != inside) {
+                result[size++] = bound;
+                inside = now;
+            }
+        }
+        return new IntervalSet(trim(result, size), iChronology);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Compares this set with another, based on the instants and the chronology.
+     *
+     * @param obj  the object to compare to
+     * @return true if equal
+     */
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof IntervalSet) {
+            IntervalSet other = (IntervalSet) obj;
+            return Arrays.equals(iBounds, other.iBounds) && iChronology.equals(other.iChronology);
+        }
+        return false;
+    }
+
+    /**
+     * Gets a hash code for the set.
+     *
+     * @return a suitable hash code
+     */
+    public int hashCode() {
+        return Arrays.hashCode(iBounds) * 31 + iChronology.hashCode();
+    }
+
+    /**
+     * Outputs the intervals of the set in ISO8601 format.
+     *
+     * @return the intervals, in square brackets
+     */
+    public String toString() {
+        StringBuffer buf = new StringBuffer(size() * 60 + 2);
+        buf.append('[');
+        for (int i = 0; i < size(); i++) {
+            if (i > 0) {
+                buf.append(", ");
+            }
+            buf.append(getInterval(i));
+        }
+        buf.append(']');
+        return buf.toString();
+    }
+
+}
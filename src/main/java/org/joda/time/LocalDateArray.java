@@ -0,0 +1,396 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+import org.joda.time.field.FieldUtils;
+
+/**
+ * LocalDateArray is a compact, growable list of dates held as
+ * days from 1970-01-01 in an <code>int</code> array.
+ * <p>
+ * Holding many <code>LocalDate</code> objects costs an object header,
+ * a chronology reference and padding for each element. This list holds just
+ * the number of days from the epoch, sharing a single chronology between them.
+ * The elements are returned as <code>LocalDate</code> objects via the
+ * <code>List</code> interface, created on each call.
+ * The <code>xxxEpochDay</code> methods avoid creating objects altogether.
+ * <p>
+ * Dates added in a different chronology are converted using their fields,
+ * as by {@link Chronology#set(ReadablePartial, long)}.
+ * <p>
+ * Once sorted, the list can be searched using {@link #binarySearch(int)}.
+ * <p>
+ * LocalDateArray is mutable and not thread-safe, unless concurrent threads
+ * are not invoking mutator methods.
+ *
+ * @author Stephen Colebourne
+ * @since 2.0
+ */
+public class LocalDateArray
+        extends AbstractList<LocalDate>
+        implements RandomAccess, Serializable {
+
+    /** Serialization lock */
+    private static final long serialVersionUID = 6281957403624139185L;
+
+    /** The days from 1970-01-01. */
+    private transient int[] iDays;
+    /** The number of dates. */
+    private int iSize;
+    /** The chronology shared by the dates, in UTC. */
+    private final Chronology iChronology;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructs an empty list using <code>ISOChronology</code>.
+     */
+    public LocalDateArray() {
+        this(null);
+    }
+
+    /**
+     * Constructs an empty list using the specified chronology.
+     * <p>
+     * The zone of the chronology is not used.
+     *
+     * @param chronology  the chronology shared by the dates, null means ISOChronology
+     */
+    public LocalDateArray(Chronology chronology) {
+        super();
+        iChronology = DateTimeUtils.getChronology(chronology).withUTC();
+        iDays = new int[10];
+    }
+
+    /**
+     * Constructs a list holding a copy of the specified days from 1970-01-01.
+     * <p>
+     * The zone of the chronology is not used.
+     *
+     * @param epochDays  the days from 1970-01-01, not null
+     * @param chronology  the chronology shared by the dates, null means ISOChronology
+     */
+    public LocalDateArray(int[] epochDays, Chronology chronology) {
+        super();
+        iChronology = DateTimeUtils.getChronology(chronology).withUTC();
+        iDays = new int[Math.max(10, epochDays.length)];
+        System.arraycopy(epochDays, 0, iDays, 0, epochDays.length);
+        iSize = epochDays.length;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the chronology shared by the dates, which is in the UTC zone.
+     *
+     * @return the chronology, never null
+     */
+    public Chronology getChronology() {
+        return iChronology;
+    }
+
+    /**
+     * Gets the number of dates.
+     *
+     * @return the size
+     */
+    public int size() {
+        return iSize;
+    }
+
+    /**
+     * Gets the date at the specified index.
+     *
+     * @param index  the index
+     * @return the date, never null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public LocalDate get(int index) {
+        return toLocalDate(getEpochDay(index));
+    }
+
+    /**
+     * Gets the days from 1970-01-01 of the date at the specified index.
+     *
+     * @param index  the index
+     * @return the days from 1970-01-01
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public int getEpochDay(int index) {
+        checkIndex(index);
+        return iDays[index];
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Sets the date at the specified index.
+     *
+     * @param index  the index
+     * @param date  the date to set, not null
+     * @return the previous date, never null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public LocalDate set(int index, LocalDate date) {
+        return set(index, (ReadablePartial) date);
+    }
+
+    /**
+     * Sets the date at the specified index.
+     * <p>
+     * Fields not in the partial are taken from 1970-01-01.
+     *
+     * @param index  the index
+     * @param partial  the date to set, not null
+     * @return the previous date, never null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public LocalDate set(int index, ReadablePartial partial) {
+        return toLocalDate(setEpochDay(index, toEpochDay(partial)));
+    }
+
+    /**
+     * Sets the days from 1970-01-01 of the date at the specified index.
+     *
+     * @param index  the index
+     * @param epochDay  the days from 1970-01-01
+     * @return the previous days from 1970-01-01
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public int setEpochDay(int index, int epochDay) {
+        checkIndex(index);
+        int previous = iDays[index];
+        iDays[index] = epochDay;
+        return previous;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Adds a date to the end of the list.
+     *
+     * @param date  the date to add, not null
+     * @return true
+     */
+    public boolean add(LocalDate date) {
+        return add((ReadablePartial) date);
+    }
+
+    /**
+     * Adds a date to the end of the list.
+     * <p>
+     * Fields not in the partial are taken from 1970-01-01.
+     *
+     * @param partial  the date to add, not null
+     * @return true
+     */
+    public boolean add(ReadablePartial partial) {
+        addEpochDay(toEpochDay(partial));
+        return true;
+    }
+
+    /**
+     * Inserts a date at the specified index.
+     *
+     * @param index  the index to insert at
+     * @param date  the date to insert, not null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public void add(int index, LocalDate date) {
+        if (index < 0 || index > iSize) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + iSize);
+        }
+        int epochDay = toEpochDay(date);
+        ensureCapacity(iSize + 1);
+        System.arraycopy(iDays, index, iDays, index + 1, iSize - index);
+        iDays[index] = epochDay;
+        iSize++;
+    }
+
+    /**
+     * Adds the days from 1970-01-01 of a date to the end of the list.
+     *
+     * @param epochDay  the days from 1970-01-01
+     */
+    public void addEpochDay(int epochDay) {
+        ensureCapacity(iSize + 1);
+        iDays[iSize++] = epochDay;
+    }
+
+    /**
+     * Removes the date at the specified index.
+     *
+     * @param index  the index
+     * @return the removed date, never null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public LocalDate remove(int index) {
+        int epochDay = getEpochDay(index);
+        modCount++;
+        System.arraycopy(iDays, index + 1, iDays, index, iSize - index - 1);
+        iSize--;
+        return toLocalDate(epochDay);
+    }
+
+    /**
+     * Removes all the dates.
+     */
+    public void clear() {
+        modCount++;
+        iSize = 0;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Sorts the dates into ascending order.
+     */
+    public void sort() {
+        modCount++;
+        Arrays.sort(iDays, 0, iSize);
+    }
+
+    /**
+     * Searches for a date, which must be sorted in ascending order.
+     * <p>
+     * Fields not in the partial are taken from 1970-01-01.
+     *
+     * @param partial  the date to search for, not null
+     * @return the index of the date if found, otherwise <code>(-(insertion point) - 1)</code>
+     */
+    public int binarySearch(ReadablePartial partial) {
+        return binarySearch(toEpochDay(partial));
+    }
+
+    /**
+     * Searches for the days from 1970-01-01 of a date, which must be sorted in ascending order.
+     * <p>
+     * If the list contains the date more than once, any matching index may be returned.
+     *
+     * @param epochDay  the days from 1970-01-01 to search for
+     * @return the index of the date if found, otherwise <code>(-(insertion point) - 1)</code>
+     */
+    public int binarySearch(int epochDay) {
+        int[] array = iDays;
+        int low = 0;
+        int high = iSize - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int value = array[mid];
+            if (value < epochDay) {
+                low = mid + 1;
+            } else if (value > epochDay) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets a copy of the days from 1970-01-01 of the dates.
+     *
+     * @return the days from 1970-01-01, never null
+     */
+    public int[] toEpochDayArray() {
+        int[] days = new int[iSize];
+        System.arraycopy(iDays, 0, days, 0, iSize);
+        return days;
+    }
+
+    /**
+     * Ensures that the list can hold the specified number of dates without growing.
+     *
+     * @param capacity  the capacity required
+     */
+    public void ensureCapacity(int capacity) {
+        modCount++;
+        if (capacity > iDays.length) {
+            int[] days = new int[Math.max(capacity, iDays.length + (iDays.length >> 1))];
+            System.arraycopy(iDays, 0, days, 0, iSize);
+            iDays = days;
+        }
+    }
+
+    /**
+     * Reduces the capacity of the list to its size.
+     */
+    public void trimToSize() {
+        modCount++;
+        if (iSize < iDays.length) {
+            int[] days = new int[iSize];
+            System.arraycopy(iDays, 0, days, 0, iSize);
+            iDays = days;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    private LocalDate toLocalDate(int epochDay) {
+        return new LocalDate(epochDay * (long) DateTimeConstants.MILLIS_PER_DAY, iChronology);
+    }
+
+    private int toEpochDay(ReadablePartial partial) {
+        long localMillis;
+        if (partial instanceof LocalDate && iChronology.equals(partial.getChronology())) {
+            localMillis = ((LocalDate) partial).getLocalMillis();
+        } else {
+            localMillis = iChronology.set(partial, 0L);
+        }
+        long epochDay = localMillis / DateTimeConstants.MILLIS_PER_DAY;
+        if (localMillis < 0 && epochDay * DateTimeConstants.MILLIS_PER_DAY != localMillis) {
+            epochDay--;
+        }
+        return FieldUtils.safeToInt(epochDay);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= iSize) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + iSize);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Writes the size, chronology and only the epoch days in use, not the spare capacity.
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        for (int i = 0; i < iSize; i++) {
+            out.writeInt(iDays[i]);
+        }
+    }
+
+    /**
+     * Reads the epoch days written by {@link #writeObject(ObjectOutputStream)}.
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (iSize < 0) {
+            throw new InvalidObjectException("Invalid size: " + iSize);
+        }
+        iDays = new int[Math.max(10, iSize)];
+        for (int i = 0; i < iSize; i++) {
+            iDays[i] = in.readInt();
+        }
+    }
+
+}
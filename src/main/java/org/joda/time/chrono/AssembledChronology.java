@@ -152,6 +152,30 @@ public abstract class AssembledChronology extends BaseChronology {
             (instant, hourOfDay, minuteOfHour, secondOfMinute, millisOfSecond);
     }
 
+    public long[] getDateTimeMillis(int[] year, int[] monthOfYear, int[] dayOfMonth,
+                                    int[] hourOfDay, int[] minuteOfHour,
+                                    int[] secondOfMinute, int[] millisOfSecond, long[] results)
+        throws IllegalArgumentException
+    {
+        Chronology base;
+        if ((base = iBase) != null && (iBaseFlags & 5) == 5) {
+            // Only call specialized implementation if applicable fields are the same.
+            return base.getDateTimeMillis(year, monthOfYear, dayOfMonth,
+                                          hourOfDay, minuteOfHour, secondOfMinute, millisOfSecond, results);
+        }
+        return super.getDateTimeMillis(year, monthOfYear, dayOfMonth,
+                                       hourOfDay, minuteOfHour, secondOfMinute, millisOfSecond, results);
+    }
+
+    public int[] getDateTimeFields(long instant, int[] values) {
+        Chronology base;
+        if ((base = iBase) != null && (iBaseFlags & 5) == 5) {
+            // Only call specialized implementation if applicable fields are the same.
+            return base.getDateTimeFields(instant, values);
+        }
+        return super.getDateTimeFields(instant, values);
+    }
+
     public final DurationField millis() {
         return iMillis;
     }
@@ -166,6 +166,69 @@ public abstract class BaseChronology
         return millisOfSecond().set(instant, millisOfSecond);
     }
 
+    /**
+     * Returns the millisecond instants formed from arrays of year, month,
+     * day, hour, minute, second and millisecond values.
+     * <p>
+     * The default implementation calls
+     * {@link #getDateTimeMillis(int, int, int, int, int, int, int)} for
+     * each index. Subclasses are encouraged to provide a more efficient
+     * implementation.
+     *
+     * @param year  the years to use, not null
+     * @param monthOfYear  the months to use, not null
+     * @param dayOfMonth  the days of month to use, not null
+     * @param hourOfDay  the hours to use, not null
+     * @param minuteOfHour  the minutes to use, not null
+     * @param secondOfMinute  the seconds to use, not null
+     * @param millisOfSecond  the milliseconds to use, not null
+     * @param results  the array to fill, null to create one
+     * @return the millisecond instants from 1970-01-01T00:00:00Z
+     * @since 2.0
+     */
+    public long[] getDateTimeMillis(int[] year, int[] monthOfYear, int[] dayOfMonth,
+                                    int[] hourOfDay, int[] minuteOfHour,
+                                    int[] secondOfMinute, int[] millisOfSecond, long[] results)
+        throws IllegalArgumentException
+    {
+        int count = year.length;
+        if (results == null) {
+            results = new long[count];
+        }
+        for (int i = 0; i < count; i++) {
+            results[i] = getDateTimeMillis(year[i], monthOfYear[i], dayOfMonth[i],
+                hourOfDay[i], minuteOfHour[i], secondOfMinute[i], millisOfSecond[i]);
+        }
+        return results;
+    }
+
+    /**
+     * Gets the year, month, day, hour, minute, second and millisecond
+     * of an instant in one call.
+     * <p>
+     * The default implementation calls upon separate DateTimeFields to
+     * determine the result. Subclasses are encouraged to provide a more
+     * efficient implementation.
+     *
+     * @param instant  the millisecond instant from 1970-01-01T00:00:00Z to query
+     * @param values  the array to fill, at least seven long, null to create one
+     * @return the array of year, month, day, hour, minute, second and millisecond
+     * @since 2.0
+     */
+    public int[] getDateTimeFields(long instant, int[] values) {
+        if (values == null) {
+            values = new int[7];
+        }
+        values[0] = year().get(instant);
+        values[1] = monthOfYear().get(instant);
+        values[2] = dayOfMonth().get(instant);
+        values[3] = hourOfDay().get(instant);
+        values[4] = minuteOfHour().get(instant);
+        values[5] = secondOfMinute().get(instant);
+        values[6] = millisOfSecond().get(instant);
+        return values;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Validates whether the fields stored in a partial instant are valid.
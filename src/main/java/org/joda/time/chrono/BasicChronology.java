@@ -123,7 +123,22 @@ abstract class BasicChronology extends AssembledChronology {
     private static final int CACHE_SIZE = 1 << 10;
     private static final int CACHE_MASK = CACHE_SIZE - 1;
 
+    /** The system property setting the first ISO year covered by the year table. */
+    private static final String YEAR_TABLE_START_PROPERTY = "org.joda.time.chrono.BasicChronology.YearTableStart";
+    /** The system property setting the last ISO year covered by the year table. */
+    private static final String YEAR_TABLE_END_PROPERTY = "org.joda.time.chrono.BasicChronology.YearTableEnd";
+    /** The first ISO year covered by the year table. */
+    private static final int YEAR_TABLE_START = getYearProperty(YEAR_TABLE_START_PROPERTY, 1900);
+    /** The last ISO year covered by the year table. */
+    private static final int YEAR_TABLE_END = getYearProperty(YEAR_TABLE_END_PROPERTY, 2200);
+    /** The shift giving the bucket of an instant in the year table, each bucket being shorter than a year. */
+    private static final int YEAR_TABLE_SHIFT = 34;
+
     private transient final YearInfo[] iYearInfoCache = new YearInfo[CACHE_SIZE];
+    /** The year table, created when first needed. */
+    private transient YearTable iYearTable;
+    /** The year field created by assemble, set during construction so it has no initializer. */
+    private transient DateTimeField iCalculatedYearField;
 
     private final int iMinDaysInFirstWeek;
 
@@ -181,6 +196,89 @@ abstract class BasicChronology extends AssembledChronology {
             + millisOfSecond;
     }
 
+    public long[] getDateTimeMillis(
+            int[] year, int[] monthOfYear, int[] dayOfMonth,
+            int[] hourOfDay, int[] minuteOfHour,
+            int[] secondOfMinute, int[] millisOfSecond, long[] results)
+            throws IllegalArgumentException {
+        Chronology base;
+        if ((base = getBase()) != null) {
+            return base.getDateTimeMillis(year, monthOfYear, dayOfMonth,
+                                          hourOfDay, minuteOfHour, secondOfMinute, millisOfSecond, results);
+        }
+
+        int count = year.length;
+        if (results == null) {
+            results = new long[count];
+        }
+        // validate and add up the time fields
+        for (int i = 0; i < count; i++) {
+            int hour = hourOfDay[i];
+            int minute = minuteOfHour[i];
+            int second = secondOfMinute[i];
+            int millis = millisOfSecond[i];
+            if (hour < 0 || hour > 23 || minute < 0 || minute > 59 ||
+                    second < 0 || second > 59 || millis < 0 || millis > 999) {
+                FieldUtils.verifyValueBounds(DateTimeFieldType.hourOfDay(), hour, 0, 23);
+                FieldUtils.verifyValueBounds(DateTimeFieldType.minuteOfHour(), minute, 0, 59);
+                FieldUtils.verifyValueBounds(DateTimeFieldType.secondOfMinute(), second, 0, 59);
+                FieldUtils.verifyValueBounds(DateTimeFieldType.millisOfSecond(), millis, 0, 999);
+            }
+            results[i] = hour * DateTimeConstants.MILLIS_PER_HOUR
+                + minute * DateTimeConstants.MILLIS_PER_MINUTE
+                + second * DateTimeConstants.MILLIS_PER_SECOND
+                + millis;
+        }
+        // add the dates, calculating the start of a month only when it changes
+        int lastYear = 0;
+        int lastMonth = 0;
+        int lastDays = 0;
+        long lastMonthMillis = 0;
+        for (int i = 0; i < count; i++) {
+            int y = year[i];
+            int month = monthOfYear[i];
+            if (y != lastYear || month != lastMonth || lastDays == 0) {
+                lastMonthMillis = getDateMidnightMillis(y, month, 1);
+                // subclasses may adjust the year, so query the calculated instant
+                lastDays = getDaysInYearMonth(getYear(lastMonthMillis), month);
+                lastYear = y;
+                lastMonth = month;
+            }
+            int day = dayOfMonth[i];
+            if (day < 1 || day > lastDays) {
+                FieldUtils.verifyValueBounds(DateTimeFieldType.dayOfMonth(), day, 1, lastDays);
+            }
+            results[i] += lastMonthMillis + (day - 1) * (long) DateTimeConstants.MILLIS_PER_DAY;
+        }
+        return results;
+    }
+
+    public int[] getDateTimeFields(long instant, int[] values) {
+        Chronology base;
+        if ((base = getBase()) != null) {
+            return base.getDateTimeFields(instant, values);
+        }
+        if (values == null) {
+            values = new int[7];
+        }
+
+        int year = getYear(instant);
+        int month = getMonthOfYear(instant, year);
+        long monthMillis = instant - getYearMillis(year) - getTotalMillisByYearMonth(year, month);
+        int day = (int) (monthMillis / DateTimeConstants.MILLIS_PER_DAY);
+        int millisOfDay = (int) (monthMillis - ((long) day) * DateTimeConstants.MILLIS_PER_DAY);
+
+        // subclasses may replace the year field, such as to skip year zero
+        values[0] = (year() == iCalculatedYearField ? year : year().get(instant));
+        values[1] = month;
+        values[2] = day + 1;
+        values[3] = millisOfDay / DateTimeConstants.MILLIS_PER_HOUR;
+        values[4] = (millisOfDay / DateTimeConstants.MILLIS_PER_MINUTE) % 60;
+        values[5] = (millisOfDay / DateTimeConstants.MILLIS_PER_SECOND) % 60;
+        values[6] = millisOfDay % DateTimeConstants.MILLIS_PER_SECOND;
+        return values;
+    }
+
     public int getMinimumDaysInFirstWeek() {
         return iMinDaysInFirstWeek;
     }
@@ -262,6 +360,7 @@ abstract class BasicChronology extends AssembledChronology {
         // chronologies.
 
         fields.year = new BasicYearDateTimeField(this);
+        iCalculatedYearField = fields.year;
         fields.yearOfEra = new GJYearOfEraDateTimeField(fields.year, this);
 
         // Define one-based centuryOfEra and yearOfCentury.
@@ -357,6 +456,13 @@ abstract class BasicChronology extends AssembledChronology {
      * @return millis from 1970-01-01T00:00:00Z
      */
     long getYearMillis(int year) {
+        YearTable table = iYearTable;
+        if (table != null) {
+            int index = year - table.iFirstYear;
+            if (index >= 0 && index < table.iYearMillis.length) {
+                return table.iYearMillis[index];
+            }
+        }
         return getYearInfo(year).iFirstDayMillis;
     }
 
@@ -388,9 +494,36 @@ abstract class BasicChronology extends AssembledChronology {
     }
     
     /**
+     * Gets the year of an instant.
+     * <p>
+     * Instants within the range of the year table are looked up without
+     * any division, others are calculated.
+     *
      * @param instant millis from 1970-01-01T00:00:00Z
      */
     int getYear(long instant) {
+        YearTable table = iYearTable;
+        if (table == null) {
+            table = createYearTable();
+        }
+        long offset = instant - table.iStartMillis;
+        if (offset >= 0 && offset < table.iLengthMillis) {
+            // each bucket is shorter than a year, so holds at most one year start
+            int index = table.iBucketYears[(int) (offset >>> YEAR_TABLE_SHIFT)];
+            if (instant >= table.iYearMillis[index + 1]) {
+                index++;
+            }
+            return table.iFirstYear + index;
+        }
+        return calculateYear(instant);
+    }
+
+    /**
+     * Calculates the year of an instant without using the year table.
+     *
+     * @param instant millis from 1970-01-01T00:00:00Z
+     */
+    int calculateYear(long instant) {
         // Get an initial estimate of the year, and the millis value that
         // represents the start of that year. Then verify estimate and fix if
         // necessary.
@@ -733,6 +866,62 @@ abstract class BasicChronology extends AssembledChronology {
     abstract long setYear(long instant, int year);
 
     //-----------------------------------------------------------------------
+    /**
+     * Reads a year from a system property.
+     *
+     * @param property  the name of the system property
+     * @param defaultYear  the year to use if the property is not set or invalid
+     * @return the year
+     */
+    private static int getYearProperty(String property, int defaultYear) {
+        try {
+            String year = System.getProperty(property);
+            if (year != null) {
+                return Integer.parseInt(year.trim());
+            }
+        } catch (SecurityException ex) {
+            // ignored
+        } catch (NumberFormatException ex) {
+            // ignored
+        }
+        return defaultYear;
+    }
+
+    // Although accessed by multiple threads, this method doesn't need to be synchronized.
+    // The table is immutable, so a thread either sees it complete or creates its own.
+    private YearTable createYearTable() {
+        int startYear = Math.max(YEAR_TABLE_START, -100000);
+        int endYear = Math.min(YEAR_TABLE_END, 100000);
+        YearTable table;
+        if (startYear > endYear) {
+            // an empty table, holding just the start of one year
+            int year = getMinYear();
+            table = new YearTable(year, new long[] {calculateFirstDayOfYearMillis(year)}, new int[0]);
+        } else {
+            // the years of this chronology overlapping the ISO years
+            BasicChronology iso = GregorianChronology.getInstanceUTC();
+            int firstYear = Math.max(calculateYear(iso.getYearMillis(startYear)), getMinYear());
+            int lastYear = Math.min(calculateYear(iso.getYearMillis(endYear + 1) - 1), getMaxYear() - 1);
+            long[] yearMillis = new long[lastYear - firstYear + 2];
+            for (int i = 0; i < yearMillis.length; i++) {
+                yearMillis[i] = calculateFirstDayOfYearMillis(firstYear + i);
+            }
+            long length = yearMillis[yearMillis.length - 1] - yearMillis[0];
+            int[] bucketYears = new int[(int) ((length - 1) >>> YEAR_TABLE_SHIFT) + 1];
+            int index = 0;
+            for (int i = 0; i < bucketYears.length; i++) {
+                long bucketStart = yearMillis[0] + ((long) i << YEAR_TABLE_SHIFT);
+                while (yearMillis[index + 1] <= bucketStart) {
+                    index++;
+                }
+                bucketYears[i] = index;
+            }
+            table = new YearTable(firstYear, yearMillis, bucketYears);
+        }
+        iYearTable = table;
+        return table;
+    }
+
     // Although accessed by multiple threads, this method doesn't need to be synchronized.
     private YearInfo getYearInfo(int year) {
         YearInfo info = iYearInfoCache[year & CACHE_MASK];
@@ -773,4 +962,29 @@ abstract class BasicChronology extends AssembledChronology {
         }
     }
 
+    /**
+     * The start of each year in a range, with the instants split into buckets
+     * shorter than a year so the year of an instant is found without division.
+     */
+    private static class YearTable {
+        /** The first year in the table. */
+        final int iFirstYear;
+        /** The start of each year, plus the end of the last year. */
+        final long[] iYearMillis;
+        /** The index of the year at the start of each bucket. */
+        final int[] iBucketYears;
+        /** The start of the first year. */
+        final long iStartMillis;
+        /** The length of all the years. */
+        final long iLengthMillis;
+
+        YearTable(int firstYear, long[] yearMillis, int[] bucketYears) {
+            iFirstYear = firstYear;
+            iYearMillis = yearMillis;
+            iBucketYears = bucketYears;
+            iStartMillis = yearMillis[0];
+            iLengthMillis = yearMillis[yearMillis.length - 1] - yearMillis[0];
+        }
+    }
+
 }
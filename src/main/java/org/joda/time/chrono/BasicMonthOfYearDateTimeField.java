@@ -345,6 +345,14 @@ class BasicMonthOfYearDateTimeField extends ImpreciseDateTimeField {
         return iChronology.getYearMonthMillis(year, month);
     }
 
+    public long[] roundFloor(long[] instants, long[] results) {
+        return FieldRounding.roundFloor(this, instants, results);
+    }
+
+    public long[] roundCeiling(long[] instants, long[] results) {
+        return FieldRounding.roundCeiling(this, instants, results);
+    }
+
     //-----------------------------------------------------------------------
     public long remainder(long instant) {
         return instant - roundFloor(instant);
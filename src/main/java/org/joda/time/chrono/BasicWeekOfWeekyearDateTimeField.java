@@ -71,6 +71,14 @@ final class BasicWeekOfWeekyearDateTimeField extends PreciseDurationDateTimeFiel
             - 3 * DateTimeConstants.MILLIS_PER_DAY;
     }
 
+    public long[] roundFloor(long[] instants, long[] results) {
+        return roundFloor(instants, results, 3 * DateTimeConstants.MILLIS_PER_DAY);
+    }
+
+    public long[] roundCeiling(long[] instants, long[] results) {
+        return roundCeiling(instants, results, 3 * DateTimeConstants.MILLIS_PER_DAY);
+    }
+
     public long remainder(long instant) {
         return super.remainder(instant + 3 * DateTimeConstants.MILLIS_PER_DAY);
     }
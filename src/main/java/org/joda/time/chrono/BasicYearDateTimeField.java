@@ -133,6 +133,14 @@ class BasicYearDateTimeField extends ImpreciseDateTimeField {
         return instant;
     }
 
+    public long[] roundFloor(long[] instants, long[] results) {
+        return FieldRounding.roundFloor(this, instants, results);
+    }
+
+    public long[] roundCeiling(long[] instants, long[] results) {
+        return FieldRounding.roundCeiling(this, instants, results);
+    }
+
     public long remainder(long instant) {
         return instant - roundFloor(instant);
     }
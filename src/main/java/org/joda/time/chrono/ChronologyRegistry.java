@@ -0,0 +1,131 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.chrono;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.joda.time.Chronology;
+import org.joda.time.DateTimeZone;
+
+/**
+ * Registry of the chronology instances returned by the <code>getInstance</code>
+ * factories of this package.
+ * <p>
+ * Instances are keyed by the kind of chronology, the time zone, the minimum
+ * days in the first week and any further parameter, such as the cutover.
+ * Lookups do not lock, thus many threads can obtain chronologies concurrently.
+ * If two threads create the same chronology at once, the first to be
+ * registered is returned to both, so each key maps to a single instance.
+ * <p>
+ * ChronologyRegistry is thread-safe.
+ *
+ * @author Stephen Colebourne
+ * @since 2.0
+ */
+final class ChronologyRegistry {
+
+    /** The registered chronologies. */
+    private static final ConcurrentHashMap<Key, Chronology> cRegistry =
+        new ConcurrentHashMap<Key, Chronology>(64, 0.75f, 64);
+
+    /**
+     * Restricted constructor.
+     */
+    private ChronologyRegistry() {
+        super();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets a registered chronology.
+     *
+     * @param kind  the kind of chronology, not null
+     * @param zone  the time zone, not null
+     * @param minDaysInFirstWeek  the minimum days in the first week
+     * @param param  the further parameter, null if none
+     * @return the chronology, null if not registered
+     */
+    static <C extends Chronology> C get(Class<C> kind, DateTimeZone zone, int minDaysInFirstWeek, Object param) {
+        return kind.cast(cRegistry.get(new Key(kind, zone, minDaysInFirstWeek, param)));
+    }
+
+    /**
+     * Registers a chronology, unless another thread registered one first.
+     *
+     * @param kind  the kind of chronology, not null
+     * @param zone  the time zone, not null
+     * @param minDaysInFirstWeek  the minimum days in the first week
+     * @param param  the further parameter, null if none
+     * @param chrono  the newly created chronology, not null
+     * @return the registered chronology, not null
+     */
+    static <C extends Chronology> C register(
+            Class<C> kind, DateTimeZone zone, int minDaysInFirstWeek, Object param, C chrono) {
+        Key key = new Key(kind, zone, minDaysInFirstWeek, param);
+        Chronology existing = cRegistry.putIfAbsent(key, chrono);
+        return existing == null ? chrono : kind.cast(existing);
+    }
+
+    /**
+     * Gets the number of registered chronologies.
+     *
+     * @return the size
+     */
+    static int size() {
+        return cRegistry.size();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The key of a registered chronology.
+     */
+    private static final class Key {
+        private final Class<?> iKind;
+        private final DateTimeZone iZone;
+        private final int iMinDaysInFirstWeek;
+        private final Object iParam;
+        private final int iHashCode;
+
+        Key(Class<?> kind, DateTimeZone zone, int minDaysInFirstWeek, Object param) {
+            iKind = kind;
+            iZone = zone;
+            iMinDaysInFirstWeek = minDaysInFirstWeek;
+            iParam = param;
+            int hash = (kind.hashCode() * 31 + zone.hashCode()) * 31 + minDaysInFirstWeek;
+            iHashCode = hash * 31 + (param == null ? 0 : param.hashCode());
+        }
+
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof Key) {
+                Key other = (Key) obj;
+                return iHashCode == other.iHashCode &&
+                    iKind == other.iKind &&
+                    iMinDaysInFirstWeek == other.iMinDaysInFirstWeek &&
+                    iZone.equals(other.iZone) &&
+                    (iParam == null ? other.iParam == null : iParam.equals(other.iParam));
+            }
+            return false;
+        }
+
+        public int hashCode() {
+            return iHashCode;
+        }
+    }
+
+}
@@ -15,9 +15,6 @@
  */
 package org.joda.time.chrono;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import org.joda.time.Chronology;
 import org.joda.time.DateTime;
 import org.joda.time.DateTimeConstants;
@@ -68,9 +65,6 @@ public final class CopticChronology extends BasicFixedMonthChronology {
     /** The highest year that can be fully supported. */
     private static final int MAX_YEAR = 292272708;
 
-    /** Cache of zone to chronology arrays */
-    private static final Map<DateTimeZone, CopticChronology[]> cCache = new HashMap<DateTimeZone, CopticChronology[]>();
-
     /** Singleton instance of a UTC CopticChronology */
     private static final CopticChronology INSTANCE_UTC;
     static {
@@ -119,35 +113,26 @@ public final class CopticChronology extends BasicFixedMonthChronology {
         if (zone == null) {
             zone = DateTimeZone.getDefault();
         }
-        CopticChronology chrono;
-        synchronized (cCache) {
-            CopticChronology[] chronos = cCache.get(zone);
-            if (chronos == null) {
-                chronos = new CopticChronology[7];
-                cCache.put(zone, chronos);
-            }
-            try {
-                chrono = chronos[minDaysInFirstWeek - 1];
-            } catch (ArrayIndexOutOfBoundsException e) {
-                throw new IllegalArgumentException
-                    ("Invalid min days in first week: " + minDaysInFirstWeek);
-            }
-            if (chrono == null) {
-                if (zone == DateTimeZone.UTC) {
-                    // First create without a lower limit.
-                    chrono = new CopticChronology(null, null, minDaysInFirstWeek);
-                    // Impose lower limit and make another CopticChronology.
-                    DateTime lowerLimit = new DateTime(1, 1, 1, 0, 0, 0, 0, chrono);
-                    chrono = new CopticChronology
-                        (LimitChronology.getInstance(chrono, lowerLimit, null),
-                         null, minDaysInFirstWeek);
-                } else {
-                    chrono = getInstance(DateTimeZone.UTC, minDaysInFirstWeek);
-                    chrono = new CopticChronology
-                        (ZonedChronology.getInstance(chrono, zone), null, minDaysInFirstWeek);
-                }
-                chronos[minDaysInFirstWeek - 1] = chrono;
+        if (minDaysInFirstWeek < 1 || minDaysInFirstWeek > 7) {
+            throw new IllegalArgumentException
+                ("Invalid min days in first week: " + minDaysInFirstWeek);
+        }
+        CopticChronology chrono = ChronologyRegistry.get(CopticChronology.class, zone, minDaysInFirstWeek, null);
+        if (chrono == null) {
+            if (zone == DateTimeZone.UTC) {
+                // First create without a lower limit.
+                chrono = new CopticChronology(null, null, minDaysInFirstWeek);
+                // Impose lower limit and make another CopticChronology.
+                DateTime lowerLimit = new DateTime(1, 1, 1, 0, 0, 0, 0, chrono);
+                chrono = new CopticChronology
+                    (LimitChronology.getInstance(chrono, lowerLimit, null),
+                     null, minDaysInFirstWeek);
+            } else {
+                chrono = getInstance(DateTimeZone.UTC, minDaysInFirstWeek);
+                chrono = new CopticChronology
+                    (ZonedChronology.getInstance(chrono, zone), null, minDaysInFirstWeek);
             }
+            chrono = ChronologyRegistry.register(CopticChronology.class, zone, minDaysInFirstWeek, null, chrono);
         }
         return chrono;
     }
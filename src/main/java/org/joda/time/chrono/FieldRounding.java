@@ -0,0 +1,119 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.chrono;
+
+import org.joda.time.DateTimeField;
+
+/**
+ * Rounds arrays of instants for the fields of this package.
+ * <p>
+ * Sorted or clustered instants mostly fall in the same unit as the instant
+ * before them. The start of that unit and of the next one are kept, so the
+ * field is only asked to round again when an instant falls outside them.
+ * This relies on the field rounding consistently, as the fields of
+ * {@link BasicChronology} do.
+ *
+ * @author Stephen Colebourne
+ * @since 2.0
+ */
+final class FieldRounding {
+
+    /**
+     * Restricted constructor.
+     */
+    private FieldRounding() {
+        super();
+    }
+
+    /**
+     * Rounds each instant to the lowest whole unit of the field.
+     *
+     * @param field  the field to round with, not null
+     * @param instants  the instants to round, not null
+     * @param results  the array to fill, may be the instants array, null to create one
+     * @return the rounded instants
+     */
+    static long[] roundFloor(DateTimeField field, long[] instants, long[] results) {
+        int count = instants.length;
+        if (results == null) {
+            results = new long[count];
+        }
+        long floor = 0;
+        long next = Long.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            long instant = instants[i];
+            if (instant < floor || instant >= next) {
+                floor = field.roundFloor(instant);
+                next = nextUnit(field, floor);
+            }
+            results[i] = floor;
+        }
+        return results;
+    }
+
+    /**
+     * Rounds each instant to the highest whole unit of the field.
+     *
+     * @param field  the field to round with, not null
+     * @param instants  the instants to round, not null
+     * @param results  the array to fill, may be the instants array, null to create one
+     * @return the rounded instants
+     */
+    static long[] roundCeiling(DateTimeField field, long[] instants, long[] results) {
+        int count = instants.length;
+        if (results == null) {
+            results = new long[count];
+        }
+        long floor = 0;
+        long next = Long.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            long instant = instants[i];
+            if (instant < floor || instant >= next) {
+                floor = field.roundFloor(instant);
+                next = nextUnit(field, floor);
+            }
+            if (instant == floor) {
+                results[i] = floor;
+            } else if (next > floor) {
+                results[i] = next;
+            } else {
+                results[i] = field.roundCeiling(instant);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Gets the start of the unit following the one starting at the floor.
+     *
+     * @param field  the field to round with, not null
+     * @param floor  the start of a unit of the field
+     * @return the start of the next unit, or the floor if that is out of range
+     */
+    static long nextUnit(DateTimeField field, long floor) {
+        if (floor == Long.MAX_VALUE) {
+            return floor;
+        }
+        try {
+            return field.roundCeiling(floor + 1);
+        } catch (ArithmeticException ex) {
+            return floor;
+        } catch (IllegalArgumentException ex) {
+            return floor;
+        }
+    }
+
+}
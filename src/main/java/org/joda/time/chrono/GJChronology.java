@@ -15,10 +15,7 @@
  */
 package org.joda.time.chrono;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Locale;
-import java.util.Map;
 
 import org.joda.time.Chronology;
 import org.joda.time.DateTimeField;
@@ -104,9 +101,6 @@ public final class GJChronology extends AssembledChronology {
      */
     static final Instant DEFAULT_CUTOVER = new Instant(-12219292800000L);
 
-    /** Cache of zone to chronology list */
-    private static final Map<DateTimeZone, ArrayList<GJChronology>> cCache = new HashMap<DateTimeZone, ArrayList<GJChronology>>();
-
     /**
      * Factory method returns instances of the default GJ cutover
      * chronology. This uses a cutover date of October 15, 1582 (Gregorian)
@@ -181,7 +175,7 @@ public final class GJChronology extends AssembledChronology {
      * @param gregorianCutover  the cutover to use, null means default
      * @param minDaysInFirstWeek  minimum number of days in first week of the year; default is 4
      */
-    public static synchronized GJChronology getInstance(
+    public static GJChronology getInstance(
             DateTimeZone zone,
             ReadableInstant gregorianCutover,
             int minDaysInFirstWeek) {
@@ -194,21 +188,9 @@ public final class GJChronology extends AssembledChronology {
             cutoverInstant = gregorianCutover.toInstant();
         }
 
-        GJChronology chrono;
-
-        ArrayList<GJChronology> chronos = cCache.get(zone);
-        if (chronos == null) {
-            chronos = new ArrayList<GJChronology>(2);
-            cCache.put(zone, chronos);
-        } else {
-            for (int i=chronos.size(); --i>=0; ) {
-                chrono = chronos.get(i);
-                if (minDaysInFirstWeek == chrono.getMinimumDaysInFirstWeek() &&
-                    cutoverInstant.equals(chrono.getGregorianCutover())) {
-                    
-                    return chrono;
-                }
-            }
+        GJChronology chrono = ChronologyRegistry.get(GJChronology.class, zone, minDaysInFirstWeek, cutoverInstant);
+        if (chrono != null) {
+            return chrono;
         }
 
         if (zone == DateTimeZone.UTC) {
@@ -225,7 +207,7 @@ public final class GJChronology extends AssembledChronology {
                  chrono.iCutoverInstant);
         }
 
-        chronos.add(chrono);
+        chrono = ChronologyRegistry.register(GJChronology.class, zone, minDaysInFirstWeek, cutoverInstant, chrono);
 
         return chrono;
     }
@@ -15,9 +15,6 @@
  */
 package org.joda.time.chrono;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import org.joda.time.Chronology;
 import org.joda.time.DateTimeConstants;
 import org.joda.time.DateTimeZone;
@@ -64,9 +61,6 @@ public final class GregorianChronology extends BasicGJChronology {
     /** Singleton instance of a UTC GregorianChronology */
     private static final GregorianChronology INSTANCE_UTC;
 
-    /** Cache of zone to chronology arrays */
-    private static final Map<DateTimeZone, GregorianChronology[]> cCache = new HashMap<DateTimeZone, GregorianChronology[]>();
-
     static {
         INSTANCE_UTC = getInstance(DateTimeZone.UTC);
     }
@@ -111,29 +105,20 @@ public final class GregorianChronology extends BasicGJChronology {
         if (zone == null) {
             zone = DateTimeZone.getDefault();
         }
-        GregorianChronology chrono;
-        synchronized (cCache) {
-            GregorianChronology[] chronos = cCache.get(zone);
-            if (chronos == null) {
-                chronos = new GregorianChronology[7];
-                cCache.put(zone, chronos);
-            }
-            try {
-                chrono = chronos[minDaysInFirstWeek - 1];
-            } catch (ArrayIndexOutOfBoundsException e) {
-                throw new IllegalArgumentException
-                    ("Invalid min days in first week: " + minDaysInFirstWeek);
-            }
-            if (chrono == null) {
-                if (zone == DateTimeZone.UTC) {
-                    chrono = new GregorianChronology(null, null, minDaysInFirstWeek);
-                } else {
-                    chrono = getInstance(DateTimeZone.UTC, minDaysInFirstWeek);
-                    chrono = new GregorianChronology
-                        (ZonedChronology.getInstance(chrono, zone), null, minDaysInFirstWeek);
-                }
-                chronos[minDaysInFirstWeek - 1] = chrono;
+        if (minDaysInFirstWeek < 1 || minDaysInFirstWeek > 7) {
+            throw new IllegalArgumentException
+                ("Invalid min days in first week: " + minDaysInFirstWeek);
+        }
+        GregorianChronology chrono = ChronologyRegistry.get(GregorianChronology.class, zone, minDaysInFirstWeek, null);
+        if (chrono == null) {
+            if (zone == DateTimeZone.UTC) {
+                chrono = new GregorianChronology(null, null, minDaysInFirstWeek);
+            } else {
+                chrono = getInstance(DateTimeZone.UTC, minDaysInFirstWeek);
+                chrono = new GregorianChronology
+                    (ZonedChronology.getInstance(chrono, zone), null, minDaysInFirstWeek);
             }
+            chrono = ChronologyRegistry.register(GregorianChronology.class, zone, minDaysInFirstWeek, null, chrono);
         }
         return chrono;
     }
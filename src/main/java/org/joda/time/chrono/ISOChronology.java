@@ -19,8 +19,6 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
-import java.util.HashMap;
-import java.util.Map;
 
 import org.joda.time.Chronology;
 import org.joda.time.DateTimeFieldType;
@@ -58,13 +56,10 @@ public final class ISOChronology extends AssembledChronology {
 
     /** Fast cache of zone to chronology */
     private static final ISOChronology[] cFastCache;
-
-    /** Cache of zone to chronology */
-    private static final Map<DateTimeZone, ISOChronology> cCache = new HashMap<DateTimeZone, ISOChronology>();
     static {
         cFastCache = new ISOChronology[FAST_CACHE_SIZE];
         INSTANCE_UTC = new ISOChronology(GregorianChronology.getInstanceUTC());
-        cCache.put(DateTimeZone.UTC, INSTANCE_UTC);
+        ChronologyRegistry.register(ISOChronology.class, DateTimeZone.UTC, 4, null, INSTANCE_UTC);
     }
 
     /**
@@ -101,12 +96,10 @@ public final class ISOChronology extends AssembledChronology {
         if (chrono != null && chrono.getZone() == zone) {
             return chrono;
         }
-        synchronized (cCache) {
-            chrono = cCache.get(zone);
-            if (chrono == null) {
-                chrono = new ISOChronology(ZonedChronology.getInstance(INSTANCE_UTC, zone));
-                cCache.put(zone, chrono);
-            }
+        chrono = ChronologyRegistry.get(ISOChronology.class, zone, 4, null);
+        if (chrono == null) {
+            chrono = new ISOChronology(ZonedChronology.getInstance(INSTANCE_UTC, zone));
+            chrono = ChronologyRegistry.register(ISOChronology.class, zone, 4, null, chrono);
         }
         cFastCache[index] = chrono;
         return chrono;
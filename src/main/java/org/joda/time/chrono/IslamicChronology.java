@@ -16,8 +16,6 @@
 package org.joda.time.chrono;
 
 import java.io.Serializable;
-import java.util.HashMap;
-import java.util.Map;
 
 import org.joda.time.Chronology;
 import org.joda.time.DateTime;
@@ -138,9 +136,6 @@ public final class IslamicChronology extends BasicChronology {
     /** The millis of a 30 year cycle. */
     private static final long MILLIS_PER_CYCLE = ((19L * 354L + 11L * 355L) * DateTimeConstants.MILLIS_PER_DAY);
 
-    /** Cache of zone to chronology arrays */
-    private static final Map<DateTimeZone, IslamicChronology[]> cCache = new HashMap<DateTimeZone, IslamicChronology[]>();
-
     /** Singleton instance of a UTC IslamicChronology */
     private static final IslamicChronology INSTANCE_UTC;
     static {
@@ -192,30 +187,22 @@ public final class IslamicChronology extends BasicChronology {
         if (zone == null) {
             zone = DateTimeZone.getDefault();
         }
-        IslamicChronology chrono;
-        synchronized (cCache) {
-            IslamicChronology[] chronos = cCache.get(zone);
-            if (chronos == null) {
-                chronos = new IslamicChronology[4];
-                cCache.put(zone, chronos);
-            }
-            chrono = chronos[leapYears.index];
-            if (chrono == null) {
-                if (zone == DateTimeZone.UTC) {
-                    // First create without a lower limit.
-                    chrono = new IslamicChronology(null, null, leapYears);
-                    // Impose lower limit and make another IslamicChronology.
-                    DateTime lowerLimit = new DateTime(1, 1, 1, 0, 0, 0, 0, chrono);
-                    chrono = new IslamicChronology(
-                        LimitChronology.getInstance(chrono, lowerLimit, null),
-                         null, leapYears);
-                } else {
-                    chrono = getInstance(DateTimeZone.UTC, leapYears);
-                    chrono = new IslamicChronology
-                        (ZonedChronology.getInstance(chrono, zone), null, leapYears);
-                }
-                chronos[leapYears.index] = chrono;
+        IslamicChronology chrono = ChronologyRegistry.get(IslamicChronology.class, zone, 4, leapYears);
+        if (chrono == null) {
+            if (zone == DateTimeZone.UTC) {
+                // First create without a lower limit.
+                chrono = new IslamicChronology(null, null, leapYears);
+                // Impose lower limit and make another IslamicChronology.
+                DateTime lowerLimit = new DateTime(1, 1, 1, 0, 0, 0, 0, chrono);
+                chrono = new IslamicChronology(
+                    LimitChronology.getInstance(chrono, lowerLimit, null),
+                     null, leapYears);
+            } else {
+                chrono = getInstance(DateTimeZone.UTC, leapYears);
+                chrono = new IslamicChronology
+                    (ZonedChronology.getInstance(chrono, zone), null, leapYears);
             }
+            chrono = ChronologyRegistry.register(IslamicChronology.class, zone, 4, leapYears, chrono);
         }
         return chrono;
     }
@@ -286,7 +273,7 @@ public final class IslamicChronology extends BasicChronology {
     }
 
     //-----------------------------------------------------------------------
-    int getYear(long instant) {
+    int calculateYear(long instant) {
         long millisIslamic = instant - MILLIS_YEAR_1;
         long cycles = millisIslamic / MILLIS_PER_CYCLE;
         long cycleRemainder = millisIslamic % MILLIS_PER_CYCLE;
@@ -15,9 +15,6 @@
  */
 package org.joda.time.chrono;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import org.joda.time.Chronology;
 import org.joda.time.DateTimeConstants;
 import org.joda.time.DateTimeFieldType;
@@ -67,9 +64,6 @@ public final class JulianChronology extends BasicGJChronology {
     /** Singleton instance of a UTC JulianChronology */
     private static final JulianChronology INSTANCE_UTC;
 
-    /** Cache of zone to chronology arrays */
-    private static final Map<DateTimeZone, JulianChronology[]> cCache = new HashMap<DateTimeZone, JulianChronology[]>();
-
     static {
         INSTANCE_UTC = getInstance(DateTimeZone.UTC);
     }
@@ -125,29 +119,20 @@ public final class JulianChronology extends BasicGJChronology {
         if (zone == null) {
             zone = DateTimeZone.getDefault();
         }
-        JulianChronology chrono;
-        synchronized (cCache) {
-            JulianChronology[] chronos = cCache.get(zone);
-            if (chronos == null) {
-                chronos = new JulianChronology[7];
-                cCache.put(zone, chronos);
-            }
-            try {
-                chrono = chronos[minDaysInFirstWeek - 1];
-            } catch (ArrayIndexOutOfBoundsException e) {
-                throw new IllegalArgumentException
-                    ("Invalid min days in first week: " + minDaysInFirstWeek);
-            }
-            if (chrono == null) {
-                if (zone == DateTimeZone.UTC) {
-                    chrono = new JulianChronology(null, null, minDaysInFirstWeek);
-                } else {
-                    chrono = getInstance(DateTimeZone.UTC, minDaysInFirstWeek);
-                    chrono = new JulianChronology
-                        (ZonedChronology.getInstance(chrono, zone), null, minDaysInFirstWeek);
-                }
-                chronos[minDaysInFirstWeek - 1] = chrono;
+        if (minDaysInFirstWeek < 1 || minDaysInFirstWeek > 7) {
+            throw new IllegalArgumentException
+                ("Invalid min days in first week: " + minDaysInFirstWeek);
+        }
+        JulianChronology chrono = ChronologyRegistry.get(JulianChronology.class, zone, minDaysInFirstWeek, null);
+        if (chrono == null) {
+            if (zone == DateTimeZone.UTC) {
+                chrono = new JulianChronology(null, null, minDaysInFirstWeek);
+            } else {
+                chrono = getInstance(DateTimeZone.UTC, minDaysInFirstWeek);
+                chrono = new JulianChronology
+                    (ZonedChronology.getInstance(chrono, zone), null, minDaysInFirstWeek);
             }
+            chrono = ChronologyRegistry.register(JulianChronology.class, zone, minDaysInFirstWeek, null, chrono);
         }
         return chrono;
     }
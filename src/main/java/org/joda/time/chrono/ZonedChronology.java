@@ -131,6 +131,33 @@ public final class ZonedChronology extends AssembledChronology {
                            hourOfDay, minuteOfHour, secondOfMinute, millisOfSecond));
     }
 
+    public long[] getDateTimeMillis(int[] year, int[] monthOfYear, int[] dayOfMonth,
+                                    int[] hourOfDay, int[] minuteOfHour,
+                                    int[] secondOfMinute, int[] millisOfSecond, long[] results)
+        throws IllegalArgumentException
+    {
+        results = getBase().getDateTimeMillis
+            (year, monthOfYear, dayOfMonth,
+             hourOfDay, minuteOfHour, secondOfMinute, millisOfSecond, results);
+        DateTimeZone zone = getZone();
+        int count = year.length;
+        if (zone.isFixed()) {
+            long offset = zone.getOffset(0L);
+            for (int i = 0; i < count; i++) {
+                results[i] -= offset;
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                results[i] = localToUTC(results[i]);
+            }
+        }
+        return results;
+    }
+
+    public int[] getDateTimeFields(long instant, int[] values) {
+        return getBase().getDateTimeFields(getZone().convertUTCToLocal(instant), values);
+    }
+
     /**
      * @param instant instant from 1970-01-01T00:00:00 local time
      * @return instant from 1970-01-01T00:00:00Z
@@ -541,6 +568,89 @@ public final class ZonedChronology extends AssembledChronology {
             }
         }
 
+        public long[] roundFloor(long[] instants, long[] results) {
+            int count = instants.length;
+            if (results == null) {
+                results = new long[count];
+            }
+            if (iTimeField) {
+                for (int i = 0; i < count; i++) {
+                    long instant = instants[i];
+                    int offset = getOffsetToAdd(instant);
+                    results[i] = iField.roundFloor(instant + offset) - offset;
+                }
+                return results;
+            }
+            // the local unit of the previous instant, and its result for an offset
+            long floor = 0;
+            long next = Long.MIN_VALUE;
+            int lastOffset = 0;
+            long lastResult = 0;
+            for (int i = 0; i < count; i++) {
+                long instant = instants[i];
+                int offset = getOffsetToAdd(instant);
+                long localInstant = instant + offset;
+                if (localInstant < floor || localInstant >= next) {
+                    floor = iField.roundFloor(localInstant);
+                    next = FieldRounding.nextUnit(iField, floor);
+                    lastResult = iZone.convertLocalToUTC(floor, false, instant);
+                    lastOffset = offset;
+                } else if (offset != lastOffset) {
+                    lastResult = iZone.convertLocalToUTC(floor, false, instant);
+                    lastOffset = offset;
+                }
+                results[i] = lastResult;
+            }
+            return results;
+        }
+
+        public long[] roundCeiling(long[] instants, long[] results) {
+            int count = instants.length;
+            if (results == null) {
+                results = new long[count];
+            }
+            if (iTimeField) {
+                for (int i = 0; i < count; i++) {
+                    long instant = instants[i];
+                    int offset = getOffsetToAdd(instant);
+                    results[i] = iField.roundCeiling(instant + offset) - offset;
+                }
+                return results;
+            }
+            // the local unit of the previous instant, and the result for a local ceiling and offset
+            long floor = 0;
+            long next = Long.MIN_VALUE;
+            boolean cached = false;
+            long lastCeiling = 0;
+            int lastOffset = 0;
+            long lastResult = 0;
+            for (int i = 0; i < count; i++) {
+                long instant = instants[i];
+                int offset = getOffsetToAdd(instant);
+                long localInstant = instant + offset;
+                if (localInstant < floor || localInstant >= next) {
+                    floor = iField.roundFloor(localInstant);
+                    next = FieldRounding.nextUnit(iField, floor);
+                }
+                long ceiling;
+                if (localInstant == floor) {
+                    ceiling = floor;
+                } else if (next > floor) {
+                    ceiling = next;
+                } else {
+                    ceiling = iField.roundCeiling(localInstant);
+                }
+                if (cached == false || ceiling != lastCeiling || offset != lastOffset) {
+                    lastResult = iZone.convertLocalToUTC(ceiling, false, instant);
+                    lastCeiling = ceiling;
+                    lastOffset = offset;
+                    cached = true;
+                }
+                results[i] = lastResult;
+            }
+            return results;
+        }
+
         public long remainder(long instant) {
             long localInstant = iZone.convertUTCToLocal(instant);
             return iField.remainder(localInstant);
@@ -890,6 +890,50 @@ public abstract class BaseDateTimeField extends DateTimeField {
         return instant;
     }
 
+    /**
+     * Rounds each instant in an array to the lowest whole unit of this field.
+     * <p>
+     * The default implementation calls roundFloor for each instant.
+     * Subclasses are encouraged to provide a more efficient implementation.
+     *
+     * @param instants  the milliseconds from 1970-01-01T00:00:00Z to round, not null
+     * @param results  the array to fill, may be the instants array, null to create one
+     * @return the rounded milliseconds
+     * @since 2.0
+     */
+    public long[] roundFloor(long[] instants, long[] results) {
+        int count = instants.length;
+        if (results == null) {
+            results = new long[count];
+        }
+        for (int i = 0; i < count; i++) {
+            results[i] = roundFloor(instants[i]);
+        }
+        return results;
+    }
+
+    /**
+     * Rounds each instant in an array to the highest whole unit of this field.
+     * <p>
+     * The default implementation calls roundCeiling for each instant.
+     * Subclasses are encouraged to provide a more efficient implementation.
+     *
+     * @param instants  the milliseconds from 1970-01-01T00:00:00Z to round, not null
+     * @param results  the array to fill, may be the instants array, null to create one
+     * @return the rounded milliseconds
+     * @since 2.0
+     */
+    public long[] roundCeiling(long[] instants, long[] results) {
+        int count = instants.length;
+        if (results == null) {
+            results = new long[count];
+        }
+        for (int i = 0; i < count; i++) {
+            results[i] = roundCeiling(instants[i]);
+        }
+        return results;
+    }
+
     /**
      * Round to the nearest whole unit of this field. If the given millisecond
      * value is closer to the floor or is exactly halfway, this function
@@ -256,6 +256,14 @@ public class DelegatedDateTimeField extends DateTimeField implements Serializabl
         return iField.roundCeiling(instant);
     }
 
+    public long[] roundFloor(long[] instants, long[] results) {
+        return iField.roundFloor(instants, results);
+    }
+
+    public long[] roundCeiling(long[] instants, long[] results) {
+        return iField.roundCeiling(instants, results);
+    }
+
     public long roundHalfFloor(long instant) {
         return iField.roundHalfFloor(instant);
     }
@@ -114,6 +114,102 @@ public abstract class PreciseDurationDateTimeField extends BaseDateTimeField {
         }
     }
 
+    /**
+     * Rounds each instant in an array to the lowest whole unit of this field,
+     * using the same arithmetic as {@link #roundFloor(long)}.
+     * <p>
+     * This method assumes that this field is properly rounded on
+     * 1970-01-01T00:00:00. If the rounding alignment differs, override this
+     * method as follows:
+     * <pre>
+     * return roundFloor(instants, results, ALIGNMENT_MILLIS);
+     * </pre>
+     *
+     * @param instants  the milliseconds from 1970-01-01T00:00:00Z to round, not null
+     * @param results  the array to fill, may be the instants array, null to create one
+     * @return the rounded milliseconds
+     * @since 2.0
+     */
+    public long[] roundFloor(long[] instants, long[] results) {
+        return roundFloor(instants, results, 0L);
+    }
+
+    /**
+     * Rounds each instant in an array to the highest whole unit of this field,
+     * using the same arithmetic as {@link #roundCeiling(long)}.
+     * <p>
+     * This method assumes that this field is properly rounded on
+     * 1970-01-01T00:00:00. If the rounding alignment differs, override this
+     * method as follows:
+     * <pre>
+     * return roundCeiling(instants, results, ALIGNMENT_MILLIS);
+     * </pre>
+     *
+     * @param instants  the milliseconds from 1970-01-01T00:00:00Z to round, not null
+     * @param results  the array to fill, may be the instants array, null to create one
+     * @return the rounded milliseconds
+     * @since 2.0
+     */
+    public long[] roundCeiling(long[] instants, long[] results) {
+        return roundCeiling(instants, results, 0L);
+    }
+
+    /**
+     * Rounds each instant in an array to the lowest whole unit of this field,
+     * where the units are aligned to 1970-01-01T00:00:00 minus the alignment.
+     *
+     * @param instants  the milliseconds from 1970-01-01T00:00:00Z to round, not null
+     * @param results  the array to fill, may be the instants array, null to create one
+     * @param alignmentMillis  the milliseconds added before rounding and subtracted after
+     * @return the rounded milliseconds
+     * @since 2.0
+     */
+    protected final long[] roundFloor(long[] instants, long[] results, long alignmentMillis) {
+        int count = instants.length;
+        if (results == null) {
+            results = new long[count];
+        }
+        long unitMillis = iUnitMillis;
+        for (int i = 0; i < count; i++) {
+            long instant = instants[i] + alignmentMillis;
+            if (instant >= 0) {
+                results[i] = instant - instant % unitMillis - alignmentMillis;
+            } else {
+                instant += 1;
+                results[i] = instant - instant % unitMillis - unitMillis - alignmentMillis;
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Rounds each instant in an array to the highest whole unit of this field,
+     * where the units are aligned to 1970-01-01T00:00:00 minus the alignment.
+     *
+     * @param instants  the milliseconds from 1970-01-01T00:00:00Z to round, not null
+     * @param results  the array to fill, may be the instants array, null to create one
+     * @param alignmentMillis  the milliseconds added before rounding and subtracted after
+     * @return the rounded milliseconds
+     * @since 2.0
+     */
+    protected final long[] roundCeiling(long[] instants, long[] results, long alignmentMillis) {
+        int count = instants.length;
+        if (results == null) {
+            results = new long[count];
+        }
+        long unitMillis = iUnitMillis;
+        for (int i = 0; i < count; i++) {
+            long instant = instants[i] + alignmentMillis;
+            if (instant > 0) {
+                instant -= 1;
+                results[i] = instant - instant % unitMillis + unitMillis - alignmentMillis;
+            } else {
+                results[i] = instant - instant % unitMillis - alignmentMillis;
+            }
+        }
+        return results;
+    }
+
     /**
      * This method assumes that this field is properly rounded on
      * 1970-01-01T00:00:00. If the rounding alignment differs, override this
@@ -487,6 +487,24 @@ public final class UnsupportedDateTimeField extends DateTimeField implements Ser
         throw unsupported();
     }
 
+    /**
+     * Always throws UnsupportedOperationException
+     *
+     * @throws UnsupportedOperationException
+     */
+    public long[] roundFloor(long[] instants, long[] results) {
+        throw unsupported();
+    }
+
+    /**
+     * Always throws UnsupportedOperationException
+     *
+     * @throws UnsupportedOperationException
+     */
+    public long[] roundCeiling(long[] instants, long[] results) {
+        throw unsupported();
+    }
+
     /**
      * Always throws UnsupportedOperationException
      *
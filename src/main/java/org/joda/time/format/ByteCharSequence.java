@@ -0,0 +1,117 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.format;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A CharSequence view of ASCII bytes held in an array or a ByteBuffer.
+ * <p>
+ * This allows the parsers to read bytes in place, without decoding them
+ * to a String first. Each byte is treated as one character, thus any
+ * non-ASCII byte simply fails to match the digits, literals and offsets
+ * that the parsers expect.
+ * <p>
+ * The bytes are not copied, and a ByteBuffer is read using absolute gets
+ * so its position and limit are unaffected.
+ * <p>
+ * ByteCharSequence is immutable and thread-safe, provided that the
+ * underlying bytes are not modified while it is in use.
+ *
+ * @author Stephen Colebourne
+ * @since 2.0
+ */
+final class ByteCharSequence implements CharSequence {
+
+    /** The array, null if reading from a buffer. */
+    private final byte[] iBytes;
+    /** The buffer, null if reading from an array. */
+    private final ByteBuffer iBuffer;
+    /** The index of the first byte. */
+    private final int iOffset;
+    /** The number of bytes. */
+    private final int iLength;
+
+    /**
+     * Creates a view of part of a byte array.
+     *
+     * @param bytes  the bytes, not null
+     * @param offset  the index of the first byte
+     * @param length  the number of bytes
+     * @throws IndexOutOfBoundsException if the offset or length are invalid
+     */
+    ByteCharSequence(byte[] bytes, int offset, int length) {
+        super();
+        if (offset < 0 || length < 0 || offset > bytes.length - length) {
+            throw new IndexOutOfBoundsException(
+                "Offset " + offset + " and length " + length + " invalid for array of " + bytes.length);
+        }
+        iBytes = bytes;
+        iBuffer = null;
+        iOffset = offset;
+        iLength = length;
+    }
+
+    /**
+     * Creates a view of the remaining bytes of a buffer.
+     *
+     * @param buffer  the buffer, not null
+     */
+    ByteCharSequence(ByteBuffer buffer) {
+        super();
+        if (buffer.hasArray()) {
+            iBytes = buffer.array();
+            iBuffer = null;
+            iOffset = buffer.arrayOffset() + buffer.position();
+        } else {
+            iBytes = null;
+            iBuffer = buffer;
+            iOffset = buffer.position();
+        }
+        iLength = buffer.remaining();
+    }
+
+    //-----------------------------------------------------------------------
+    public int length() {
+        return iLength;
+    }
+
+    public char charAt(int index) {
+        if (index < 0 || index >= iLength) {
+            throw new StringIndexOutOfBoundsException(index);
+        }
+        if (iBytes != null) {
+            return (char) (iBytes[iOffset + index] & 0xff);
+        }
+        return (char) (iBuffer.get(iOffset + index) & 0xff);
+    }
+
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > iLength || start > end) {
+            throw new IndexOutOfBoundsException("Start " + start + " end " + end);
+        }
+        char[] chars = new char[end - start];
+        for (int i = start; i < end; i++) {
+            chars[i - start] = charAt(i);
+        }
+        return new String(chars);
+    }
+
+    public String toString() {
+        return subSequence(0, iLength).toString();
+    }
+
+}
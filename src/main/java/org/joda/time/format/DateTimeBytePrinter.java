@@ -0,0 +1,73 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.format;
+
+import java.util.Locale;
+
+import org.joda.time.Chronology;
+import org.joda.time.DateTimeZone;
+import org.joda.time.ReadablePartial;
+
+/**
+ * Internal interface for printers that can write UTF-8 bytes directly into
+ * a byte array.
+ * <p>
+ * Printers implementing this interface avoid printing to a <code>String</code>
+ * and then encoding it, which is useful when datetimes are written to
+ * network buffers or binary formats. Numbers and literals are written as
+ * single ASCII bytes, text is encoded as UTF-8.
+ * All the printers created by {@link DateTimeFormatterBuilder} implement it.
+ * <p>
+ * Application users will rarely use this class directly. Instead, use the
+ * <code>byte[]</code> and <code>ByteBuffer</code> methods on {@link DateTimeFormatter}.
+ *
+ * @author Stephen Colebourne
+ * @see DateTimeFormatter#printTo(byte[], int, long)
+ * @since 2.0
+ */
+public interface DateTimeBytePrinter extends DateTimePrinter {
+
+    /**
+     * Prints an instant from milliseconds since 1970-01-01T00:00:00Z,
+     * using the given Chronology.
+     *
+     * @param buf  formatted instant is written into this array, not null
+     * @param position  the index in the array to start writing at
+     * @param instant  millis since 1970-01-01T00:00:00Z
+     * @param chrono  the chronology to use, not null
+     * @param displayOffset  if a time zone offset is printed, force it to use
+     * this millisecond value
+     * @param displayZone  the time zone to use, null means local time
+     * @param locale  the locale to use, null means default locale
+     * @return the index after the last byte written
+     * @throws IndexOutOfBoundsException if the array is too small
+     */
+    int printTo(byte[] buf, int position, long instant, Chronology chrono,
+                int displayOffset, DateTimeZone displayZone, Locale locale);
+
+    /**
+     * Prints a ReadablePartial.
+     *
+     * @param buf  formatted partial is written into this array, not null
+     * @param position  the index in the array to start writing at
+     * @param partial  partial to format, not null
+     * @param locale  the locale to use, null means default locale
+     * @return the index after the last byte written
+     * @throws IndexOutOfBoundsException if the array is too small
+     */
+    int printTo(byte[] buf, int position, ReadablePartial partial, Locale locale);
+
+}
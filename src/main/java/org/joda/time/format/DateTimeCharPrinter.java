@@ -0,0 +1,78 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.format;
+
+import java.util.Locale;
+
+import org.joda.time.Chronology;
+import org.joda.time.DateTimeZone;
+import org.joda.time.ReadablePartial;
+
+/**
+ * Internal interface for printers that can write directly into a char array.
+ * <p>
+ * Printing to a <code>StringBuffer</code> or <code>Writer</code> involves
+ * locking and usually a <code>String</code> per print. Printers implementing
+ * this interface write into an array supplied and reused by the caller, which
+ * allows high volumes of datetimes to be printed without allocation.
+ * All the printers created by {@link DateTimeFormatterBuilder} implement it.
+ * <p>
+ * Application users will rarely use this class directly. Instead, use the
+ * <code>char[]</code> methods on {@link DateTimeFormatter}.
+ *
+ * @author Stephen Colebourne
+ * @see DateTimeFormatter#printTo(char[], int, long)
+ * @since 2.0
+ */
+public interface DateTimeCharPrinter extends DateTimePrinter {
+
+    /**
+     * Prints an instant from milliseconds since 1970-01-01T00:00:00Z,
+     * using the given Chronology.
+     * <p>
+     * The caller is responsible for ensuring that the array is large enough,
+     * see {@link #estimatePrintedLength()}.
+     *
+     * @param buf  formatted instant is written into this array, not null
+     * @param position  the index in the array to start writing at
+     * @param instant  millis since 1970-01-01T00:00:00Z
+     * @param chrono  the chronology to use, not null
+     * @param displayOffset  if a time zone offset is printed, force it to use
+     * this millisecond value
+     * @param displayZone  the time zone to use, null means local time
+     * @param locale  the locale to use, null means default locale
+     * @return the index after the last character written
+     * @throws IndexOutOfBoundsException if the array is too small
+     */
+    int printTo(char[] buf, int position, long instant, Chronology chrono,
+                int displayOffset, DateTimeZone displayZone, Locale locale);
+
+    /**
+     * Prints a ReadablePartial.
+     * <p>
+     * The caller is responsible for ensuring that the array is large enough,
+     * see {@link #estimatePrintedLength()}.
+     *
+     * @param buf  formatted partial is written into this array, not null
+     * @param position  the index in the array to start writing at
+     * @param partial  partial to format, not null
+     * @param locale  the locale to use, null means default locale
+     * @return the index after the last character written
+     * @throws IndexOutOfBoundsException if the array is too small
+     */
+    int printTo(char[] buf, int position, ReadablePartial partial, Locale locale);
+
+}
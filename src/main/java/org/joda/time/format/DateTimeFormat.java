@@ -19,9 +19,8 @@ import java.io.IOException;
 import java.io.Writer;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
-import java.util.HashMap;
 import java.util.Locale;
-import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.joda.time.Chronology;
 import org.joda.time.DateTime;
@@ -143,10 +142,24 @@ public class DateTimeFormat {
     /** Type constant for DATETIME. */
     static final int DATETIME = 2;
 
+    /** The system property setting the maximum size of the pattern cache. */
+    private static final String PATTERN_CACHE_SIZE_PROPERTY = "org.joda.time.format.DateTimeFormat.PatternCacheSize";
+    /** The system property setting the maximum size of the style cache. */
+    private static final String STYLE_CACHE_SIZE_PROPERTY = "org.joda.time.format.DateTimeFormat.StyleCacheSize";
+    /** The default maximum size of each cache. */
+    private static final int DEFAULT_CACHE_SIZE = 500;
+
     /** Maps patterns to formatters, patterns don't vary by locale. */
-    private static final Map<String, DateTimeFormatter> cPatternedCache = new HashMap<String, DateTimeFormatter>(7);
-    /** Maps patterns to formatters, patterns don't vary by locale. */
-    private static final DateTimeFormatter[] cStyleCache = new DateTimeFormatter[25];
+    private static final FormatterCache<String, DateTimeFormatter> cPatternCache =
+        new FormatterCache<String, DateTimeFormatter>("pattern",
+            FormatterCache.getSizeProperty(PATTERN_CACHE_SIZE_PROPERTY, DEFAULT_CACHE_SIZE));
+    /** Maps style and locale to the pattern based formatters used for the style. */
+    private static final FormatterCache<String, DateTimeFormatter> cStyleCache =
+        new FormatterCache<String, DateTimeFormatter>("style",
+            FormatterCache.getSizeProperty(STYLE_CACHE_SIZE_PROPERTY, DEFAULT_CACHE_SIZE));
+    /** Maps style index to formatters, there are only 25 styles. */
+    private static final AtomicReferenceArray<DateTimeFormatter> cStyleFormatters =
+        new AtomicReferenceArray<DateTimeFormatter>(25);
 
     //-----------------------------------------------------------------------
     /**
@@ -217,6 +230,36 @@ public class DateTimeFormat {
         return ((StyleFormatter) formatter.getPrinter()).getPattern(locale);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the cache of formatters created by {@link #forPattern(String)}.
+     * <p>
+     * The maximum size defaults to 500 and may be set using the system property
+     * <code>org.joda.time.format.DateTimeFormat.PatternCacheSize</code>
+     * or by calling {@link FormatterCache#setMaxSize(int)}.
+     *
+     * @return the pattern cache, not null
+     * @since 2.0
+     */
+    public static FormatterCache<String, DateTimeFormatter> getPatternCache() {
+        return cPatternCache;
+    }
+
+    /**
+     * Gets the cache of the locale specific formatters used by the style
+     * based formatters, such as those created by {@link #forStyle(String)}.
+     * <p>
+     * The maximum size defaults to 500 and may be set using the system property
+     * <code>org.joda.time.format.DateTimeFormat.StyleCacheSize</code>
+     * or by calling {@link FormatterCache#setMaxSize(int)}.
+     *
+     * @return the style cache, not null
+     * @since 2.0
+     */
+    public static FormatterCache<String, DateTimeFormatter> getStyleCache() {
+        return cStyleCache;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Creates a format that outputs a short date format.
@@ -674,16 +717,11 @@ public class DateTimeFormat {
         if (pattern == null || pattern.length() == 0) {
             throw new IllegalArgumentException("Invalid pattern specification");
         }
-        DateTimeFormatter formatter = null;
-        synchronized (cPatternedCache) {
-            formatter = cPatternedCache.get(pattern);
-            if (formatter == null) {
-                DateTimeFormatterBuilder builder = new DateTimeFormatterBuilder();
-                parsePatternTo(builder, pattern);
-                formatter = builder.toFormatter();
-
-                cPatternedCache.put(pattern, formatter);
-            }
+        DateTimeFormatter formatter = cPatternCache.get(pattern);
+        if (formatter == null) {
+            DateTimeFormatterBuilder builder = new DateTimeFormatterBuilder();
+            parsePatternTo(builder, pattern);
+            formatter = cPatternCache.put(pattern, builder.toFormatter());
         }
         return formatter;
     }
@@ -718,20 +756,19 @@ public class DateTimeFormat {
      */
     private static DateTimeFormatter createFormatterForStyleIndex(int dateStyle, int timeStyle) {
         int index = ((dateStyle << 2) + dateStyle) + timeStyle;
-        DateTimeFormatter f = null;
-        synchronized (cStyleCache) {
-            f = cStyleCache[index];
-            if (f == null) {
-                int type = DATETIME;
-                if (dateStyle == NONE) {
-                    type = TIME;
-                } else if (timeStyle == NONE) {
-                    type = DATE;
-                }
-                StyleFormatter llf = new StyleFormatter(
-                        dateStyle, timeStyle, type);
-                f = new DateTimeFormatter(llf, llf);
-                cStyleCache[index] = f;
+        DateTimeFormatter f = cStyleFormatters.get(index);
+        if (f == null) {
+            int type = DATETIME;
+            if (dateStyle == NONE) {
+                type = TIME;
+            } else if (timeStyle == NONE) {
+                type = DATE;
+            }
+            StyleFormatter llf = new StyleFormatter(
+                    dateStyle, timeStyle, type);
+            f = new DateTimeFormatter(llf, llf);
+            if (cStyleFormatters.compareAndSet(index, null, f) == false) {
+                f = cStyleFormatters.get(index);
             }
         }
         return f;
@@ -762,13 +799,13 @@ public class DateTimeFormat {
 
     //-----------------------------------------------------------------------
     static class StyleFormatter
-            implements DateTimePrinter, DateTimeParser {
+            implements DateTimeCharPrinter, DateTimeBytePrinter, DateTimeParser {
 
-        private static final Map<String, DateTimeFormatter> cCache = new HashMap<String, DateTimeFormatter>();  // manual sync
-        
         private final int iDateStyle;
         private final int iTimeStyle;
         private final int iType;
+        /** The formatter for the last locale used, avoiding building a cache key. */
+        private volatile LocaleFormatter iLast;
 
         StyleFormatter(int dateStyle, int timeStyle, int type) {
             super();
@@ -805,6 +842,32 @@ public class DateTimeFormat {
             p.printTo(out, partial, locale);
         }
 
+        public int printTo(
+                char[] buf, int position, long instant, Chronology chrono,
+                int displayOffset, DateTimeZone displayZone, Locale locale) {
+            DateTimePrinter p = getFormatter(locale).getPrinter();
+            return DateTimeFormatterBuilder.printToChars(
+                p, buf, position, instant, chrono, displayOffset, displayZone, locale);
+        }
+
+        public int printTo(char[] buf, int position, ReadablePartial partial, Locale locale) {
+            DateTimePrinter p = getFormatter(locale).getPrinter();
+            return DateTimeFormatterBuilder.printToChars(p, buf, position, partial, locale);
+        }
+
+        public int printTo(
+                byte[] buf, int position, long instant, Chronology chrono,
+                int displayOffset, DateTimeZone displayZone, Locale locale) {
+            DateTimePrinter p = getFormatter(locale).getPrinter();
+            return DateTimeFormatterBuilder.printToBytes(
+                p, buf, position, instant, chrono, displayOffset, displayZone, locale);
+        }
+
+        public int printTo(byte[] buf, int position, ReadablePartial partial, Locale locale) {
+            DateTimePrinter p = getFormatter(locale).getPrinter();
+            return DateTimeFormatterBuilder.printToBytes(p, buf, position, partial, locale);
+        }
+
         public int estimateParsedLength() {
             return 40;  // guess
         }
@@ -816,16 +879,17 @@ public class DateTimeFormat {
 
         private DateTimeFormatter getFormatter(Locale locale) {
             locale = (locale == null ? Locale.getDefault() : locale);
+            LocaleFormatter last = iLast;
+            if (last != null && last.iLocale.equals(locale)) {
+                return last.iFormatter;
+            }
             String key = Integer.toString(iType + (iDateStyle << 4) + (iTimeStyle << 8)) + locale.toString();
-            DateTimeFormatter f = null;
-            synchronized (cCache) {
-                f = cCache.get(key);
-                if (f == null) {
-                    String pattern = getPattern(locale);
-                    f = DateTimeFormat.forPattern(pattern);
-                    cCache.put(key, f);
-                }
+            DateTimeFormatter f = cStyleCache.get(key);
+            if (f == null) {
+                String pattern = getPattern(locale);
+                f = cStyleCache.put(key, DateTimeFormat.forPattern(pattern));
             }
+            iLast = new LocaleFormatter(locale, f);
             return f;
         }
 
@@ -849,4 +913,17 @@ public class DateTimeFormat {
         }
     }
 
+    /**
+     * A locale and the formatter used for it.
+     */
+    static final class LocaleFormatter {
+        final Locale iLocale;
+        final DateTimeFormatter iFormatter;
+
+        LocaleFormatter(Locale locale, DateTimeFormatter formatter) {
+            iLocale = locale;
+            iFormatter = formatter;
+        }
+    }
+
 }
@@ -17,12 +17,16 @@ package org.joda.time.format;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.util.Locale;
 
 import org.joda.time.Chronology;
 import org.joda.time.DateTime;
+import org.joda.time.DateTimeConstants;
 import org.joda.time.DateTimeUtils;
 import org.joda.time.DateTimeZone;
+import org.joda.time.DurationFieldType;
 import org.joda.time.LocalDate;
 import org.joda.time.LocalDateTime;
 import org.joda.time.LocalTime;
@@ -78,6 +82,20 @@ import org.joda.time.ReadablePartial;
  */
 public class DateTimeFormatter {
 
+    /**
+     * The space reserved for printing one value into an array, also the size
+     * of the per-thread array used when printing to a ByteBuffer.
+     */
+    static final int PRINT_RESERVE = 256;
+    /** The size of the block used when printing a series to an Appendable. */
+    private static final int BATCH_BLOCK_SIZE = 4096;
+    /** The per-thread array used when printing to a ByteBuffer. */
+    private static final ThreadLocal<byte[]> cByteScratch = new ThreadLocal<byte[]>() {
+        protected byte[] initialValue() {
+            return new byte[PRINT_RESERVE];
+        }
+    };
+
     /** The internal printer used to output the datetime. */
     private final DateTimePrinter iPrinter;
     /** The internal parser used to output the datetime. */
@@ -566,6 +584,331 @@ public class DateTimeFormatter {
         appendable.append(print(partial));
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Prints a ReadableInstant into a char array, without allocating
+     * intermediate objects for the built-in printers.
+     * <p>
+     * This method will use the override zone and the override chronololgy if
+     * they are set. Otherwise it will use the chronology and zone of the instant.
+     * <p>
+     * The array must be large enough to hold the printed text.
+     *
+     * @param buf  the destination to format to, not null
+     * @param position  the index to start writing at
+     * @param instant  instant to format, null means now
+     * @return the number of characters written
+     * @throws IndexOutOfBoundsException if the array is too small
+     * @since 2.0
+     */
+    public int printTo(char[] buf, int position, ReadableInstant instant) {
+        long millis = DateTimeUtils.getInstantMillis(instant);
+        Chronology chrono = DateTimeUtils.getInstantChronology(instant);
+        return printTo(buf, position, millis, chrono);
+    }
+
+    /**
+     * Prints an instant from milliseconds since 1970-01-01T00:00:00Z into
+     * a char array, using ISO chronology in the default DateTimeZone.
+     *
+     * @param buf  the destination to format to, not null
+     * @param position  the index to start writing at
+     * @param instant  millis since 1970-01-01T00:00:00Z
+     * @return the number of characters written
+     * @throws IndexOutOfBoundsException if the array is too small
+     * @since 2.0
+     */
+    public int printTo(char[] buf, int position, long instant) {
+        return printTo(buf, position, instant, null);
+    }
+
+    /**
+     * Prints a ReadablePartial into a char array.
+     * <p>
+     * Neither the override chronology nor the override zone are used
+     * by this method.
+     *
+     * @param buf  the destination to format to, not null
+     * @param position  the index to start writing at
+     * @param partial  partial to format
+     * @return the number of characters written
+     * @throws IndexOutOfBoundsException if the array is too small
+     * @since 2.0
+     */
+    public int printTo(char[] buf, int position, ReadablePartial partial) {
+        DateTimePrinter printer = requirePrinter();
+        if (partial == null) {
+            throw new IllegalArgumentException("The partial must not be null");
+        }
+        return DateTimeFormatterBuilder.printToChars(printer, buf, position, partial, iLocale) - position;
+    }
+
+    /**
+     * Prints a series of instants into a char array, with the separator
+     * written between each pair of values.
+     * <p>
+     * This is intended for exporting columns of values. The chronology is
+     * selected once for the whole series. Once two instants in a row have the
+     * same zone offset, it is reused for the following instants until the next
+     * zone transition. Sorted instants thus need very few offset lookups,
+     * while unsorted instants need one each. Similarly, once two instants in a
+     * row fall in the same local hour, the text printed for the hour is reused
+     * where that is faster, so only the smaller fields, such as the minutes,
+     * are printed again.
+     * <p>
+     * If an array of offsets is specified, each instant is printed at the
+     * matching offset in milliseconds instead of in the zone of the formatter,
+     * as though the formatter had a fixed offset zone.
+     * <p>
+     * The array must be large enough to hold the printed text.
+     *
+     * @param buf  the destination to format to, not null
+     * @param position  the index to start writing at
+     * @param instants  the millis since 1970-01-01T00:00:00Z to format, not null
+     * @param offsets  the offset of each instant in milliseconds, null to use the zone
+     * @param separator  the separator between values, not null
+     * @return the number of characters written
+     * @throws IndexOutOfBoundsException if the array is too small
+     * @throws IllegalArgumentException if an offset is too large
+     * @since 2.0
+     */
+    public int printTo(char[] buf, int position, long[] instants, int[] offsets, String separator) {
+        BatchPrinter batch = createBatchPrinter(instants, offsets, separator);
+        int start = position;
+        for (int i = 0; i < instants.length; i++) {
+            if (i > 0) {
+                position = DateTimeFormatterBuilder.appendString(buf, position, separator);
+            }
+            position = batch.printTo(buf, position, i);
+        }
+        return position - start;
+    }
+
+    /**
+     * Prints a series of instants to an Appendable, with the separator
+     * written between each pair of values.
+     * <p>
+     * The values are printed in blocks through a char array, which is
+     * written to a Writer, StringBuffer or StringBuilder directly.
+     * Formats whose printed length cannot be bounded by their estimate,
+     * such as those with a long literal, are printed through a StringBuffer.
+     * Otherwise this behaves as {@link #printTo(char[], int, long[], int[], String)}.
+     *
+     * @param appendable  the destination to format to, not null
+     * @param instants  the millis since 1970-01-01T00:00:00Z to format, not null
+     * @param offsets  the offset of each instant in milliseconds, null to use the zone
+     * @param separator  the separator between values, not null
+     * @throws IOException if an IO error occurs
+     * @throws IllegalArgumentException if an offset is too large
+     * @since 2.0
+     */
+    public void printTo(Appendable appendable, long[] instants, int[] offsets, String separator) throws IOException {
+        BatchPrinter batch = createBatchPrinter(instants, offsets, separator);
+        if (isReservePrinter(iPrinter) == false) {
+            // Unusually long text, such as a long literal
+            StringBuffer buf = new StringBuffer(BATCH_BLOCK_SIZE);
+            for (int i = 0; i < instants.length; i++) {
+                if (i > 0) {
+                    buf.append(separator);
+                }
+                batch.printTo(buf, i);
+                if (buf.length() >= BATCH_BLOCK_SIZE) {
+                    appendable.append(buf);
+                    buf.setLength(0);
+                }
+            }
+            appendable.append(buf);
+            return;
+        }
+        int reserve = separator.length() + PRINT_RESERVE;
+        char[] block = new char[Math.max(BATCH_BLOCK_SIZE, reserve)];
+        int position = 0;
+        for (int i = 0; i < instants.length; i++) {
+            if (block.length - position < reserve) {
+                appendBlock(appendable, block, position);
+                position = 0;
+            }
+            if (i > 0) {
+                position = DateTimeFormatterBuilder.appendString(block, position, separator);
+            }
+            position = batch.printTo(block, position, i);
+        }
+        appendBlock(appendable, block, position);
+    }
+
+    /**
+     * Creates the state used to print a series of instants.
+     */
+    private BatchPrinter createBatchPrinter(long[] instants, int[] offsets, String separator) {
+        DateTimePrinter printer = requirePrinter();
+        if (separator == null) {
+            throw new IllegalArgumentException("The separator must not be null");
+        }
+        if (offsets != null && offsets.length < instants.length) {
+            throw new IndexOutOfBoundsException("Offsets array too short for " + instants.length + " values");
+        }
+        return new BatchPrinter(this, printer, selectChronology(null), iLocale, instants, offsets);
+    }
+
+    /**
+     * Writes the used part of a block of characters to an Appendable.
+     */
+    static void appendBlock(Appendable appendable, char[] block, int length) throws IOException {
+        if (length == 0) {
+            return;
+        }
+        if (appendable instanceof Writer) {
+            ((Writer) appendable).write(block, 0, length);
+        } else if (appendable instanceof StringBuffer) {
+            ((StringBuffer) appendable).append(block, 0, length);
+        } else if (appendable instanceof StringBuilder) {
+            ((StringBuilder) appendable).append(block, 0, length);
+        } else {
+            appendable.append(CharBuffer.wrap(block, 0, length));
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Prints a ReadableInstant into a byte array as UTF-8, without allocating
+     * intermediate objects for the built-in numeric printers.
+     * <p>
+     * The ISO formats only produce ASCII, one byte per character.
+     * This method will use the override zone and the override chronololgy if
+     * they are set. Otherwise it will use the chronology and zone of the instant.
+     * <p>
+     * The array must be large enough to hold the printed text.
+     *
+     * @param buf  the destination to format to, not null
+     * @param position  the index to start writing at
+     * @param instant  instant to format, null means now
+     * @return the number of bytes written
+     * @throws IndexOutOfBoundsException if the array is too small
+     * @since 2.0
+     */
+    public int printTo(byte[] buf, int position, ReadableInstant instant) {
+        long millis = DateTimeUtils.getInstantMillis(instant);
+        Chronology chrono = DateTimeUtils.getInstantChronology(instant);
+        return printTo(buf, position, millis, chrono);
+    }
+
+    /**
+     * Prints an instant from milliseconds since 1970-01-01T00:00:00Z into
+     * a byte array as UTF-8, using ISO chronology in the default DateTimeZone.
+     *
+     * @param buf  the destination to format to, not null
+     * @param position  the index to start writing at
+     * @param instant  millis since 1970-01-01T00:00:00Z
+     * @return the number of bytes written
+     * @throws IndexOutOfBoundsException if the array is too small
+     * @since 2.0
+     */
+    public int printTo(byte[] buf, int position, long instant) {
+        return printTo(buf, position, instant, null);
+    }
+
+    /**
+     * Prints a ReadablePartial into a byte array as UTF-8.
+     * <p>
+     * Neither the override chronology nor the override zone are used
+     * by this method.
+     *
+     * @param buf  the destination to format to, not null
+     * @param position  the index to start writing at
+     * @param partial  partial to format
+     * @return the number of bytes written
+     * @throws IndexOutOfBoundsException if the array is too small
+     * @since 2.0
+     */
+    public int printTo(byte[] buf, int position, ReadablePartial partial) {
+        DateTimePrinter printer = requirePrinter();
+        if (partial == null) {
+            throw new IllegalArgumentException("The partial must not be null");
+        }
+        return DateTimeFormatterBuilder.printToBytes(printer, buf, position, partial, iLocale) - position;
+    }
+
+    /**
+     * Prints a ReadableInstant into a ByteBuffer as UTF-8, advancing its position.
+     * <p>
+     * This method will use the override zone and the override chronololgy if
+     * they are set. Otherwise it will use the chronology and zone of the instant.
+     * <p>
+     * The text is printed directly into the array of a buffer with ample space.
+     * Otherwise it is printed into a per-thread array and then copied into the
+     * buffer in one operation, thus direct buffers are supported and the
+     * buffer is left unchanged if there is insufficient space.
+     *
+     * @param buf  the destination to format to, not null
+     * @param instant  instant to format, null means now
+     * @return the number of bytes written
+     * @throws java.nio.BufferOverflowException if the buffer has insufficient space
+     * @throws java.nio.ReadOnlyBufferException if the buffer is read-only
+     * @since 2.0
+     */
+    public int printTo(ByteBuffer buf, ReadableInstant instant) {
+        long millis = DateTimeUtils.getInstantMillis(instant);
+        Chronology chrono = DateTimeUtils.getInstantChronology(instant);
+        return printTo(buf, millis, chrono);
+    }
+
+    /**
+     * Prints an instant from milliseconds since 1970-01-01T00:00:00Z into
+     * a ByteBuffer as UTF-8, advancing its position, using ISO chronology
+     * in the default DateTimeZone.
+     * <p>
+     * The text is printed directly into the array of a buffer with ample space.
+     * Otherwise it is printed into a per-thread array and then copied into the
+     * buffer in one operation, thus direct buffers are supported and the
+     * buffer is left unchanged if there is insufficient space.
+     *
+     * @param buf  the destination to format to, not null
+     * @param instant  millis since 1970-01-01T00:00:00Z
+     * @return the number of bytes written
+     * @throws java.nio.BufferOverflowException if the buffer has insufficient space
+     * @throws java.nio.ReadOnlyBufferException if the buffer is read-only
+     * @since 2.0
+     */
+    public int printTo(ByteBuffer buf, long instant) {
+        return printTo(buf, instant, null);
+    }
+
+    /**
+     * Prints a ReadablePartial into a ByteBuffer as UTF-8, advancing its position.
+     * <p>
+     * Neither the override chronology nor the override zone are used
+     * by this method.
+     *
+     * @param buf  the destination to format to, not null
+     * @param partial  partial to format
+     * @return the number of bytes written
+     * @throws java.nio.BufferOverflowException if the buffer has insufficient space
+     * @throws java.nio.ReadOnlyBufferException if the buffer is read-only
+     * @since 2.0
+     */
+    public int printTo(ByteBuffer buf, ReadablePartial partial) {
+        DateTimePrinter printer = requirePrinter();
+        if (partial == null) {
+            throw new IllegalArgumentException("The partial must not be null");
+        }
+        if (isReservePrinter(printer) == false) {
+            // Unusually long text, such as a long literal
+            return putUtf8(buf, print(partial));
+        }
+        if (buf.hasArray() && buf.remaining() >= PRINT_RESERVE) {
+            int position = buf.position();
+            int offset = buf.arrayOffset();
+            int end = DateTimeFormatterBuilder.printToBytes(
+                printer, buf.array(), offset + position, partial, iLocale) - offset;
+            buf.position(end);
+            return end - position;
+        }
+        byte[] scratch = cByteScratch.get();
+        int len = DateTimeFormatterBuilder.printToBytes(printer, scratch, 0, partial, iLocale);
+        buf.put(scratch, 0, len);
+        return len;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Prints a ReadableInstant to a String.
@@ -646,6 +989,84 @@ public class DateTimeFormatter {
         printer.printTo(buf, adjustedInstant, chrono.withUTC(), offset, zone, iLocale);
     }
 
+    private int printTo(ByteBuffer buf, long instant, Chronology chrono) {
+        DateTimePrinter printer = requirePrinter();
+        if (isReservePrinter(printer) == false) {
+            // Unusually long text, such as a long literal
+            StringBuffer sb = new StringBuffer(printer.estimatePrintedLength());
+            printTo(sb, instant, chrono);
+            return putUtf8(buf, sb.toString());
+        }
+        if (buf.hasArray() && buf.remaining() >= PRINT_RESERVE) {
+            int position = buf.position();
+            int len = printTo(buf.array(), buf.arrayOffset() + position, instant, chrono);
+            buf.position(position + len);
+            return len;
+        }
+        byte[] scratch = cByteScratch.get();
+        int len = printTo(scratch, 0, instant, chrono);
+        buf.put(scratch, 0, len);
+        return len;
+    }
+
+    /**
+     * Checks if the printer can print into an array with the reserved space,
+     * which holds text of three times the estimated length, as UTF-8 uses up
+     * to three bytes per char. The rest of the space allows for text that is
+     * longer than estimated, such as a year with more digits.
+     */
+    static boolean isReservePrinter(DateTimePrinter printer) {
+        return printer instanceof DateTimeCharPrinter && printer instanceof DateTimeBytePrinter &&
+            printer.estimatePrintedLength() * 3 <= PRINT_RESERVE;
+    }
+
+    /**
+     * Puts text into a ByteBuffer as UTF-8, leaving it unchanged if there is
+     * insufficient space.
+     */
+    private static int putUtf8(ByteBuffer buf, String str) {
+        byte[] bytes = new byte[str.length() * 3];
+        int len = FormatUtils.appendUtf8(bytes, 0, str);
+        buf.put(bytes, 0, len);
+        return len;
+    }
+
+    private int printTo(byte[] buf, int position, long instant, Chronology chrono) {
+        DateTimePrinter printer = requirePrinter();
+        chrono = selectChronology(chrono);
+        // Shift instant into local time (UTC) to avoid excessive offset
+        // calculations when printing multiple fields in a composite printer.
+        DateTimeZone zone = chrono.getZone();
+        int offset = zone.getOffset(instant);
+        long adjustedInstant = instant + offset;
+        if ((instant ^ adjustedInstant) < 0 && (instant ^ offset) >= 0) {
+            // Time zone offset overflow, so revert to UTC.
+            zone = DateTimeZone.UTC;
+            offset = 0;
+            adjustedInstant = instant;
+        }
+        return DateTimeFormatterBuilder.printToBytes(
+            printer, buf, position, adjustedInstant, chrono.withUTC(), offset, zone, iLocale) - position;
+    }
+
+    private int printTo(char[] buf, int position, long instant, Chronology chrono) {
+        DateTimePrinter printer = requirePrinter();
+        chrono = selectChronology(chrono);
+        // Shift instant into local time (UTC) to avoid excessive offset
+        // calculations when printing multiple fields in a composite printer.
+        DateTimeZone zone = chrono.getZone();
+        int offset = zone.getOffset(instant);
+        long adjustedInstant = instant + offset;
+        if ((instant ^ adjustedInstant) < 0 && (instant ^ offset) >= 0) {
+            // Time zone offset overflow, so revert to UTC.
+            zone = DateTimeZone.UTC;
+            offset = 0;
+            adjustedInstant = instant;
+        }
+        return DateTimeFormatterBuilder.printToChars(
+            printer, buf, position, adjustedInstant, chrono.withUTC(), offset, zone, iLocale) - position;
+    }
+
     /**
      * Checks whether printing is supported.
      * 
@@ -727,18 +1148,212 @@ public class DateTimeFormatter {
      */
     public long parseMillis(CharSequence text) {
         DateTimeParser parser = requireParser();
-        
-        Chronology chrono = selectChronology(iChrono);
-        DateTimeParserBucket bucket = new DateTimeParserBucket(0, chrono, iLocale, iPivotYear, iDefaultYear);
-        int newPos = parser.parseInto(bucket, text, 0);
-        if (newPos >= 0) {
-            if (newPos >= text.length()) {
-                return bucket.computeMillis(true, text);
+        return createParserBucket().doParseMillis(parser, text);
+    }
+
+    /**
+     * Parses an array of texts, storing the number of milliseconds since
+     * the epoch of each in the matching element of the results array.
+     * <p>
+     * This is intended for columns of values, such as those loaded from CSV
+     * files, where a bad value should not abort the whole batch. A single
+     * parser bucket is reused for every text, and instead of throwing an
+     * exception the position of each error is stored in the errors array.
+     * The errors array holds -1 for each text that parsed successfully.
+     * Texts that parse but hold a field value out of range, such as the 30th
+     * of February, or a local time in a time zone gap, are reported as -2,
+     * without creating an exception. The results for texts that fail to parse,
+     * including null texts, are left unchanged.
+     * <p>
+     * Each text is parsed as {@link #parseMillis(CharSequence)} would.
+     *
+     * @param texts  the texts to parse, not null, null elements are errors
+     * @param results  the array to store the millis in, at least as long as the texts
+     * @param errors  the array to store -1 for success, -2 for a value out of range,
+     *  or the error position, null to ignore
+     * @return the number of texts that failed to parse
+     * @throws UnsupportedOperationException if parsing is not supported
+     * @throws IndexOutOfBoundsException if an array is too short
+     * @since 2.0
+     */
+    public int parseMillis(CharSequence[] texts, long[] results, int[] errors) {
+        DateTimeParser parser = requireParser();
+        int count = texts.length;
+        if (results.length < count || (errors != null && errors.length < count)) {
+            throw new IndexOutOfBoundsException("Array too short for " + count + " values");
+        }
+        DateTimeParserBucket bucket = createParserBucket();
+        int failures = 0;
+        for (int i = 0; i < count; i++) {
+            CharSequence text = texts[i];
+            int error = (text == null ? 0 : bucket.parseMillis(parser, text, results, i));
+            if (error != -1) {
+                failures++;
+            }
+            if (errors != null) {
+                errors[i] = error;
             }
-        } else {
-            newPos = ~newPos;
         }
-        throw new IllegalArgumentException(FormatUtils.createErrorMessage(text, newPos));
+        return failures;
+    }
+
+    /**
+     * Parses a series of values held in a single text, such as a line of a
+     * delimited file, storing the number of milliseconds since the epoch of
+     * each in the matching element of the results array.
+     * <p>
+     * Value <code>i</code> runs from <code>starts[i]</code> inclusive to
+     * <code>ends[i]</code> exclusive, thus any delimiters between the values
+     * are skipped. The values are parsed in place, without creating a String
+     * or parser bucket for each.
+     * <p>
+     * Errors are reported as for {@link #parseMillis(CharSequence[], long[], int[])},
+     * with -2 for a value out of range and each error position relative to the
+     * start of the value.
+     *
+     * @param text  the text holding the values, not null
+     * @param starts  the start index of each value, not null
+     * @param ends  the end index of each value, at least as long as the starts
+     * @param results  the array to store the millis in, at least as long as the starts
+     * @param errors  the array to store -1 for success, -2 for a value out of range,
+     *  or the error position, null to ignore
+     * @return the number of values that failed to parse
+     * @throws UnsupportedOperationException if parsing is not supported
+     * @throws IndexOutOfBoundsException if an array is too short or a range is invalid
+     * @since 2.0
+     */
+    public int parseMillis(CharSequence text, int[] starts, int[] ends, long[] results, int[] errors) {
+        DateTimeParser parser = requireParser();
+        int count = starts.length;
+        if (ends.length < count || results.length < count || (errors != null && errors.length < count)) {
+            throw new IndexOutOfBoundsException("Array too short for " + count + " values");
+        }
+        int length = text.length();
+        for (int i = 0; i < count; i++) {
+            if (starts[i] < 0 || starts[i] > ends[i] || ends[i] > length) {
+                throw new IndexOutOfBoundsException(
+                    "Invalid range for value " + i + ": " + starts[i] + " to " + ends[i]);
+            }
+        }
+        DateTimeParserBucket bucket = createParserBucket();
+        CharBuffer value = CharBuffer.wrap(text);
+        int failures = 0;
+        for (int i = 0; i < count; i++) {
+            value.limit(ends[i]).position(starts[i]);
+            int error = bucket.parseMillis(parser, value, results, i);
+            if (error != -1) {
+                failures++;
+            }
+            if (errors != null) {
+                errors[i] = error;
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * Creates a cache that prints instants as this formatter does, reusing
+     * the text printed for the previous instant within the same second.
+     * <p>
+     * This suits steadily increasing timestamps, such as those in logs,
+     * where only the elements that change within a second, such as the
+     * milliseconds, need to be printed again. See {@link DateTimePrintCache}.
+     *
+     * @return a new cache, not thread-safe
+     * @throws UnsupportedOperationException if printing is not supported
+     * @since 2.0
+     */
+    public DateTimePrintCache createPrintCache() {
+        return createPrintCache(DurationFieldType.seconds());
+    }
+
+    /**
+     * Creates a cache that prints instants as this formatter does, reusing
+     * the text printed for the previous instant within the same unit of time.
+     * <p>
+     * A larger unit is refreshed less often, but more of the text must be
+     * printed each time. For example, using minutes the seconds are printed
+     * for every instant.
+     *
+     * @param unit  the cache unit, one of seconds, minutes or hours
+     * @return a new cache, not thread-safe
+     * @throws UnsupportedOperationException if printing is not supported
+     * @throws IllegalArgumentException if the unit is not supported
+     * @since 2.0
+     */
+    public DateTimePrintCache createPrintCache(DurationFieldType unit) {
+        requirePrinter();
+        return new DateTimePrintCache(this, unit);
+    }
+
+    /**
+     * Creates a bucket set up to parse as {@link #parseMillis(CharSequence)} does.
+     * <p>
+     * The bucket can be reused to parse a stream of texts on a single thread,
+     * avoiding the allocation of a new bucket and its saved fields for each:
+     * <pre>
+     * DateTimeParser parser = formatter.getParser();
+     * DateTimeParserBucket bucket = formatter.createParserBucket();
+     * for (String text : texts) {
+     *   long millis = bucket.parseMillis(parser, text);
+     * }
+     * </pre>
+     *
+     * @return a new bucket, not thread-safe
+     * @throws UnsupportedOperationException if parsing is not supported
+     * @since 2.0
+     */
+    public DateTimeParserBucket createParserBucket() {
+        requireParser();
+        Chronology chrono = selectChronology(iChrono);
+        return new DateTimeParserBucket(0, chrono, iLocale, iPivotYear, iDefaultYear);
+    }
+
+    /**
+     * Parses a datetime from ASCII bytes in the given array, returning the
+     * number of milliseconds since the epoch, 1970-01-01T00:00:00Z.
+     * <p>
+     * The bytes are parsed in place, without decoding them to a String,
+     * which suits timestamps embedded in network buffers or mapped files.
+     * Each byte is treated as one character, thus this is intended for
+     * numeric formats, such as those in {@link ISODateTimeFormat}.
+     * <p>
+     * The parse will use the ISO chronology, and the default time zone.
+     * If the text contains a time zone string then that will be taken into account.
+     *
+     * @param bytes  the bytes to parse, not null
+     * @param offset  the index of the first byte to parse
+     * @param length  the number of bytes to parse
+     * @return parsed value expressed in milliseconds since the epoch
+     * @throws UnsupportedOperationException if parsing is not supported
+     * @throws IllegalArgumentException if the text to parse is invalid
+     * @throws IndexOutOfBoundsException if the offset or length are invalid
+     * @since 2.0
+     */
+    public long parseMillis(byte[] bytes, int offset, int length) {
+        return parseMillis(new ByteCharSequence(bytes, offset, length));
+    }
+
+    /**
+     * Parses a datetime from the remaining ASCII bytes in the given buffer,
+     * returning the number of milliseconds since the epoch, 1970-01-01T00:00:00Z.
+     * <p>
+     * The bytes from the position to the limit are parsed in place, without
+     * decoding them to a String. The position of the buffer is not changed.
+     * Each byte is treated as one character, thus this is intended for
+     * numeric formats, such as those in {@link ISODateTimeFormat}.
+     * <p>
+     * The parse will use the ISO chronology, and the default time zone.
+     * If the text contains a time zone string then that will be taken into account.
+     *
+     * @param buffer  the buffer to parse, not null
+     * @return parsed value expressed in milliseconds since the epoch
+     * @throws UnsupportedOperationException if parsing is not supported
+     * @throws IllegalArgumentException if the text to parse is invalid
+     * @since 2.0
+     */
+    public long parseMillis(ByteBuffer buffer) {
+        return parseMillis(new ByteCharSequence(buffer));
     }
 
     /**
@@ -922,4 +1537,141 @@ public class DateTimeFormatter {
         return chrono;
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Prints the instants of a series, reusing the zone offset between
+     * instants within the same period between zone transitions, and the
+     * printed text between instants within the same local hour.
+     */
+    private static final class BatchPrinter {
+        private final DateTimeFormatter iFormatter;
+        private final DateTimePrinter iPrinter;
+        private final Chronology iChronoUTC;
+        private final DateTimeZone iZone;
+        private final Locale iLocale;
+        private final long[] iInstants;
+        private final int[] iOffsets;
+        /** The first instant that the cached zone offset applies to. */
+        private long iRangeStart = Long.MAX_VALUE;
+        /** The instant after the last that the cached zone offset applies to. */
+        private long iRangeEnd = Long.MIN_VALUE;
+        private int iRangeOffset;
+        /** The zone for the previous value from the offsets array. */
+        private DateTimeZone iOffsetZone;
+        /** The instant plus the offset, for the current value. */
+        private long iLocalMillis;
+        /** The offset to print, for the current value. */
+        private int iLocalOffset;
+        /** The zone to print, for the current value. */
+        private DateTimeZone iLocalZone;
+        /** Whether to reuse the text printed for an hour. */
+        private final boolean iReuseHours;
+        /** The start of the local hour of the previous value. */
+        private long iHourStart = Long.MAX_VALUE;
+        /** The end of the local hour of the previous value. */
+        private long iHourEnd = Long.MIN_VALUE;
+        /** The cache of the text printed for an hour, null until needed. */
+        private DateTimePrintCache iCache;
+        /** The zone of the cache. */
+        private DateTimeZone iCacheZone;
+
+        BatchPrinter(DateTimeFormatter formatter, DateTimePrinter printer, Chronology chrono,
+                Locale locale, long[] instants, int[] offsets) {
+            iFormatter = formatter;
+            iPrinter = printer;
+            iChronoUTC = chrono.withUTC();
+            iZone = chrono.getZone();
+            iLocale = locale;
+            iInstants = instants;
+            iOffsets = offsets;
+            // the fixed ISO layout is printed arithmetically, faster than via the cache
+            iReuseHours = (printer instanceof FixedISODateTime == false);
+        }
+
+        int printTo(char[] buf, int position, int index) {
+            setLocalInstant(index);
+            long localInstant = iLocalMillis;
+            if (iReuseHours == false) {
+                return DateTimeFormatterBuilder.printToChars(
+                    iPrinter, buf, position, localInstant, iChronoUTC, iLocalOffset, iLocalZone, iLocale);
+            }
+            if (localInstant >= iHourStart && localInstant < iHourEnd) {
+                // the same local hour as the previous value, so reuse the text printed for the hour
+                DateTimeZone zone = (iOffsets != null ? iOffsetZone : iZone);
+                return position + getCache(zone).printTo(buf, position, iInstants[index]);
+            }
+            long rem = localInstant % DateTimeConstants.MILLIS_PER_HOUR;
+            if (rem < 0) {
+                rem += DateTimeConstants.MILLIS_PER_HOUR;
+            }
+            iHourStart = localInstant - rem;
+            iHourEnd = iHourStart + DateTimeConstants.MILLIS_PER_HOUR;
+            return DateTimeFormatterBuilder.printToChars(
+                iPrinter, buf, position, localInstant, iChronoUTC, iLocalOffset, iLocalZone, iLocale);
+        }
+
+        void printTo(StringBuffer buf, int index) {
+            setLocalInstant(index);
+            iPrinter.printTo(buf, iLocalMillis, iChronoUTC, iLocalOffset, iLocalZone, iLocale);
+        }
+
+        private void setLocalInstant(int index) {
+            long instant = iInstants[index];
+            DateTimeZone zone;
+            int offset;
+            if (iOffsets != null) {
+                offset = iOffsets[index];
+                zone = iOffsetZone;
+                if (zone == null || zone.getOffset(0L) != offset) {
+                    zone = iOffsetZone = DateTimeZone.forOffsetMillis(offset);
+                }
+            } else {
+                if (instant < iRangeStart || instant >= iRangeEnd) {
+                    lookupOffset(instant);
+                }
+                zone = iZone;
+                offset = iRangeOffset;
+            }
+            long adjustedInstant = instant + offset;
+            if ((instant ^ adjustedInstant) < 0 && (instant ^ offset) >= 0) {
+                // Time zone offset overflow, so revert to UTC.
+                zone = DateTimeZone.UTC;
+                offset = 0;
+                adjustedInstant = instant;
+            }
+            iLocalMillis = adjustedInstant;
+            iLocalOffset = offset;
+            iLocalZone = zone;
+        }
+
+        private DateTimePrintCache getCache(DateTimeZone zone) {
+            if (zone != iCacheZone) {
+                iCache = iFormatter.withChronology(iChronoUTC).withZone(zone)
+                    .createPrintCache(DurationFieldType.hours());
+                iCacheZone = zone;
+            }
+            return iCache;
+        }
+
+        private void lookupOffset(long instant) {
+            DateTimeZone zone = iZone;
+            int offset = zone.getOffset(instant);
+            if (zone.isFixed()) {
+                iRangeStart = Long.MIN_VALUE;
+                iRangeEnd = Long.MAX_VALUE;
+            } else if (offset == iRangeOffset) {
+                // the same offset twice in a row suggests sorted instants,
+                // so find where the offset next changes
+                long next = zone.nextTransition(instant);
+                iRangeStart = instant;
+                iRangeEnd = (next <= instant ? Long.MAX_VALUE : next);
+            } else {
+                // unsorted instants rarely share a range, so avoid the transition lookup
+                iRangeStart = instant;
+                iRangeEnd = instant;
+            }
+            iRangeOffset = offset;
+        }
+    }
+
 }
@@ -33,6 +33,7 @@ import org.joda.time.DateTimeZone;
 import org.joda.time.MutableDateTime;
 import org.joda.time.ReadablePartial;
 import org.joda.time.MutableDateTime.Property;
+import org.joda.time.chrono.ISOChronology;
 import org.joda.time.field.MillisDurationField;
 import org.joda.time.field.PreciseDateTimeField;
 
@@ -1130,9 +1131,135 @@ public class DateTimeFormatterBuilder {
         }
     }
 
+    static int appendUnknownString(char[] buf, int position, int len) {
+        for (int i = len; --i >= 0;) {
+            buf[position++] = '\ufffd';
+        }
+        return position;
+    }
+
+    static int appendString(char[] buf, int position, String str) {
+        int len = str.length();
+        str.getChars(0, len, buf, position);
+        return position + len;
+    }
+
+    static int appendUnknownString(byte[] buf, int position, int len) {
+        for (int i = len; --i >= 0;) {
+            // '\ufffd' in UTF-8
+            buf[position++] = (byte) 0xef;
+            buf[position++] = (byte) 0xbf;
+            buf[position++] = (byte) 0xbd;
+        }
+        return position;
+    }
+
+    /**
+     * Prints to a char array using any printer, falling back to printing via
+     * a buffer for printers that do not implement DateTimeCharPrinter.
+     */
+    static int printToChars(
+            DateTimePrinter printer, char[] buf, int position, long instant, Chronology chrono,
+            int displayOffset, DateTimeZone displayZone, Locale locale) {
+        if (printer instanceof DateTimeCharPrinter) {
+            return ((DateTimeCharPrinter) printer).printTo(
+                buf, position, instant, chrono, displayOffset, displayZone, locale);
+        }
+        StringBuffer sb = new StringBuffer(printer.estimatePrintedLength());
+        printer.printTo(sb, instant, chrono, displayOffset, displayZone, locale);
+        return appendString(buf, position, sb.toString());
+    }
+
+    /**
+     * Prints to a char array using any printer, falling back to printing via
+     * a buffer for printers that do not implement DateTimeCharPrinter.
+     */
+    static int printToChars(
+            DateTimePrinter printer, char[] buf, int position, ReadablePartial partial, Locale locale) {
+        if (printer instanceof DateTimeCharPrinter) {
+            return ((DateTimeCharPrinter) printer).printTo(buf, position, partial, locale);
+        }
+        StringBuffer sb = new StringBuffer(printer.estimatePrintedLength());
+        printer.printTo(sb, partial, locale);
+        return appendString(buf, position, sb.toString());
+    }
+
+    /**
+     * Prints UTF-8 bytes to a byte array using any printer, falling back to
+     * printing via a buffer for printers that do not implement DateTimeBytePrinter.
+     */
+    static int printToBytes(
+            DateTimePrinter printer, byte[] buf, int position, long instant, Chronology chrono,
+            int displayOffset, DateTimeZone displayZone, Locale locale) {
+        if (printer instanceof DateTimeBytePrinter) {
+            return ((DateTimeBytePrinter) printer).printTo(
+                buf, position, instant, chrono, displayOffset, displayZone, locale);
+        }
+        StringBuffer sb = new StringBuffer(printer.estimatePrintedLength());
+        printer.printTo(sb, instant, chrono, displayOffset, displayZone, locale);
+        return FormatUtils.appendUtf8(buf, position, sb.toString());
+    }
+
+    /**
+     * Prints UTF-8 bytes to a byte array using any printer, falling back to
+     * printing via a buffer for printers that do not implement DateTimeBytePrinter.
+     */
+    static int printToBytes(
+            DateTimePrinter printer, byte[] buf, int position, ReadablePartial partial, Locale locale) {
+        if (printer instanceof DateTimeBytePrinter) {
+            return ((DateTimeBytePrinter) printer).printTo(buf, position, partial, locale);
+        }
+        StringBuffer sb = new StringBuffer(printer.estimatePrintedLength());
+        printer.printTo(sb, partial, locale);
+        return FormatUtils.appendUtf8(buf, position, sb.toString());
+    }
+
+    /**
+     * Splits a printer into the elements that it prints in sequence,
+     * looking inside composites and the fixed ISO printers.
+     */
+    static void addPrinterElements(DateTimePrinter printer, List<DateTimePrinter> elements) {
+        if (printer instanceof Composite) {
+            DateTimePrinter[] printers = ((Composite) printer).iPrinters;
+            for (int i = 0; i < printers.length; i++) {
+                addPrinterElements(printers[i], elements);
+            }
+        } else if (printer instanceof FixedISODateTime) {
+            addPrinterElements(((FixedISODateTime) printer).getPrinter(), elements);
+        } else {
+            elements.add(printer);
+        }
+    }
+
+    /**
+     * Gets the smallest unit of time that the text of a printer element
+     * depends on, such that the text is the same for every instant within
+     * one local unit of time, given the same chronology, zone and offset.
+     *
+     * @return the unit in milliseconds, Long.MAX_VALUE if the text only depends
+     *  on the zone and offset, zero if unknown
+     */
+    static long getPrintedUnitMillis(DateTimePrinter element) {
+        DateTimeFieldType type;
+        if (element instanceof CharacterLiteral || element instanceof StringLiteral ||
+                element instanceof TimeZoneOffset || element instanceof TimeZoneName) {
+            return Long.MAX_VALUE;
+        } else if (element instanceof NumberFormatter) {
+            type = ((NumberFormatter) element).iFieldType;
+        } else if (element instanceof TextField) {
+            type = ((TextField) element).iFieldType;
+        } else if (element instanceof TwoDigitYear) {
+            type = ((TwoDigitYear) element).iType;
+        } else {
+            // includes fractions, which depend on every smaller unit
+            return 0;
+        }
+        return type.getDurationType().getField(ISOChronology.getInstanceUTC()).getUnitMillis();
+    }
+
     //-----------------------------------------------------------------------
     static class CharacterLiteral
-            implements DateTimePrinter, DateTimeParser {
+            implements DateTimeCharPrinter, DateTimeBytePrinter, DateTimeParser {
 
         private final char iValue;
 
@@ -1165,6 +1292,37 @@ public class DateTimeFormatterBuilder {
             out.write(iValue);
         }
 
+        public int printTo(
+                char[] buf, int position, long instant, Chronology chrono,
+                int displayOffset, DateTimeZone displayZone, Locale locale) {
+            buf[position] = iValue;
+            return position + 1;
+        }
+
+        public int printTo(char[] buf, int position, ReadablePartial partial, Locale locale) {
+            buf[position] = iValue;
+            return position + 1;
+        }
+
+        public int printTo(
+                byte[] buf, int position, long instant, Chronology chrono,
+                int displayOffset, DateTimeZone displayZone, Locale locale) {
+            return printTo(buf, position);
+        }
+
+        public int printTo(byte[] buf, int position, ReadablePartial partial, Locale locale) {
+            return printTo(buf, position);
+        }
+
+        private int printTo(byte[] buf, int position) {
+            char c = iValue;
+            if (c < 0x80) {
+                buf[position] = (byte) c;
+                return position + 1;
+            }
+            return FormatUtils.appendUtf8(buf, position, String.valueOf(c));
+        }
+
         public int estimateParsedLength() {
             return 1;
         }
@@ -1195,7 +1353,7 @@ public class DateTimeFormatterBuilder {
 
     //-----------------------------------------------------------------------
     static class StringLiteral
-            implements DateTimePrinter, DateTimeParser {
+            implements DateTimeCharPrinter, DateTimeBytePrinter, DateTimeParser {
 
         private final String iValue;
 
@@ -1228,6 +1386,26 @@ public class DateTimeFormatterBuilder {
             out.write(iValue);
         }
 
+        public int printTo(
+                char[] buf, int position, long instant, Chronology chrono,
+                int displayOffset, DateTimeZone displayZone, Locale locale) {
+            return appendString(buf, position, iValue);
+        }
+
+        public int printTo(char[] buf, int position, ReadablePartial partial, Locale locale) {
+            return appendString(buf, position, iValue);
+        }
+
+        public int printTo(
+                byte[] buf, int position, long instant, Chronology chrono,
+                int displayOffset, DateTimeZone displayZone, Locale locale) {
+            return FormatUtils.appendUtf8(buf, position, iValue);
+        }
+
+        public int printTo(byte[] buf, int position, ReadablePartial partial, Locale locale) {
+            return FormatUtils.appendUtf8(buf, position, iValue);
+        }
+
         public int estimateParsedLength() {
             return iValue.length();
         }
@@ -1242,7 +1420,10 @@ public class DateTimeFormatterBuilder {
 
     //-----------------------------------------------------------------------
     static abstract class NumberFormatter
-            implements DateTimePrinter, DateTimeParser {
+            implements DateTimeCharPrinter, DateTimeBytePrinter, DateTimeParser {
+        /** The printed value of a field that cannot be printed, outside the range of int. */
+        static final long NO_VALUE = Long.MIN_VALUE;
+
         protected final DateTimeFieldType iFieldType;
         protected final int iMaxParsedDigits;
         protected final boolean iSigned;
@@ -1259,6 +1440,33 @@ public class DateTimeFormatterBuilder {
             return iMaxParsedDigits;
         }
 
+        /**
+         * Gets the value of the field to print, or NO_VALUE if it cannot be
+         * obtained from the chronology.
+         */
+        final long getPrintedValue(long instant, Chronology chrono) {
+            try {
+                return iFieldType.getField(chrono).get(instant);
+            } catch (RuntimeException e) {
+                return NO_VALUE;
+            }
+        }
+
+        /**
+         * Gets the value of the field to print, or NO_VALUE if it is not
+         * supported by the partial.
+         */
+        final long getPrintedValue(ReadablePartial partial) {
+            if (partial.isSupported(iFieldType)) {
+                try {
+                    return partial.get(iFieldType);
+                } catch (RuntimeException e) {
+                    // fall through
+                }
+            }
+            return NO_VALUE;
+        }
+
         public int parseInto(DateTimeParserBucket bucket, CharSequence text, int position) {
             int limit = Math.min(iMaxParsedDigits, text.length() - position);
 
@@ -1386,6 +1594,41 @@ public class DateTimeFormatterBuilder {
                 out.write('\ufffd');
             }
         }
+
+        public int printTo(
+                char[] buf, int position, long instant, Chronology chrono,
+                int displayOffset, DateTimeZone displayZone, Locale locale) {
+            return printValue(buf, position, getPrintedValue(instant, chrono));
+        }
+
+        public int printTo(char[] buf, int position, ReadablePartial partial, Locale locale) {
+            return printValue(buf, position, getPrintedValue(partial));
+        }
+
+        private int printValue(char[] buf, int position, long value) {
+            if (value == NO_VALUE) {
+                buf[position] = '\ufffd';
+                return position + 1;
+            }
+            return FormatUtils.appendUnpaddedInteger(buf, position, (int) value);
+        }
+
+        public int printTo(
+                byte[] buf, int position, long instant, Chronology chrono,
+                int displayOffset, DateTimeZone displayZone, Locale locale) {
+            return printValue(buf, position, getPrintedValue(instant, chrono));
+        }
+
+        public int printTo(byte[] buf, int position, ReadablePartial partial, Locale locale) {
+            return printValue(buf, position, getPrintedValue(partial));
+        }
+
+        private int printValue(byte[] buf, int position, long value) {
+            if (value == NO_VALUE) {
+                return appendUnknownString(buf, position, 1);
+            }
+            return FormatUtils.appendUnpaddedInteger(buf, position, (int) value);
+        }
     }
 
     //-----------------------------------------------------------------------
@@ -1449,6 +1692,40 @@ public class DateTimeFormatterBuilder {
                 printUnknownString(out, iMinPrintedDigits);
             }
         }
+
+        public int printTo(
+                char[] buf, int position, long instant, Chronology chrono,
+                int displayOffset, DateTimeZone displayZone, Locale locale) {
+            return printValue(buf, position, getPrintedValue(instant, chrono));
+        }
+
+        public int printTo(char[] buf, int position, ReadablePartial partial, Locale locale) {
+            return printValue(buf, position, getPrintedValue(partial));
+        }
+
+        private int printValue(char[] buf, int position, long value) {
+            if (value == NO_VALUE) {
+                return appendUnknownString(buf, position, iMinPrintedDigits);
+            }
+            return FormatUtils.appendPaddedInteger(buf, position, (int) value, iMinPrintedDigits);
+        }
+
+        public int printTo(
+                byte[] buf, int position, long instant, Chronology chrono,
+                int displayOffset, DateTimeZone displayZone, Locale locale) {
+            return printValue(buf, position, getPrintedValue(instant, chrono));
+        }
+
+        public int printTo(byte[] buf, int position, ReadablePartial partial, Locale locale) {
+            return printValue(buf, position, getPrintedValue(partial));
+        }
+
+        private int printValue(byte[] buf, int position, long value) {
+            if (value == NO_VALUE) {
+                return appendUnknownString(buf, position, iMinPrintedDigits);
+            }
+            return FormatUtils.appendPaddedInteger(buf, position, (int) value, iMinPrintedDigits);
+        }
     }
 
     //-----------------------------------------------------------------------
@@ -1485,7 +1762,7 @@ public class DateTimeFormatterBuilder {
 
     //-----------------------------------------------------------------------
     static class TwoDigitYear
-            implements DateTimePrinter, DateTimeParser {
+            implements DateTimeCharPrinter, DateTimeBytePrinter, DateTimeParser {
 
         /** The field to print/parse. */
         private final DateTimeFieldType iType;
@@ -1631,6 +1908,12 @@ public class DateTimeFormatterBuilder {
             }
         }
 
+        public int printTo(
+                char[] buf, int position, long instant, Chronology chrono,
+                int displayOffset, DateTimeZone displayZone, Locale locale) {
+            return appendTwoDigitYear(buf, position, getTwoDigitYear(instant, chrono));
+        }
+
         private int getTwoDigitYear(long instant, Chronology chrono) {
             try {
                 int year = iType.getField(chrono).get(instant);
@@ -1663,6 +1946,36 @@ public class DateTimeFormatterBuilder {
             }
         }
 
+        public int printTo(char[] buf, int position, ReadablePartial partial, Locale locale) {
+            return appendTwoDigitYear(buf, position, getTwoDigitYear(partial));
+        }
+
+        private int appendTwoDigitYear(char[] buf, int position, int year) {
+            if (year < 0) {
+                buf[position++] = '\ufffd';
+                buf[position++] = '\ufffd';
+                return position;
+            }
+            return FormatUtils.appendPaddedInteger(buf, position, year, 2);
+        }
+
+        public int printTo(
+                byte[] buf, int position, long instant, Chronology chrono,
+                int displayOffset, DateTimeZone displayZone, Locale locale) {
+            return appendTwoDigitYear(buf, position, getTwoDigitYear(instant, chrono));
+        }
+
+        public int printTo(byte[] buf, int position, ReadablePartial partial, Locale locale) {
+            return appendTwoDigitYear(buf, position, getTwoDigitYear(partial));
+        }
+
+        private int appendTwoDigitYear(byte[] buf, int position, int year) {
+            if (year < 0) {
+                return appendUnknownString(buf, position, 2);
+            }
+            return FormatUtils.appendPaddedInteger(buf, position, year, 2);
+        }
+
         private int getTwoDigitYear(ReadablePartial partial) {
             if (partial.isSupported(iType)) {
                 try {
@@ -1679,7 +1992,7 @@ public class DateTimeFormatterBuilder {
 
     //-----------------------------------------------------------------------
     static class TextField
-            implements DateTimePrinter, DateTimeParser {
+            implements DateTimeCharPrinter, DateTimeBytePrinter, DateTimeParser {
 
         private static Map<Locale, Map<DateTimeFieldType, Object[]>> cParseCache =
                     new HashMap<Locale, Map<DateTimeFieldType, Object[]>>();
@@ -1732,6 +2045,50 @@ public class DateTimeFormatterBuilder {
             }
         }
 
+        public int printTo(
+                char[] buf, int position, long instant, Chronology chrono,
+                int displayOffset, DateTimeZone displayZone, Locale locale) {
+            String text;
+            try {
+                text = print(instant, chrono, locale);
+            } catch (RuntimeException e) {
+                text = "\ufffd";
+            }
+            return appendString(buf, position, text);
+        }
+
+        public int printTo(char[] buf, int position, ReadablePartial partial, Locale locale) {
+            String text;
+            try {
+                text = print(partial, locale);
+            } catch (RuntimeException e) {
+                text = "\ufffd";
+            }
+            return appendString(buf, position, text);
+        }
+
+        public int printTo(
+                byte[] buf, int position, long instant, Chronology chrono,
+                int displayOffset, DateTimeZone displayZone, Locale locale) {
+            String text;
+            try {
+                text = print(instant, chrono, locale);
+            } catch (RuntimeException e) {
+                text = "\ufffd";
+            }
+            return FormatUtils.appendUtf8(buf, position, text);
+        }
+
+        public int printTo(byte[] buf, int position, ReadablePartial partial, Locale locale) {
+            String text;
+            try {
+                text = print(partial, locale);
+            } catch (RuntimeException e) {
+                text = "\ufffd";
+            }
+            return FormatUtils.appendUtf8(buf, position, text);
+        }
+
         private String print(long instant, Chronology chrono, Locale locale) {
             DateTimeField field = iFieldType.getField(chrono);
             if (iShort) {
@@ -1821,11 +2178,15 @@ public class DateTimeFormatterBuilder {
 
     //-----------------------------------------------------------------------
     static class Fraction
-            implements DateTimePrinter, DateTimeParser {
+            implements DateTimeCharPrinter, DateTimeBytePrinter, DateTimeParser {
 
         private final DateTimeFieldType iFieldType;
         protected int iMinDigits;
         protected int iMaxDigits;
+        /** The last field used for parsing. */
+        private DateTimeField iParseField;
+        /** The last range printed, shifted left five bits, plus its printed digits. */
+        private volatile long iPrintedDigits;
 
         protected Fraction(DateTimeFieldType fieldType, int minDigits, int maxDigits) {
             super();
@@ -1876,6 +2237,86 @@ public class DateTimeFormatterBuilder {
             printTo(null, out, millis, partial.getChronology());
         }
 
+        public int printTo(
+                char[] buf, int position, long instant, Chronology chrono,
+                int displayOffset, DateTimeZone displayZone, Locale locale) {
+            return printTo(buf, null, position, instant, chrono);
+        }
+
+        public int printTo(char[] buf, int position, ReadablePartial partial, Locale locale) {
+            // removed check whether field is supported, as input field is typically
+            // secondOfDay which is unsupported by TimeOfDay
+            long millis = partial.getChronology().set(partial, 0L);
+            return printTo(buf, null, position, millis, partial.getChronology());
+        }
+
+        /**
+         * Prints to either a char array or a byte array of UTF-8, the other
+         * being null.
+         */
+        protected int printTo(char[] chars, byte[] bytes, int position, long instant, Chronology chrono) {
+            DateTimeField field = iFieldType.getField(chrono);
+            int minDigits = iMinDigits;
+
+            long fraction;
+            try {
+                fraction = field.remainder(instant);
+            } catch (RuntimeException e) {
+                if (chars != null) {
+                    return appendUnknownString(chars, position, minDigits);
+                }
+                return appendUnknownString(bytes, position, minDigits);
+            }
+
+            // Same algorithm as below, using arithmetic instead of a String
+            int zeros = minDigits;
+            long scaled = 0;
+            if (fraction != 0) {
+                long rangeMillis = field.getDurationField().getUnitMillis();
+                int maxDigits = getPrintedDigits(rangeMillis);
+                scaled = fraction * getScalar(maxDigits) / rangeMillis;
+
+                int length = FormatUtils.countDigits(scaled);
+                zeros = Math.max(0, maxDigits - length);
+                minDigits -= zeros;
+                int digits = maxDigits - zeros;
+
+                // Chop off as many trailing zero digits as necessary.
+                while (minDigits < digits) {
+                    if (length <= 1 || scaled % 10 != 0) {
+                        break;
+                    }
+                    scaled /= 10;
+                    digits--;
+                    length--;
+                }
+            }
+
+            if (chars != null) {
+                while (--zeros >= 0) {
+                    chars[position++] = '0';
+                }
+                return (fraction == 0 ? position : FormatUtils.appendUnpaddedInteger(chars, position, scaled));
+            }
+            while (--zeros >= 0) {
+                bytes[position++] = '0';
+            }
+            return (fraction == 0 ? position : FormatUtils.appendUnpaddedInteger(bytes, position, scaled));
+        }
+
+        public int printTo(
+                byte[] buf, int position, long instant, Chronology chrono,
+                int displayOffset, DateTimeZone displayZone, Locale locale) {
+            return printTo(null, buf, position, instant, chrono);
+        }
+
+        public int printTo(byte[] buf, int position, ReadablePartial partial, Locale locale) {
+            // removed check whether field is supported, as input field is typically
+            // secondOfDay which is unsupported by TimeOfDay
+            long millis = partial.getChronology().set(partial, 0L);
+            return printTo(null, buf, position, millis, partial.getChronology());
+        }
+
         protected void printTo(StringBuffer buf, Writer out, long instant, Chronology chrono)
             throws IOException
         {
@@ -1962,38 +2403,69 @@ public class DateTimeFormatterBuilder {
         
         private long[] getFractionData(long fraction, DateTimeField field) {
             long rangeMillis = field.getDurationField().getUnitMillis();
-            long scalar;
+            int maxDigits = getMaxDigits(rangeMillis);
+            return new long[] {fraction * getScalar(maxDigits) / rangeMillis, maxDigits};
+        }
+
+        /**
+         * Gets the number of digits that can be printed without the scaled
+         * fraction overflowing.
+         */
+        private int getMaxDigits(long rangeMillis) {
             int maxDigits = iMaxDigits;
             while (true) {
-                switch (maxDigits) {
-                default: scalar = 1L; break;
-                case 1:  scalar = 10L; break;
-                case 2:  scalar = 100L; break;
-                case 3:  scalar = 1000L; break;
-                case 4:  scalar = 10000L; break;
-                case 5:  scalar = 100000L; break;
-                case 6:  scalar = 1000000L; break;
-                case 7:  scalar = 10000000L; break;
-                case 8:  scalar = 100000000L; break;
-                case 9:  scalar = 1000000000L; break;
-                case 10: scalar = 10000000000L; break;
-                case 11: scalar = 100000000000L; break;
-                case 12: scalar = 1000000000000L; break;
-                case 13: scalar = 10000000000000L; break;
-                case 14: scalar = 100000000000000L; break;
-                case 15: scalar = 1000000000000000L; break;
-                case 16: scalar = 10000000000000000L; break;
-                case 17: scalar = 100000000000000000L; break;
-                case 18: scalar = 1000000000000000000L; break;
-                }
+                long scalar = getScalar(maxDigits);
                 if (((rangeMillis * scalar) / scalar) == rangeMillis) {
-                    break;
+                    return maxDigits;
                 }
                 // Overflowed: scale down.
                 maxDigits--;
             }
-            
-            return new long[] {fraction * scalar / rangeMillis, maxDigits};
+        }
+
+        /**
+         * Gets the number of digits beyond which the printed fraction only
+         * has trailing zeros, which would be chopped off after printing.
+         * The result for the last range is cached, as it rarely changes.
+         */
+        private int getPrintedDigits(long rangeMillis) {
+            long cached = iPrintedDigits;
+            if ((cached >>> 5) == rangeMillis) {
+                return (int) (cached & 31);
+            }
+            int maxDigits = getMaxDigits(rangeMillis);
+            int digits = iMinDigits;
+            while (digits < maxDigits && getScalar(digits) % rangeMillis != 0) {
+                digits++;
+            }
+            if (rangeMillis < (1L << 58)) {
+                iPrintedDigits = (rangeMillis << 5) | digits;
+            }
+            return digits;
+        }
+
+        private static long getScalar(int digits) {
+            switch (digits) {
+            default: return 1L;
+            case 1:  return 10L;
+            case 2:  return 100L;
+            case 3:  return 1000L;
+            case 4:  return 10000L;
+            case 5:  return 100000L;
+            case 6:  return 1000000L;
+            case 7:  return 10000000L;
+            case 8:  return 100000000L;
+            case 9:  return 1000000000L;
+            case 10: return 10000000000L;
+            case 11: return 100000000000L;
+            case 12: return 1000000000000L;
+            case 13: return 10000000000000L;
+            case 14: return 100000000000000L;
+            case 15: return 1000000000000000L;
+            case 16: return 10000000000000000L;
+            case 17: return 100000000000000000L;
+            case 18: return 1000000000000000000L;
+            }
         }
 
         public int estimateParsedLength() {
@@ -2029,10 +2501,15 @@ public class DateTimeFormatterBuilder {
                 return ~position;
             }
 
-            DateTimeField parseField = new PreciseDateTimeField(
-                DateTimeFieldType.millisOfSecond(),
-                MillisDurationField.INSTANCE,
-                field.getDurationField());
+            DateTimeField parseField = iParseField;
+            if (parseField == null || parseField.getRangeDurationField() != field.getDurationField()) {
+                // Cached as the chronology rarely changes, the field is immutable
+                parseField = new PreciseDateTimeField(
+                    DateTimeFieldType.millisOfSecond(),
+                    MillisDurationField.INSTANCE,
+                    field.getDurationField());
+                iParseField = parseField;
+            }
 
             bucket.saveField(parseField, (int) value);
 
@@ -2042,7 +2519,7 @@ public class DateTimeFormatterBuilder {
 
     //-----------------------------------------------------------------------
     static class TimeZoneOffset
-            implements DateTimePrinter, DateTimeParser {
+            implements DateTimeCharPrinter, DateTimeBytePrinter, DateTimeParser {
 
         private final String iZeroOffsetPrintText;
         private final String iZeroOffsetParseText;
@@ -2198,6 +2675,93 @@ public class DateTimeFormatterBuilder {
             FormatUtils.writePaddedInteger(out, displayOffset, 3);
         }
 
+        public int printTo(
+                char[] buf, int position, long instant, Chronology chrono,
+                int displayOffset, DateTimeZone displayZone, Locale locale) {
+            if (displayZone == null) {
+                return position;  // no zone
+            }
+            if (displayOffset == 0 && iZeroOffsetPrintText != null) {
+                return appendString(buf, position, iZeroOffsetPrintText);
+            }
+            if (displayOffset >= 0) {
+                buf[position++] = '+';
+            } else {
+                buf[position++] = '-';
+                displayOffset = -displayOffset;
+            }
+            int fields = getPrintedFieldCount(displayOffset);
+            for (int i = 0; i < fields; i++) {
+                if (i > 0 && iShowSeparators) {
+                    buf[position++] = (i < 3 ? ':' : '.');
+                }
+                position = FormatUtils.appendPaddedInteger(
+                    buf, position, getPrintedField(displayOffset, i), (i < 3 ? 2 : 3));
+            }
+            return position;
+        }
+
+        /**
+         * Gets the number of fields to print for a positive offset, from one
+         * for the hours to four for the milliseconds, as printed to a buffer.
+         */
+        private int getPrintedFieldCount(int offset) {
+            int fields;
+            if (offset % DateTimeConstants.MILLIS_PER_HOUR == 0) {
+                fields = 1;
+            } else if (offset % DateTimeConstants.MILLIS_PER_MINUTE == 0) {
+                fields = 2;
+            } else if (offset % DateTimeConstants.MILLIS_PER_SECOND == 0) {
+                fields = 3;
+            } else {
+                fields = 4;
+            }
+            return Math.min(Math.max(fields, iMinFields), iMaxFields);
+        }
+
+        /**
+         * Gets the value of a field of a positive offset, where zero is the
+         * hours and three the milliseconds.
+         */
+        private static int getPrintedField(int offset, int field) {
+            switch (field) {
+            case 0:
+                return offset / DateTimeConstants.MILLIS_PER_HOUR;
+            case 1:
+                return (offset / DateTimeConstants.MILLIS_PER_MINUTE) % DateTimeConstants.MINUTES_PER_HOUR;
+            case 2:
+                return (offset / DateTimeConstants.MILLIS_PER_SECOND) % DateTimeConstants.SECONDS_PER_MINUTE;
+            default:
+                return offset % DateTimeConstants.MILLIS_PER_SECOND;
+            }
+        }
+
+        public int printTo(
+                byte[] buf, int position, long instant, Chronology chrono,
+                int displayOffset, DateTimeZone displayZone, Locale locale) {
+            if (displayZone == null) {
+                return position;  // no zone
+            }
+            if (displayOffset == 0 && iZeroOffsetPrintText != null) {
+                return FormatUtils.appendUtf8(buf, position, iZeroOffsetPrintText);
+            }
+            if (displayOffset >= 0) {
+                buf[position++] = '+';
+            } else {
+                buf[position++] = '-';
+                displayOffset = -displayOffset;
+            }
+            int fields = getPrintedFieldCount(displayOffset);
+            for (int i = 0; i < fields; i++) {
+                if (i > 0 && iShowSeparators) {
+                    buf[position++] = (byte) (i < 3 ? ':' : '.');
+                }
+                position = FormatUtils.appendPaddedInteger(
+                    buf, position, getPrintedField(displayOffset, i), (i < 3 ? 2 : 3));
+            }
+            return position;
+        }
+
         public void printTo(StringBuffer buf, ReadablePartial partial, Locale locale) {
             // no zone info
         }
@@ -2206,6 +2770,14 @@ public class DateTimeFormatterBuilder {
             // no zone info
         }
 
+        public int printTo(char[] buf, int position, ReadablePartial partial, Locale locale) {
+            return position;  // no zone info
+        }
+
+        public int printTo(byte[] buf, int position, ReadablePartial partial, Locale locale) {
+            return position;  // no zone info
+        }
+
         public int estimateParsedLength() {
             return estimatePrintedLength();
         }
@@ -2401,7 +2973,7 @@ public class DateTimeFormatterBuilder {
 
     //-----------------------------------------------------------------------
     static class TimeZoneName
-            implements DateTimePrinter {
+            implements DateTimeCharPrinter, DateTimeBytePrinter {
 
         static final int LONG_NAME = 0;
         static final int SHORT_NAME = 1;
@@ -2430,6 +3002,18 @@ public class DateTimeFormatterBuilder {
             out.write(print(instant - displayOffset, displayZone, locale));
         }
 
+        public int printTo(
+                char[] buf, int position, long instant, Chronology chrono,
+                int displayOffset, DateTimeZone displayZone, Locale locale) {
+            return appendString(buf, position, print(instant - displayOffset, displayZone, locale));
+        }
+
+        public int printTo(
+                byte[] buf, int position, long instant, Chronology chrono,
+                int displayOffset, DateTimeZone displayZone, Locale locale) {
+            return FormatUtils.appendUtf8(buf, position, print(instant - displayOffset, displayZone, locale));
+        }
+
         private String print(long instant, DateTimeZone displayZone, Locale locale) {
             if (displayZone == null) {
                 return "";  // no zone
@@ -2452,11 +3036,19 @@ public class DateTimeFormatterBuilder {
         public void printTo(Writer out, ReadablePartial partial, Locale locale) throws IOException {
             // no zone info
         }
+
+        public int printTo(char[] buf, int position, ReadablePartial partial, Locale locale) {
+            return position;  // no zone info
+        }
+
+        public int printTo(byte[] buf, int position, ReadablePartial partial, Locale locale) {
+            return position;  // no zone info
+        }
     }
 
     //-----------------------------------------------------------------------
     static class Composite
-            implements DateTimePrinter, DateTimeParser {
+            implements DateTimeCharPrinter, DateTimeBytePrinter, DateTimeParser {
 
         private final DateTimePrinter[] iPrinters;
         private final DateTimeParser[] iParsers;
@@ -2579,6 +3171,84 @@ public class DateTimeFormatterBuilder {
             }
         }
 
+        public int printTo(
+                char[] buf, int position, long instant, Chronology chrono,
+                int displayOffset, DateTimeZone displayZone, Locale locale) {
+            DateTimePrinter[] elements = iPrinters;
+            if (elements == null) {
+                throw new UnsupportedOperationException();
+            }
+
+            if (locale == null) {
+                // Guard against default locale changing concurrently.
+                locale = Locale.getDefault();
+            }
+
+            int len = elements.length;
+            for (int i = 0; i < len; i++) {
+                position = printToChars(
+                    elements[i], buf, position, instant, chrono, displayOffset, displayZone, locale);
+            }
+            return position;
+        }
+
+        public int printTo(char[] buf, int position, ReadablePartial partial, Locale locale) {
+            DateTimePrinter[] elements = iPrinters;
+            if (elements == null) {
+                throw new UnsupportedOperationException();
+            }
+
+            if (locale == null) {
+                // Guard against default locale changing concurrently.
+                locale = Locale.getDefault();
+            }
+
+            int len = elements.length;
+            for (int i=0; i<len; i++) {
+                position = printToChars(elements[i], buf, position, partial, locale);
+            }
+            return position;
+        }
+
+        public int printTo(
+                byte[] buf, int position, long instant, Chronology chrono,
+                int displayOffset, DateTimeZone displayZone, Locale locale) {
+            DateTimePrinter[] elements = iPrinters;
+            if (elements == null) {
+                throw new UnsupportedOperationException();
+            }
+
+            if (locale == null) {
+                // Guard against default locale changing concurrently.
+                locale = Locale.getDefault();
+            }
+
+            int len = elements.length;
+            for (int i = 0; i < len; i++) {
+                position = printToBytes(
+                    elements[i], buf, position, instant, chrono, displayOffset, displayZone, locale);
+            }
+            return position;
+        }
+
+        public int printTo(byte[] buf, int position, ReadablePartial partial, Locale locale) {
+            DateTimePrinter[] elements = iPrinters;
+            if (elements == null) {
+                throw new UnsupportedOperationException();
+            }
+
+            if (locale == null) {
+                // Guard against default locale changing concurrently.
+                locale = Locale.getDefault();
+            }
+
+            int len = elements.length;
+            for (int i=0; i<len; i++) {
+                position = printToBytes(elements[i], buf, position, partial, locale);
+            }
+            return position;
+        }
+
         public int estimateParsedLength() {
             return iParsedLengthEstimate;
         }
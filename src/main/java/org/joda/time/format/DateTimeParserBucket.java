@@ -67,12 +67,32 @@ public class DateTimeParserBucket {
     private Integer iPivotYear;
     /** Used for parsing month/day without year. */
     private int iDefaultYear;
+    /** The zone from the constructor, restored by reset. */
+    private final DateTimeZone iDefaultZone;
+    /** The pivot year from the constructor, restored by reset. */
+    private final Integer iDefaultPivotYear;
 
-    private SavedField[] iSavedFields = new SavedField[8];
+    // Saved fields, held in parallel arrays to avoid an object per numeric
+    // field, initially sized for year to second of minute. The texts are
+    // only created once a text field is saved.
+    private DateTimeField[] iSavedFields = new DateTimeField[6];
+    private int[] iSavedValues = new int[6];
+    private SavedText[] iSavedTexts;
     private int iSavedFieldsCount;
+    // True if a saved state may refer to the arrays beyond the count.
     private boolean iSavedFieldsShared;
+    // True if a saved state refers to the arrays.
+    private boolean iSavedFieldsReferenced;
+    
+    // Local millis saved in one step by a fast path parser, see saveLocalMillis.
+    private long iLocalMillis;
+    private boolean iLocalMillisSaved;
+    private boolean iLocalMillisOfSecondSaved;
     
     private Object iSavedState;
+    // Saved states, only used once the bucket is reset, see saveState.
+    private CopiedState[] iSavedStates;
+    private int iSavedStatesCount;
 
     /**
      * Constructs a bucket.
@@ -123,6 +143,8 @@ public class DateTimeParserBucket {
         setZone(chrono.getZone());
         iPivotYear = pivotYear;
         iDefaultYear = defaultYear;
+        iDefaultZone = iZone;
+        iDefaultPivotYear = pivotYear;
     }
 
     //-----------------------------------------------------------------------
@@ -213,6 +235,98 @@ public class DateTimeParserBucket {
         iPivotYear = pivotYear;
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Resets the bucket, clearing all saved fields and restoring the zone
+     * and pivot year to those passed to the constructor, ready to parse
+     * another text.
+     * <p>
+     * A bucket that is reset and reused does not allocate objects when
+     * parsing numeric fields, which suits parsing large volumes of text on
+     * a single thread. Any state saved before the reset must not be restored
+     * after it.
+     * 
+     * @since 2.0
+     */
+    public void reset() {
+        iZone = iDefaultZone;
+        iOffset = 0;
+        iPivotYear = iDefaultPivotYear;
+        iSavedFieldsCount = 0;
+        iSavedFieldsShared = false;
+        iSavedFieldsReferenced = false;
+        iLocalMillisSaved = false;
+        iSavedState = null;
+        iSavedStatesCount = 0;
+        if (iSavedStates == null) {
+            iSavedStates = new CopiedState[4];
+        }
+    }
+
+    /**
+     * Parses a datetime from the given text, returning the number of
+     * milliseconds since the epoch, 1970-01-01T00:00:00Z.
+     * <p>
+     * The bucket is reset before parsing, thus it may be reused to parse
+     * many texts with the same parser. The result is the same as
+     * {@link DateTimeFormatter#parseMillis(CharSequence)} for a formatter
+     * with the same chronology, locale, pivot year and default year.
+     * 
+     * @param parser  the parser to use, not null
+     * @param text  text to parse, not null
+     * @return parsed value expressed in milliseconds since the epoch
+     * @throws IllegalArgumentException if the text to parse is invalid
+     * @since 2.0
+     */
+    public long parseMillis(DateTimeParser parser, CharSequence text) {
+        reset();
+        return doParseMillis(parser, text);
+    }
+
+    /**
+     * Parses a datetime from the given text into this new bucket, without
+     * resetting it first.
+     *
+     * @param parser  the parser to use, not null
+     * @param text  text to parse, not null
+     * @return parsed value expressed in milliseconds since the epoch
+     * @throws IllegalArgumentException if the text to parse is invalid
+     */
+    long doParseMillis(DateTimeParser parser, CharSequence text) {
+        int newPos = parser.parseInto(this, text, 0);
+        if (newPos >= 0) {
+            if (newPos >= text.length()) {
+                return computeMillis(true, text);
+            }
+        } else {
+            newPos = ~newPos;
+        }
+        throw new IllegalArgumentException(FormatUtils.createErrorMessage(text, newPos));
+    }
+
+    /**
+     * Parses a datetime from the given text into an element of the array,
+     * returning the error position instead of throwing an exception.
+     *
+     * @param parser  the parser to use, not null
+     * @param text  text to parse, not null
+     * @param results  the array to store the millis in, not null
+     * @param index  the index to store the millis at
+     * @return -1 if successful, -2 if a field value is out of range,
+     *  otherwise the position the parse failed at
+     */
+    int parseMillis(DateTimeParser parser, CharSequence text, long[] results, int index) {
+        reset();
+        int newPos = parser.parseInto(this, text, 0);
+        if (newPos >= 0) {
+            if (newPos >= text.length()) {
+                return (computeMillis(results, index) ? -1 : -2);
+            }
+            return newPos;
+        }
+        return ~newPos;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Saves a datetime field value.
@@ -221,7 +335,7 @@ public class DateTimeParserBucket {
      * @param value  the value
      */
     public void saveField(DateTimeField field, int value) {
-        saveField(new SavedField(field, value));
+        saveField(field, value, null, null);
     }
     
     /**
@@ -231,7 +345,7 @@ public class DateTimeParserBucket {
      * @param value  the value
      */
     public void saveField(DateTimeFieldType fieldType, int value) {
-        saveField(new SavedField(fieldType.getField(iChrono), value));
+        saveField(fieldType.getField(iChrono), value, null, null);
     }
     
     /**
@@ -242,25 +356,93 @@ public class DateTimeParserBucket {
      * @param locale  the locale to use
      */
     public void saveField(DateTimeFieldType fieldType, String text, Locale locale) {
-        saveField(new SavedField(fieldType.getField(iChrono), text, locale));
+        saveField(fieldType.getField(iChrono), 0, text, locale);
     }
     
-    private void saveField(SavedField field) {
-        SavedField[] savedFields = iSavedFields;
-        int savedFieldsCount = iSavedFieldsCount;
-        
-        if (savedFieldsCount == savedFields.length || iSavedFieldsShared) {
+    private void saveField(DateTimeField field, int value, String text, Locale locale) {
+        int count = iSavedFieldsCount;
+        if (count == iSavedFields.length || iSavedFieldsShared) {
             // Expand capacity or merely copy if saved fields are shared.
-            SavedField[] newArray = new SavedField
-                [savedFieldsCount == savedFields.length ? savedFieldsCount * 2 : savedFields.length];
-            System.arraycopy(savedFields, 0, newArray, 0, savedFieldsCount);
-            iSavedFields = savedFields = newArray;
-            iSavedFieldsShared = false;
+            copySavedFields(count == iSavedFields.length ? count * 2 : iSavedFields.length);
+        }
+        if (text != null && iSavedTexts == null) {
+            iSavedTexts = new SavedText[iSavedFields.length];
         }
-        
         iSavedState = null;
-        savedFields[savedFieldsCount] = field;
-        iSavedFieldsCount = savedFieldsCount + 1;
+        iSavedFields[count] = field;
+        iSavedValues[count] = value;
+        if (iSavedTexts != null) {
+            iSavedTexts[count] = (text == null ? null : new SavedText(text, locale));
+        }
+        iSavedFieldsCount = count + 1;
+    }
+    
+    /**
+     * Copies the saved fields into new arrays, such that no saved state
+     * refers to them.
+     */
+    private void copySavedFields(int length) {
+        iSavedFields = copyOf(iSavedFields, length);
+        iSavedValues = copyOf(iSavedValues, length);
+        if (iSavedTexts != null) {
+            iSavedTexts = copyOf(iSavedTexts, length);
+        }
+        iSavedFieldsShared = false;
+        iSavedFieldsReferenced = false;
+    }
+    
+    /**
+     * Copies saved fields from a saved state into the arrays of the bucket,
+     * which must be large enough and not referred to by any saved state.
+     */
+    private void restoreSavedFields(DateTimeField[] fields, int[] values, SavedText[] texts, int count) {
+        System.arraycopy(fields, 0, iSavedFields, 0, count);
+        System.arraycopy(values, 0, iSavedValues, 0, count);
+        if (texts != null) {
+            if (iSavedTexts == null) {
+                iSavedTexts = new SavedText[iSavedFields.length];
+            }
+            System.arraycopy(texts, 0, iSavedTexts, 0, count);
+        } else if (iSavedTexts != null) {
+            Arrays.fill(iSavedTexts, 0, count, null);
+        }
+    }
+    
+    /**
+     * Saves the whole local datetime, from year down to second of minute,
+     * in one step. This is used by fast path parsers that have computed
+     * the local millis arithmetically in the chronology of this bucket.
+     * <p>
+     * If the millis of second was not parsed it is handled as for any
+     * other unsaved field when the millis are computed.
+     * 
+     * @param localMillis  the local millis in the chronology of this bucket
+     * @param millisOfSecondSaved  true if the millis of second was parsed
+     */
+    void saveLocalMillis(long localMillis, boolean millisOfSecondSaved) {
+        iSavedState = null;
+        iLocalMillis = localMillis;
+        iLocalMillisSaved = true;
+        iLocalMillisOfSecondSaved = millisOfSecondSaved;
+    }
+    
+    /**
+     * Converts local millis saved by a fast path parser to the equivalent
+     * saved fields, so they can be combined with other saved fields.
+     */
+    private void expandLocalMillis() {
+        long localMillis = iLocalMillis;
+        Chronology chrono = iChrono;
+        iLocalMillisSaved = false;
+        saveField(chrono.year(), chrono.year().get(localMillis));
+        saveField(chrono.monthOfYear(), chrono.monthOfYear().get(localMillis));
+        saveField(chrono.dayOfMonth(), chrono.dayOfMonth().get(localMillis));
+        saveField(chrono.hourOfDay(), chrono.hourOfDay().get(localMillis));
+        saveField(chrono.minuteOfHour(), chrono.minuteOfHour().get(localMillis));
+        saveField(chrono.secondOfMinute(), chrono.secondOfMinute().get(localMillis));
+        if (iLocalMillisOfSecondSaved) {
+            saveField(chrono.millisOfSecond(), chrono.millisOfSecond().get(localMillis));
+        }
     }
     
     /**
@@ -272,7 +454,30 @@ public class DateTimeParserBucket {
      */
     public Object saveState() {
         if (iSavedState == null) {
-            iSavedState = new SavedState();
+            if (iLocalMillisSaved) {
+                // rare, as fast path parsers normally complete the parse
+                expandLocalMillis();
+            }
+            SavedState state;
+            CopiedState[] states = iSavedStates;
+            if (states == null) {
+                // A bucket used once shares its saved fields with the state
+                state = new SavedState();
+            } else {
+                // A reset bucket reuses states, copying the saved fields
+                int count = iSavedStatesCount;
+                if (count == states.length) {
+                    iSavedStates = states = copyOf(states, count * 2);
+                }
+                CopiedState copied = states[count];
+                if (copied == null) {
+                    states[count] = copied = new CopiedState();
+                }
+                state = copied;
+                iSavedStatesCount = count + 1;
+            }
+            state.saveState();
+            iSavedState = state;
         }
         return iSavedState;
     }
@@ -329,28 +534,35 @@ public class DateTimeParserBucket {
      * @since 1.3
      */
     public long computeMillis(boolean resetFields, CharSequence text) {
-        SavedField[] savedFields = iSavedFields;
-        int count = iSavedFieldsCount;
-        if (iSavedFieldsShared) {
-            iSavedFields = savedFields = (SavedField[])iSavedFields.clone();
-            iSavedFieldsShared = false;
-        }
-        sort(savedFields, count);
-        if (count > 0) {
-            // alter base year for parsing if first field is month or day
-            DurationField months = DurationFieldType.months().getField(iChrono);
-            DurationField days = DurationFieldType.days().getField(iChrono);
-            DurationField first = savedFields[0].iField.getDurationField();
-            if (compareReverse(first, months) >= 0 && compareReverse(first, days) <= 0) {
-                saveField(DateTimeFieldType.year(), iDefaultYear);
-                return computeMillis(resetFields, text);
+        if (iLocalMillisSaved) {
+            if (iSavedFieldsCount == 0) {
+                long millis = iLocalMillis;
+                if (!iLocalMillisOfSecondSaved && !resetFields) {
+                    // Unsaved field, so retain the value from the initial millis
+                    millis += iChrono.millisOfSecond().get(iMillis);
+                }
+                return adjustForZone(millis, text);
             }
+            expandLocalMillis();
         }
+        
+        int count = sortSavedFields();
+        DateTimeField[] savedFields = iSavedFields;
 
         long millis = iMillis;
         try {
+            int[] savedValues = iSavedValues;
+            SavedText[] savedTexts = iSavedTexts;
             for (int i=0; i<count; i++) {
-                millis = savedFields[i].set(millis, resetFields);
+                DateTimeField field = savedFields[i];
+                if (savedTexts == null || savedTexts[i] == null) {
+                    millis = field.set(millis, savedValues[i]);
+                } else {
+                    millis = field.set(millis, savedTexts[i].iText, savedTexts[i].iLocale);
+                }
+                if (resetFields) {
+                    millis = field.roundFloor(millis);
+                }
             }
         } catch (IllegalFieldValueException e) {
             if (text != null) {
@@ -359,6 +571,96 @@ public class DateTimeParserBucket {
             throw e;
         }
         
+        return adjustForZone(millis, text);
+    }
+    
+    /**
+     * Computes the parsed datetime into an element of the array, clearing
+     * unsaved field values, without throwing an exception.
+     * <p>
+     * Each saved value is checked against the bounds of its field before it
+     * is set, as an exception for each bad value is costly when parsing
+     * large volumes of text.
+     *
+     * @param results  the array to store the millis in, not null
+     * @param index  the index to store the millis at
+     * @return true if successful, false if a field value is out of range
+     *  or the local datetime is in a time zone gap
+     */
+    private boolean computeMillis(long[] results, int index) {
+        long millis;
+        if (iLocalMillisSaved && iSavedFieldsCount == 0) {
+            millis = iLocalMillis;
+        } else {
+            if (iLocalMillisSaved) {
+                expandLocalMillis();
+            }
+            int count = sortSavedFields();
+            DateTimeField[] savedFields = iSavedFields;
+            int[] savedValues = iSavedValues;
+            SavedText[] savedTexts = iSavedTexts;
+            millis = iMillis;
+            try {
+                for (int i=0; i<count; i++) {
+                    DateTimeField field = savedFields[i];
+                    if (savedTexts == null || savedTexts[i] == null) {
+                        int value = savedValues[i];
+                        if (value < field.getMinimumValue(millis) || value > field.getMaximumValue(millis)) {
+                            return false;
+                        }
+                        millis = field.set(millis, value);
+                    } else {
+                        millis = field.set(millis, savedTexts[i].iText, savedTexts[i].iLocale);
+                    }
+                    millis = field.roundFloor(millis);
+                }
+            } catch (IllegalArgumentException ex) {
+                // a value the bounds do not reveal, such as a date in a calendar cutover
+                return false;
+            }
+        }
+        if (iZone == null) {
+            millis -= iOffset;
+        } else {
+            int offset = iZone.getOffsetFromLocal(millis);
+            millis -= offset;
+            if (offset != iZone.getOffset(millis)) {
+                return false;
+            }
+        }
+        results[index] = millis;
+        return true;
+    }
+
+    /**
+     * Sorts the saved fields, adding the default year if the first field
+     * is a month or day.
+     *
+     * @return the number of saved fields
+     */
+    private int sortSavedFields() {
+        int count = iSavedFieldsCount;
+        if (iSavedFieldsShared) {
+            copySavedFields(iSavedFields.length);
+        }
+        sort(count);
+        if (count > 0) {
+            // alter base year for parsing if first field is month or day
+            DurationField months = DurationFieldType.months().getField(iChrono);
+            DurationField days = DurationFieldType.days().getField(iChrono);
+            DurationField first = iSavedFields[0].getDurationField();
+            if (compareReverse(first, months) >= 0 && compareReverse(first, days) <= 0) {
+                saveField(DateTimeFieldType.year(), iDefaultYear);
+                return sortSavedFields();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Converts local millis to UTC millis using the zone or offset.
+     */
+    private long adjustForZone(long millis, CharSequence text) {
         if (iZone == null) {
             millis -= iOffset;
         } else {
@@ -378,128 +680,195 @@ public class DateTimeParserBucket {
     }
     
     /**
-     * Sorts elements [0,high). Calling java.util.Arrays isn't always the right
-     * choice since it always creates an internal copy of the array, even if it
-     * doesn't need to. If the array slice is small enough, an insertion sort
-     * is chosen instead, but it doesn't need a copy!
+     * Sorts the saved fields [0,high), keeping the parallel arrays in step.
      * <p>
-     * This method has a modified version of that insertion sort, except it
-     * doesn't create an unnecessary array copy. If high is over 10, then
-     * java.util.Arrays is called, which will perform a merge sort, which is
-     * faster than insertion sort on large lists.
-     * <p>
-     * The end result is much greater performance when computeMillis is called.
-     * Since the amount of saved fields is small, the insertion sort is a
-     * better choice. Additional performance is gained since there is no extra
-     * array allocation and copying. Also, the insertion sort here does not
-     * perform any casting operations. The version in java.util.Arrays performs
-     * casts within the insertion sort loop.
-     */
-    private static void sort(SavedField[] array, int high) {
-        if (high > 10) {
-            Arrays.sort(array, 0, high);
-        } else {
-            for (int i=0; i<high; i++) {
-                for (int j=i; j>0 && (array[j-1]).compareTo(array[j])>0; j--) {
-                    SavedField t = array[j];
-                    array[j] = array[j-1];
-                    array[j-1] = t;
+     * An insertion sort is used, as the amount of saved fields is small. It
+     * is stable, thus fields that cannot be ordered stay in the order they
+     * were saved, and it sorts in place, thus there is no array allocation
+     * and copying when computeMillis is called.
+     */
+    private void sort(int high) {
+        DateTimeField[] fields = iSavedFields;
+        int[] values = iSavedValues;
+        SavedText[] texts = iSavedTexts;
+        for (int i=0; i<high; i++) {
+            for (int j=i; j>0 && compareFields(fields[j-1], fields[j])>0; j--) {
+                DateTimeField field = fields[j];
+                fields[j] = fields[j-1];
+                fields[j-1] = field;
+                int value = values[j];
+                values[j] = values[j-1];
+                values[j-1] = value;
+                if (texts != null) {
+                    SavedText text = texts[j];
+                    texts[j] = texts[j-1];
+                    texts[j-1] = text;
                 }
             }
         }
     }
 
+    /**
+     * The field with the longer range duration is ordered first, where
+     * null is considered infinite. If the ranges match, then the field
+     * with the longer duration is ordered first.
+     */
+    static int compareFields(DateTimeField field, DateTimeField other) {
+        int result = compareReverse
+            (field.getRangeDurationField(), other.getRangeDurationField());
+        if (result != 0) {
+            return result;
+        }
+        return compareReverse
+            (field.getDurationField(), other.getDurationField());
+    }
+
+    static int compareReverse(DurationField a, DurationField b) {
+        if (a == null || !a.isSupported()) {
+            if (b == null || !b.isSupported()) {
+                return 0;
+            }
+            return -1;
+        }
+        if (b == null || !b.isSupported()) {
+            return 1;
+        }
+        return -a.compareTo(b);
+    }
+
+    // Arrays.copyOf is not available in JDK 1.5
+    private static DateTimeField[] copyOf(DateTimeField[] array, int length) {
+        DateTimeField[] copy = new DateTimeField[length];
+        System.arraycopy(array, 0, copy, 0, Math.min(array.length, length));
+        return copy;
+    }
+
+    private static int[] copyOf(int[] array, int length) {
+        int[] copy = new int[length];
+        System.arraycopy(array, 0, copy, 0, Math.min(array.length, length));
+        return copy;
+    }
+
+    private static SavedText[] copyOf(SavedText[] array, int length) {
+        SavedText[] copy = new SavedText[length];
+        System.arraycopy(array, 0, copy, 0, Math.min(array.length, length));
+        return copy;
+    }
+
+    private static CopiedState[] copyOf(CopiedState[] array, int length) {
+        CopiedState[] copy = new CopiedState[length];
+        System.arraycopy(array, 0, copy, 0, Math.min(array.length, length));
+        return copy;
+    }
+
+    /**
+     * A saved text field value.
+     */
+    static class SavedText {
+        final String iText;
+        final Locale iLocale;
+        
+        SavedText(String text, Locale locale) {
+            iText = text;
+            iLocale = locale;
+        }
+    }
+
+    /**
+     * A snapshot of the bucket, sharing the saved fields with the bucket.
+     * The bucket copies the saved fields before changing any that a
+     * snapshot may refer to.
+     */
     class SavedState {
-        final DateTimeZone iZone;
-        final int iOffset;
-        final SavedField[] iSavedFields;
-        final int iSavedFieldsCount;
+        DateTimeZone iZone;
+        int iOffset;
+        DateTimeField[] iSavedFields;
+        int[] iSavedValues;
+        SavedText[] iSavedTexts;
+        int iSavedFieldsCount;
         
-        SavedState() {
-            this.iZone = DateTimeParserBucket.this.iZone;
-            this.iOffset = DateTimeParserBucket.this.iOffset;
-            this.iSavedFields = DateTimeParserBucket.this.iSavedFields;
-            this.iSavedFieldsCount = DateTimeParserBucket.this.iSavedFieldsCount;
+        void saveState() {
+            DateTimeParserBucket bucket = DateTimeParserBucket.this;
+            this.iZone = bucket.iZone;
+            this.iOffset = bucket.iOffset;
+            this.iSavedFields = bucket.iSavedFields;
+            this.iSavedValues = bucket.iSavedValues;
+            this.iSavedTexts = bucket.iSavedTexts;
+            this.iSavedFieldsCount = bucket.iSavedFieldsCount;
+            bucket.iSavedFieldsReferenced = true;
         }
         
         boolean restoreState(DateTimeParserBucket enclosing) {
             if (enclosing != DateTimeParserBucket.this) {
                 return false;
             }
+            int count = this.iSavedFieldsCount;
             enclosing.iZone = this.iZone;
             enclosing.iOffset = this.iOffset;
-            enclosing.iSavedFields = this.iSavedFields;
-            if (this.iSavedFieldsCount < enclosing.iSavedFieldsCount) {
-                // Since count is being restored to a lower count, the
-                // potential exists for new saved fields to destroy data being
-                // shared by another state. Set this flag such that the array
-                // of saved fields is cloned prior to modification.
+            if (iSavedFields == enclosing.iSavedFields) {
+                if (count < enclosing.iSavedFieldsCount) {
+                    // Since count is being restored to a lower count, the
+                    // potential exists for new saved fields to destroy data being
+                    // shared by another state. Set this flag such that the array
+                    // of saved fields is cloned prior to modification.
+                    enclosing.iSavedFieldsShared = true;
+                }
+                enclosing.iSavedTexts = this.iSavedTexts;
+            } else if (enclosing.iSavedFieldsReferenced == false && count <= enclosing.iSavedFields.length) {
+                // No state refers to the arrays of the bucket, so copy into them
+                enclosing.restoreSavedFields(iSavedFields, iSavedValues, iSavedTexts, count);
+            } else {
+                enclosing.iSavedFields = this.iSavedFields;
+                enclosing.iSavedValues = this.iSavedValues;
+                enclosing.iSavedTexts = this.iSavedTexts;
                 enclosing.iSavedFieldsShared = true;
+                enclosing.iSavedFieldsReferenced = true;
             }
-            enclosing.iSavedFieldsCount = this.iSavedFieldsCount;
+            enclosing.iSavedFieldsCount = count;
+            enclosing.iLocalMillisSaved = false;
             return true;
         }
     }
-    
-    static class SavedField implements Comparable<SavedField> {
-        final DateTimeField iField;
-        final int iValue;
-        final String iText;
-        final Locale iLocale;
-        
-        SavedField(DateTimeField field, int value) {
-            iField = field;
-            iValue = value;
-            iText = null;
-            iLocale = null;
-        }
-        
-        SavedField(DateTimeField field, String text, Locale locale) {
-            iField = field;
-            iValue = 0;
-            iText = text;
-            iLocale = locale;
-        }
+
+    /**
+     * A snapshot of a reset bucket, holding a copy of the saved fields,
+     * such that snapshots can be reused once the bucket is reset again.
+     */
+    class CopiedState extends SavedState {
         
-        long set(long millis, boolean reset) {
-            if (iText == null) {
-                millis = iField.set(millis, iValue);
-            } else {
-                millis = iField.set(millis, iText, iLocale);
+        void saveState() {
+            DateTimeParserBucket bucket = DateTimeParserBucket.this;
+            int count = bucket.iSavedFieldsCount;
+            this.iZone = bucket.iZone;
+            this.iOffset = bucket.iOffset;
+            this.iSavedFieldsCount = count;
+            if (iSavedFields == null || iSavedFields.length < count) {
+                iSavedFields = new DateTimeField[bucket.iSavedFields.length];
+                iSavedValues = new int[bucket.iSavedFields.length];
             }
-            if (reset) {
-                millis = iField.roundFloor(millis);
+            System.arraycopy(bucket.iSavedFields, 0, iSavedFields, 0, count);
+            System.arraycopy(bucket.iSavedValues, 0, iSavedValues, 0, count);
+            if (bucket.iSavedTexts == null) {
+                iSavedTexts = null;
+            } else {
+                if (iSavedTexts == null || iSavedTexts.length < count) {
+                    iSavedTexts = new SavedText[bucket.iSavedFields.length];
+                }
+                System.arraycopy(bucket.iSavedTexts, 0, iSavedTexts, 0, count);
             }
-            return millis;
         }
         
-        /**
-         * The field with the longer range duration is ordered first, where
-         * null is considered infinite. If the ranges match, then the field
-         * with the longer duration is ordered first.
-         */
-        public int compareTo(SavedField obj) {
-            DateTimeField other = obj.iField;
-            int result = compareReverse
-                (iField.getRangeDurationField(), other.getRangeDurationField());
-            if (result != 0) {
-                return result;
-            }
-            return compareReverse
-                (iField.getDurationField(), other.getDurationField());
-        }
-    }
-
-    static int compareReverse(DurationField a, DurationField b) {
-        if (a == null || !a.isSupported()) {
-            if (b == null || !b.isSupported()) {
-                return 0;
+        boolean restoreState(DateTimeParserBucket enclosing) {
+            if (enclosing != DateTimeParserBucket.this) {
+                return false;
             }
-            return -1;
-        }
-        if (b == null || !b.isSupported()) {
-            return 1;
+            int count = this.iSavedFieldsCount;
+            enclosing.iZone = this.iZone;
+            enclosing.iOffset = this.iOffset;
+            enclosing.restoreSavedFields(iSavedFields, iSavedValues, iSavedTexts, count);
+            enclosing.iSavedFieldsCount = count;
+            enclosing.iLocalMillisSaved = false;
+            return true;
         }
-        return -a.compareTo(b);
     }
 }
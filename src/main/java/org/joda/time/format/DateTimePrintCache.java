@@ -0,0 +1,337 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.format;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.joda.time.Chronology;
+import org.joda.time.DateTimeConstants;
+import org.joda.time.DateTimeUtils;
+import org.joda.time.DateTimeZone;
+import org.joda.time.DurationFieldType;
+import org.joda.time.chrono.ISOChronology;
+
+/**
+ * Prints instants using a formatter, reusing the text printed for the
+ * previous instant where it is unchanged.
+ * <p>
+ * Timestamps in logs and metrics tend to increase steadily, so most share
+ * the date and time down to the second with the one before. This class
+ * remembers the text printed for the current second, or other cache unit,
+ * and only prints again the elements of the format that change within it,
+ * such as the milliseconds. All other text is copied from the cache.
+ * The output is always the same as that of the formatter.
+ * Formats with unusually long text, or with custom printers that cannot
+ * print into a char array, are printed by the formatter without caching.
+ * <p>
+ * Instances are obtained from {@link DateTimeFormatter#createPrintCache()}.
+ * A cache is typically held per thread:
+ * <pre>
+ * private static final ThreadLocal&lt;DateTimePrintCache&gt; CACHE = new ThreadLocal&lt;DateTimePrintCache&gt;() {
+ *   protected DateTimePrintCache initialValue() {
+ *     return ISODateTimeFormat.dateTime().createPrintCache();
+ *   }
+ * };
+ * </pre>
+ * <p>
+ * DateTimePrintCache is mutable and not thread-safe.
+ *
+ * @author Stephen Colebourne
+ * @since 2.0
+ */
+public final class DateTimePrintCache {
+
+    /** The largest instant that is cached, avoiding overflow. */
+    private static final long MAX_CACHED = Long.MAX_VALUE / 4;
+
+    /** The formatter, used for instants that are not cached. */
+    private final DateTimeFormatter iFormatter;
+    /** The chronology to print in, null for the default ISO chronology. */
+    private final Chronology iChrono;
+    /** The locale to print in, null for the default locale. */
+    private final Locale iLocale;
+    /** The length of the cache unit. */
+    private final long iUnitMillis;
+    /** The elements of the printer. */
+    private final DateTimePrinter[] iElements;
+    /** The part that each element belongs to. */
+    private final int[] iElementParts;
+    /** The printer for each part, null if the text of the part is cached. */
+    private final DateTimePrinter[] iParts;
+    /** The end of the text of each part in the cache. */
+    private final int[] iPartEnds;
+
+    /** The chronology of the cached text. */
+    private Chronology iCacheChrono;
+    /** The UTC chronology of the cached text. */
+    private Chronology iCacheChronoUTC;
+    /** The locale of the cached text. */
+    private Locale iCacheLocale;
+    /** The zone of the cached text. */
+    private DateTimeZone iCacheZone;
+    /** The offset of the cached text. */
+    private int iCacheOffset;
+    /** The first instant the cached text applies to. */
+    private long iCacheStart = Long.MAX_VALUE;
+    /** The instant after the last that the cached text applies to. */
+    private long iCacheEnd = Long.MIN_VALUE;
+    /** The cached text, null if the text of the printer is not cached. */
+    private final char[] iText;
+    /** The buffer used when printing to other destinations, null if not cached. */
+    private final char[] iScratch;
+
+    /**
+     * Constructor.
+     *
+     * @param formatter  the formatter to print with, not null
+     * @param unit  the cache unit, one of seconds, minutes or hours
+     */
+    DateTimePrintCache(DateTimeFormatter formatter, DurationFieldType unit) {
+        super();
+        if (unit == DurationFieldType.seconds()) {
+            iUnitMillis = DateTimeConstants.MILLIS_PER_SECOND;
+        } else if (unit == DurationFieldType.minutes()) {
+            iUnitMillis = DateTimeConstants.MILLIS_PER_MINUTE;
+        } else if (unit == DurationFieldType.hours()) {
+            iUnitMillis = DateTimeConstants.MILLIS_PER_HOUR;
+        } else {
+            throw new IllegalArgumentException("The cache unit must be seconds, minutes or hours: " + unit);
+        }
+        iFormatter = formatter;
+        iLocale = formatter.getLocale();
+        Chronology chrono = formatter.getChronology();
+        if (formatter.getZone() != null) {
+            chrono = DateTimeUtils.getChronology(chrono).withZone(formatter.getZone());
+        }
+        iChrono = chrono;
+
+        List<DateTimePrinter> elements = new ArrayList<DateTimePrinter>();
+        DateTimeFormatterBuilder.addPrinterElements(formatter.getPrinter(), elements);
+        iElements = elements.toArray(new DateTimePrinter[elements.size()]);
+        iElementParts = new int[iElements.length];
+        List<DateTimePrinter> parts = new ArrayList<DateTimePrinter>();
+        boolean inCachedPart = false;
+        for (int i = 0; i < iElements.length; i++) {
+            if (DateTimeFormatterBuilder.getPrintedUnitMillis(iElements[i]) >= iUnitMillis) {
+                if (inCachedPart == false) {
+                    parts.add(null);
+                    inCachedPart = true;
+                }
+            } else {
+                parts.add(iElements[i]);
+                inCachedPart = false;
+            }
+            iElementParts[i] = parts.size() - 1;
+        }
+        iParts = parts.toArray(new DateTimePrinter[parts.size()]);
+        iPartEnds = new int[iParts.length];
+
+        if (isCharPrinter(formatter.getPrinter(), iElements)) {
+            iText = new char[DateTimeFormatter.PRINT_RESERVE];
+            iScratch = new char[DateTimeFormatter.PRINT_RESERVE];
+        } else {
+            // Unusually long text, or printers that cannot print into an array
+            iText = null;
+            iScratch = null;
+        }
+    }
+
+    /**
+     * Checks if every element prints into a char array and the text fits
+     * the reserved space, such that the arrays never need to grow.
+     */
+    private static boolean isCharPrinter(DateTimePrinter printer, DateTimePrinter[] elements) {
+        if (DateTimeFormatter.isReservePrinter(printer) == false) {
+            return false;
+        }
+        for (int i = 0; i < elements.length; i++) {
+            if (elements[i] instanceof DateTimeCharPrinter == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the formatter that this cache prints with.
+     *
+     * @return the formatter, never null
+     */
+    public DateTimeFormatter getFormatter() {
+        return iFormatter;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Prints an instant from milliseconds since 1970-01-01T00:00:00Z into
+     * a char array, as {@link DateTimeFormatter#printTo(char[], int, long)} does.
+     *
+     * @param buf  the destination to format to, not null
+     * @param position  the index to start writing at
+     * @param instant  millis since 1970-01-01T00:00:00Z
+     * @return the number of characters written
+     * @throws IndexOutOfBoundsException if the array is too small
+     */
+    public int printTo(char[] buf, int position, long instant) {
+        Chronology chrono = iChrono;
+        if (chrono == null) {
+            chrono = ISOChronology.getInstance();
+        }
+        Locale locale = iLocale;
+        if (locale == null) {
+            locale = Locale.getDefault();
+        }
+        if (instant < iCacheStart || instant >= iCacheEnd || chrono != iCacheChrono || locale != iCacheLocale) {
+            if (fill(chrono, locale, instant) == false) {
+                return iFormatter.printTo(buf, position, instant);
+            }
+        }
+        long adjustedInstant = instant + iCacheOffset;
+        DateTimePrinter[] parts = iParts;
+        int[] partEnds = iPartEnds;
+        char[] text = iText;
+        int start = position;
+        int from = 0;
+        for (int i = 0; i < parts.length; i++) {
+            DateTimePrinter part = parts[i];
+            int to = partEnds[i];
+            if (part == null) {
+                int len = to - from;
+                System.arraycopy(text, from, buf, position, len);
+                position += len;
+            } else {
+                position = DateTimeFormatterBuilder.printToChars(
+                    part, buf, position, adjustedInstant, iCacheChronoUTC, iCacheOffset, iCacheZone, locale);
+            }
+            from = to;
+        }
+        return position - start;
+    }
+
+    /**
+     * Prints an instant from milliseconds since 1970-01-01T00:00:00Z to
+     * a StringBuffer.
+     *
+     * @param buf  the destination to format to, not null
+     * @param instant  millis since 1970-01-01T00:00:00Z
+     */
+    public void printTo(StringBuffer buf, long instant) {
+        if (iScratch == null) {
+            iFormatter.printTo(buf, instant);
+            return;
+        }
+        int len = printTo(iScratch, 0, instant);
+        buf.append(iScratch, 0, len);
+    }
+
+    /**
+     * Prints an instant from milliseconds since 1970-01-01T00:00:00Z to
+     * an Appendable, such as a Writer or StringBuilder.
+     *
+     * @param appendable  the destination to format to, not null
+     * @param instant  millis since 1970-01-01T00:00:00Z
+     * @throws IOException if an IO error occurs
+     */
+    public void printTo(Appendable appendable, long instant) throws IOException {
+        if (iScratch == null) {
+            iFormatter.printTo(appendable, instant);
+            return;
+        }
+        int len = printTo(iScratch, 0, instant);
+        DateTimeFormatter.appendBlock(appendable, iScratch, len);
+    }
+
+    /**
+     * Prints an instant from milliseconds since 1970-01-01T00:00:00Z to
+     * a new String.
+     *
+     * @param instant  millis since 1970-01-01T00:00:00Z
+     * @return the printed result
+     */
+    public String print(long instant) {
+        if (iScratch == null) {
+            return iFormatter.print(instant);
+        }
+        int len = printTo(iScratch, 0, instant);
+        return new String(iScratch, 0, len);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Prints the instant into the cache, working out the range of instants
+     * that the cached text applies to.
+     *
+     * @return false if the instant cannot be cached
+     */
+    private boolean fill(Chronology chrono, Locale locale, long instant) {
+        iCacheStart = Long.MAX_VALUE;
+        iCacheEnd = Long.MIN_VALUE;
+        if (iText == null || instant > MAX_CACHED || instant < -MAX_CACHED) {
+            return false;
+        }
+        DateTimeZone zone = chrono.getZone();
+        int offset = zone.getOffset(instant);
+        long adjustedInstant = instant + offset;
+        long unit = iUnitMillis;
+        long rem = adjustedInstant % unit;
+        if (rem < 0) {
+            rem += unit;
+        }
+        long start = instant - rem;
+        long end = start + unit;
+        if (zone.isFixed() == false) {
+            // the cached text must not span a change of offset
+            long next = zone.nextTransition(instant);
+            if (next > instant && next < end) {
+                end = next;
+            }
+            long prev = zone.previousTransition(instant);
+            if (prev < instant && prev + 1 > start) {
+                // transitions are reported as the last millisecond before the change
+                start = prev + 1;
+            }
+            if (zone.getOffset(start) != offset) {
+                start = instant;
+            }
+            if (zone.getOffset(end - 1) != offset) {
+                end = instant + 1;
+            }
+        }
+
+        Chronology chronoUTC = chrono.withUTC();
+        DateTimePrinter[] elements = iElements;
+        int[] elementParts = iElementParts;
+        int position = 0;
+        for (int i = 0; i < elements.length; i++) {
+            position = ((DateTimeCharPrinter) elements[i]).printTo(
+                iText, position, adjustedInstant, chronoUTC, offset, zone, locale);
+            iPartEnds[elementParts[i]] = position;
+        }
+        iCacheChrono = chrono;
+        iCacheLocale = locale;
+        iCacheChronoUTC = chronoUTC;
+        iCacheZone = zone;
+        iCacheOffset = offset;
+        iCacheStart = start;
+        iCacheEnd = end;
+        return true;
+    }
+
+}
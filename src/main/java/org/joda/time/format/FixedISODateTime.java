@@ -0,0 +1,379 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.format;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+
+import org.joda.time.Chronology;
+import org.joda.time.DateTimeConstants;
+import org.joda.time.DateTimeZone;
+import org.joda.time.ReadablePartial;
+import org.joda.time.chrono.ISOChronology;
+
+/**
+ * Fast path for the fixed width ISO layout yyyy-MM-dd'T'HH:mm:ss[.SSS][ZZ].
+ * <p>
+ * The generic ISO formatters are trees of printers and parsers, and parsing
+ * walks the tree saving and restoring the bucket state for every optional
+ * element. This class recognizes the common fixed width layout directly and
+ * computes the result arithmetically via the ISOChronology. Anything else,
+ * including other chronologies, years outside 0000-9999, out of range values
+ * and offsets with seconds, is handed to the generic printer and parser, which
+ * thus define the behaviour and error messages.
+ * <p>
+ * FixedISODateTime is thread-safe and immutable.
+ *
+ * @author Stephen Colebourne
+ * @since 2.0
+ */
+final class FixedISODateTime
+        implements DateTimeCharPrinter, DateTimeBytePrinter, DateTimeParser {
+
+    /** The fraction must not be present. */
+    static final int FRACTION_NONE = 0;
+    /** The fraction is optional, separated by '.' or ','. */
+    static final int FRACTION_OPTIONAL = 1;
+    /** The fraction is required, separated by '.'. */
+    static final int FRACTION_REQUIRED = 2;
+
+    /** The length of yyyy-MM-dd'T'HH:mm:ss. */
+    private static final int BASE_LENGTH = 19;
+    /** The maximum length of the fixed layout. */
+    private static final int MAX_PRINTED_LENGTH = 29;
+
+    /** The ISO UTC chronology, the only one handled directly. */
+    private static final Chronology ISO_UTC = ISOChronology.getInstanceUTC();
+    /** The first local millis of year 0000. */
+    private static final long MIN_MILLIS = ISO_UTC.getDateTimeMillis(0, 1, 1, 0);
+    /** The first local millis of year 10000. */
+    private static final long MAX_MILLIS = ISO_UTC.getDateTimeMillis(10000, 1, 1, 0);
+
+    private final DateTimePrinter iPrinter;
+    private final DateTimeParser iParser;
+    private final int iFraction;
+    private final boolean iOffsetRequired;
+
+    /**
+     * Constructor.
+     *
+     * @param printer  the generic printer, null if cannot print
+     * @param parser  the generic parser, null if cannot parse
+     * @param fraction  one of the FRACTION constants
+     * @param offsetRequired  true if the offset must be present
+     */
+    FixedISODateTime(DateTimePrinter printer, DateTimeParser parser, int fraction, boolean offsetRequired) {
+        super();
+        iPrinter = printer;
+        iParser = parser;
+        iFraction = fraction;
+        iOffsetRequired = offsetRequired;
+    }
+
+    /**
+     * Wraps a formatter with the fast path.
+     *
+     * @param formatter  the generic formatter
+     * @param fraction  one of the FRACTION constants
+     * @param offsetRequired  true if the offset must be present
+     * @return the formatter using the fast path
+     */
+    static DateTimeFormatter wrap(DateTimeFormatter formatter, int fraction, boolean offsetRequired) {
+        DateTimePrinter printer = formatter.getPrinter();
+        DateTimeParser parser = formatter.getParser();
+        FixedISODateTime fixed = new FixedISODateTime(printer, parser, fraction, offsetRequired);
+        return new DateTimeFormatter(printer == null ? null : fixed, parser == null ? null : fixed);
+    }
+
+    /**
+     * Gets the generic printer used outside the fixed layout.
+     *
+     * @return the generic printer, null if cannot print
+     */
+    DateTimePrinter getPrinter() {
+        return iPrinter;
+    }
+
+    //-----------------------------------------------------------------------
+    public int estimatePrintedLength() {
+        return iPrinter.estimatePrintedLength();
+    }
+
+    public void printTo(
+            StringBuffer buf, long instant, Chronology chrono,
+            int displayOffset, DateTimeZone displayZone, Locale locale) {
+        if (isFixed(instant, chrono, displayOffset, displayZone)) {
+            char[] chars = new char[MAX_PRINTED_LENGTH];
+            buf.append(chars, 0, printFixed(chars, 0, instant, displayOffset));
+        } else {
+            iPrinter.printTo(buf, instant, chrono, displayOffset, displayZone, locale);
+        }
+    }
+
+    public void printTo(
+            Writer out, long instant, Chronology chrono,
+            int displayOffset, DateTimeZone displayZone, Locale locale) throws IOException {
+        if (isFixed(instant, chrono, displayOffset, displayZone)) {
+            char[] chars = new char[MAX_PRINTED_LENGTH];
+            out.write(chars, 0, printFixed(chars, 0, instant, displayOffset));
+        } else {
+            iPrinter.printTo(out, instant, chrono, displayOffset, displayZone, locale);
+        }
+    }
+
+    public int printTo(
+            char[] buf, int position, long instant, Chronology chrono,
+            int displayOffset, DateTimeZone displayZone, Locale locale) {
+        if (isFixed(instant, chrono, displayOffset, displayZone)) {
+            return printFixed(buf, position, instant, displayOffset);
+        }
+        return DateTimeFormatterBuilder.printToChars(
+            iPrinter, buf, position, instant, chrono, displayOffset, displayZone, locale);
+    }
+
+    public int printTo(
+            byte[] buf, int position, long instant, Chronology chrono,
+            int displayOffset, DateTimeZone displayZone, Locale locale) {
+        if (isFixed(instant, chrono, displayOffset, displayZone)) {
+            char[] chars = new char[MAX_PRINTED_LENGTH];
+            int len = printFixed(chars, 0, instant, displayOffset);
+            for (int i = 0; i < len; i++) {
+                buf[position++] = (byte) chars[i];
+            }
+            return position;
+        }
+        return DateTimeFormatterBuilder.printToBytes(
+            iPrinter, buf, position, instant, chrono, displayOffset, displayZone, locale);
+    }
+
+    public void printTo(StringBuffer buf, ReadablePartial partial, Locale locale) {
+        iPrinter.printTo(buf, partial, locale);
+    }
+
+    public void printTo(Writer out, ReadablePartial partial, Locale locale) throws IOException {
+        iPrinter.printTo(out, partial, locale);
+    }
+
+    public int printTo(char[] buf, int position, ReadablePartial partial, Locale locale) {
+        return DateTimeFormatterBuilder.printToChars(iPrinter, buf, position, partial, locale);
+    }
+
+    public int printTo(byte[] buf, int position, ReadablePartial partial, Locale locale) {
+        return DateTimeFormatterBuilder.printToBytes(iPrinter, buf, position, partial, locale);
+    }
+
+    /**
+     * Checks whether the instant can be printed by the fast path.
+     */
+    private boolean isFixed(long instant, Chronology chrono, int displayOffset, DateTimeZone displayZone) {
+        return chrono == ISO_UTC && displayZone != null &&
+            displayOffset % DateTimeConstants.MILLIS_PER_MINUTE == 0 &&
+            instant >= MIN_MILLIS && instant < MAX_MILLIS;
+    }
+
+    private int printFixed(char[] buf, int position, long instant, int displayOffset) {
+        int year = ISO_UTC.year().get(instant);
+        int month = ISO_UTC.monthOfYear().get(instant);
+        int day = ISO_UTC.dayOfMonth().get(instant);
+        int millisOfDay = (int) (instant % DateTimeConstants.MILLIS_PER_DAY);
+        if (millisOfDay < 0) {
+            millisOfDay += DateTimeConstants.MILLIS_PER_DAY;
+        }
+
+        position = appendTwoDigits(buf, position, year / 100);
+        position = appendTwoDigits(buf, position, year % 100);
+        buf[position++] = '-';
+        position = appendTwoDigits(buf, position, month);
+        buf[position++] = '-';
+        position = appendTwoDigits(buf, position, day);
+        buf[position++] = 'T';
+        position = appendTwoDigits(buf, position, millisOfDay / DateTimeConstants.MILLIS_PER_HOUR);
+        buf[position++] = ':';
+        position = appendTwoDigits(buf, position,
+            (millisOfDay / DateTimeConstants.MILLIS_PER_MINUTE) % DateTimeConstants.MINUTES_PER_HOUR);
+        buf[position++] = ':';
+        position = appendTwoDigits(buf, position,
+            (millisOfDay / DateTimeConstants.MILLIS_PER_SECOND) % DateTimeConstants.SECONDS_PER_MINUTE);
+        if (iFraction != FRACTION_NONE) {
+            int millis = millisOfDay % DateTimeConstants.MILLIS_PER_SECOND;
+            buf[position++] = '.';
+            buf[position++] = (char) ('0' + millis / 100);
+            position = appendTwoDigits(buf, position, millis % 100);
+        }
+        if (displayOffset == 0) {
+            buf[position++] = 'Z';
+            return position;
+        }
+        if (displayOffset > 0) {
+            buf[position++] = '+';
+        } else {
+            buf[position++] = '-';
+            displayOffset = -displayOffset;
+        }
+        int offsetMinutes = displayOffset / DateTimeConstants.MILLIS_PER_MINUTE;
+        position = appendTwoDigits(buf, position, offsetMinutes / DateTimeConstants.MINUTES_PER_HOUR);
+        buf[position++] = ':';
+        return appendTwoDigits(buf, position, offsetMinutes % DateTimeConstants.MINUTES_PER_HOUR);
+    }
+
+    private static int appendTwoDigits(char[] buf, int position, int value) {
+        buf[position] = (char) ('0' + value / 10);
+        buf[position + 1] = (char) ('0' + value % 10);
+        return position + 2;
+    }
+
+    //-----------------------------------------------------------------------
+    public int estimateParsedLength() {
+        return iParser.estimateParsedLength();
+    }
+
+    public int parseInto(DateTimeParserBucket bucket, CharSequence text, int position) {
+        if (bucket.getChronology() == ISO_UTC) {
+            int newPos = parseFixed(bucket, text, position);
+            if (newPos >= 0) {
+                return newPos;
+            }
+        }
+        return iParser.parseInto(bucket, text, position);
+    }
+
+    /**
+     * Parses the fixed layout, which must extend to the end of the text.
+     *
+     * @return the new position, negative if the text does not match
+     */
+    private int parseFixed(DateTimeParserBucket bucket, CharSequence text, int position) {
+        int limit = text.length();
+        if (limit - position < BASE_LENGTH ||
+                text.charAt(position + 4) != '-' || text.charAt(position + 7) != '-' ||
+                text.charAt(position + 10) != 'T' ||
+                text.charAt(position + 13) != ':' || text.charAt(position + 16) != ':') {
+            return -1;
+        }
+        int century = parseTwoDigits(text, position);
+        int yearOfCentury = parseTwoDigits(text, position + 2);
+        int month = parseTwoDigits(text, position + 5);
+        int day = parseTwoDigits(text, position + 8);
+        int hour = parseTwoDigits(text, position + 11);
+        int minute = parseTwoDigits(text, position + 14);
+        int second = parseTwoDigits(text, position + 17);
+        if ((century | yearOfCentury | month | day | hour | minute | second) < 0) {
+            return -1;
+        }
+        int year = century * 100 + yearOfCentury;
+        if (month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month) ||
+                hour > 23 || minute > 59 || second > 59) {
+            return -1;
+        }
+        position += BASE_LENGTH;
+
+        // fraction, truncated to millis as the generic parser does
+        int millis = 0;
+        boolean fractionParsed = false;
+        if (position < limit) {
+            char c = text.charAt(position);
+            if (c == '.' || (c == ',' && iFraction == FRACTION_OPTIONAL)) {
+                if (iFraction == FRACTION_NONE) {
+                    return -1;
+                }
+                int start = ++position;
+                int end = Math.min(limit, start + 9);
+                int scale = 100;
+                while (position < end) {
+                    int digit = text.charAt(position) - '0';
+                    if (digit < 0 || digit > 9) {
+                        break;
+                    }
+                    millis += digit * scale;
+                    scale /= 10;
+                    position++;
+                }
+                if (position == start) {
+                    return -1;
+                }
+                fractionParsed = true;
+            }
+        }
+        if (!fractionParsed && iFraction == FRACTION_REQUIRED) {
+            return -1;
+        }
+
+        // offset, either 'Z' or +HH:mm
+        int offset = 0;
+        boolean offsetParsed = false;
+        if (position < limit) {
+            char c = text.charAt(position);
+            if (c == 'Z') {
+                position++;
+            } else if ((c == '+' || c == '-') && limit - position >= 6 && text.charAt(position + 3) == ':') {
+                int offsetHours = parseTwoDigits(text, position + 1);
+                int offsetMinutes = parseTwoDigits(text, position + 4);
+                if (offsetHours < 0 || offsetHours > 23 || offsetMinutes < 0 || offsetMinutes > 59) {
+                    return -1;
+                }
+                offset = offsetHours * DateTimeConstants.MILLIS_PER_HOUR +
+                    offsetMinutes * DateTimeConstants.MILLIS_PER_MINUTE;
+                if (c == '-') {
+                    offset = -offset;
+                }
+                position += 6;
+            } else {
+                return -1;
+            }
+            offsetParsed = true;
+        } else if (iOffsetRequired) {
+            return -1;
+        }
+        if (position != limit) {
+            return -1;
+        }
+
+        long localMillis = ISO_UTC.getDateTimeMillis(year, month, day, hour, minute, second, millis);
+        bucket.saveLocalMillis(localMillis, fractionParsed);
+        if (offsetParsed) {
+            bucket.setOffset(offset);
+        }
+        return position;
+    }
+
+    /**
+     * Parses two digits, returning a negative value if either is not a digit.
+     */
+    private static int parseTwoDigits(CharSequence text, int position) {
+        int tens = text.charAt(position) - '0';
+        int units = text.charAt(position + 1) - '0';
+        if (tens < 0 || tens > 9 || units < 0 || units > 9) {
+            return -1;
+        }
+        return tens * 10 + units;
+    }
+
+    private static int daysInMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return ((year & 3) == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+}
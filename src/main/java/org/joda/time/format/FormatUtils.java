@@ -328,6 +328,314 @@ public class FormatUtils {
         }
     }
 
+    /**
+     * Converts an integer to a string, prepended with a variable amount of '0'
+     * pad characters, and writes it into the given array.
+     *
+     * <p>This method is optimized for converting small values to strings,
+     * and does not allocate any objects.
+     *
+     * @param buf receives integer converted to a string
+     * @param position the index in the array to start writing at
+     * @param value value to convert to a string
+     * @param size minumum amount of digits to append
+     * @return the index after the last character written
+     * @throws IndexOutOfBoundsException if the array is too small
+     * @since 2.0
+     */
+    public static int appendPaddedInteger(char[] buf, int position, int value, int size) {
+        if (value < 0) {
+            buf[position++] = '-';
+            if (value == Integer.MIN_VALUE) {
+                return appendDigits(buf, position, -(long) value, size);
+            }
+            value = -value;
+        }
+        if (value < 10) {
+            for (; size > 1; size--) {
+                buf[position++] = '0';
+            }
+            buf[position++] = (char) (value + '0');
+        } else if (value < 100) {
+            for (; size > 2; size--) {
+                buf[position++] = '0';
+            }
+            // See appendPaddedInteger(StringBuffer, int, int) for the division trick
+            int d = ((value + 1) * 13421772) >> 27;
+            buf[position++] = (char) (d + '0');
+            buf[position++] = (char) (value - (d << 3) - (d << 1) + '0');
+        } else {
+            position = appendDigits(buf, position, value, size);
+        }
+        return position;
+    }
+
+    /**
+     * Converts an integer to a string, prepended with a variable amount of '0'
+     * pad characters, and writes it into the given array.
+     *
+     * <p>This method is optimized for converting small values to strings,
+     * and does not allocate any objects.
+     *
+     * @param buf receives integer converted to a string
+     * @param position the index in the array to start writing at
+     * @param value value to convert to a string
+     * @param size minumum amount of digits to append
+     * @return the index after the last character written
+     * @throws IndexOutOfBoundsException if the array is too small
+     * @since 2.0
+     */
+    public static int appendPaddedInteger(char[] buf, int position, long value, int size) {
+        int intValue = (int)value;
+        if (intValue == value) {
+            return appendPaddedInteger(buf, position, intValue, size);
+        }
+        if (value < 0) {
+            buf[position++] = '-';
+            if (value == Long.MIN_VALUE) {
+                for (; size > 19; size--) {
+                    buf[position++] = '0';
+                }
+                String str = "9223372036854775808";
+                str.getChars(0, 19, buf, position);
+                return position + 19;
+            }
+            value = -value;
+        }
+        return appendDigits(buf, position, value, size);
+    }
+
+    /**
+     * Converts an integer to a string, and writes it into the given array.
+     *
+     * <p>This method is optimized for converting small values to strings,
+     * and does not allocate any objects.
+     *
+     * @param buf receives integer converted to a string
+     * @param position the index in the array to start writing at
+     * @param value value to convert to a string
+     * @return the index after the last character written
+     * @throws IndexOutOfBoundsException if the array is too small
+     * @since 2.0
+     */
+    public static int appendUnpaddedInteger(char[] buf, int position, int value) {
+        return appendPaddedInteger(buf, position, value, 0);
+    }
+
+    /**
+     * Converts an integer to a string, and writes it into the given array.
+     *
+     * <p>This method is optimized for converting small values to strings,
+     * and does not allocate any objects.
+     *
+     * @param buf receives integer converted to a string
+     * @param position the index in the array to start writing at
+     * @param value value to convert to a string
+     * @return the index after the last character written
+     * @throws IndexOutOfBoundsException if the array is too small
+     * @since 2.0
+     */
+    public static int appendUnpaddedInteger(char[] buf, int position, long value) {
+        return appendPaddedInteger(buf, position, value, 0);
+    }
+
+    /**
+     * Converts an integer to a string, prepended with a variable amount of '0'
+     * pad characters, and writes it into the given array as ASCII bytes.
+     *
+     * <p>This method is optimized for converting small values to strings,
+     * and does not allocate any objects.
+     *
+     * @param buf receives integer converted to a string
+     * @param position the index in the array to start writing at
+     * @param value value to convert to a string
+     * @param size minumum amount of digits to append
+     * @return the index after the last byte written
+     * @throws IndexOutOfBoundsException if the array is too small
+     * @since 2.0
+     */
+    public static int appendPaddedInteger(byte[] buf, int position, int value, int size) {
+        if (value < 0) {
+            buf[position++] = '-';
+            if (value == Integer.MIN_VALUE) {
+                return appendDigits(buf, position, -(long) value, size);
+            }
+            value = -value;
+        }
+        if (value < 10) {
+            for (; size > 1; size--) {
+                buf[position++] = '0';
+            }
+            buf[position++] = (byte) (value + '0');
+        } else if (value < 100) {
+            for (; size > 2; size--) {
+                buf[position++] = '0';
+            }
+            // See appendPaddedInteger(StringBuffer, int, int) for the division trick
+            int d = ((value + 1) * 13421772) >> 27;
+            buf[position++] = (byte) (d + '0');
+            buf[position++] = (byte) (value - (d << 3) - (d << 1) + '0');
+        } else {
+            position = appendDigits(buf, position, value, size);
+        }
+        return position;
+    }
+
+    /**
+     * Converts an integer to a string, prepended with a variable amount of '0'
+     * pad characters, and writes it into the given array as ASCII bytes.
+     *
+     * <p>This method is optimized for converting small values to strings,
+     * and does not allocate any objects.
+     *
+     * @param buf receives integer converted to a string
+     * @param position the index in the array to start writing at
+     * @param value value to convert to a string
+     * @param size minumum amount of digits to append
+     * @return the index after the last byte written
+     * @throws IndexOutOfBoundsException if the array is too small
+     * @since 2.0
+     */
+    public static int appendPaddedInteger(byte[] buf, int position, long value, int size) {
+        int intValue = (int)value;
+        if (intValue == value) {
+            return appendPaddedInteger(buf, position, intValue, size);
+        }
+        if (value < 0) {
+            buf[position++] = '-';
+            if (value == Long.MIN_VALUE) {
+                for (; size > 19; size--) {
+                    buf[position++] = '0';
+                }
+                return appendAscii(buf, position, "9223372036854775808");
+            }
+            value = -value;
+        }
+        return appendDigits(buf, position, value, size);
+    }
+
+    /**
+     * Converts an integer to a string, and writes it into the given array
+     * as ASCII bytes.
+     *
+     * @param buf receives integer converted to a string
+     * @param position the index in the array to start writing at
+     * @param value value to convert to a string
+     * @return the index after the last byte written
+     * @throws IndexOutOfBoundsException if the array is too small
+     * @since 2.0
+     */
+    public static int appendUnpaddedInteger(byte[] buf, int position, int value) {
+        return appendPaddedInteger(buf, position, value, 0);
+    }
+
+    /**
+     * Converts an integer to a string, and writes it into the given array
+     * as ASCII bytes.
+     *
+     * @param buf receives integer converted to a string
+     * @param position the index in the array to start writing at
+     * @param value value to convert to a string
+     * @return the index after the last byte written
+     * @throws IndexOutOfBoundsException if the array is too small
+     * @since 2.0
+     */
+    public static int appendUnpaddedInteger(byte[] buf, int position, long value) {
+        return appendPaddedInteger(buf, position, value, 0);
+    }
+
+    /**
+     * Writes a string known to be ASCII into the given array.
+     */
+    static int appendAscii(byte[] buf, int position, String str) {
+        int len = str.length();
+        for (int i = 0; i < len; i++) {
+            buf[position++] = (byte) str.charAt(i);
+        }
+        return position;
+    }
+
+    /**
+     * Writes a string into the given array encoded as UTF-8, without
+     * creating a byte array.
+     */
+    static int appendUtf8(byte[] buf, int position, String str) {
+        int len = str.length();
+        for (int i = 0; i < len; i++) {
+            char c = str.charAt(i);
+            if (c < 0x80) {
+                buf[position++] = (byte) c;
+            } else if (c < 0x800) {
+                buf[position++] = (byte) (0xc0 | (c >> 6));
+                buf[position++] = (byte) (0x80 | (c & 0x3f));
+            } else if (Character.isHighSurrogate(c) && i + 1 < len
+                    && Character.isLowSurrogate(str.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, str.charAt(++i));
+                buf[position++] = (byte) (0xf0 | (cp >> 18));
+                buf[position++] = (byte) (0x80 | ((cp >> 12) & 0x3f));
+                buf[position++] = (byte) (0x80 | ((cp >> 6) & 0x3f));
+                buf[position++] = (byte) (0x80 | (cp & 0x3f));
+            } else if (Character.isHighSurrogate(c) || Character.isLowSurrogate(c)) {
+                // Unpaired surrogate, replaced as the JDK encoder does
+                buf[position++] = '?';
+            } else {
+                buf[position++] = (byte) (0xe0 | (c >> 12));
+                buf[position++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                buf[position++] = (byte) (0x80 | (c & 0x3f));
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Writes the digits of a positive value, padded with zeros, without
+     * creating a string.
+     */
+    private static int appendDigits(char[] buf, int position, long value, int size) {
+        int digits = countDigits(value);
+        for (; size > digits; size--) {
+            buf[position++] = '0';
+        }
+        int end = position + digits;
+        for (int i = end - 1; i >= position; i--) {
+            long d = value / 10;
+            buf[i] = (char) (value - ((d << 3) + (d << 1)) + '0');
+            value = d;
+        }
+        return end;
+    }
+
+    /**
+     * Writes the digits of a positive value, padded with zeros, as ASCII bytes.
+     */
+    private static int appendDigits(byte[] buf, int position, long value, int size) {
+        int digits = countDigits(value);
+        for (; size > digits; size--) {
+            buf[position++] = '0';
+        }
+        int end = position + digits;
+        for (int i = end - 1; i >= position; i--) {
+            long d = value / 10;
+            buf[i] = (byte) (value - ((d << 3) + (d << 1)) + '0');
+            value = d;
+        }
+        return end;
+    }
+
+    /**
+     * Calculates the exact number of decimal digits for a positive value.
+     */
+    static int countDigits(long value) {
+        // compare rather than divide, stopping before 10^19 would overflow
+        int digits = 1;
+        long limit = 10;
+        while (value >= limit && digits < 19) {
+            limit *= 10;
+            digits++;
+        }
+        return digits;
+    }
+
     /**
      * Calculates the number of decimal digits for the given value,
      * including the sign.
@@ -0,0 +1,259 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.format;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A bounded cache of formatters, as used by {@link DateTimeFormat}.
+ * <p>
+ * Lookups do not lock, so many threads can obtain formatters concurrently.
+ * Once the cache holds the maximum number of formatters, adding another
+ * evicts an arbitrary one, thus user supplied patterns cannot make the cache
+ * grow without limit. Evicted formatters remain valid, they are simply
+ * created again when next requested.
+ * <p>
+ * The number of hits and misses is recorded, allowing the maximum size to
+ * be tuned. The counts are striped by thread, so recording them does not
+ * cause contention either.
+ * <p>
+ * FormatterCache is thread-safe.
+ *
+ * @author Stephen Colebourne
+ * @since 2.0
+ */
+public final class FormatterCache<K, V> {
+
+    /** The number of counter stripes, a power of two. */
+    private static final int STRIPES = 16;
+    /** The spacing of the stripes, keeping each on its own cache line. */
+    private static final int STRIPE_SPACING = 8;
+    /** The offset of the hit count in a stripe. */
+    private static final int HITS = 0;
+    /** The offset of the miss count in a stripe. */
+    private static final int MISSES = 1;
+    /** The offset of the eviction count in a stripe. */
+    private static final int EVICTIONS = 2;
+
+    /** The name of the cache. */
+    private final String iName;
+    /** The cached values. */
+    private final ConcurrentHashMap<K, V> iMap;
+    /** The counts, striped by thread. */
+    private final AtomicLongArray iCounts = new AtomicLongArray(STRIPES * STRIPE_SPACING);
+    /** The maximum size. */
+    private volatile int iMaxSize;
+
+    /**
+     * Reads the maximum size from a system property.
+     *
+     * @param property  the name of the system property
+     * @param defaultSize  the size to use if the property is not set or invalid
+     * @return the size
+     */
+    static int getSizeProperty(String property, int defaultSize) {
+        try {
+            String size = System.getProperty(property);
+            if (size != null) {
+                return Math.max(0, Integer.parseInt(size.trim()));
+            }
+        } catch (SecurityException ex) {
+            // ignored
+        } catch (NumberFormatException ex) {
+            // ignored
+        }
+        return defaultSize;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param name  the name of the cache
+     * @param maxSize  the maximum size, zero to disable caching
+     */
+    FormatterCache(String name, int maxSize) {
+        super();
+        iName = name;
+        iMaxSize = Math.max(0, maxSize);
+        iMap = new ConcurrentHashMap<K, V>(Math.min(Math.max(16, maxSize), 256));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets a cached value, recording a hit or a miss.
+     *
+     * @param key  the key, not null
+     * @return the value, null if not cached
+     */
+    V get(K key) {
+        V value = iMap.get(key);
+        increment(value == null ? MISSES : HITS);
+        return value;
+    }
+
+    /**
+     * Adds a value to the cache, unless another thread added one first.
+     *
+     * @param key  the key, not null
+     * @param value  the value, not null
+     * @return the value now in the cache, or the value if caching is disabled
+     */
+    V put(K key, V value) {
+        int maxSize = iMaxSize;
+        if (maxSize == 0) {
+            return value;
+        }
+        V existing = iMap.putIfAbsent(key, value);
+        if (existing != null) {
+            return existing;
+        }
+        if (iMap.size() > maxSize) {
+            evict(key, maxSize);
+        }
+        return value;
+    }
+
+    /**
+     * Evicts arbitrary entries until the cache is within the maximum size.
+     *
+     * @param keep  the key to keep, null to evict any
+     * @param maxSize  the maximum size
+     */
+    private void evict(K keep, int maxSize) {
+        Iterator<K> it = iMap.keySet().iterator();
+        while (iMap.size() > maxSize && it.hasNext()) {
+            K key = it.next();
+            if (key.equals(keep) == false && iMap.remove(key) != null) {
+                increment(EVICTIONS);
+            }
+        }
+    }
+
+    private void increment(int counter) {
+        int stripe = (int) Thread.currentThread().getId() & (STRIPES - 1);
+        iCounts.incrementAndGet(stripe * STRIPE_SPACING + counter);
+    }
+
+    private long sum(int counter) {
+        long total = 0;
+        for (int i = 0; i < STRIPES; i++) {
+            total += iCounts.get(i * STRIPE_SPACING + counter);
+        }
+        return total;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the name of the cache.
+     *
+     * @return the name, not null
+     */
+    public String getName() {
+        return iName;
+    }
+
+    /**
+     * Gets the number of formatters in the cache.
+     *
+     * @return the size
+     */
+    public int size() {
+        return iMap.size();
+    }
+
+    /**
+     * Gets the maximum number of formatters held in the cache.
+     *
+     * @return the maximum size, zero if caching is disabled
+     */
+    public int getMaxSize() {
+        return iMaxSize;
+    }
+
+    /**
+     * Sets the maximum number of formatters held in the cache, evicting
+     * formatters if the cache is larger.
+     *
+     * @param maxSize  the maximum size, zero to disable caching
+     * @throws IllegalArgumentException if the size is negative
+     */
+    public void setMaxSize(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Maximum size must not be negative: " + maxSize);
+        }
+        iMaxSize = maxSize;
+        if (iMap.size() > maxSize) {
+            evict(null, maxSize);
+        }
+    }
+
+    /**
+     * Gets the number of lookups that found a cached formatter.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return sum(HITS);
+    }
+
+    /**
+     * Gets the number of lookups that did not find a cached formatter.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return sum(MISSES);
+    }
+
+    /**
+     * Gets the number of formatters evicted to keep within the maximum size.
+     *
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return sum(EVICTIONS);
+    }
+
+    /**
+     * Removes all formatters from the cache, leaving the counts unchanged.
+     */
+    public void clear() {
+        iMap.clear();
+    }
+
+    /**
+     * Resets the hit, miss and eviction counts to zero.
+     */
+    public void resetStatistics() {
+        for (int i = 0; i < iCounts.length(); i++) {
+            iCounts.set(i, 0);
+        }
+    }
+
+    /**
+     * Outputs the name, size and counts of the cache.
+     *
+     * @return a summary of the cache, not null
+     */
+    public String toString() {
+        return "FormatterCache[" + iName + ",size=" + size() + ",maxSize=" + iMaxSize +
+            ",hits=" + getHitCount() + ",misses=" + getMissCount() +
+            ",evictions=" + getEvictionCount() + "]";
+    }
+
+}
@@ -771,9 +771,11 @@ public class ISODateTimeFormat {
                 .append(timeElementParser())
                 .appendOptional(offsetElement().getParser())
                 .toParser();
-            dtp = new DateTimeFormatterBuilder()
-                .append(null, new DateTimeParser[] {time, dateOptionalTimeParser().getParser()})
-                .toFormatter();
+            // Fast path for the common fixed width layout
+            dtp = FixedISODateTime.wrap(new DateTimeFormatterBuilder()
+                    .append(null, new DateTimeParser[] {time, dateOptionalTimeParser().getParser()})
+                    .toFormatter(),
+                FixedISODateTime.FRACTION_OPTIONAL, false);
         }
         return dtp;
     }
@@ -934,10 +936,12 @@ public class ISODateTimeFormat {
      */
     public static DateTimeFormatter dateTime() {
         if (dt == null) {
-            dt = new DateTimeFormatterBuilder()
-                .append(date())
-                .append(tTime())
-                .toFormatter();
+            // Fast path for the common fixed width layout
+            dt = FixedISODateTime.wrap(new DateTimeFormatterBuilder()
+                    .append(date())
+                    .append(tTime())
+                    .toFormatter(),
+                FixedISODateTime.FRACTION_REQUIRED, true);
         }
         return dt;
     }
@@ -951,10 +955,12 @@ public class ISODateTimeFormat {
      */
     public static DateTimeFormatter dateTimeNoMillis() {
         if (dtx == null) {
-            dtx = new DateTimeFormatterBuilder()
-                .append(date())
-                .append(tTimeNoMillis())
-                .toFormatter();
+            // Fast path for the common fixed width layout
+            dtx = FixedISODateTime.wrap(new DateTimeFormatterBuilder()
+                    .append(date())
+                    .append(tTimeNoMillis())
+                    .toFormatter(),
+                FixedISODateTime.FRACTION_NONE, true);
         }
         return dtx;
     }
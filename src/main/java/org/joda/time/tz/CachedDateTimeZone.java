@@ -15,13 +15,22 @@
  */
 package org.joda.time.tz;
 
+import java.util.Arrays;
+
+import org.joda.time.DateTimeConstants;
 import org.joda.time.DateTimeZone;
+import org.joda.time.chrono.ISOChronology;
 
 /**
  * Improves the performance of requesting time zone offsets and name keys by
  * caching the results. Time zones that have simple rules or are fixed should
  * not be cached, as it is unlikely to improve performance.
  * <p>
+ * A zone that is used heavily may also be compiled for a range of years,
+ * see {@link #forZone(DateTimeZone, int, int)}. Within that range the offsets
+ * and the offsets from local instants are read from arrays calculated up
+ * front, without allocating or writing to a cache.
+ * <p>
  * CachedDateTimeZone is thread-safe and immutable.
  * 
  * @author Brian S O'Neill
@@ -71,6 +80,39 @@ public class CachedDateTimeZone extends DateTimeZone {
         return new CachedDateTimeZone(zone);
     }
 
+    /**
+     * Returns a new CachedDateTimeZone with the transitions compiled for a range
+     * of years.
+     * <p>
+     * The offsets and name keys of the zone between the start of the first year
+     * and the end of the last year, in UTC, are calculated immediately and held in
+     * arrays, as are the offsets from local instants, resolving gaps and overlaps
+     * as {@link #getOffsetFromLocal(long)} does. Looking them up within the range
+     * reads those arrays, and never allocates or writes, while instants outside
+     * the range use the cache.
+     * <p>
+     * If the zone is already a CachedDateTimeZone, the zone it wraps is compiled.
+     *
+     * @param zone  the zone to compile, not null
+     * @param startYear  the first ISO year to compile
+     * @param endYear  the last ISO year to compile, inclusive
+     * @return the compiled zone, not null
+     * @throws IllegalArgumentException if the end year is before the start year
+     * @since 2.0
+     */
+    public static CachedDateTimeZone forZone(DateTimeZone zone, int startYear, int endYear) {
+        if (endYear < startYear) {
+            throw new IllegalArgumentException("End year must not be before start year");
+        }
+        if (zone instanceof CachedDateTimeZone) {
+            zone = ((CachedDateTimeZone) zone).iZone;
+        }
+        ISOChronology chrono = ISOChronology.getInstanceUTC();
+        long start = chrono.year().set(0, startYear);
+        long end = chrono.year().set(0, endYear + 1);
+        return new CachedDateTimeZone(zone, new Transitions(zone, start, end));
+    }
+
     /*
      * Caching is performed by breaking timeline down into periods of 2^32
      * milliseconds, or about 49.7 days. A year has about 7.3 periods, usually
@@ -83,10 +125,17 @@ public class CachedDateTimeZone extends DateTimeZone {
 
     private transient Info[] iInfoCache;
 
+    private final transient Transitions iTransitions;
+
     private CachedDateTimeZone(DateTimeZone zone) {
+        this(zone, null);
+    }
+
+    private CachedDateTimeZone(DateTimeZone zone, Transitions transitions) {
         super(zone.getID());
         iZone = zone;
         iInfoCache = new Info[cInfoCacheMask + 1];
+        iTransitions = transitions;
     }
 
     private void readObject(java.io.ObjectInputStream in)
@@ -103,18 +152,72 @@ public class CachedDateTimeZone extends DateTimeZone {
         return iZone;
     }
 
+    /**
+     * Checks whether the transitions of this zone have been compiled for a range
+     * of years.
+     * 
+     * @return true if compiled
+     * @since 2.0
+     */
+    public boolean isCompiled() {
+        return iTransitions != null;
+    }
+
     public String getNameKey(long instant) {
+        Transitions transitions = iTransitions;
+        if (transitions != null) {
+            int index = transitions.iIndex.indexOf(instant);
+            if (index >= 0) {
+                return transitions.iNameKeys[index];
+            }
+        }
         return getInfo(instant).getNameKey(instant);
     }
 
     public int getOffset(long instant) {
+        Transitions transitions = iTransitions;
+        if (transitions != null) {
+            int index = transitions.iIndex.indexOf(instant);
+            if (index >= 0) {
+                return transitions.iOffsets[index];
+            }
+        }
         return getInfo(instant).getOffset(instant);
     }
 
     public int getStandardOffset(long instant) {
+        Transitions transitions = iTransitions;
+        if (transitions != null) {
+            int index = transitions.iIndex.indexOf(instant);
+            if (index >= 0) {
+                return transitions.iStandardOffsets[index];
+            }
+        }
         return getInfo(instant).getStandardOffset(instant);
     }
 
+    public int getOffsetFromLocal(long instantLocal) {
+        Transitions transitions = iTransitions;
+        if (transitions != null) {
+            int index = transitions.iLocalIndex.indexOf(instantLocal);
+            if (index >= 0) {
+                return transitions.iLocalOffsets[index];
+            }
+        }
+        return super.getOffsetFromLocal(instantLocal);
+    }
+
+    public boolean isStandardOffset(long instant) {
+        Transitions transitions = iTransitions;
+        if (transitions != null) {
+            int index = transitions.iIndex.indexOf(instant);
+            if (index >= 0) {
+                return transitions.iOffsets[index] == transitions.iStandardOffsets[index];
+            }
+        }
+        return super.isStandardOffset(instant);
+    }
+
     public boolean isFixed() {
         return iZone.isFixed();
     }
@@ -174,6 +277,168 @@ public class CachedDateTimeZone extends DateTimeZone {
         return info;
     }
 
+    /**
+     * The transitions of a zone over a range, held in parallel arrays.
+     * The entry at each index applies from its transition until the next.
+     * <p>
+     * The offsets from local instants are held the same way, keyed by local
+     * millis. Those local ranges are found by evaluating the standard algorithm
+     * either side of every point where its result may change, namely each
+     * transition shifted by the nearby offsets, keeping only the points where
+     * the result does change. Gaps and overlaps are thereby resolved exactly
+     * as the zone itself resolves them.
+     */
+    private final static class Transitions {
+        /** The start of the range, then each transition within it. */
+        final Index iIndex;
+        /** The offset from each transition. */
+        final int[] iOffsets;
+        /** The standard offset from each transition. */
+        final int[] iStandardOffsets;
+        /** The name key from each transition. */
+        final String[] iNameKeys;
+        /** The start of each range of local millis with the same offset. */
+        final Index iLocalIndex;
+        /** The offset from each local start. */
+        final int[] iLocalOffsets;
+
+        Transitions(DateTimeZone zone, long start, long end) {
+            long[] transitions = new long[64];
+            int count = 0;
+            long next = start;
+            while (true) {
+                if (count + 2 > transitions.length) {
+                    transitions = copy(transitions, count * 2);
+                }
+                transitions[count++] = next;
+                // some zones only report the new name key from just after the transition
+                if (next + 1 < end) {
+                    String nameKey = zone.getNameKey(next);
+                    String nameKeyAfter = zone.getNameKey(next + 1);
+                    if (nameKey == null ? nameKeyAfter != null : nameKey.equals(nameKeyAfter) == false) {
+                        transitions[count++] = next + 1;
+                    }
+                }
+                long prev = next;
+                next = zone.nextTransition(prev);
+                if (next == prev || next >= end) {
+                    break;
+                }
+            }
+            transitions = copy(transitions, count);
+            iOffsets = new int[count];
+            iStandardOffsets = new int[count];
+            iNameKeys = new String[count];
+            for (int i = 0; i < count; i++) {
+                iOffsets[i] = zone.getOffset(transitions[i]);
+                iStandardOffsets[i] = zone.getStandardOffset(transitions[i]);
+                iNameKeys[i] = zone.getNameKey(transitions[i]);
+            }
+            iIndex = new Index(transitions, start, end);
+
+            // keep a day clear of each end, further than any offset
+            long localStart = Math.min(start + DateTimeConstants.MILLIS_PER_DAY, end);
+            long localEnd = Math.max(end - DateTimeConstants.MILLIS_PER_DAY, localStart);
+            long[] points = new long[count * 25 + 1];
+            int pointCount = 0;
+            points[pointCount++] = localStart;
+            for (int i = 1; i < count; i++) {
+                // the result may change where the local millis, or the local millis
+                // less an offset near the transition, cross the transition
+                int[] shifts = new int[] {
+                    0, iOffsets[Math.max(i - 2, 0)], iOffsets[i - 1], iOffsets[i], iOffsets[Math.min(i + 1, count - 1)]};
+                for (int j = 0; j < shifts.length; j++) {
+                    for (int k = -2; k <= 2; k++) {
+                        long point = transitions[i] + shifts[j] + k;
+                        if (point > localStart && point < localEnd) {
+                            points[pointCount++] = point;
+                        }
+                    }
+                }
+            }
+            Arrays.sort(points, 0, pointCount);
+            long[] localStarts = new long[pointCount];
+            int[] localOffsets = new int[pointCount];
+            int localCount = 0;
+            for (int i = 0; i < pointCount; i++) {
+                int offset = zone.getOffsetFromLocal(points[i]);
+                if (localCount == 0 || offset != localOffsets[localCount - 1]) {
+                    localStarts[localCount] = points[i];
+                    localOffsets[localCount++] = offset;
+                }
+            }
+            iLocalOffsets = new int[localCount];
+            System.arraycopy(localOffsets, 0, iLocalOffsets, 0, localCount);
+            iLocalIndex = new Index(copy(localStarts, localCount), localStart, localEnd);
+        }
+
+        private static long[] copy(long[] array, int length) {
+            long[] copy = new long[length];
+            System.arraycopy(array, 0, copy, 0, Math.min(array.length, length));
+            return copy;
+        }
+    }
+
+    /**
+     * Sorted starts of the entries within a range, each entry applying until
+     * the next starts.
+     * <p>
+     * To avoid searching the starts, the range is split into the same periods
+     * of 2^32 milliseconds as the cache, each recording the entry in effect at
+     * the start of the period. A lookup then steps forward past the few starts
+     * within the period, if any.
+     */
+    private final static class Index {
+        /** The start of the range, inclusive. */
+        final long iStart;
+        /** The end of the range, exclusive. */
+        final long iEnd;
+        /** The start of the range, then the start of each later entry. */
+        final long[] iStarts;
+        /** The first period of the range. */
+        final int iFirstPeriod;
+        /** The index in effect at the start of each period. */
+        final int[] iPeriodIndex;
+
+        Index(long[] starts, long start, long end) {
+            iStart = start;
+            iEnd = end;
+            iStarts = starts;
+            iFirstPeriod = (int) (start >> 32);
+            if (start >= end) {
+                iPeriodIndex = new int[0];
+                return;
+            }
+            iPeriodIndex = new int[(int) ((end - 1) >> 32) - iFirstPeriod + 1];
+            int index = 0;
+            for (int i = 0; i < iPeriodIndex.length; i++) {
+                long periodStart = Math.max(start, (long) (iFirstPeriod + i) << 32);
+                while (index + 1 < starts.length && starts[index + 1] <= periodStart) {
+                    index++;
+                }
+                iPeriodIndex[i] = index;
+            }
+        }
+
+        /**
+         * Finds the index of the entry in effect at an instant.
+         * 
+         * @param millis  the instant
+         * @return the index, -1 if outside the range
+         */
+        int indexOf(long millis) {
+            if (millis < iStart || millis >= iEnd) {
+                return -1;
+            }
+            int index = iPeriodIndex[(int) (millis >> 32) - iFirstPeriod];
+            long[] starts = iStarts;
+            while (index + 1 < starts.length && starts[index + 1] <= millis) {
+                index++;
+            }
+            return index;
+        }
+    }
+
     private final static class Info {
         // For first Info in chain, iPeriodStart's lower 32 bits are clear.
         public final long iPeriodStart;
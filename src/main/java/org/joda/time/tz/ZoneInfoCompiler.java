@@ -15,7 +15,9 @@
  */
 package org.joda.time.tz;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
@@ -50,6 +52,9 @@ import org.joda.time.format.ISODateTimeFormat;
  * compiled data files. {@link ZoneInfoProvider} loads the encoded files and
  * converts them back into {@link DateTimeZone} objects.
  * <p>
+ * All the zones may also be written to a single database file, which
+ * {@link ZoneInfoDatabaseProvider} maps into memory.
+ * <p>
  * Although this tool is similar to zic, the binary formats are not
  * compatible. The latest Olson database files may be obtained
  * <a href="http://www.twinsun.com/tz/tz-link.htm">here</a>.
@@ -87,6 +92,7 @@ public class ZoneInfoCompiler {
      * where possible options include:
      *   -src &lt;directory&gt;    Specify where to read source files
      *   -dst &lt;directory&gt;    Specify where to write generated files
+     *   -db &lt;file&gt;          Specify a single database file to write
      *   -verbose            Output verbosely (default false)
      * </pre>
      */
@@ -98,6 +104,7 @@ public class ZoneInfoCompiler {
 
         File inputDir = null;
         File outputDir = null;
+        File databaseFile = null;
         boolean verbose = false;
 
         int i;
@@ -107,6 +114,8 @@ public class ZoneInfoCompiler {
                     inputDir = new File(args[++i]);
                 } else if ("-dst".equals(args[i])) {
                     outputDir = new File(args[++i]);
+                } else if ("-db".equals(args[i])) {
+                    databaseFile = new File(args[++i]);
                 } else if ("-verbose".equals(args[i])) {
                     verbose = true;
                 } else if ("-?".equals(args[i])) {
@@ -133,7 +142,7 @@ public class ZoneInfoCompiler {
 
         cVerbose.set(verbose);
         ZoneInfoCompiler zic = new ZoneInfoCompiler();
-        zic.compile(outputDir, sources);
+        zic.compile(outputDir, databaseFile, sources);
     }
 
     private static void printUsage() {
@@ -141,6 +150,7 @@ public class ZoneInfoCompiler {
         System.out.println("where possible options include:");
         System.out.println("  -src <directory>    Specify where to read source files");
         System.out.println("  -dst <directory>    Specify where to write generated files");
+        System.out.println("  -db <file>          Specify a single database file to write");
         System.out.println("  -verbose            Output verbosely (default false)");
     }
 
@@ -351,6 +361,68 @@ public class ZoneInfoCompiler {
     // List String pairs to link.
     private List<String> iLinks;
 
+    /**
+     * Writes all the zones to a single database file, as read by
+     * {@link ZoneInfoDatabaseProvider}.
+     * <p>
+     * The file holds a header, an index of the zones, an index of the ids,
+     * then the zones in the same encoding as the individual data files:
+     * <pre>
+     * int     magic number
+     * int     version
+     * int     zone count
+     * zones:  UTF zone id, int data offset, int data length
+     * int     id count
+     * ids:    UTF id, int zone index
+     * bytes   zone data, offsets being relative to its start
+     * </pre>
+     *
+     * @param dout  the output to write to
+     * @param zimap  maps string ids to DateTimeZone objects
+     * @param data  maps zone ids to encoded zones
+     */
+    static void writeZoneInfoDatabase(DataOutputStream dout, Map<String, DateTimeZone> zimap,
+            Map<String, byte[]> data) throws IOException {
+        Map<String, Integer> zoneIndex = new HashMap<String, Integer>();
+        List<String> zones = new ArrayList<String>();
+        for (DateTimeZone zone : zimap.values()) {
+            String id = zone.getID();
+            if (!zoneIndex.containsKey(id) && data.containsKey(id)) {
+                zoneIndex.put(id, Integer.valueOf(zones.size()));
+                zones.add(id);
+            }
+        }
+
+        dout.writeInt(ZoneInfoDatabaseProvider.MAGIC);
+        dout.writeInt(ZoneInfoDatabaseProvider.VERSION);
+        dout.writeInt(zones.size());
+        int offset = 0;
+        for (String id : zones) {
+            int length = data.get(id).length;
+            dout.writeUTF(id);
+            dout.writeInt(offset);
+            dout.writeInt(length);
+            offset += length;
+        }
+        int count = 0;
+        for (Entry<String, DateTimeZone> entry : zimap.entrySet()) {
+            if (zoneIndex.containsKey(entry.getValue().getID())) {
+                count++;
+            }
+        }
+        dout.writeInt(count);
+        for (Entry<String, DateTimeZone> entry : zimap.entrySet()) {
+            Integer index = zoneIndex.get(entry.getValue().getID());
+            if (index != null) {
+                dout.writeUTF(entry.getKey());
+                dout.writeInt(index.intValue());
+            }
+        }
+        for (String id : zones) {
+            dout.write(data.get(id));
+        }
+    }
+
     public ZoneInfoCompiler() {
         iRuleSets = new HashMap<String, RuleSet>();
         iZones = new ArrayList<Zone>();
@@ -364,6 +436,18 @@ public class ZoneInfoCompiler {
      * @param sources optional list of source files to parse
      */
     public Map<String, DateTimeZone> compile(File outputDir, File[] sources) throws IOException {
+        return compile(outputDir, null, sources);
+    }
+
+    /**
+     * Returns a map of ids to DateTimeZones.
+     *
+     * @param outputDir optional directory to write compiled data files to
+     * @param databaseFile optional file to write a single database of all zones to
+     * @param sources optional list of source files to parse
+     * @since 2.0
+     */
+    public Map<String, DateTimeZone> compile(File outputDir, File databaseFile, File[] sources) throws IOException {
         if (sources != null) {
             for (int i=0; i<sources.length; i++) {
                 BufferedReader in = new BufferedReader(new FileReader(sources[i]));
@@ -382,6 +466,7 @@ public class ZoneInfoCompiler {
         }
 
         Map<String, DateTimeZone> map = new TreeMap<String, DateTimeZone>();
+        Map<String, byte[]> data = new HashMap<String, byte[]>();
 
         System.out.println("Writing zoneinfo files");
         for (int i=0; i<iZones.size(); i++) {
@@ -392,6 +477,11 @@ public class ZoneInfoCompiler {
             DateTimeZone tz = original;
             if (test(tz.getID(), tz)) {
                 map.put(tz.getID(), tz);
+                if (databaseFile != null) {
+                    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                    builder.writeTo(zone.iName, bytes);
+                    data.put(tz.getID(), bytes.toByteArray());
+                }
                 if (outputDir != null) {
                     if (ZoneInfoCompiler.verbose()) {
                         System.out.println("Writing " + tz.getID());
@@ -449,6 +539,21 @@ public class ZoneInfoCompiler {
             dout.close();
         }
 
+        if (databaseFile != null) {
+            System.out.println("Writing " + databaseFile.getName());
+            if (databaseFile.getParentFile() != null && !databaseFile.getParentFile().exists()) {
+                databaseFile.getParentFile().mkdirs();
+            }
+
+            OutputStream out = new FileOutputStream(databaseFile);
+            DataOutputStream dout = new DataOutputStream(new BufferedOutputStream(out));
+            // Sort and filter out any duplicates that match case.
+            Map<String, DateTimeZone> zimap = new TreeMap<String, DateTimeZone>(String.CASE_INSENSITIVE_ORDER);
+            zimap.putAll(map);
+            writeZoneInfoDatabase(dout, zimap, data);
+            dout.close();
+        }
+
         return map;
     }
 
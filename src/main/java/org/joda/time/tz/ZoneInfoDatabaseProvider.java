@@ -0,0 +1,265 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.tz;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.joda.time.DateTimeZone;
+
+/**
+ * ZoneInfoDatabaseProvider loads zones from a single database file as
+ * generated by {@link ZoneInfoCompiler} using the <code>-db</code> option.
+ * <p>
+ * The file is mapped into memory when the provider is created, and only the
+ * index of ids is read at that point. Each zone is decoded from the mapped
+ * file the first time it is requested and then held for the life of the
+ * provider, so zones are never read again, even under memory pressure.
+ * <p>
+ * To use this provider by default, set the system property
+ * <code>org.joda.time.DateTimeZone.Provider</code> to the name of this class
+ * and the system property <code>org.joda.time.tz.ZoneInfoDatabaseProvider.File</code>
+ * to the location of the database file.
+ * <p>
+ * ZoneInfoDatabaseProvider is thread-safe and publicly immutable.
+ *
+ * @author Stephen Colebourne
+ * @since 2.0
+ */
+public class ZoneInfoDatabaseProvider implements Provider {
+
+    /** The magic number at the start of the file, "JZDB". */
+    static final int MAGIC = 0x4A5A4442;
+    /** The version of the file format. */
+    static final int VERSION = 1;
+    /** The system property holding the file used by the no-args constructor. */
+    private static final String FILE_PROPERTY = "org.joda.time.tz.ZoneInfoDatabaseProvider.File";
+
+    /** The mapped file. */
+    private final ByteBuffer iBuffer;
+    /** The ids of the zones. */
+    private final String[] iZoneIds;
+    /** The position of each zone in the buffer. */
+    private final int[] iZoneOffsets;
+    /** The length of each zone in the buffer. */
+    private final int[] iZoneLengths;
+    /** The zones decoded so far. */
+    private final AtomicReferenceArray<DateTimeZone> iZones;
+    /** Maps ids, including aliases, to the index of the zone. */
+    private final Map<String, Integer> iIdMap;
+
+    /**
+     * Creates a provider for the database file set by the system property
+     * <code>org.joda.time.tz.ZoneInfoDatabaseProvider.File</code>.
+     *
+     * @throws IOException if the property is not set or the file cannot be read
+     */
+    public ZoneInfoDatabaseProvider() throws IOException {
+        this(getFileProperty());
+    }
+
+    /**
+     * Creates a provider for a database file.
+     *
+     * @param file  the database file, not null
+     * @throws IOException if the file cannot be read
+     */
+    public ZoneInfoDatabaseProvider(File file) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("No database file provided");
+        }
+        if (!file.isFile()) {
+            throw new IOException("Database file doesn't exist: " + file);
+        }
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        MappedByteBuffer buffer;
+        try {
+            FileChannel channel = raf.getChannel();
+            // the mapping remains valid once the file is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } finally {
+            raf.close();
+        }
+        iBuffer = buffer;
+
+        DataInputStream in = new DataInputStream(new BufferInputStream(buffer.duplicate()));
+        try {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a zone info database: " + file);
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported zone info database version " + version + ": " + file);
+            }
+            int zoneCount = in.readInt();
+            iZoneIds = new String[zoneCount];
+            iZoneOffsets = new int[zoneCount];
+            iZoneLengths = new int[zoneCount];
+            for (int i = 0; i < zoneCount; i++) {
+                iZoneIds[i] = in.readUTF().intern();
+                iZoneOffsets[i] = in.readInt();
+                iZoneLengths[i] = in.readInt();
+            }
+            int idCount = in.readInt();
+            iIdMap = new HashMap<String, Integer>(idCount * 2);
+            for (int i = 0; i < idCount; i++) {
+                String id = in.readUTF().intern();
+                int index = in.readInt();
+                if (index < 0 || index >= zoneCount) {
+                    throw new IOException("Corrupt zone info database: " + file);
+                }
+                iIdMap.put(id, Integer.valueOf(index));
+            }
+            int dataStart = buffer.capacity() - in.available();
+            for (int i = 0; i < zoneCount; i++) {
+                iZoneOffsets[i] += dataStart;
+                if (iZoneOffsets[i] < dataStart || iZoneLengths[i] < 0 ||
+                        iZoneOffsets[i] + iZoneLengths[i] > buffer.capacity()) {
+                    throw new IOException("Corrupt zone info database: " + file);
+                }
+            }
+        } finally {
+            in.close();
+        }
+        iZones = new AtomicReferenceArray<DateTimeZone>(iZoneIds.length);
+    }
+
+    private static File getFileProperty() throws IOException {
+        String file = null;
+        try {
+            file = System.getProperty(FILE_PROPERTY);
+        } catch (SecurityException ex) {
+            // ignored
+        }
+        if (file == null) {
+            throw new IOException("System property not set: " + FILE_PROPERTY);
+        }
+        return new File(file);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * If an error is thrown while decoding zone data, uncaughtException is
+     * called to log the error and null is returned.
+     * 
+     * @param id  the id to load
+     * @return the loaded zone
+     */
+    public DateTimeZone getZone(String id) {
+        if (id == null) {
+            return null;
+        }
+        if ("UTC".equals(id)) {
+            return DateTimeZone.UTC;
+        }
+        Integer index = iIdMap.get(id);
+        if (index == null) {
+            return null;
+        }
+        int i = index.intValue();
+        DateTimeZone zone = iZones.get(i);
+        if (zone == null) {
+            zone = loadZone(i);
+            if (zone != null && iZones.compareAndSet(i, null, zone) == false) {
+                zone = iZones.get(i);
+            }
+        }
+        return zone;
+    }
+
+    /**
+     * Gets a list of all the available zone ids.
+     * 
+     * @return the zone ids
+     */
+    public Set<String> getAvailableIDs() {
+        Set<String> ids = new TreeSet<String>(iIdMap.keySet());
+        ids.add("UTC");
+        return ids;
+    }
+
+    /**
+     * Called if an exception is thrown from getZone while decoding zone data.
+     * 
+     * @param ex  the exception
+     */
+    protected void uncaughtException(Exception ex) {
+        Thread t = Thread.currentThread();
+        t.getThreadGroup().uncaughtException(t, ex);
+    }
+
+    /**
+     * Decodes a zone from the mapped file.
+     * 
+     * @param index  the index of the zone
+     * @return the zone, null if it cannot be decoded
+     */
+    private DateTimeZone loadZone(int index) {
+        ByteBuffer buffer = iBuffer.duplicate();
+        buffer.limit(iZoneOffsets[index] + iZoneLengths[index]);
+        buffer.position(iZoneOffsets[index]);
+        try {
+            return DateTimeZoneBuilder.readFrom(new BufferInputStream(buffer), iZoneIds[index]);
+        } catch (IOException ex) {
+            uncaughtException(ex);
+            return null;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Reads from a buffer, without copying it.
+     */
+    private static final class BufferInputStream extends InputStream {
+        private final ByteBuffer iBuffer;
+
+        BufferInputStream(ByteBuffer buffer) {
+            iBuffer = buffer;
+        }
+
+        public int read() {
+            return iBuffer.hasRemaining() ? iBuffer.get() & 0xff : -1;
+        }
+
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (iBuffer.hasRemaining() == false) {
+                return -1;
+            }
+            length = Math.min(length, iBuffer.remaining());
+            iBuffer.get(bytes, offset, length);
+            return length;
+        }
+
+        public int available() {
+            return iBuffer.remaining();
+        }
+    }
+
+}
@@ -21,10 +21,17 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.StringTokenizer;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.joda.time.DateTimeZone;
 
@@ -32,6 +39,22 @@ import org.joda.time.DateTimeZone;
  * ZoneInfoProvider loads compiled data files as generated by
  * {@link ZoneInfoCompiler}.
  * <p>
+ * By default, loaded zones are only softly referenced, thus may be loaded
+ * again after the garbage collector reclaims them. Two system properties
+ * allow zones to be held strongly instead:
+ * <ul>
+ * <li><code>org.joda.time.tz.ZoneInfoProvider.CacheSize</code> - the number of
+ *  zones held strongly, once more are loaded the least recently used is
+ *  demoted to a soft reference, and promoted again if it is used before
+ *  being reclaimed. Promotion is skipped while another thread updates the
+ *  cache, so the zones held strongly are only approximately the most recent
+ * <li><code>org.joda.time.tz.ZoneInfoProvider.PinnedZones</code> - a comma
+ *  separated list of zone ids that are always held strongly once loaded, and
+ *  do not count towards the cache size. Aliases, such as <code>GB</code>, pin
+ *  the zone they link to, while unknown ids are ignored
+ * </ul>
+ * The number of zones loaded and evicted is recorded, see {@link #getLoadCount()}.
+ * <p>
  * ZoneInfoProvider is thread-safe and publicly immutable.
  *
  * @author Brian S O'Neill
@@ -45,8 +68,22 @@ public class ZoneInfoProvider implements Provider {
     private final String iResourcePath;
     /** The class loader to use. */
     private final ClassLoader iLoader;
-    /** Maps ids to strings or SoftReferences to DateTimeZones. */
+    /** Maps ids to strings, SoftReferences to DateTimeZones or strongly held zones. */
     private final Map<String, Object> iZoneInfoMap;
+    /** The maximum number of zones held strongly, excluding pinned zones. */
+    private final int iCacheSize;
+    /** The ids of the zones always held strongly. */
+    private final Set<String> iPinnedZones;
+    /** The zones held strongly, excluding pinned zones, guarded by the lock. */
+    private final List<StrongZone> iStrongZones = new ArrayList<StrongZone>();
+    /** The lock guarding changes to the zones held strongly. */
+    private final ReentrantLock iLock = new ReentrantLock();
+    /** The time in the cache, advanced by each load and use, used to find the least recently used zone. */
+    private final AtomicLong iClock = new AtomicLong();
+    /** The number of zones loaded. */
+    private final AtomicLong iLoadCount = new AtomicLong();
+    /** The number of zones demoted from strong to soft references. */
+    private final AtomicLong iEvictionCount = new AtomicLong();
 
     /**
      * ZoneInfoProvider searches the given directory for compiled data files.
@@ -69,6 +106,8 @@ public class ZoneInfoProvider implements Provider {
         iLoader = null;
 
         iZoneInfoMap = loadZoneInfoMap(openResource("ZoneInfoMap"));
+        iCacheSize = getCacheSizeProperty();
+        iPinnedZones = getPinnedZonesProperty(iZoneInfoMap);
     }
 
     /**
@@ -121,6 +160,8 @@ public class ZoneInfoProvider implements Provider {
         iLoader = loader;
 
         iZoneInfoMap = loadZoneInfoMap(openResource("ZoneInfoMap"));
+        iCacheSize = getCacheSizeProperty();
+        iPinnedZones = getPinnedZonesProperty(iZoneInfoMap);
     }
 
     //-----------------------------------------------------------------------
@@ -142,6 +183,15 @@ public class ZoneInfoProvider implements Provider {
             return null;
         }
 
+        if (obj instanceof StrongZone) {
+            StrongZone strong = (StrongZone) obj;
+            // repeated use of the most recently used zone leaves the clock alone
+            if (strong.iPinned == false && strong.iLastUsed != iClock.get()) {
+                strong.iLastUsed = iClock.incrementAndGet();
+            }
+            return strong.iZone;
+        }
+
         if (id.equals(obj)) {
             // Load zone data for the first time.
             return loadZoneData(id);
@@ -152,6 +202,15 @@ public class ZoneInfoProvider implements Provider {
             SoftReference<DateTimeZone> ref = (SoftReference<DateTimeZone>) obj;
             DateTimeZone tz = ref.get();
             if (tz != null) {
+                if (iCacheSize > 0 && iLock.tryLock()) {
+                    // used again after being evicted, so hold strongly again,
+                    // unless another thread is busy with the cache
+                    try {
+                        cacheZone(id, tz);
+                    } finally {
+                        iLock.unlock();
+                    }
+                }
                 return tz;
             }
             // Reference cleared; load data again.
@@ -162,6 +221,51 @@ public class ZoneInfoProvider implements Provider {
         return getZone((String)obj);
     }
 
+    /**
+     * Gets the number of zones loaded, including zones loaded again after
+     * being reclaimed by the garbage collector.
+     * 
+     * @return the load count
+     * @since 2.0
+     */
+    public long getLoadCount() {
+        return iLoadCount.get();
+    }
+
+    /**
+     * Gets the number of zones demoted from strong to soft references to keep
+     * within the cache size.
+     * 
+     * @return the eviction count
+     * @since 2.0
+     */
+    public long getEvictionCount() {
+        return iEvictionCount.get();
+    }
+
+    /**
+     * Gets the maximum number of zones held strongly, excluding pinned zones.
+     * 
+     * @return the cache size, zero if zones are only softly referenced
+     * @since 2.0
+     */
+    public int getCacheSize() {
+        return iCacheSize;
+    }
+
+    /**
+     * Gets the ids of the zones always held strongly once loaded.
+     * <p>
+     * Aliases in the system property are resolved to the ids of the zones
+     * they link to, and unknown ids are excluded.
+     * 
+     * @return the unmodifiable pinned zone ids, not null
+     * @since 2.0
+     */
+    public Set<String> getPinnedZones() {
+        return iPinnedZones;
+    }
+
     /**
      * Gets a list of all the available zone ids.
      * 
@@ -225,7 +329,19 @@ public class ZoneInfoProvider implements Provider {
         try {
             in = openResource(id);
             DateTimeZone tz = DateTimeZoneBuilder.readFrom(in, id);
-            iZoneInfoMap.put(id, new SoftReference<DateTimeZone>(tz));
+            iLoadCount.incrementAndGet();
+            if (iPinnedZones.contains(id)) {
+                iZoneInfoMap.put(id, new StrongZone(tz, true, 0));
+            } else if (iCacheSize > 0) {
+                iLock.lock();
+                try {
+                    cacheZone(id, tz);
+                } finally {
+                    iLock.unlock();
+                }
+            } else {
+                iZoneInfoMap.put(id, new SoftReference<DateTimeZone>(tz));
+            }
             return tz;
         } catch (IOException e) {
             uncaughtException(e);
@@ -241,6 +357,94 @@ public class ZoneInfoProvider implements Provider {
         }
     }
 
+    /**
+     * Holds a zone strongly, evicting the least recently used zone if the
+     * cache is full.
+     * <p>
+     * This is used both for newly loaded zones and for softly referenced
+     * zones that are used again. The lock must be held by the caller.
+     * 
+     * @param id  the id of the zone
+     * @param tz  the zone
+     */
+    private void cacheZone(String id, DateTimeZone tz) {
+        if (iZoneInfoMap.get(id) instanceof StrongZone) {
+            // another thread cached the same zone
+            return;
+        }
+        StrongZone added = new StrongZone(tz, false, iClock.incrementAndGet());
+        iZoneInfoMap.put(id, added);
+        List<StrongZone> strongZones = iStrongZones;
+        strongZones.add(added);
+        if (strongZones.size() > iCacheSize) {
+            // only the zones held strongly are searched, not the whole map
+            int oldestIndex = 0;
+            for (int i = 1; i < strongZones.size(); i++) {
+                if (strongZones.get(i).iLastUsed < strongZones.get(oldestIndex).iLastUsed) {
+                    oldestIndex = i;
+                }
+            }
+            StrongZone oldest = strongZones.get(oldestIndex);
+            strongZones.set(oldestIndex, strongZones.get(strongZones.size() - 1));
+            strongZones.remove(strongZones.size() - 1);
+            iZoneInfoMap.put(oldest.iZone.getID(), new SoftReference<DateTimeZone>(oldest.iZone));
+            iEvictionCount.incrementAndGet();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Reads the cache size from a system property.
+     * 
+     * @return the cache size, zero if not set or invalid
+     */
+    private static int getCacheSizeProperty() {
+        try {
+            String size = System.getProperty("org.joda.time.tz.ZoneInfoProvider.CacheSize");
+            if (size != null) {
+                return Math.max(0, Integer.parseInt(size.trim()));
+            }
+        } catch (SecurityException ex) {
+            // ignored
+        } catch (NumberFormatException ex) {
+            // ignored
+        }
+        return 0;
+    }
+
+    /**
+     * Reads the pinned zone ids from a system property.
+     * <p>
+     * Zones are loaded by the id that aliases link to, so each id is
+     * resolved using the zone info map before it is compared.
+     * 
+     * @param zoneInfoMap  the zone info map, not null
+     * @return the unmodifiable pinned zone ids, not null
+     */
+    private static Set<String> getPinnedZonesProperty(Map<String, Object> zoneInfoMap) {
+        Set<String> ids = new HashSet<String>();
+        try {
+            String zones = System.getProperty("org.joda.time.tz.ZoneInfoProvider.PinnedZones");
+            if (zones != null) {
+                StringTokenizer tokenizer = new StringTokenizer(zones, ", ");
+                while (tokenizer.hasMoreTokens()) {
+                    String id = tokenizer.nextToken();
+                    Object obj = zoneInfoMap.get(id);
+                    while (obj instanceof String && !id.equals(obj)) {
+                        id = (String) obj;
+                        obj = zoneInfoMap.get(id);
+                    }
+                    if (obj != null) {
+                        ids.add(id);
+                    }
+                }
+            }
+        } catch (SecurityException ex) {
+            // ignored
+        }
+        return Collections.unmodifiableSet(ids);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Loads the zone info map.
@@ -288,4 +492,20 @@ public class ZoneInfoProvider implements Provider {
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * A zone held strongly, with the time in the cache it was last used.
+     */
+    private static final class StrongZone {
+        final DateTimeZone iZone;
+        final boolean iPinned;
+        volatile long iLastUsed;
+
+        StrongZone(DateTimeZone zone, boolean pinned, long lastUsed) {
+            iZone = zone;
+            iPinned = pinned;
+            iLastUsed = lastUsed;
+        }
+    }
+
 }
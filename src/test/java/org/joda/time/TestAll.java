@@ -40,6 +40,7 @@ public class TestAll extends TestCase {
         
         suite.addTest(TestInstant_Constructors.suite());
         suite.addTest(TestInstant_Basics.suite());
+        suite.addTest(TestInstantArray.suite());
         
         suite.addTest(TestDateTime_Constructors.suite());
         suite.addTest(TestDateTime_Basics.suite());
@@ -60,6 +61,9 @@ public class TestAll extends TestCase {
         
         suite.addTest(TestInterval_Constructors.suite());
         suite.addTest(TestInterval_Basics.suite());
+        suite.addTest(TestInstantIndex.suite());
+        suite.addTest(TestIntervalIndex.suite());
+        suite.addTest(TestIntervalSet.suite());
         
         suite.addTest(TestLocalDateTime_Constructors.suite());
         suite.addTest(TestLocalDateTime_Basics.suite());
@@ -68,6 +72,7 @@ public class TestAll extends TestCase {
         suite.addTest(TestLocalDate_Constructors.suite());
         suite.addTest(TestLocalDate_Basics.suite());
         suite.addTest(TestLocalDate_Properties.suite());
+        suite.addTest(TestLocalDateArray.suite());
         
         suite.addTest(TestLocalTime_Constructors.suite());
         suite.addTest(TestLocalTime_Basics.suite());
@@ -129,6 +134,7 @@ public class TestAll extends TestCase {
         suite.addTest(TestStringConvert.suite());
         suite.addTest(TestSerialization.suite());
         suite.addTest(TestIllegalFieldValueException.suite());
+        suite.addTest(TestDateTimeWarmUp.suite());
         return suite;
     }
 
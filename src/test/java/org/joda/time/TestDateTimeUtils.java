@@ -278,6 +278,117 @@ public class TestDateTimeUtils extends TestCase {
         }
     }
 
+    //-----------------------------------------------------------------------
+    public void testCoarseMillis() throws Exception {
+        DateTimeUtils.CoarseMillisProvider provider = null;
+        try {
+            DateTimeUtils.setCurrentMillisCoarse(5L);
+            provider = (DateTimeUtils.CoarseMillisProvider) getMillisProvider();
+            long previous = DateTimeUtils.currentTimeMillis();
+            for (int i = 0; i < 1000; i++) {
+                long now = DateTimeUtils.currentTimeMillis();
+                assertTrue(now >= previous);
+                previous = now;
+            }
+            assertTrue(Math.abs(System.currentTimeMillis() - previous) < 60000L);
+        } finally {
+            DateTimeUtils.setCurrentMillisSystem();
+        }
+        provider.getThread().join(5000L);
+        assertEquals(false, provider.getThread().isAlive());
+    }
+
+    public void testCoarseMillis_replaced() throws Exception {
+        DateTimeUtils.CoarseMillisProvider provider = null;
+        DateTimeUtils.CoarseMillisProvider replacement = null;
+        try {
+            DateTimeUtils.setCurrentMillisCoarse(60000L);
+            provider = (DateTimeUtils.CoarseMillisProvider) getMillisProvider();
+            DateTimeUtils.setCurrentMillisCoarse(60000L);
+            replacement = (DateTimeUtils.CoarseMillisProvider) getMillisProvider();
+            // the previous thread stops without waiting for the granularity
+            provider.getThread().join(5000L);
+            assertEquals(false, provider.getThread().isAlive());
+            assertEquals(true, replacement.getThread().isAlive());
+        } finally {
+            DateTimeUtils.setCurrentMillisSystem();
+        }
+        replacement.getThread().join(5000L);
+        assertEquals(false, replacement.getThread().isAlive());
+    }
+
+    public void testCoarseMillis_invalid() {
+        try {
+            DateTimeUtils.setCurrentMillisCoarse(0L);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
+    public void testCoarseMillisSecurity() {
+        if (OLD_JDK) {
+            return;
+        }
+        try {
+            try {
+                Policy.setPolicy(RESTRICT);
+                System.setSecurityManager(new SecurityManager());
+                DateTimeUtils.setCurrentMillisCoarse(10L);
+                fail();
+            } catch (SecurityException ex) {
+                // ok
+            } finally {
+                System.setSecurityManager(null);
+                Policy.setPolicy(ALLOW);
+            }
+        } finally {
+            DateTimeUtils.setCurrentMillisSystem();
+        }
+    }
+
+    private static MillisProvider getMillisProvider() throws Exception {
+        java.lang.reflect.Field field = DateTimeUtils.class.getDeclaredField("cMillisProvider");
+        field.setAccessible(true);
+        return (MillisProvider) field.get(null);
+    }
+
+    //-----------------------------------------------------------------------
+    public void testCurrentLocalDate() {
+        DateTimeZone zone = DateTimeZone.getDefault();
+        try {
+            DateTimeZone.setDefault(LONDON);
+            DateTimeUtils.setCurrentMillisFixed(TEST_TIME_NOW);
+            LocalDate date = DateTimeUtils.currentLocalDate();
+            assertEquals(new LocalDate(2002, 6, 9), date);
+            assertSame(date, DateTimeUtils.currentLocalDate());
+            
+            // 2002-06-09T23:59:59.999+01:00
+            DateTimeUtils.setCurrentMillisFixed(TEST_TIME_NOW + 23L * DateTimeConstants.MILLIS_PER_HOUR - 1L);
+            assertSame(date, DateTimeUtils.currentLocalDate());
+            DateTimeUtils.setCurrentMillisFixed(TEST_TIME_NOW + 23L * DateTimeConstants.MILLIS_PER_HOUR);
+            assertEquals(new LocalDate(2002, 6, 10), DateTimeUtils.currentLocalDate());
+            DateTimeUtils.setCurrentMillisFixed(TEST_TIME_NOW - 1L);
+            assertEquals(new LocalDate(2002, 6, 9), DateTimeUtils.currentLocalDate());
+            
+            DateTimeZone.setDefault(DateTimeZone.forOffsetHours(-2));
+            assertEquals(new LocalDate(2002, 6, 8), DateTimeUtils.currentLocalDate());
+            
+            // 2002-10-27T01:00Z is the end of summer time in London
+            DateTimeZone.setDefault(LONDON);
+            long cutover = new DateTime(2002, 10, 27, 1, 0, 0, 0, DateTimeZone.UTC).getMillis();
+            DateTimeUtils.setCurrentMillisFixed(cutover - 1L);
+            assertEquals(new LocalDate(2002, 10, 27), DateTimeUtils.currentLocalDate());
+            DateTimeUtils.setCurrentMillisFixed(cutover + 23L * DateTimeConstants.MILLIS_PER_HOUR - 1L);
+            assertEquals(new LocalDate(2002, 10, 27), DateTimeUtils.currentLocalDate());
+            DateTimeUtils.setCurrentMillisFixed(cutover + 23L * DateTimeConstants.MILLIS_PER_HOUR);
+            assertEquals(new LocalDate(2002, 10, 28), DateTimeUtils.currentLocalDate());
+        } finally {
+            DateTimeUtils.setCurrentMillisSystem();
+            DateTimeZone.setDefault(zone);
+        }
+    }
+
     //-----------------------------------------------------------------------
     public void testMillisProvider() {
         try {
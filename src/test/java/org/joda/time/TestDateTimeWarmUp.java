@@ -0,0 +1,123 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.joda.time.format.DateTimeFormat;
+
+/**
+ * This class is a Junit unit test for DateTimeWarmUp.
+ *
+ * @author Stephen Colebourne
+ */
+public class TestDateTimeWarmUp extends TestCase {
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(suite());
+    }
+
+    public static TestSuite suite() {
+        return new TestSuite(TestDateTimeWarmUp.class);
+    }
+
+    public TestDateTimeWarmUp(String name) {
+        super(name);
+    }
+
+    //-----------------------------------------------------------------------
+    public void testRun() throws Exception {
+        DateTimeWarmUp.Result result = new DateTimeWarmUp()
+            .addZones(Arrays.asList("Europe/London", "America/New_York"))
+            .addZone("Asia/Tokyo")
+            .addLocales(Arrays.asList(Locale.UK, Locale.FRANCE))
+            .addPattern("yyyy-MM-dd HH:mm:ss 'warm up'")
+            .addPatterns(Arrays.asList("EEE, dd MMM yyyy", "HH"))
+            .run(3);
+
+        List<DateTimeWarmUp.Timing> timings = result.getTimings();
+        assertEquals(8, timings.size());
+        assertEquals(0, result.getFailures().size());
+        assertEquals(DateTimeWarmUp.ZONE, timings.get(0).getType());
+        assertEquals("Europe/London", timings.get(0).getName());
+        assertEquals("Asia/Tokyo", timings.get(2).getName());
+        assertEquals(DateTimeWarmUp.LOCALE, timings.get(3).getType());
+        assertEquals("en_GB", timings.get(3).getName());
+        assertEquals(DateTimeWarmUp.PATTERN, timings.get(5).getType());
+        assertEquals("yyyy-MM-dd HH:mm:ss 'warm up'", timings.get(5).getName());
+        for (DateTimeWarmUp.Timing timing : timings) {
+            assertEquals(null, timing.getFailure());
+            assertTrue(timing.getNanos() >= 0);
+            assertTrue(timing.getNanos() <= result.getElapsedNanos());
+        }
+        assertNotNull(result.getSlowest());
+        assertTrue(result.toString().startsWith("DateTimeWarmUp[items=8,failures=0,elapsed="));
+
+        // the pattern was cached
+        long hits = DateTimeFormat.getPatternCache().getHitCount();
+        DateTimeFormat.forPattern("yyyy-MM-dd HH:mm:ss 'warm up'");
+        assertEquals(hits + 1, DateTimeFormat.getPatternCache().getHitCount());
+    }
+
+    public void testRun_failures() throws Exception {
+        DateTimeWarmUp.Result result = new DateTimeWarmUp()
+            .addZone("Europe/London")
+            .addZone("Nowhere/Unknown")
+            .addPattern("yyyy-MM-dd")
+            .addPattern("yyyy-MM-dd q")
+            .run(1);
+
+        assertEquals(4, result.getTimings().size());
+        assertEquals(2, result.getFailures().size());
+        DateTimeWarmUp.Timing zone = result.getFailures().get(0);
+        assertEquals("Nowhere/Unknown", zone.getName());
+        assertTrue(zone.getFailure() instanceof IllegalArgumentException);
+        assertTrue(zone.toString().startsWith("zone Nowhere/Unknown "));
+        assertTrue(zone.toString().indexOf(" failed: ") > 0);
+        assertEquals("yyyy-MM-dd q", result.getFailures().get(1).getName());
+    }
+
+    public void testRun_empty() throws Exception {
+        DateTimeWarmUp.Result result = new DateTimeWarmUp().run(2);
+        assertEquals(0, result.getTimings().size());
+        assertEquals(null, result.getSlowest());
+    }
+
+    public void testInvalid() throws Exception {
+        try {
+            new DateTimeWarmUp().run(0);
+            fail();
+        } catch (IllegalArgumentException ex) {}
+        try {
+            new DateTimeWarmUp().addZone(null);
+            fail();
+        } catch (IllegalArgumentException ex) {}
+        try {
+            new DateTimeWarmUp().addLocale(null);
+            fail();
+        } catch (IllegalArgumentException ex) {}
+        try {
+            new DateTimeWarmUp().addPattern(null);
+            fail();
+        } catch (IllegalArgumentException ex) {}
+    }
+
+}
@@ -287,6 +287,28 @@ public class TestDateTimeZone extends TestCase {
                         4 * 60 * 60 * 1000 + 45 * 60 * 1000 + 17 * 1000 + 45));
     }        
 
+    public void testForOffsetMillis_int_cached() {
+        for (int quarters = -72; quarters <= 72; quarters++) {
+            int offset = quarters * 15 * 60 * 1000;
+            DateTimeZone zone = DateTimeZone.forOffsetMillis(offset);
+            assertSame(zone, DateTimeZone.forOffsetMillis(offset));
+            assertEquals(offset, zone.getOffset(0L));
+            assertEquals(true, zone.isFixed());
+        }
+        assertSame(DateTimeZone.forOffsetHoursMinutes(5, 45), DateTimeZone.forID("+05:45"));
+        assertSame(DateTimeZone.forOffsetHoursMinutes(-18, 0), DateTimeZone.forOffsetMillis(-18 * 60 * 60 * 1000));
+        assertEquals("-18:00", DateTimeZone.forOffsetHours(-18).getID());
+        assertEquals("+18:00", DateTimeZone.forOffsetHours(18).getID());
+        assertEquals("+05:45", DateTimeZone.forOffsetHoursMinutes(5, 45).getID());
+        
+        // outside the table
+        assertSame(DateTimeZone.forOffsetHoursMinutes(4, 7), DateTimeZone.forOffsetHoursMinutes(4, 7));
+        assertEquals("+04:07", DateTimeZone.forOffsetHoursMinutes(4, 7).getID());
+        assertSame(DateTimeZone.forOffsetHours(-20), DateTimeZone.forOffsetHours(-20));
+        assertEquals("-20:00", DateTimeZone.forOffsetHours(-20).getID());
+        assertEquals("+04:45:17.045", DateTimeZone.forOffsetMillis(17117045).getID());
+    }
+
     //-----------------------------------------------------------------------
     public void testForTimeZone_TimeZone() {
         assertEquals(DateTimeZone.getDefault(), DateTimeZone.forTimeZone((TimeZone) null));
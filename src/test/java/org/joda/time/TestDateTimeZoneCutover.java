@@ -102,6 +102,27 @@ public class TestDateTimeZoneCutover extends TestCase {
         assertEquals("2007-04-01T01:00:00.000+03:00", rounded.toString());
     }
 
+    public void test_roundFloor_array_Gaza() {
+        assertRoundArray(GregorianChronology.getInstance(MOCK_GAZA), new DateTime(2007, 3, 31, 12, 0, 0, 0, MOCK_GAZA));
+    }
+
+    private void assertRoundArray(Chronology chrono, DateTime start) {
+        long[] instants = new long[200];
+        for (int i = 0; i < instants.length; i++) {
+            instants[i] = start.getMillis() + i * 17L * 60000L;
+        }
+        DateTimeField[] fields = new DateTimeField[] {
+            chrono.monthOfYear(), chrono.dayOfMonth(), chrono.hourOfDay(), chrono.minuteOfHour()};
+        for (int f = 0; f < fields.length; f++) {
+            long[] floors = fields[f].roundFloor(instants, null);
+            long[] ceilings = fields[f].roundCeiling(instants, null);
+            for (int i = 0; i < instants.length; i++) {
+                assertEquals(fields[f].roundFloor(instants[i]), floors[i]);
+                assertEquals(fields[f].roundCeiling(instants[i]), ceilings[i]);
+            }
+        }
+    }
+
     public void test_DateTime_setHourZero_Gaza() {
         DateTime dt = new DateTime(2007, 4, 1, 8, 0, 0, 0, MOCK_GAZA);
         assertEquals("2007-04-01T08:00:00.000+03:00", dt.toString());
@@ -570,6 +591,11 @@ public class TestDateTimeZoneCutover extends TestCase {
         assertEquals("2007-03-11T03:00:00.000-04:00", rounded.toString());
     }
 
+    public void test_roundFloor_array_NewYork() {
+        assertRoundArray(GregorianChronology.getInstance(ZONE_NEW_YORK), new DateTime(2007, 3, 10, 22, 0, 0, 0, ZONE_NEW_YORK));
+        assertRoundArray(GregorianChronology.getInstance(ZONE_NEW_YORK), new DateTime(2007, 11, 3, 22, 0, 0, 0, ZONE_NEW_YORK));
+    }
+
     public void test_DateTime_roundFloor_minute_NewYork_Spring_preCutover() {
         DateTime dt = new DateTime(2007, 3, 11, 1, 30, 40, 0, ZONE_NEW_YORK);
         assertEquals("2007-03-11T01:30:40.000-05:00", dt.toString());
@@ -0,0 +1,244 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.joda.time.chrono.GJChronology;
+import org.joda.time.chrono.ISOChronology;
+
+/**
+ * This class is a Junit unit test for InstantArray.
+ *
+ * @author Stephen Colebourne
+ */
+public class TestInstantArray extends TestCase {
+
+    private static final DateTimeZone PARIS = DateTimeZone.forID("Europe/Paris");
+    private static final DateTimeZone LONDON = DateTimeZone.forID("Europe/London");
+
+    private DateTimeZone originalDateTimeZone = null;
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(suite());
+    }
+
+    public static TestSuite suite() {
+        return new TestSuite(TestInstantArray.class);
+    }
+
+    public TestInstantArray(String name) {
+        super(name);
+    }
+
+    protected void setUp() throws Exception {
+        originalDateTimeZone = DateTimeZone.getDefault();
+        DateTimeZone.setDefault(LONDON);
+    }
+
+    protected void tearDown() throws Exception {
+        DateTimeZone.setDefault(originalDateTimeZone);
+        originalDateTimeZone = null;
+    }
+
+    //-----------------------------------------------------------------------
+    public void testConstructor() {
+        InstantArray array = new InstantArray();
+        assertEquals(ISOChronology.getInstance(), array.getChronology());
+        assertEquals(0, array.size());
+        assertEquals(true, array.isEmpty());
+
+        array = new InstantArray(GJChronology.getInstance(PARIS));
+        assertEquals(GJChronology.getInstance(PARIS), array.getChronology());
+
+        long[] millis = new long[] {3L, 1L, 2L};
+        array = new InstantArray(millis, null);
+        millis[0] = 99L;
+        assertEquals(3, array.size());
+        assertEquals(3L, array.getMillis(0));
+        assertEquals(ISOChronology.getInstance(), array.getChronology());
+    }
+
+    public void testAddGetSet() {
+        InstantArray array = new InstantArray(ISOChronology.getInstance(PARIS));
+        for (int i = 0; i < 25; i++) {
+            array.addMillis(i * 1000L);
+        }
+        assertEquals(true, array.add(new Instant(-5L)));
+        assertEquals(true, array.add(new DateTime(7L)));
+        assertEquals(27, array.size());
+        assertEquals(24000L, array.getMillis(24));
+        assertEquals(new Instant(-5L), array.get(25));
+        assertEquals(new Instant(7L), array.get(26));
+        assertEquals(new DateTime(3000L, ISOChronology.getInstance(PARIS)), array.getDateTime(3));
+
+        assertEquals(new Instant(3000L), array.set(3, new Instant(30L)));
+        assertEquals(new Instant(30L), array.set(3, new DateTime(31L)));
+        assertEquals(31L, array.setMillis(3, 32L));
+        assertEquals(32L, array.getMillis(3));
+
+        try {
+            array.get(27);
+            fail();
+        } catch (IndexOutOfBoundsException ex) {}
+        try {
+            array.getMillis(-1);
+            fail();
+        } catch (IndexOutOfBoundsException ex) {}
+        try {
+            array.setMillis(27, 0L);
+            fail();
+        } catch (IndexOutOfBoundsException ex) {}
+    }
+
+    public void testInsertRemove() {
+        InstantArray array = new InstantArray(new long[] {1L, 2L, 3L}, null);
+        array.add(0, new Instant(0L));
+        array.add(4, new Instant(4L));
+        array.add(2, new Instant(9L));
+        assertEquals(6, array.size());
+        assertEquals(new Instant(9L), array.remove(2));
+        assertEquals(new Instant(4L), array.remove(4));
+        assertEquals(true, array.remove(new Instant(0L)));
+        assertEquals(false, array.remove(new Instant(0L)));
+        assertEquals(3, array.size());
+        assertEquals(1L, array.getMillis(0));
+        assertEquals(3L, array.getMillis(2));
+        try {
+            array.add(4, new Instant(0L));
+            fail();
+        } catch (IndexOutOfBoundsException ex) {}
+        try {
+            array.remove(3);
+            fail();
+        } catch (IndexOutOfBoundsException ex) {}
+
+        array.clear();
+        assertEquals(0, array.size());
+    }
+
+    public void testList() {
+        InstantArray array = new InstantArray(new long[] {1L, 2L, 3L}, null);
+        List<Instant> list = new ArrayList<Instant>();
+        list.add(new Instant(1L));
+        list.add(new Instant(2L));
+        list.add(new Instant(3L));
+        assertEquals(list, array);
+        assertEquals(array, list);
+        assertEquals(list.hashCode(), array.hashCode());
+        assertEquals(1, array.indexOf(new Instant(2L)));
+        assertEquals(true, array.contains(new Instant(3L)));
+        assertEquals(false, array.contains(new DateTime(3L)));
+
+        array.addAll(list);
+        assertEquals(6, array.size());
+        assertEquals(list, array.subList(3, 6));
+
+        Iterator<Instant> it = array.iterator();
+        it.next();
+        array.addMillis(4L);
+        try {
+            it.next();
+            fail();
+        } catch (java.util.ConcurrentModificationException ex) {}
+    }
+
+    public void testSortBinarySearch() {
+        InstantArray array = new InstantArray(new long[] {30L, -10L, 20L, 0L, 10L}, null);
+        array.sort();
+        assertEquals(-10L, array.getMillis(0));
+        assertEquals(30L, array.getMillis(4));
+        assertEquals(0, array.binarySearch(-10L));
+        assertEquals(3, array.binarySearch(20L));
+        assertEquals(3, array.binarySearch(new Instant(20L)));
+        assertEquals(-1, array.binarySearch(-11L));
+        assertEquals(-4, array.binarySearch(15L));
+        assertEquals(-6, array.binarySearch(31L));
+        assertEquals(-1, new InstantArray().binarySearch(0L));
+    }
+
+    public void testToMillisArray() {
+        InstantArray array = new InstantArray(new long[] {1L, 2L}, null);
+        array.ensureCapacity(100);
+        array.addMillis(3L);
+        array.trimToSize();
+        long[] millis = array.toMillisArray();
+        assertEquals(3, millis.length);
+        assertEquals(3L, millis[2]);
+        millis[0] = 99L;
+        assertEquals(1L, array.getMillis(0));
+    }
+
+    public void testSerialization() throws Exception {
+        InstantArray test = new InstantArray(new long[] {1L, 2L, 3L}, GJChronology.getInstance(PARIS));
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(baos);
+        oos.writeObject(test);
+        oos.close();
+        ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        InstantArray result = (InstantArray) ois.readObject();
+        ois.close();
+        assertEquals(test, result);
+        assertEquals(test.getChronology(), result.getChronology());
+    }
+
+    public void testSerialization_spareCapacity() throws Exception {
+        InstantArray test = new InstantArray(new long[] {1L, 2L, 3L}, GJChronology.getInstance(PARIS));
+        for (int i = 0; i < 1000; i++) {
+            test.addMillis(i);
+        }
+        test.clear();
+        InstantArray result = (InstantArray) roundTrip(test);
+        assertEquals(0, result.size());
+        assertEquals(serializedLength(new InstantArray(GJChronology.getInstance(PARIS))), serializedLength(test));
+
+        test = new InstantArray(new long[] {1L, 2L, 3L}, GJChronology.getInstance(PARIS));
+        test.remove(1);
+        result = (InstantArray) roundTrip(test);
+        assertEquals(test, result);
+        assertEquals(2, result.size());
+        assertEquals(serializedLength(result), serializedLength(test));
+    }
+
+    private static Object roundTrip(Object test) throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(baos);
+        oos.writeObject(test);
+        oos.close();
+        ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        Object result = ois.readObject();
+        ois.close();
+        return result;
+    }
+
+    private static int serializedLength(Object test) throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(baos);
+        oos.writeObject(test);
+        oos.close();
+        return baos.size();
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * This class is a Junit unit test for InstantIndex.
+ *
+ * @author Stephen Colebourne
+ */
+public class TestInstantIndex extends TestCase {
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(suite());
+    }
+
+    public static TestSuite suite() {
+        return new TestSuite(TestInstantIndex.class);
+    }
+
+    public TestInstantIndex(String name) {
+        super(name);
+    }
+
+    //-----------------------------------------------------------------------
+    public void testConstructor() {
+        InstantIndex test = new InstantIndex(new long[] {30L, 10L, 20L, 10L});
+        assertEquals(4, test.size());
+        assertEquals(10L, test.getMillis(0));
+        assertEquals(1, test.getId(0));
+        assertEquals(10L, test.getMillis(1));
+        assertEquals(3, test.getId(1));
+        assertEquals(20L, test.getMillis(2));
+        assertEquals(2, test.getId(2));
+        assertEquals(30L, test.getMillis(3));
+        assertEquals(0, test.getId(3));
+
+        test = new InstantIndex(new long[] {5L, 6L}, new int[] {100, 200});
+        assertEquals(100, test.getId(0));
+        assertEquals(200, test.getId(1));
+
+        try {
+            new InstantIndex(new long[] {5L, 6L}, new int[] {100});
+            fail();
+        } catch (IllegalArgumentException ex) {}
+    }
+
+    public void testQueries() {
+        InstantIndex test = new InstantIndex(new long[] {30L, 10L, 20L, 10L, 40L});
+        Interval interval = new Interval(10L, 30L);
+        assertEquals(0, test.startIndex(interval));
+        assertEquals(3, test.endIndex(interval));
+        assertEquals(3, test.count(interval));
+        assertEquals(0, test.first(interval));
+        assertEquals(2, test.last(interval));
+        int[] ids = test.getIds(interval);
+        assertEquals(3, ids.length);
+        assertEquals(1, ids[0]);
+        assertEquals(3, ids[1]);
+        assertEquals(2, ids[2]);
+
+        interval = new Interval(21L, 30L);
+        assertEquals(0, test.count(interval));
+        assertEquals(-1, test.first(interval));
+        assertEquals(-1, test.last(interval));
+        assertEquals(0, test.getIds(interval).length);
+
+        interval = new Interval(30L, 30L);
+        assertEquals(0, test.count(interval));
+        assertEquals(-1, test.first(interval));
+        assertEquals(-1, test.last(interval));
+
+        interval = new Interval(0L, 100L);
+        assertEquals(5, test.count(interval));
+        assertEquals(0, test.first(interval));
+        assertEquals(4, test.last(interval));
+
+        assertEquals(0, new InstantIndex(new long[0]).count(interval));
+        assertEquals(-1, new InstantIndex(new long[0]).first(interval));
+    }
+
+    public void testQueries_null() {
+        DateTimeUtils.setCurrentMillisFixed(20L);
+        try {
+            InstantIndex test = new InstantIndex(new long[] {10L, 20L, 30L});
+            assertEquals(1, test.startIndex(null));
+            assertEquals(1, test.endIndex(null));
+            assertEquals(0, test.count(null));
+        } finally {
+            DateTimeUtils.setCurrentMillisSystem();
+        }
+    }
+
+    public void testQueries_random() {
+        Random random = new Random(0);
+        long[] millis = new long[1000];
+        for (int i = 0; i < millis.length; i++) {
+            millis[i] = random.nextInt(5000);
+        }
+        InstantIndex test = new InstantIndex(millis);
+        for (int i = 1; i < millis.length; i++) {
+            assertTrue(test.getMillis(i - 1) <= test.getMillis(i));
+            if (test.getMillis(i - 1) == test.getMillis(i)) {
+                assertTrue(test.getId(i - 1) < test.getId(i));
+            }
+        }
+        for (int q = 0; q < 200; q++) {
+            long start = random.nextInt(5200) - 100;
+            Interval interval = new Interval(start, start + random.nextInt(500));
+            int count = 0;
+            for (int i = 0; i < millis.length; i++) {
+                if (interval.contains(millis[i])) {
+                    count++;
+                }
+            }
+            assertEquals(count, test.count(interval));
+            int[] ids = test.getIds(interval);
+            assertEquals(count, ids.length);
+            for (int i = 0; i < ids.length; i++) {
+                assertTrue(interval.contains(millis[ids[i]]));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,168 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * This class is a Junit unit test for IntervalIndex.
+ *
+ * @author Stephen Colebourne
+ */
+public class TestIntervalIndex extends TestCase {
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(suite());
+    }
+
+    public static TestSuite suite() {
+        return new TestSuite(TestIntervalIndex.class);
+    }
+
+    public TestIntervalIndex(String name) {
+        super(name);
+    }
+
+    //-----------------------------------------------------------------------
+    public void testConstructor() {
+        List<Interval> intervals = new ArrayList<Interval>();
+        intervals.add(new Interval(20L, 30L));
+        intervals.add(new Interval(0L, 50L));
+        intervals.add(new Interval(10L, 10L));
+        IntervalIndex test = new IntervalIndex(intervals);
+        assertEquals(3, test.size());
+        assertEquals(0L, test.getStartMillis(0));
+        assertEquals(50L, test.getEndMillis(0));
+        assertEquals(1, test.getId(0));
+        assertEquals(10L, test.getStartMillis(1));
+        assertEquals(2, test.getId(1));
+        assertEquals(20L, test.getStartMillis(2));
+        assertEquals(0, test.getId(2));
+
+        intervals.add(null);
+        try {
+            new IntervalIndex(intervals);
+            fail();
+        } catch (IllegalArgumentException ex) {}
+        try {
+            new IntervalIndex(new long[] {1L}, new long[] {0L}, null);
+            fail();
+        } catch (IllegalArgumentException ex) {}
+        try {
+            new IntervalIndex(new long[] {1L}, new long[] {2L, 3L}, null);
+            fail();
+        } catch (IllegalArgumentException ex) {}
+        try {
+            new IntervalIndex(new long[] {1L}, new long[] {2L}, new int[0]);
+            fail();
+        } catch (IllegalArgumentException ex) {}
+    }
+
+    public void testQueries() {
+        IntervalIndex test = new IntervalIndex(
+            new long[] {20L, 0L, 10L, 40L}, new long[] {30L, 50L, 10L, 45L}, new int[] {7, 8, 9, 6});
+        int[] ids = test.getOverlappingIds(new Interval(25L, 42L));
+        assertEquals(3, ids.length);
+        assertEquals(8, ids[0]);
+        assertEquals(7, ids[1]);
+        assertEquals(6, ids[2]);
+        int[] indices = test.getOverlappingIndices(new Interval(25L, 42L));
+        assertEquals(3, indices.length);
+        assertEquals(0, indices[0]);
+        assertEquals(2, indices[1]);
+        assertEquals(3, indices[2]);
+        assertEquals(3, test.countOverlapping(new Interval(25L, 42L)));
+        assertEquals(true, test.overlaps(new Interval(25L, 42L)));
+
+        // abutting intervals do not overlap
+        assertEquals(0, test.countOverlapping(new Interval(50L, 60L)));
+        assertEquals(false, test.overlaps(new Interval(50L, 60L)));
+        // zero duration intervals only overlap those strictly containing them
+        assertEquals(1, test.countOverlapping(new Interval(10L, 10L)));
+        assertEquals(0, test.countOverlapping(new Interval(0L, 0L)));
+        assertEquals(true, test.overlaps(new Interval(5L, 15L)));
+
+        ids = test.getContainingIds(new Instant(20L));
+        assertEquals(2, ids.length);
+        assertEquals(8, ids[0]);
+        assertEquals(7, ids[1]);
+        assertEquals(1, test.getContainingIds(new Instant(10L)).length);
+        assertEquals(0, test.getContainingIds(new Instant(50L)).length);
+
+        IntervalIndex empty = new IntervalIndex(new long[0], new long[0], null);
+        assertEquals(false, empty.overlaps(new Interval(0L, 100L)));
+        assertEquals(0, empty.getOverlappingIds(new Interval(0L, 100L)).length);
+        assertEquals(0, empty.getContainingIds(new Instant(0L)).length);
+    }
+
+    public void testQueries_null() {
+        DateTimeUtils.setCurrentMillisFixed(20L);
+        try {
+            IntervalIndex test = new IntervalIndex(new long[] {0L, 20L}, new long[] {30L, 40L}, null);
+            assertEquals(1, test.countOverlapping(null));
+            assertEquals(2, test.getContainingIds(null).length);
+        } finally {
+            DateTimeUtils.setCurrentMillisSystem();
+        }
+    }
+
+    public void testQueries_random() {
+        Random random = new Random(0);
+        List<Interval> intervals = new ArrayList<Interval>();
+        for (int i = 0; i < 1000; i++) {
+            long start = random.nextInt(10000);
+            long length = (random.nextInt(10) == 0 ? random.nextInt(3000) : random.nextInt(100));
+            intervals.add(new Interval(start, start + length));
+        }
+        IntervalIndex test = new IntervalIndex(intervals);
+        for (int q = 0; q < 300; q++) {
+            long start = random.nextInt(10200) - 100;
+            Interval query = new Interval(start, start + random.nextInt(q % 3 == 0 ? 2 : 300));
+            List<Integer> expected = new ArrayList<Integer>();
+            for (int i = 0; i < intervals.size(); i++) {
+                if (intervals.get(i).overlaps(query)) {
+                    expected.add(i);
+                }
+            }
+            int[] ids = test.getOverlappingIds(query);
+            assertEquals(expected.size(), ids.length);
+            assertEquals(expected.size(), test.countOverlapping(query));
+            assertEquals(expected.size() > 0, test.overlaps(query));
+            for (int i = 0; i < ids.length; i++) {
+                assertTrue(intervals.get(ids[i]).overlaps(query));
+            }
+
+            Instant instant = new Instant(start);
+            int count = 0;
+            for (int i = 0; i < intervals.size(); i++) {
+                if (intervals.get(i).contains(instant)) {
+                    count++;
+                }
+            }
+            ids = test.getContainingIds(instant);
+            assertEquals(count, ids.length);
+            for (int i = 0; i < ids.length; i++) {
+                assertTrue(intervals.get(ids[i]).contains(instant));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,268 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.joda.time.chrono.GJChronology;
+import org.joda.time.chrono.ISOChronology;
+
+/**
+ * This class is a Junit unit test for IntervalSet.
+ *
+ * @author Stephen Colebourne
+ */
+public class TestIntervalSet extends TestCase {
+
+    private static final DateTimeZone PARIS = DateTimeZone.forID("Europe/Paris");
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(suite());
+    }
+
+    public static TestSuite suite() {
+        return new TestSuite(TestIntervalSet.class);
+    }
+
+    public TestIntervalSet(String name) {
+        super(name);
+    }
+
+    //-----------------------------------------------------------------------
+    public void testConstructor() {
+        IntervalSet test = new IntervalSet();
+        assertEquals(0, test.size());
+        assertEquals(true, test.isEmpty());
+        assertEquals(ISOChronology.getInstance(), test.getChronology());
+
+        test = new IntervalSet(new Interval(10L, 20L, GJChronology.getInstance(PARIS)));
+        assertEquals(1, test.size());
+        assertEquals(10L, test.getStartMillis(0));
+        assertEquals(20L, test.getEndMillis(0));
+        assertEquals(GJChronology.getInstance(PARIS), test.getChronology());
+        assertEquals(new Interval(10L, 20L, GJChronology.getInstance(PARIS)), test.getInterval(0));
+
+        assertEquals(true, new IntervalSet(new Interval(10L, 10L)).isEmpty());
+        assertEquals(true, new IntervalSet((ReadableInterval) null).isEmpty());
+    }
+
+    public void testConstructor_normalize() {
+        List<Interval> intervals = new ArrayList<Interval>();
+        intervals.add(new Interval(40L, 50L));
+        intervals.add(new Interval(0L, 10L));
+        intervals.add(new Interval(10L, 15L));
+        intervals.add(new Interval(12L, 14L));
+        intervals.add(new Interval(30L, 30L));
+        intervals.add(new Interval(45L, 60L));
+        IntervalSet test = new IntervalSet(intervals, null);
+        assertEquals(2, test.size());
+        assertEquals(0L, test.getStartMillis(0));
+        assertEquals(15L, test.getEndMillis(0));
+        assertEquals(40L, test.getStartMillis(1));
+        assertEquals(60L, test.getEndMillis(1));
+        assertEquals(35L, test.getTotalDurationMillis());
+        assertEquals(new Duration(35L), test.getTotalDuration());
+
+        List<Interval> list = test.toIntervals();
+        assertEquals(2, list.size());
+        assertEquals(new Interval(0L, 15L), list.get(0));
+        assertEquals(new Interval(40L, 60L), list.get(1));
+
+        assertEquals(test, new IntervalSet(new long[] {45L, 0L, 10L}, new long[] {60L, 10L, 15L}, null)
+            .union(new IntervalSet(new Interval(40L, 45L))));
+    }
+
+    public void testConstructor_invalid() {
+        List<Interval> intervals = new ArrayList<Interval>();
+        intervals.add(null);
+        try {
+            new IntervalSet(intervals, null);
+            fail();
+        } catch (IllegalArgumentException ex) {}
+        try {
+            new IntervalSet(new long[] {1L}, new long[] {0L}, null);
+            fail();
+        } catch (IllegalArgumentException ex) {}
+        try {
+            new IntervalSet(new long[] {1L}, new long[0], null);
+            fail();
+        } catch (IllegalArgumentException ex) {}
+        try {
+            new IntervalSet().getStartMillis(0);
+            fail();
+        } catch (IndexOutOfBoundsException ex) {}
+    }
+
+    public void testContainsOverlaps() {
+        IntervalSet test = new IntervalSet(new long[] {0L, 20L}, new long[] {10L, 30L}, null);
+        assertEquals(true, test.contains(0L));
+        assertEquals(true, test.contains(9L));
+        assertEquals(false, test.contains(10L));
+        assertEquals(false, test.contains(-1L));
+        assertEquals(true, test.contains(new Instant(25L)));
+        assertEquals(false, test.contains(new Instant(30L)));
+
+        assertEquals(true, test.contains(new Interval(0L, 10L)));
+        assertEquals(true, test.contains(new Interval(22L, 25L)));
+        assertEquals(true, test.contains(new Interval(0L, 0L)));
+        assertEquals(false, test.contains(new Interval(10L, 10L)));
+        assertEquals(false, test.contains(new Interval(5L, 25L)));
+
+        assertEquals(true, test.overlaps(new Interval(5L, 25L)));
+        assertEquals(true, test.overlaps(new Interval(9L, 20L)));
+        assertEquals(false, test.overlaps(new Interval(10L, 20L)));
+        assertEquals(false, test.overlaps(new Interval(30L, 40L)));
+        assertEquals(true, test.overlaps(new Interval(5L, 5L)));
+        assertEquals(false, test.overlaps(new Interval(0L, 0L)));
+        assertEquals(false, new IntervalSet().overlaps(new Interval(0L, 10L)));
+    }
+
+    public void testOperations() {
+        IntervalSet a = new IntervalSet(new long[] {0L, 20L}, new long[] {10L, 30L}, null);
+        IntervalSet b = new IntervalSet(new long[] {5L, 30L}, new long[] {25L, 40L}, null);
+        assertEquals(new IntervalSet(new Interval(0L, 40L)), a.union(b));
+        assertEquals(new IntervalSet(new long[] {5L, 20L}, new long[] {10L, 25L}, null), a.intersection(b));
+        assertEquals(new IntervalSet(new long[] {0L, 25L}, new long[] {5L, 30L}, null), a.difference(b));
+        assertEquals(new IntervalSet(new long[] {-5L, 10L, 30L}, new long[] {0L, 20L, 35L}, null),
+            a.complement(new Interval(-5L, 35L)));
+        assertEquals(new IntervalSet(new Interval(10L, 20L)), a.getGaps());
+        assertEquals(true, new IntervalSet(new Interval(10L, 20L)).getGaps().isEmpty());
+        assertEquals(true, a.intersection(new IntervalSet()).isEmpty());
+        assertEquals(a, a.union(new IntervalSet()));
+
+        IntervalSet gj = a.withChronology(GJChronology.getInstance(PARIS));
+        assertEquals(GJChronology.getInstance(PARIS), gj.union(b).getChronology());
+        assertSame(gj, gj.withChronology(GJChronology.getInstance(PARIS)));
+        assertEquals(false, gj.equals(a));
+    }
+
+    public void testOperations_random() {
+        Random random = new Random(0);
+        for (int n = 0; n < 2000; n++) {
+            long maskA = randomMask(random);
+            long maskB = randomMask(random);
+            IntervalSet a = toSet(maskA, random);
+            IntervalSet b = toSet(maskB, random);
+            assertEquals(maskA, toMask(a));
+            assertEquals(maskA | maskB, toMask(a.union(b)));
+            assertEquals(maskA & maskB, toMask(a.intersection(b)));
+            assertEquals(maskA & ~maskB, toMask(a.difference(b)));
+            int start = random.nextInt(64);
+            int end = start + random.nextInt(65 - start);
+            long bound = (end == 64 ? -1L : (1L << end) - 1) & ~((1L << start) - 1);
+            assertEquals(bound & ~maskA, toMask(a.complement(new Interval(start, end))));
+            assertEquals(a.union(b), b.union(a));
+            assertEquals(a.intersection(b), b.intersection(a));
+            for (int t = 0; t < 64; t++) {
+                assertEquals(((maskA >>> t) & 1) == 1, a.contains(t));
+            }
+            boolean overlaps = false;
+            for (int i = 0; i < a.size(); i++) {
+                overlaps |= a.getInterval(i).overlaps(new Interval(start, end));
+            }
+            assertEquals(overlaps, a.overlaps(new Interval(start, end)));
+            boolean contains = false;
+            for (int i = 0; i < a.size(); i++) {
+                contains |= a.getInterval(i).contains(new Interval(start, end));
+            }
+            assertEquals(contains, a.contains(new Interval(start, end)));
+        }
+    }
+
+    private static long randomMask(Random random) {
+        long mask = 0;
+        for (int i = 0; i < 64; i++) {
+            // runs of set and clear bits
+            if (random.nextInt(6) == 0) {
+                mask |= (((mask >>> (i - 1)) & 1) ^ 1) << i;
+            } else if (i > 0) {
+                mask |= ((mask >>> (i - 1)) & 1) << i;
+            }
+        }
+        return mask;
+    }
+
+    private static IntervalSet toSet(long mask, Random random) {
+        // split each run into random, possibly overlapping, pieces
+        List<Interval> intervals = new ArrayList<Interval>();
+        for (int i = 0; i < 64; i++) {
+            if (((mask >>> i) & 1) == 1) {
+                int end = i + 1;
+                if (random.nextBoolean() && i > 0 && ((mask >>> (i - 1)) & 1) == 1) {
+                    intervals.add(new Interval(i - 1, end));
+                } else {
+                    intervals.add(new Interval(i, end));
+                }
+                if (random.nextInt(4) == 0) {
+                    intervals.add(new Interval(i, i));
+                }
+            }
+        }
+        Collections.shuffle(intervals, random);
+        return new IntervalSet(intervals, null);
+    }
+
+    private static long toMask(IntervalSet set) {
+        long mask = 0;
+        for (int i = 0; i < set.size(); i++) {
+            assertTrue(set.getStartMillis(i) < set.getEndMillis(i));
+            if (i > 0) {
+                assertTrue(set.getEndMillis(i - 1) < set.getStartMillis(i));
+            }
+            for (long t = set.getStartMillis(i); t < set.getEndMillis(i); t++) {
+                mask |= 1L << t;
+            }
+        }
+        return mask;
+    }
+
+    //-----------------------------------------------------------------------
+    public void testEqualsHashCodeToString() {
+        IntervalSet a = new IntervalSet(new long[] {0L, 20L}, new long[] {10L, 30L}, ISOChronology.getInstanceUTC());
+        IntervalSet b = new IntervalSet(new long[] {20L, 0L}, new long[] {30L, 10L}, ISOChronology.getInstanceUTC());
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals(false, a.equals(null));
+        assertEquals(false, a.equals(new IntervalSet()));
+        assertEquals("[" + a.getInterval(0) + ", " + a.getInterval(1) + "]", a.toString());
+        assertEquals("[1970-01-01T00:00:00.000/1970-01-01T00:00:00.010, "
+            + "1970-01-01T00:00:00.020/1970-01-01T00:00:00.030]", a.toString());
+        assertEquals("[]", new IntervalSet().toString());
+    }
+
+    public void testSerialization() throws Exception {
+        IntervalSet test = new IntervalSet(new long[] {0L, 20L}, new long[] {10L, 30L}, GJChronology.getInstance(PARIS));
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(baos);
+        oos.writeObject(test);
+        oos.close();
+        ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        IntervalSet result = (IntervalSet) ois.readObject();
+        ois.close();
+        assertEquals(test, result);
+    }
+
+}
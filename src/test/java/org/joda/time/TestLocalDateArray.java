@@ -0,0 +1,218 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.joda.time.chrono.CopticChronology;
+import org.joda.time.chrono.GJChronology;
+import org.joda.time.chrono.ISOChronology;
+
+/**
+ * This class is a Junit unit test for LocalDateArray.
+ *
+ * @author Stephen Colebourne
+ */
+public class TestLocalDateArray extends TestCase {
+
+    private static final DateTimeZone PARIS = DateTimeZone.forID("Europe/Paris");
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(suite());
+    }
+
+    public static TestSuite suite() {
+        return new TestSuite(TestLocalDateArray.class);
+    }
+
+    public TestLocalDateArray(String name) {
+        super(name);
+    }
+
+    //-----------------------------------------------------------------------
+    public void testConstructor() {
+        LocalDateArray array = new LocalDateArray();
+        assertEquals(ISOChronology.getInstanceUTC(), array.getChronology());
+        assertEquals(0, array.size());
+
+        array = new LocalDateArray(GJChronology.getInstance(PARIS));
+        assertEquals(GJChronology.getInstanceUTC(), array.getChronology());
+
+        int[] days = new int[] {0, -1, 365};
+        array = new LocalDateArray(days, null);
+        days[0] = 99;
+        assertEquals(3, array.size());
+        assertEquals(new LocalDate(1970, 1, 1), array.get(0));
+        assertEquals(new LocalDate(1969, 12, 31), array.get(1));
+        assertEquals(new LocalDate(1971, 1, 1), array.get(2));
+    }
+
+    public void testAddGetSet() {
+        LocalDateArray array = new LocalDateArray();
+        for (int i = 0; i < 25; i++) {
+            array.addEpochDay(i);
+        }
+        assertEquals(true, array.add(new LocalDate(2011, 6, 9)));
+        assertEquals(true, array.add(new LocalDate(1066, 10, 14)));
+        assertEquals(true, array.add(new YearMonthDay(2000, 2, 29)));
+        assertEquals(true, array.add(new YearMonth(2000, 2)));
+        assertEquals(29, array.size());
+        assertEquals(24, array.getEpochDay(24));
+        assertEquals(new LocalDate(2011, 6, 9), array.get(25));
+        assertEquals(new LocalDate(1066, 10, 14), array.get(26));
+        assertEquals(new LocalDate(2000, 2, 29), array.get(27));
+        assertEquals(new LocalDate(2000, 2, 1), array.get(28));
+
+        assertEquals(new LocalDate(1970, 1, 4), array.set(3, new LocalDate(1970, 2, 1)));
+        assertEquals(new LocalDate(1970, 2, 1), array.set(3, new YearMonthDay(1970, 3, 1)));
+        assertEquals(59, array.setEpochDay(3, 60));
+        assertEquals(new LocalDate(1970, 3, 2), array.get(3));
+
+        try {
+            array.get(29);
+            fail();
+        } catch (IndexOutOfBoundsException ex) {}
+        try {
+            array.getEpochDay(-1);
+            fail();
+        } catch (IndexOutOfBoundsException ex) {}
+    }
+
+    public void testAdd_otherChronology() {
+        LocalDateArray array = new LocalDateArray();
+        array.add(new LocalDate(2011, 6, 9, GJChronology.getInstance(PARIS)));
+        array.add(new LocalDate(1725, 2, 1, CopticChronology.getInstanceUTC()));
+        // converted using the fields
+        assertEquals(new LocalDate(2011, 6, 9), array.get(0));
+        assertEquals(new LocalDate(1725, 2, 1), array.get(1));
+
+        LocalDateArray coptic = new LocalDateArray(CopticChronology.getInstance(PARIS));
+        coptic.add(new LocalDate(1725, 2, 1, CopticChronology.getInstanceUTC()));
+        assertEquals(new LocalDate(1725, 2, 1, CopticChronology.getInstanceUTC()), coptic.get(0));
+        assertEquals(CopticChronology.getInstanceUTC(), coptic.get(0).getChronology());
+    }
+
+    public void testInsertRemove() {
+        LocalDateArray array = new LocalDateArray(new int[] {1, 2, 3}, null);
+        array.add(0, new LocalDate(1970, 1, 1));
+        array.add(4, new LocalDate(1970, 1, 5));
+        assertEquals(5, array.size());
+        assertEquals(new LocalDate(1970, 1, 5), array.remove(4));
+        assertEquals(true, array.remove(new LocalDate(1970, 1, 1)));
+        assertEquals(3, array.size());
+        assertEquals(1, array.getEpochDay(0));
+        try {
+            array.add(4, new LocalDate(1970, 1, 1));
+            fail();
+        } catch (IndexOutOfBoundsException ex) {}
+
+        array.clear();
+        assertEquals(0, array.size());
+    }
+
+    public void testList() {
+        LocalDateArray array = new LocalDateArray(new int[] {0, 1}, null);
+        List<LocalDate> list = new ArrayList<LocalDate>();
+        list.add(new LocalDate(1970, 1, 1));
+        list.add(new LocalDate(1970, 1, 2));
+        assertEquals(list, array);
+        assertEquals(list.hashCode(), array.hashCode());
+        assertEquals(1, array.indexOf(new LocalDate(1970, 1, 2)));
+    }
+
+    public void testSortBinarySearch() {
+        LocalDateArray array = new LocalDateArray();
+        array.add(new LocalDate(2011, 6, 9));
+        array.add(new LocalDate(1969, 12, 31));
+        array.add(new LocalDate(2000, 1, 1));
+        array.sort();
+        assertEquals(new LocalDate(1969, 12, 31), array.get(0));
+        assertEquals(new LocalDate(2011, 6, 9), array.get(2));
+        assertEquals(0, array.binarySearch(-1));
+        assertEquals(1, array.binarySearch(new LocalDate(2000, 1, 1)));
+        assertEquals(-2, array.binarySearch(new LocalDate(1970, 1, 1)));
+        assertEquals(-4, array.binarySearch(new LocalDate(2012, 1, 1)));
+    }
+
+    public void testToEpochDayArray() {
+        LocalDateArray array = new LocalDateArray(new int[] {1, 2}, null);
+        array.ensureCapacity(100);
+        array.addEpochDay(-3);
+        array.trimToSize();
+        int[] days = array.toEpochDayArray();
+        assertEquals(3, days.length);
+        assertEquals(-3, days[2]);
+    }
+
+    public void testSerialization() throws Exception {
+        LocalDateArray test = new LocalDateArray(new int[] {1, 2, 3}, GJChronology.getInstance(PARIS));
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(baos);
+        oos.writeObject(test);
+        oos.close();
+        ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        LocalDateArray result = (LocalDateArray) ois.readObject();
+        ois.close();
+        assertEquals(test, result);
+        assertEquals(test.getChronology(), result.getChronology());
+    }
+
+    public void testSerialization_spareCapacity() throws Exception {
+        LocalDateArray test = new LocalDateArray(new int[] {1, 2, 3}, GJChronology.getInstance(PARIS));
+        for (int i = 0; i < 1000; i++) {
+            test.addEpochDay(i);
+        }
+        test.clear();
+        LocalDateArray result = (LocalDateArray) roundTrip(test);
+        assertEquals(0, result.size());
+        assertEquals(serializedLength(new LocalDateArray(GJChronology.getInstance(PARIS))), serializedLength(test));
+
+        test = new LocalDateArray(new int[] {1, 2, 3}, GJChronology.getInstance(PARIS));
+        test.remove(1);
+        result = (LocalDateArray) roundTrip(test);
+        assertEquals(test, result);
+        assertEquals(2, result.size());
+        assertEquals(serializedLength(result), serializedLength(test));
+    }
+
+    private static Object roundTrip(Object test) throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(baos);
+        oos.writeObject(test);
+        oos.close();
+        ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        Object result = ois.readObject();
+        ois.close();
+        return result;
+    }
+
+    private static int serializedLength(Object test) throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(baos);
+        oos.writeObject(test);
+        oos.close();
+        return baos.size();
+    }
+
+}
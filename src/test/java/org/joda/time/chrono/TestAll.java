@@ -39,6 +39,7 @@ public class TestAll extends TestCase {
         TestSuite suite = new TestSuite();
         
         suite.addTest(TestBuddhistChronology.suite());
+        suite.addTest(TestChronologyRegistry.suite());
         suite.addTest(TestCopticChronology.suite());
         suite.addTest(TestEthiopicChronology.suite());
         suite.addTest(TestGJChronology.suite());
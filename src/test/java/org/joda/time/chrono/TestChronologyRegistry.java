@@ -0,0 +1,154 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.chrono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.joda.time.Chronology;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Instant;
+
+/**
+ * This class is a Junit unit test for ChronologyRegistry.
+ *
+ * @author Stephen Colebourne
+ */
+public class TestChronologyRegistry extends TestCase {
+
+    private static final DateTimeZone PARIS = DateTimeZone.forID("Europe/Paris");
+    private static final DateTimeZone TOKYO = DateTimeZone.forID("Asia/Tokyo");
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(suite());
+    }
+
+    public static TestSuite suite() {
+        return new TestSuite(TestChronologyRegistry.class);
+    }
+
+    public TestChronologyRegistry(String name) {
+        super(name);
+    }
+
+    //-----------------------------------------------------------------------
+    public void testGetRegister() {
+        DateTimeZone zone = DateTimeZone.forOffsetHoursMinutes(3, 17);
+        assertEquals(null, ChronologyRegistry.get(ISOChronology.class, zone, 4, null));
+        ISOChronology chrono = ISOChronology.getInstance(zone);
+        assertSame(chrono, ChronologyRegistry.get(ISOChronology.class, zone, 4, null));
+        assertSame(chrono, ChronologyRegistry.get(ISOChronology.class, DateTimeZone.forOffsetHoursMinutes(3, 17), 4, null));
+        assertEquals(null, ChronologyRegistry.get(ISOChronology.class, zone, 5, null));
+        assertEquals(null, ChronologyRegistry.get(GregorianChronology.class, zone, 4, null));
+
+        ISOChronology other = ISOChronology.getInstance(TOKYO);
+        assertSame(chrono, ChronologyRegistry.register(ISOChronology.class, zone, 4, null, other));
+        assertSame(chrono, ISOChronology.getInstance(zone));
+    }
+
+    public void testKeys() {
+        assertSame(GregorianChronology.getInstance(PARIS, 2), GregorianChronology.getInstance(PARIS, 2));
+        assertNotSame(GregorianChronology.getInstance(PARIS, 2), GregorianChronology.getInstance(PARIS, 3));
+        assertNotSame(GregorianChronology.getInstance(PARIS, 2), JulianChronology.getInstance(PARIS, 2));
+        assertSame(IslamicChronology.getInstance(TOKYO, IslamicChronology.LEAP_YEAR_INDIAN),
+            IslamicChronology.getInstance(TOKYO, IslamicChronology.LEAP_YEAR_INDIAN));
+        assertNotSame(IslamicChronology.getInstance(TOKYO, IslamicChronology.LEAP_YEAR_INDIAN),
+            IslamicChronology.getInstance(TOKYO, IslamicChronology.LEAP_YEAR_15_BASED));
+        Instant cutover = new Instant(-12219292800000L + 86400000L);
+        assertSame(GJChronology.getInstance(PARIS, cutover, 4), GJChronology.getInstance(PARIS, new Instant(cutover), 4));
+        assertNotSame(GJChronology.getInstance(PARIS, cutover, 4), GJChronology.getInstance(PARIS, cutover, 3));
+        assertNotSame(GJChronology.getInstance(PARIS, cutover, 4), GJChronology.getInstance(PARIS, null, 4));
+        assertSame(GJChronology.getInstance(PARIS, null, 4), GJChronology.getInstance(PARIS));
+    }
+
+    public void testInvalidMinDays() {
+        try {
+            GregorianChronology.getInstance(PARIS, 0);
+            fail();
+        } catch (IllegalArgumentException ex) {}
+        try {
+            JulianChronology.getInstance(PARIS, 8);
+            fail();
+        } catch (IllegalArgumentException ex) {}
+        try {
+            CopticChronology.getInstance(PARIS, -1);
+            fail();
+        } catch (IllegalArgumentException ex) {}
+        try {
+            EthiopicChronology.getInstance(DateTimeZone.UTC, 8);
+            fail();
+        } catch (IllegalArgumentException ex) {}
+        try {
+            GJChronology.getInstance(PARIS, null, 0);
+            fail();
+        } catch (IllegalArgumentException ex) {}
+    }
+
+    public void testConcurrent() throws Exception {
+        final String[] ids = new String[] {
+            "Africa/Cairo", "America/Anchorage", "Asia/Kolkata", "Australia/Adelaide",
+            "Europe/Helsinki", "Pacific/Auckland", "America/Sao_Paulo", "Asia/Kathmandu"};
+        final CountDownLatch start = new CountDownLatch(1);
+        List<Callable<List<Chronology>>> tasks = new ArrayList<Callable<List<Chronology>>>();
+        for (int t = 0; t < 16; t++) {
+            tasks.add(new Callable<List<Chronology>>() {
+                public List<Chronology> call() throws Exception {
+                    start.await();
+                    List<Chronology> chronos = new ArrayList<Chronology>();
+                    for (int i = 0; i < ids.length; i++) {
+                        DateTimeZone zone = DateTimeZone.forID(ids[i]);
+                        chronos.add(ISOChronology.getInstance(zone));
+                        chronos.add(GregorianChronology.getInstance(zone, 1 + i % 7));
+                        chronos.add(JulianChronology.getInstance(zone));
+                        chronos.add(CopticChronology.getInstance(zone));
+                        chronos.add(EthiopicChronology.getInstance(zone));
+                        chronos.add(BuddhistChronology.getInstance(zone));
+                        chronos.add(GJChronology.getInstance(zone));
+                        chronos.add(IslamicChronology.getInstance(zone));
+                    }
+                    return chronos;
+                }
+            });
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        try {
+            List<Future<List<Chronology>>> futures = new ArrayList<Future<List<Chronology>>>();
+            for (int t = 0; t < tasks.size(); t++) {
+                futures.add(executor.submit(tasks.get(t)));
+            }
+            start.countDown();
+            List<Chronology> first = futures.get(0).get();
+            for (int t = 1; t < futures.size(); t++) {
+                List<Chronology> chronos = futures.get(t).get();
+                assertEquals(first.size(), chronos.size());
+                for (int i = 0; i < first.size(); i++) {
+                    assertSame(first.get(i), chronos.get(i));
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
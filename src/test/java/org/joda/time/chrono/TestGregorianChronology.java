@@ -277,4 +277,131 @@ public class TestGregorianChronology extends TestCase {
         assertEquals(28, chrono.dayOfMonth().getMaximumValue(dm1.getMillis()));
     }
 
+    //-----------------------------------------------------------------------
+    public void testYearTable() {
+        BasicChronology[] chronos = new BasicChronology[] {
+            GregorianChronology.getInstanceUTC(),
+            JulianChronology.getInstanceUTC(),
+            CopticChronology.getInstanceUTC(),
+            EthiopicChronology.getInstanceUTC(),
+            IslamicChronology.getInstanceUTC(),
+        };
+        // 1890 to 2210, crossing both ends of the table
+        long start = -2524521600000L;
+        long end = 7605878400000L;
+        for (int i = 0; i < chronos.length; i++) {
+            BasicChronology chrono = chronos[i];
+            for (long millis = start; millis < end; millis += 3 * DateTimeConstants.MILLIS_PER_DAY + 7) {
+                int year = chrono.calculateYear(millis);
+                assertEquals(year, chrono.getYear(millis));
+                assertEquals(chrono.calculateFirstDayOfYearMillis(year), chrono.getYearMillis(year));
+                long yearStart = chrono.getYearMillis(year);
+                assertEquals(year, chrono.getYear(yearStart));
+                assertEquals(year - 1, chrono.getYear(yearStart - 1));
+            }
+            assertEquals(chrono.calculateYear(Long.MIN_VALUE / 2), chrono.getYear(Long.MIN_VALUE / 2));
+            assertEquals(chrono.calculateYear(Long.MAX_VALUE / 2), chrono.getYear(Long.MAX_VALUE / 2));
+        }
+    }
+
+    public void testGetDateTimeFields() {
+        Chronology chrono = GregorianChronology.getInstanceUTC();
+        long millis = chrono.getDateTimeMillis(2004, 6, 9, 12, 20, 30, 40);
+        int[] values = chrono.getDateTimeFields(millis, null);
+        assertEquals(7, values.length);
+        assertEquals(2004, values[0]);
+        assertEquals(6, values[1]);
+        assertEquals(9, values[2]);
+        assertEquals(12, values[3]);
+        assertEquals(20, values[4]);
+        assertEquals(30, values[5]);
+        assertEquals(40, values[6]);
+
+        Chronology[] chronos = new Chronology[] {
+            GregorianChronology.getInstanceUTC(), GregorianChronology.getInstance(PARIS),
+            GregorianChronology.getInstance(TOKYO, 1), ISOChronology.getInstance(LONDON),
+            GJChronology.getInstance(PARIS), BuddhistChronology.getInstance(TOKYO),
+            IslamicChronology.getInstance(LONDON), LenientChronology.getInstance(ISOChronology.getInstance(PARIS)),
+            JulianChronology.getInstanceUTC(), JulianChronology.getInstance(TOKYO, 2),
+            CopticChronology.getInstance(LONDON), EthiopicChronology.getInstance(PARIS),
+        };
+        for (int i = 0; i < chronos.length; i++) {
+            for (long m = -30000000000000L; m < 70000000000000L; m += 12345678901L) {
+                assertDateTimeFields(chronos[i], m);
+            }
+            assertDateTimeFields(chronos[i], -1L);
+            assertDateTimeFields(chronos[i], Long.MAX_VALUE / 2);
+        }
+        for (int i = 0; i < 4; i++) {
+            assertDateTimeFields(chronos[i], Long.MIN_VALUE / 2);
+        }
+    }
+
+    public void testGetDateTimeMillis_arrays() {
+        int[] year = new int[] {2004, 2004, 2004, 1999, 2010};
+        int[] month = new int[] {6, 6, 3, 12, 10};
+        int[] day = new int[] {9, 30, 28, 31, 31};
+        int[] hour = new int[] {12, 0, 3, 23, 1};
+        int[] minute = new int[] {20, 0, 30, 59, 30};
+        int[] second = new int[] {30, 0, 0, 59, 0};
+        int[] millis = new int[] {40, 0, 0, 999, 0};
+        Chronology[] chronos = new Chronology[] {
+            GregorianChronology.getInstanceUTC(), ISOChronology.getInstance(LONDON),
+            ISOChronology.getInstance(DateTimeZone.forOffsetHours(5)), GJChronology.getInstance(PARIS),
+            BuddhistChronology.getInstance(TOKYO), LenientChronology.getInstance(ISOChronology.getInstance(PARIS)),
+        };
+        for (int i = 0; i < chronos.length; i++) {
+            Chronology chrono = chronos[i];
+            long[] results = chrono.getDateTimeMillis(year, month, day, hour, minute, second, millis, null);
+            assertEquals(year.length, results.length);
+            for (int j = 0; j < year.length; j++) {
+                assertEquals(chrono.getDateTimeMillis(year[j], month[j], day[j], hour[j], minute[j], second[j], millis[j]),
+                    results[j]);
+            }
+            long[] filled = new long[6];
+            assertSame(filled, chrono.getDateTimeMillis(year, month, day, hour, minute, second, millis, filled));
+            assertEquals(results[4], filled[4]);
+            assertEquals(0, filled[5]);
+        }
+    }
+
+    public void testGetDateTimeMillis_arraysInvalid() {
+        Chronology chrono = GregorianChronology.getInstance(PARIS);
+        int[] ones = new int[] {1, 1};
+        int[] zeros = new int[] {0, 0};
+        try {
+            chrono.getDateTimeMillis(new int[] {2004, 2005}, new int[] {2, 2}, new int[] {29, 29},
+                zeros, zeros, zeros, zeros, null);
+            fail();
+        } catch (IllegalArgumentException ex) {}
+        try {
+            chrono.getDateTimeMillis(new int[] {2004, 2004}, new int[] {1, 13}, ones,
+                zeros, zeros, zeros, zeros, null);
+            fail();
+        } catch (IllegalArgumentException ex) {}
+        try {
+            chrono.getDateTimeMillis(new int[] {2004, 2004}, ones, ones,
+                new int[] {0, 24}, zeros, zeros, zeros, null);
+            fail();
+        } catch (IllegalArgumentException ex) {}
+        try {
+            // in the gap of the daylight saving cutover
+            chrono.getDateTimeMillis(new int[] {2004, 2004}, new int[] {3, 3}, new int[] {28, 28},
+                new int[] {1, 2}, new int[] {30, 30}, zeros, zeros, null);
+            fail();
+        } catch (IllegalArgumentException ex) {}
+    }
+
+    private void assertDateTimeFields(Chronology chrono, long millis) {
+        int[] expected = new int[] {
+            chrono.year().get(millis), chrono.monthOfYear().get(millis), chrono.dayOfMonth().get(millis),
+            chrono.hourOfDay().get(millis), chrono.minuteOfHour().get(millis),
+            chrono.secondOfMinute().get(millis), chrono.millisOfSecond().get(millis)};
+        int[] values = chrono.getDateTimeFields(millis, new int[8]);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], values[i]);
+        }
+        assertEquals(0, values[7]);
+    }
+
 }
@@ -21,6 +21,7 @@ import java.util.TimeZone;
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
 
+import org.joda.time.Chronology;
 import org.joda.time.DateTimeConstants;
 import org.joda.time.DateTimeUtils;
 import org.joda.time.DateTimeZone;
@@ -266,4 +267,36 @@ public class TestJulianChronology extends TestCase {
         assertEquals(true, JulianChronology.getInstance().millisOfSecond().isSupported());
     }
 
+    public void testGetDateTimeFields() {
+        // year zero is skipped
+        Chronology chrono = JulianChronology.getInstance(PARIS);
+        long millis = chrono.getDateTimeMillis(-1, 12, 31, 23, 59, 59, 999);
+        int[] values = chrono.getDateTimeFields(millis, null);
+        assertEquals(-1, values[0]);
+        assertEquals(12, values[1]);
+        assertEquals(31, values[2]);
+        assertEquals(23, values[3]);
+        values = chrono.getDateTimeFields(millis + 1, values);
+        assertEquals(1, values[0]);
+        assertEquals(1, values[1]);
+        assertEquals(1, values[2]);
+        assertEquals(0, values[3]);
+    }
+
+    public void testGetDateTimeMillis_arrays() {
+        // year zero is skipped
+        Chronology chrono = JulianChronology.getInstanceUTC();
+        int[] zeros = new int[] {0, 0, 0};
+        long[] results = chrono.getDateTimeMillis(new int[] {-1, 1, 4}, new int[] {12, 1, 2},
+            new int[] {31, 1, 29}, zeros, zeros, zeros, zeros, null);
+        assertEquals(chrono.getDateTimeMillis(-1, 12, 31, 0), results[0]);
+        assertEquals(results[0] + DateTimeConstants.MILLIS_PER_DAY, results[1]);
+        assertEquals(chrono.getDateTimeMillis(4, 2, 29, 0), results[2]);
+        try {
+            chrono.getDateTimeMillis(new int[] {1, 0}, new int[] {1, 1}, new int[] {1, 1},
+                zeros, zeros, zeros, zeros, null);
+            fail();
+        } catch (IllegalArgumentException ex) {}
+    }
+
 }
@@ -475,6 +475,26 @@ public class TestBaseDateTimeField extends TestCase {
         assertEquals(60L, field.roundCeiling(60L));
     }
 
+    public void test_roundFloor_longArray() {
+        BaseDateTimeField field = new MockBaseDateTimeField();
+        long[] results = field.roundFloor(new long[] {0L, 29L, 60L, 61L}, null);
+        assertEquals(4, results.length);
+        assertEquals(0L, results[0]);
+        assertEquals(0L, results[1]);
+        assertEquals(60L, results[2]);
+        assertEquals(60L, results[3]);
+    }
+
+    public void test_roundCeiling_longArray() {
+        BaseDateTimeField field = new MockBaseDateTimeField();
+        long[] instants = new long[] {0L, 29L, 60L, 61L};
+        assertSame(instants, field.roundCeiling(instants, instants));
+        assertEquals(0L, instants[0]);
+        assertEquals(60L, instants[1]);
+        assertEquals(60L, instants[2]);
+        assertEquals(120L, instants[3]);
+    }
+
     public void test_roundHalfFloor_long() {
         BaseDateTimeField field = new MockBaseDateTimeField();
         assertEquals(0L, field.roundHalfFloor(0L));
@@ -21,6 +21,7 @@ import java.util.Locale;
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
 
+import org.joda.time.DateTimeField;
 import org.joda.time.DateTimeFieldType;
 import org.joda.time.DurationField;
 import org.joda.time.DurationFieldType;
@@ -491,6 +492,44 @@ public class TestPreciseDateTimeField extends TestCase {
         assertEquals(60L, field.roundCeiling(60L));
     }
 
+    public void test_roundFloor_longArray() {
+        BaseDateTimeField field = new MockPreciseDateTimeField();
+        long[] instants = new long[] {-61L, -60L, -59L, -1L, 0L, 1L, 59L, 60L};
+        long[] results = field.roundFloor(instants, null);
+        for (int i = 0; i < instants.length; i++) {
+            assertEquals(field.roundFloor(instants[i]), results[i]);
+        }
+        assertSame(instants, field.roundFloor(instants, instants));
+        assertTrue(Arrays.equals(results, instants));
+    }
+
+    public void test_roundCeiling_longArray() {
+        BaseDateTimeField field = new MockPreciseDateTimeField();
+        long[] instants = new long[] {-61L, -60L, -59L, -1L, 0L, 1L, 59L, 60L};
+        long[] results = field.roundCeiling(instants, new long[8]);
+        for (int i = 0; i < instants.length; i++) {
+            assertEquals(field.roundCeiling(instants[i]), results[i]);
+        }
+        assertSame(instants, field.roundCeiling(instants, instants));
+        assertTrue(Arrays.equals(results, instants));
+    }
+
+    public void test_roundFloor_longArray_aligned() {
+        // weeks start on Monday, three days before 1970-01-01 (Thursday)
+        DateTimeField field = ISOChronology.getInstanceUTC().weekOfWeekyear();
+        long[] instants = new long[40];
+        for (int i = 0; i < instants.length; i++) {
+            instants[i] = (i - 20) * 43200000L + i;
+        }
+        long[] floors = field.roundFloor(instants, null);
+        long[] ceilings = field.roundCeiling(instants, null);
+        for (int i = 0; i < instants.length; i++) {
+            assertEquals(field.roundFloor(instants[i]), floors[i]);
+            assertEquals(field.roundCeiling(instants[i]), ceilings[i]);
+        }
+        assertEquals(-3 * 86400000L, field.roundFloor(new long[] {0L}, null)[0]);
+    }
+
     public void test_roundHalfFloor_long() {
         BaseDateTimeField field = new MockPreciseDateTimeField();
         assertEquals(0L, field.roundHalfFloor(0L));
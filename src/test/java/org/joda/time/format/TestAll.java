@@ -41,7 +41,11 @@ public class TestAll extends TestCase {
         suite.addTest(TestISODateTimeFormat.suite());
         suite.addTest(TestISODateTimeFormat_Fields.suite());
         suite.addTest(TestISODateTimeFormatParsing.suite());
+        suite.addTest(TestFixedISODateTime.suite());
         suite.addTest(TestDateTimeFormatterBuilder.suite());
+        suite.addTest(TestDateTimeParserBucket.suite());
+        suite.addTest(TestDateTimePrintCache.suite());
+        suite.addTest(TestFormatterCache.suite());
         
         suite.addTest(TestPeriodFormatter.suite());
         suite.addTest(TestPeriodFormat.suite());
@@ -16,6 +16,12 @@
 package org.joda.time.format;
 
 import java.io.CharArrayWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
 import java.util.Locale;
 import java.util.TimeZone;
 
@@ -178,6 +184,123 @@ public class TestDateTimeFormatter extends TestCase {
         } catch (IllegalArgumentException ex) {}
     }
 
+    //-----------------------------------------------------------------------
+    public void testPrint_charArrayMethods() throws Exception {
+        DateTime dt = new DateTime(2004, 6, 9, 10, 20, 30, 40, UTC);
+        char[] buf = new char[40];
+        buf[0] = 'x';
+        int len = f.printTo(buf, 1, dt);
+        assertEquals(24, len);
+        assertEquals("xWed 2004-06-09T10:20:30Z", new String(buf, 0, len + 1));
+        
+        len = f.printTo(buf, 0, dt.getMillis());
+        assertEquals("Wed 2004-06-09T11:20:30+01:00", new String(buf, 0, len));
+        
+        len = ISODateTimeFormat.yearMonthDay().printTo(buf, 0, dt.toYearMonthDay());
+        assertEquals("2004-06-09", new String(buf, 0, len));
+        
+        try {
+            ISODateTimeFormat.yearMonthDay().printTo(buf, 0, (ReadablePartial) null);
+            fail();
+        } catch (IllegalArgumentException ex) {}
+        
+        try {
+            f.printTo(new char[10], 0, dt);
+            fail();
+        } catch (IndexOutOfBoundsException ex) {}
+    }
+
+    //-----------------------------------------------------------------------
+    public void testPrint_byteArrayMethods() throws Exception {
+        DateTime dt = new DateTime(2004, 6, 9, 10, 20, 30, 40, UTC);
+        byte[] buf = new byte[40];
+        buf[0] = 'x';
+        int len = f.printTo(buf, 1, dt);
+        assertEquals(24, len);
+        assertEquals("xWed 2004-06-09T10:20:30Z", new String(buf, 0, len + 1, "UTF-8"));
+        
+        len = f.printTo(buf, 0, dt.getMillis());
+        assertEquals("Wed 2004-06-09T11:20:30+01:00", new String(buf, 0, len, "UTF-8"));
+        
+        len = ISODateTimeFormat.yearMonthDay().printTo(buf, 0, dt.toYearMonthDay());
+        assertEquals("2004-06-09", new String(buf, 0, len, "UTF-8"));
+        
+        DateTimeFormatter french = DateTimeFormat.forPattern("d MMMM yyyy").withLocale(Locale.FRENCH);
+        len = french.printTo(buf, 0, new DateTime(2004, 8, 9, 0, 0, 0, 0, UTC));
+        assertEquals("9 ao\u00fbt 2004", new String(buf, 0, len, "UTF-8"));
+        assertEquals(12, len);
+        
+        try {
+            ISODateTimeFormat.yearMonthDay().printTo(buf, 0, (ReadablePartial) null);
+            fail();
+        } catch (IllegalArgumentException ex) {}
+        
+        try {
+            f.printTo(new byte[10], 0, dt);
+            fail();
+        } catch (IndexOutOfBoundsException ex) {}
+    }
+
+    public void testPrint_byteBufferMethods() throws Exception {
+        DateTime dt = new DateTime(2004, 6, 9, 10, 20, 30, 40, UTC);
+        ByteBuffer buf = ByteBuffer.allocate(128);
+        buf.put((byte) 'x');
+        assertEquals(24, f.printTo(buf, dt));
+        assertEquals(25, buf.position());
+        buf.put((byte) ',');
+        f.printTo(buf, dt.getMillis());
+        buf.put((byte) ',');
+        ISODateTimeFormat.yearMonthDay().printTo(buf, dt.toYearMonthDay());
+        buf.flip();
+        byte[] bytes = new byte[buf.remaining()];
+        buf.get(bytes);
+        assertEquals("xWed 2004-06-09T10:20:30Z,Wed 2004-06-09T11:20:30+01:00,2004-06-09",
+            new String(bytes, "UTF-8"));
+        
+        buf = ByteBuffer.allocateDirect(32);
+        assertEquals(24, ISODateTimeFormat.dateTime().printTo(buf, dt));
+        buf.flip();
+        bytes = new byte[buf.remaining()];
+        buf.get(bytes);
+        assertEquals("2004-06-09T10:20:30.040Z", new String(bytes, "UTF-8"));
+        
+        buf = ByteBuffer.allocate(10);
+        try {
+            f.printTo(buf, dt);
+            fail();
+        } catch (BufferOverflowException ex) {}
+        assertEquals(0, buf.position());
+        
+        StringBuffer longText = new StringBuffer();
+        for (int i = 0; i < 300; i++) {
+            longText.append('\u00e9');
+        }
+        DateTimeFormatter g = new DateTimeFormatterBuilder()
+            .appendLiteral(longText.toString()).appendYear(4, 4).toFormatter().withZone(UTC);
+        buf = ByteBuffer.allocate(1024);
+        assertEquals(604, g.printTo(buf, dt));
+        
+        byte[] array = new byte[300];
+        buf = ByteBuffer.wrap(array, 1, 299).slice();
+        buf.put((byte) 'x');
+        assertEquals(24, ISODateTimeFormat.dateTime().printTo(buf, dt));
+        assertEquals(25, buf.position());
+        assertEquals("x2004-06-09T10:20:30.040Z", new String(array, 1, 25, "UTF-8"));
+        assertEquals(0, array[26]);
+        
+        char[] text = new char[400];
+        Arrays.fill(text, 'a');
+        DateTimeFormatter h = new DateTimeFormatter(new FixedTextPrinter(text, 1), null);
+        buf = ByteBuffer.allocate(512);
+        assertEquals(400, h.printTo(buf, dt));
+        assertEquals(400, h.printTo(ByteBuffer.allocateDirect(512), new LocalDate(2004, 6, 9)));
+        
+        try {
+            f.printTo(ByteBuffer.allocate(64), (ReadablePartial) null);
+            fail();
+        } catch (IllegalArgumentException ex) {}
+    }
+
     //-----------------------------------------------------------------------
     public void testPrint_writerMethods() throws Exception {
         DateTime dt = new DateTime(2004, 6, 9, 10, 20, 30, 40, UTC);
@@ -803,6 +926,351 @@ public class TestDateTimeFormatter extends TestCase {
         assertEquals(10512, f.parseMillis("10.512999"));
     }
 
+    public void testParseMillis_byteArray() throws Exception {
+        DateTimeFormatter f = ISODateTimeFormat.dateTime();
+        long expected = new DateTime(2004, 6, 9, 10, 20, 30, 40, UTC).getMillis();
+        byte[] bytes = "[2004-06-09T12:20:30.040+02:00]".getBytes("US-ASCII");
+        assertEquals(expected, f.parseMillis(bytes, 1, 29));
+        assertEquals(expected, ISODateTimeFormat.basicDateTime().parseMillis(
+            "x20040609T102030.040Z".getBytes("US-ASCII"), 1, 20));
+        try {
+            f.parseMillis(bytes, 0, 30);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            assertEquals("Invalid format: \"[2004-06-09T12:20:30.040+02:00\"", ex.getMessage());
+        }
+        try {
+            f.parseMillis(bytes, 1, 28);
+            fail();
+        } catch (IllegalArgumentException ex) {}
+        try {
+            f.parseMillis(bytes, 10, 29);
+            fail();
+        } catch (IndexOutOfBoundsException ex) {}
+        bytes[8] = (byte) 0xd9;
+        try {
+            f.parseMillis(bytes, 1, 29);
+            fail();
+        } catch (IllegalArgumentException ex) {}
+    }
+
+    public void testParseMillis_byteBuffer() throws Exception {
+        DateTimeFormatter f = ISODateTimeFormat.dateTimeNoMillis();
+        long expected = new DateTime(2004, 6, 9, 10, 20, 30, 0, UTC).getMillis();
+        byte[] bytes = "ab2004-06-09T10:20:30Zcd".getBytes("US-ASCII");
+        
+        ByteBuffer buf = ByteBuffer.wrap(bytes, 2, 20);
+        assertEquals(expected, f.parseMillis(buf));
+        assertEquals(2, buf.position());
+        assertEquals(22, buf.limit());
+        
+        buf.position(1);
+        ByteBuffer slice = buf.slice();
+        slice.position(1);
+        slice.limit(21);
+        assertEquals(expected, f.parseMillis(slice));
+        
+        ByteBuffer direct = ByteBuffer.allocateDirect(32);
+        direct.put(bytes).flip();
+        direct.position(2).limit(22);
+        assertEquals(expected, f.parseMillis(direct));
+        assertEquals(2, direct.position());
+        
+        direct.limit(23);
+        try {
+            f.parseMillis(direct);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            assertEquals("Invalid format: \"2004-06-09T10:20:30Zc\" is malformed at \"c\"", ex.getMessage());
+        }
+    }
+
+    public void testPrint_instantArray() throws Exception {
+        DateTimeFormatter f = DateTimeFormat.forPattern("yyyy-MM-dd HH:mm:ss.SSS ZZ z").withLocale(Locale.UK);
+        // around the London transitions of 2004, unsorted at the end
+        long spring = new DateTime(2004, 3, 28, 1, 0, 0, 0, UTC).getMillis();
+        long autumn = new DateTime(2004, 10, 31, 1, 0, 0, 0, UTC).getMillis();
+        long[] instants = new long[] {
+            spring - 1, spring, spring + 1, autumn - 1, autumn, autumn + 1,
+            spring - 1, autumn, Long.MIN_VALUE, Long.MAX_VALUE,
+        };
+        StringBuffer expected = new StringBuffer();
+        for (int i = 0; i < instants.length; i++) {
+            if (i > 0) {
+                expected.append(", ");
+            }
+            f.printTo(expected, instants[i]);
+        }
+        char[] buf = new char[1024];
+        int len = f.printTo(buf, 3, instants, null, ", ");
+        assertEquals(expected.toString(), new String(buf, 3, len));
+
+        StringBuilder builder = new StringBuilder();
+        f.printTo(builder, instants, null, ", ");
+        assertEquals(expected.toString(), builder.toString());
+        CharArrayWriter writer = new CharArrayWriter();
+        f.printTo(writer, instants, null, ", ");
+        assertEquals(expected.toString(), writer.toString());
+
+        // fixed zone
+        DateTimeFormatter g = f.withZone(DateTimeZone.forOffsetHours(3));
+        len = g.printTo(buf, 0, new long[] {spring, autumn}, null, "");
+        assertEquals(g.print(spring) + g.print(autumn), new String(buf, 0, len));
+
+        try {
+            f.printTo(new char[20], 0, instants, null, ", ");
+            fail();
+        } catch (IndexOutOfBoundsException ex) {}
+    }
+
+    public void testPrint_instantArrayOffsets() throws Exception {
+        DateTimeFormatter f = ISODateTimeFormat.dateTime().withZone(PARIS);
+        long millis = new DateTime(2004, 6, 9, 10, 20, 30, 40, UTC).getMillis();
+        long[] instants = new long[] {millis, millis, millis, millis};
+        int[] offsets = new int[] {0, 3600000, 3600000, -(5 * 3600000 + 30 * 60000)};
+        char[] buf = new char[200];
+        int len = f.printTo(buf, 0, instants, offsets, "\t");
+        assertEquals("2004-06-09T10:20:30.040Z\t2004-06-09T11:20:30.040+01:00\t"
+            + "2004-06-09T11:20:30.040+01:00\t2004-06-09T04:50:30.040-05:30", new String(buf, 0, len));
+
+        StringBuffer sb = new StringBuffer();
+        f.printTo(sb, new long[0], null, ",");
+        assertEquals("", sb.toString());
+        try {
+            f.printTo(sb, instants, new int[3], ",");
+            fail();
+        } catch (IndexOutOfBoundsException ex) {}
+        try {
+            f.printTo(sb, instants, null, null);
+            fail();
+        } catch (IllegalArgumentException ex) {}
+    }
+
+    public void testPrint_instantArrayLarge() throws Exception {
+        DateTimeFormatter f = ISODateTimeFormat.dateTime().withZone(LONDON);
+        long[] instants = new long[2000];
+        for (int i = 0; i < instants.length; i++) {
+            instants[i] = i * 3L * DateTimeConstants.MILLIS_PER_HOUR * 7L;
+        }
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < instants.length; i++) {
+            if (i > 0) {
+                expected.append('\n');
+            }
+            expected.append(f.print(instants[i]));
+        }
+        CharArrayWriter writer = new CharArrayWriter();
+        f.printTo(writer, instants, null, "\n");
+        assertEquals(expected.toString(), writer.toString());
+
+        // an Appendable not written to directly
+        final StringBuilder target = new StringBuilder();
+        Appendable appendable = new Appendable() {
+            public Appendable append(CharSequence csq) {
+                target.append(csq);
+                return this;
+            }
+            public Appendable append(CharSequence csq, int start, int end) {
+                target.append(csq, start, end);
+                return this;
+            }
+            public Appendable append(char c) {
+                target.append(c);
+                return this;
+            }
+        };
+        f.printTo(appendable, instants, null, "\n");
+        assertEquals(expected.toString(), target.toString());
+    }
+
+    public void testPrint_instantArrayUnsorted() throws Exception {
+        DateTimeFormatter f = ISODateTimeFormat.dateTime().withZone(PARIS);
+        long[] instants = new long[500];
+        long millis = 1234567L;
+        for (int i = 0; i < instants.length; i++) {
+            millis = millis * 1103515245L + 12345L;
+            instants[i] = (millis % (40L * 365L * DateTimeConstants.MILLIS_PER_DAY));
+        }
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < instants.length; i++) {
+            if (i > 0) {
+                expected.append(',');
+            }
+            expected.append(f.print(instants[i]));
+        }
+        StringBuilder builder = new StringBuilder();
+        f.printTo(builder, instants, null, ",");
+        assertEquals(expected.toString(), builder.toString());
+    }
+
+    public void testPrint_instantArraySameDay() throws Exception {
+        // a sorted column within one day, across the London spring transition
+        long start = new DateTime(2004, 3, 28, 0, 0, 0, 0, UTC).getMillis();
+        long[] instants = new long[1000];
+        int[] offsets = new int[instants.length];
+        for (int i = 0; i < instants.length; i++) {
+            instants[i] = start + i * 86399L + (i % 7) * 3L;
+            offsets[i] = (i < 500 ? 0 : -3 * DateTimeConstants.MILLIS_PER_HOUR);
+        }
+        DateTimeFormatter[] formatters = new DateTimeFormatter[] {
+            ISODateTimeFormat.dateTime().withZone(LONDON),
+            ISODateTimeFormat.basicTTime().withZone(PARIS),
+            DateTimeFormat.forPattern("EEE yyyy-MM-dd HH:mm:ss.SSS ZZ z").withZone(LONDON).withLocale(Locale.UK),
+        };
+        for (int j = 0; j < formatters.length; j++) {
+            DateTimeFormatter f = formatters[j];
+            StringBuilder expected = new StringBuilder();
+            StringBuilder expectedOffsets = new StringBuilder();
+            for (int i = 0; i < instants.length; i++) {
+                if (i > 0) {
+                    expected.append(',');
+                    expectedOffsets.append(',');
+                }
+                expected.append(f.print(instants[i]));
+                expectedOffsets.append(f.withZone(DateTimeZone.forOffsetMillis(offsets[i])).print(instants[i]));
+            }
+            char[] buf = new char[instants.length * 64];
+            int len = f.printTo(buf, 0, instants, null, ",");
+            assertEquals(expected.toString(), new String(buf, 0, len));
+            StringBuilder builder = new StringBuilder();
+            f.printTo(builder, instants, null, ",");
+            assertEquals(expected.toString(), builder.toString());
+            len = f.printTo(buf, 0, instants, offsets, ",");
+            assertEquals(expectedOffsets.toString(), new String(buf, 0, len));
+        }
+    }
+
+    public void testPrint_instantArrayLongerThanEstimate() throws Exception {
+        final char[] text = new char[5000];
+        Arrays.fill(text, 'x');
+        DateTimeFormatter f = new DateTimeFormatter(new FixedTextPrinter(text, 1), null);
+        StringBuilder builder = new StringBuilder();
+        f.printTo(builder, new long[] {0L, 1L}, null, ",");
+        assertEquals(new String(text) + "," + new String(text), builder.toString());
+
+        final char[] longText = new char[20000];
+        Arrays.fill(longText, 'y');
+        f = new DateTimeFormatter(new FixedTextPrinter(longText, 1), null);
+        builder.setLength(0);
+        f.printTo(builder, new long[] {0L, 1L}, null, ",");
+        assertEquals(new String(longText) + "," + new String(longText), builder.toString());
+    }
+
+    /** Prints fixed text, with a specified estimate of the length. */
+    static class FixedTextPrinter implements DateTimePrinter {
+        private final char[] iText;
+        private final int iEstimate;
+        FixedTextPrinter(char[] text, int estimate) {
+            iText = text;
+            iEstimate = estimate;
+        }
+        public int estimatePrintedLength() {
+            return iEstimate;
+        }
+        public void printTo(StringBuffer buf, long instant, Chronology chrono,
+                int displayOffset, DateTimeZone displayZone, Locale locale) {
+            buf.append(iText);
+        }
+        public void printTo(Writer out, long instant, Chronology chrono,
+                int displayOffset, DateTimeZone displayZone, Locale locale) throws IOException {
+            out.write(iText);
+        }
+        public void printTo(StringBuffer buf, ReadablePartial partial, Locale locale) {
+            buf.append(iText);
+        }
+        public void printTo(Writer out, ReadablePartial partial, Locale locale) throws IOException {
+            out.write(iText);
+        }
+    }
+
+    public void testParseMillis_array() {
+        DateTimeFormatter f = ISODateTimeFormat.dateTimeParser().withZone(PARIS);
+        CharSequence[] texts = new CharSequence[] {
+            "2004-06-09T10:20:30Z",
+            "2004-06-09",
+            "2004-06-09T10:20:30+01:00x",
+            null,
+            new StringBuffer("2004-06-09T10:20:30.040"),
+            "2004-02-30",
+            "",
+        };
+        long[] results = new long[] {-1, -1, -1, -1, -1, -1, -1, -1};
+        int[] errors = new int[8];
+        assertEquals(4, f.parseMillis(texts, results, errors));
+
+        assertEquals(new DateTime(2004, 6, 9, 10, 20, 30, 0, UTC).getMillis(), results[0]);
+        assertEquals(new DateTime(2004, 6, 9, 0, 0, 0, 0, PARIS).getMillis(), results[1]);
+        assertEquals(-1, results[2]);
+        assertEquals(-1, results[3]);
+        assertEquals(new DateTime(2004, 6, 9, 10, 20, 30, 40, PARIS).getMillis(), results[4]);
+        assertEquals(-1, results[5]);
+        assertEquals(-1, results[6]);
+        assertEquals(-1, results[7]);
+
+        assertEquals(-1, errors[0]);
+        assertEquals(-1, errors[1]);
+        assertEquals(25, errors[2]);
+        assertEquals(0, errors[3]);
+        assertEquals(-1, errors[4]);
+        assertEquals(-2, errors[5]);
+        assertEquals(0, errors[6]);
+
+        assertEquals(0, f.parseMillis(new CharSequence[] {"2004-06-09"}, results, null));
+        try {
+            f.parseMillis(texts, new long[6], null);
+            fail();
+        } catch (IndexOutOfBoundsException ex) {}
+        try {
+            f.parseMillis(texts, results, new int[6]);
+            fail();
+        } catch (IndexOutOfBoundsException ex) {}
+
+        // a bad value is distinct from bad text, including a time in the zone gap
+        texts = new CharSequence[] {"x004-02-01", "2004-13-01", "2004-03-28T02:30", "2004-02-29T24:00"};
+        assertEquals(4, f.parseMillis(texts, results, errors));
+        assertEquals(0, errors[0]);
+        assertEquals(-2, errors[1]);
+        assertEquals(-2, errors[2]);
+        assertEquals(-2, errors[3]);
+    }
+
+    public void testParseMillis_delimited() {
+        DateTimeFormatter f = ISODateTimeFormat.dateTime();
+        String text = "2004-06-09T10:20:30.040Z,2004-06-09T10:20:30Z,,2004-06-09T10:20:30.040+02:00"
+            + ",2004-06-31T10:20:30.040Z";
+        int[] starts = new int[] {0, 25, 46, 47, 77};
+        int[] ends = new int[] {24, 45, 46, 76, 101};
+        long[] results = new long[5];
+        int[] errors = new int[5];
+        assertEquals(3, f.parseMillis(text, starts, ends, results, errors));
+        assertEquals(new DateTime(2004, 6, 9, 10, 20, 30, 40, UTC).getMillis(), results[0]);
+        assertEquals(0, results[1]);
+        assertEquals(0, results[2]);
+        assertEquals(new DateTime(2004, 6, 9, 8, 20, 30, 40, UTC).getMillis(), results[3]);
+        assertEquals(-1, errors[0]);
+        assertEquals(19, errors[1]);
+        assertEquals(0, errors[2]);
+        assertEquals(-1, errors[3]);
+        assertEquals(0, results[4]);
+        assertEquals(-2, errors[4]);
+
+        char[] chars = text.toCharArray();
+        assertEquals(3, f.parseMillis(CharBuffer.wrap(chars), starts, ends, results, null));
+
+        try {
+            f.parseMillis(text, new int[] {0}, new int[] {102}, results, null);
+            fail();
+        } catch (IndexOutOfBoundsException ex) {}
+        try {
+            f.parseMillis(text, new int[] {10}, new int[] {9}, results, null);
+            fail();
+        } catch (IndexOutOfBoundsException ex) {}
+        try {
+            f.parseMillis(text, starts, new int[3], results, null);
+            fail();
+        } catch (IndexOutOfBoundsException ex) {}
+    }
+
     //-----------------------------------------------------------------------
     // Ensure time zone name switches properly at the zone DST transition.
     public void testZoneNameNearTransition() {
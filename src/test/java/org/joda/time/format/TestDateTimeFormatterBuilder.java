@@ -15,11 +15,15 @@
  */
 package org.joda.time.format;
 
+import java.util.Locale;
+
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
 
 import org.joda.time.DateTime;
 import org.joda.time.DateTimeFieldType;
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalTime;
 
 /**
  * This class is a Junit unit test for DateTimeFormatterBuilder.
@@ -205,4 +209,70 @@ public class TestDateTimeFormatterBuilder extends TestCase {
         } catch (IllegalArgumentException e) {
         }
     }
+
+    //-----------------------------------------------------------------------
+    public void test_printTo_charArray() {
+        DateTimeZone paris = DateTimeZone.forID("Europe/Paris");
+        DateTime[] dts = new DateTime[] {
+            new DateTime(2004, 6, 9, 10, 20, 30, 40, paris),
+            new DateTime(2004, 6, 9, 10, 20, 30, 0, DateTimeZone.UTC),
+            new DateTime(-123, 1, 2, 3, 4, 5, 6, DateTimeZone.forOffsetMillis(-34567)),
+            new DateTime(12345, 12, 31, 23, 59, 59, 999, DateTimeZone.forOffsetHoursMinutes(5, 30)),
+        };
+        DateTimeFormatter[] fs = new DateTimeFormatter[] {
+            ISODateTimeFormat.dateTime(),
+            ISODateTimeFormat.basicOrdinalDateTime(),
+            ISODateTimeFormat.weekDateTime(),
+            DateTimeFormat.forPattern("yy yyyy xx G EEEE MMM d H h a S SS SSSSSS Z ZZ ZZZ"),
+            DateTimeFormat.mediumDateTime(),
+            new DateTimeFormatterBuilder().appendFractionOfDay(1, 9).appendLiteral(' ')
+                .appendFractionOfMinute(2, 18).appendTimeZoneOffset("Z", true, 1, 4).toFormatter(),
+            new DateTimeFormatterBuilder().append(ISODateTimeFormat.date().getPrinter()).toFormatter(),
+        };
+        char[] buf = new char[128];
+        for (int i = 0; i < fs.length; i++) {
+            for (int j = 0; j < dts.length; j++) {
+                int len = fs[i].printTo(buf, 3, dts[j]);
+                assertEquals(fs[i].print(dts[j]), new String(buf, 3, len));
+            }
+        }
+        LocalTime time = new LocalTime(12, 30, 15, 500);
+        DateTimeFormatter f = DateTimeFormat.forPattern("HH:mm:ss.SSS yy Z");
+        int len = f.printTo(buf, 0, time);
+        assertEquals(f.print(time), new String(buf, 0, len));
+    }
+
+    public void test_printTo_byteArray() throws Exception {
+        DateTimeZone paris = DateTimeZone.forID("Europe/Paris");
+        DateTime[] dts = new DateTime[] {
+            new DateTime(2004, 6, 9, 10, 20, 30, 40, paris),
+            new DateTime(2004, 2, 9, 10, 20, 30, 0, DateTimeZone.UTC),
+            new DateTime(-123, 1, 2, 3, 4, 5, 6, DateTimeZone.forOffsetMillis(-34567)),
+            new DateTime(12345, 12, 31, 23, 59, 59, 999, DateTimeZone.forOffsetHoursMinutes(5, 30)),
+        };
+        DateTimeFormatter[] fs = new DateTimeFormatter[] {
+            ISODateTimeFormat.dateTime(),
+            ISODateTimeFormat.dateTimeNoMillis(),
+            ISODateTimeFormat.basicDateTime(),
+            ISODateTimeFormat.weekDateTime(),
+            DateTimeFormat.forPattern("yy yyyy xx G EEEE MMM d H h a S SS SSSSSS Z ZZ ZZZ"),
+            DateTimeFormat.forPattern("EEEE d MMMM '\u00e9\u20ac' yyyy").withLocale(Locale.FRENCH),
+            DateTimeFormat.mediumDateTime(),
+            new DateTimeFormatterBuilder().appendFractionOfDay(1, 9).appendLiteral('\u00e9')
+                .appendFractionOfMinute(2, 18).appendTimeZoneOffset("Z", true, 1, 4).toFormatter(),
+            new DateTimeFormatterBuilder().append(ISODateTimeFormat.date().getPrinter()).toFormatter(),
+        };
+        byte[] buf = new byte[256];
+        for (int i = 0; i < fs.length; i++) {
+            for (int j = 0; j < dts.length; j++) {
+                int len = fs[i].printTo(buf, 3, dts[j]);
+                assertEquals(fs[i].print(dts[j]), new String(buf, 3, len, "UTF-8"));
+            }
+        }
+        LocalTime time = new LocalTime(12, 30, 15, 500);
+        DateTimeFormatter f = DateTimeFormat.forPattern("HH:mm:ss.SSS yy Z");
+        int len = f.printTo(buf, 0, time);
+        assertEquals(f.print(time), new String(buf, 0, len, "UTF-8"));
+    }
+
 }
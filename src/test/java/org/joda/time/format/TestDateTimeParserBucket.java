@@ -0,0 +1,201 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.format;
+
+import java.util.Locale;
+import java.util.TimeZone;
+
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.joda.time.Chronology;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeFieldType;
+import org.joda.time.DateTimeZone;
+import org.joda.time.chrono.ISOChronology;
+
+/**
+ * This class is a Junit unit test for DateTimeParserBucket.
+ *
+ * @author Stephen Colebourne
+ */
+public class TestDateTimeParserBucket extends TestCase {
+
+    private static final DateTimeZone LONDON = DateTimeZone.forID("Europe/London");
+    private static final DateTimeZone PARIS = DateTimeZone.forID("Europe/Paris");
+    private static final Chronology ISO_UTC = ISOChronology.getInstanceUTC();
+
+    private DateTimeZone originalDateTimeZone = null;
+    private TimeZone originalTimeZone = null;
+    private Locale originalLocale = null;
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(suite());
+    }
+
+    public static TestSuite suite() {
+        return new TestSuite(TestDateTimeParserBucket.class);
+    }
+
+    public TestDateTimeParserBucket(String name) {
+        super(name);
+    }
+
+    protected void setUp() throws Exception {
+        originalDateTimeZone = DateTimeZone.getDefault();
+        originalTimeZone = TimeZone.getDefault();
+        originalLocale = Locale.getDefault();
+        DateTimeZone.setDefault(LONDON);
+        TimeZone.setDefault(TimeZone.getTimeZone("Europe/London"));
+        Locale.setDefault(Locale.UK);
+    }
+
+    protected void tearDown() throws Exception {
+        DateTimeZone.setDefault(originalDateTimeZone);
+        TimeZone.setDefault(originalTimeZone);
+        Locale.setDefault(originalLocale);
+        originalDateTimeZone = null;
+        originalTimeZone = null;
+        originalLocale = null;
+    }
+
+    //-----------------------------------------------------------------------
+    public void testReset() {
+        DateTimeParserBucket bucket = new DateTimeParserBucket(0L, ISOChronology.getInstance(PARIS), null, 50, 2000);
+        bucket.saveField(DateTimeFieldType.year(), 2004);
+        bucket.setOffset(3600000);
+        bucket.setPivotYear(null);
+
+        bucket.reset();
+        assertEquals(PARIS, bucket.getZone());
+        assertEquals(0, bucket.getOffset());
+        assertEquals(new Integer(50), bucket.getPivotYear());
+        assertEquals(new DateTime(1970, 1, 1, 0, 0, 0, 0, PARIS).getMillis(), bucket.computeMillis(true));
+    }
+
+    public void testSaveRestoreState() {
+        assertSaveRestoreState(new DateTimeParserBucket(0L, ISO_UTC, null, null, 2000));
+    }
+
+    public void testSaveRestoreState_reset() {
+        DateTimeParserBucket bucket = new DateTimeParserBucket(0L, ISO_UTC, null, null, 2000);
+        bucket.reset();
+        assertSaveRestoreState(bucket);
+        bucket.reset();
+        assertSaveRestoreState(bucket);
+    }
+
+    private void assertSaveRestoreState(DateTimeParserBucket bucket) {
+        bucket.saveField(DateTimeFieldType.year(), 2004);
+        Object state1 = bucket.saveState();
+        bucket.saveField(DateTimeFieldType.monthOfYear(), "June", Locale.UK);
+        bucket.setOffset(3600000);
+        Object state2 = bucket.saveState();
+
+        bucket.restoreState(state1);
+        bucket.saveField(DateTimeFieldType.monthOfYear(), 3);
+        bucket.saveField(DateTimeFieldType.dayOfMonth(), 7);
+        assertEquals(new DateTime(2004, 3, 7, 0, 0, 0, 0, DateTimeZone.UTC).getMillis(), bucket.computeMillis(true));
+
+        // second state is unaffected by the fields saved after restoring the first
+        assertTrue(bucket.restoreState(state2));
+        assertEquals(new DateTime(2004, 6, 1, 0, 0, 0, 0, DateTimeZone.UTC).getMillis() - 3600000,
+            bucket.computeMillis(true));
+
+        bucket.restoreState(state1);
+        assertEquals(new DateTime(2004, 1, 1, 0, 0, 0, 0, DateTimeZone.UTC).getMillis(), bucket.computeMillis(true));
+
+        DateTimeParserBucket other = new DateTimeParserBucket(0L, ISO_UTC, null, null, 2000);
+        assertFalse(other.restoreState(state1));
+        assertFalse(other.restoreState("state"));
+    }
+
+    public void testSaveField_expandCapacity() {
+        DateTimeParserBucket bucket = new DateTimeParserBucket(0L, ISO_UTC, null, null, 2000);
+        for (int i = 0; i < 20; i++) {
+            bucket.saveField(DateTimeFieldType.hourOfDay(), i);
+        }
+        bucket.saveField(DateTimeFieldType.year(), 2004);
+        Object state = bucket.saveState();
+        bucket.reset();
+        bucket.restoreState(state);
+        // fields of the same size are set in the order they were saved
+        assertEquals(new DateTime(2004, 1, 1, 19, 0, 0, 0, DateTimeZone.UTC).getMillis(), bucket.computeMillis(true));
+    }
+
+    //-----------------------------------------------------------------------
+    public void testParseMillis_reused() {
+        String[] texts = new String[] {
+            "2004-06-09T10:20:30.040+02:00",
+            "2004-06-09T10:20:30",
+            "2004-06-09",
+            "2004-161T10:20",
+            "2004-W24-3T10:20:30Z",
+            "T10:20:30.5",
+            "2004-06-09T10:20:30.040",
+        };
+        DateTimeFormatter[] fs = new DateTimeFormatter[] {
+            ISODateTimeFormat.dateTimeParser(),
+            ISODateTimeFormat.dateTimeParser().withZone(PARIS),
+            ISODateTimeFormat.dateTimeParser().withChronology(ISOChronology.getInstance(PARIS)),
+        };
+        for (int i = 0; i < fs.length; i++) {
+            DateTimeParserBucket bucket = fs[i].createParserBucket();
+            DateTimeParser parser = fs[i].getParser();
+            for (int j = 0; j < texts.length; j++) {
+                assertEquals(texts[j], fs[i].parseMillis(texts[j]), bucket.parseMillis(parser, texts[j]));
+            }
+        }
+    }
+
+    public void testParseMillis_reusedTextAndPivot() {
+        DateTimeFormatter f = DateTimeFormat.forPattern("dd MMM yy HH:mm").withPivotYear(1950).withLocale(Locale.UK);
+        DateTimeParserBucket bucket = f.createParserBucket();
+        DateTimeParser parser = f.getParser();
+        assertEquals(f.parseMillis("09 Jun 04 10:20"), bucket.parseMillis(parser, "09 Jun 04 10:20"));
+        assertEquals(f.parseMillis("09 Dec 99 10:20"), bucket.parseMillis(parser, "09 Dec 99 10:20"));
+        assertEquals(f.parseMillis("28 Feb 00 10:20"), bucket.parseMillis(parser, "28 Feb 00 10:20"));
+    }
+
+    public void testParseMillis_invalid() {
+        DateTimeFormatter f = ISODateTimeFormat.dateTime();
+        DateTimeParserBucket bucket = f.createParserBucket();
+        try {
+            bucket.parseMillis(f.getParser(), "2004-06-09T10:20:30");
+            fail();
+        } catch (IllegalArgumentException ex) {
+            assertEquals("Invalid format: \"2004-06-09T10:20:30\" is too short", ex.getMessage());
+        }
+        try {
+            bucket.parseMillis(f.getParser(), "2004-06-09T10:20:30.040Zx");
+            fail();
+        } catch (IllegalArgumentException ex) {
+            assertEquals("Invalid format: \"2004-06-09T10:20:30.040Zx\" is malformed at \"x\"", ex.getMessage());
+        }
+        // reusable after a failure
+        assertEquals(new DateTime(2004, 6, 9, 10, 20, 30, 40, DateTimeZone.UTC).getMillis(),
+            bucket.parseMillis(f.getParser(), "2004-06-09T10:20:30.040Z"));
+    }
+
+    public void testCreateParserBucket_notParser() {
+        DateTimeFormatter f = new DateTimeFormatter(ISODateTimeFormat.dateTime().getPrinter(), null);
+        try {
+            f.createParserBucket();
+            fail();
+        } catch (UnsupportedOperationException ex) {}
+    }
+
+}
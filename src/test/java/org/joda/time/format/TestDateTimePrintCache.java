@@ -0,0 +1,210 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.format;
+
+import java.io.CharArrayWriter;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.joda.time.Chronology;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.DurationFieldType;
+import org.joda.time.chrono.BuddhistChronology;
+
+/**
+ * This class is a Junit unit test for DateTimePrintCache.
+ *
+ * @author Stephen Colebourne
+ */
+public class TestDateTimePrintCache extends TestCase {
+
+    private static final DateTimeZone UTC = DateTimeZone.UTC;
+    private static final DateTimeZone LONDON = DateTimeZone.forID("Europe/London");
+    private static final DateTimeZone PARIS = DateTimeZone.forID("Europe/Paris");
+    private static final DateTimeZone KATHMANDU = DateTimeZone.forID("Asia/Kathmandu");
+
+    private DateTimeZone originalDateTimeZone = null;
+    private TimeZone originalTimeZone = null;
+    private Locale originalLocale = null;
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(suite());
+    }
+
+    public static TestSuite suite() {
+        return new TestSuite(TestDateTimePrintCache.class);
+    }
+
+    public TestDateTimePrintCache(String name) {
+        super(name);
+    }
+
+    protected void setUp() throws Exception {
+        originalDateTimeZone = DateTimeZone.getDefault();
+        originalTimeZone = TimeZone.getDefault();
+        originalLocale = Locale.getDefault();
+        DateTimeZone.setDefault(LONDON);
+        TimeZone.setDefault(TimeZone.getTimeZone("Europe/London"));
+        Locale.setDefault(Locale.UK);
+    }
+
+    protected void tearDown() throws Exception {
+        DateTimeZone.setDefault(originalDateTimeZone);
+        TimeZone.setDefault(originalTimeZone);
+        Locale.setDefault(originalLocale);
+        originalDateTimeZone = null;
+        originalTimeZone = null;
+        originalLocale = null;
+    }
+
+    //-----------------------------------------------------------------------
+    private void assertSameAsFormatter(DateTimeFormatter f, DurationFieldType unit, long start, long step, int count) {
+        DateTimePrintCache cache = f.createPrintCache(unit);
+        assertSame(f, cache.getFormatter());
+        char[] buf = new char[128];
+        long instant = start;
+        for (int i = 0; i < count; i++) {
+            String expected = f.print(instant);
+            assertEquals(expected, cache.print(instant));
+            int len = cache.printTo(buf, 2, instant);
+            assertEquals(expected, new String(buf, 2, len));
+            instant += step;
+        }
+    }
+
+    private void assertSameAsFormatter(DateTimeFormatter f) {
+        long spring = new DateTime(2004, 3, 28, 0, 59, 0, 0, UTC).getMillis();
+        long autumn = new DateTime(2004, 10, 31, 0, 59, 0, 0, UTC).getMillis();
+        DurationFieldType[] units = new DurationFieldType[] {
+            DurationFieldType.seconds(), DurationFieldType.minutes(), DurationFieldType.hours()};
+        for (int i = 0; i < units.length; i++) {
+            assertSameAsFormatter(f, units[i], spring, 137, 1000);
+            assertSameAsFormatter(f, units[i], autumn, 13711, 1000);
+            assertSameAsFormatter(f, units[i], autumn + 3600000, -7919, 1000);
+            assertSameAsFormatter(f, units[i], -62135596800000L, 999, 100);
+        }
+    }
+
+    public void testISOFormats() {
+        assertSameAsFormatter(ISODateTimeFormat.dateTime());
+        assertSameAsFormatter(ISODateTimeFormat.dateTime().withZone(LONDON));
+        assertSameAsFormatter(ISODateTimeFormat.dateTime().withZone(KATHMANDU));
+        assertSameAsFormatter(ISODateTimeFormat.dateTimeNoMillis().withZone(PARIS));
+        assertSameAsFormatter(ISODateTimeFormat.basicDateTime().withZoneUTC());
+        assertSameAsFormatter(ISODateTimeFormat.ordinalDateTime().withZone(DateTimeZone.forOffsetMillis(1234)));
+    }
+
+    public void testPatternFormats() {
+        assertSameAsFormatter(DateTimeFormat.forPattern("EEE, dd MMM yyyy HH:mm:ss.SSS zzz"));
+        assertSameAsFormatter(DateTimeFormat.forPattern("dd/MMM/yyyy:HH:mm:ss Z").withLocale(Locale.FRENCH));
+        assertSameAsFormatter(DateTimeFormat.forPattern("yy-MM-dd HH:mm:ss.SSSSSS ZZZ"));
+        assertSameAsFormatter(DateTimeFormat.forPattern("hh:mm:ss.S a").withChronology(BuddhistChronology.getInstance(PARIS)));
+        assertSameAsFormatter(DateTimeFormat.mediumDateTime());
+    }
+
+    public void testDefaultsChanged() {
+        DateTimeFormatter f = DateTimeFormat.forPattern("EEE yyyy-MM-dd HH:mm:ss ZZ");
+        DateTimePrintCache cache = f.createPrintCache();
+        long millis = new DateTime(2004, 6, 9, 10, 20, 30, 40, UTC).getMillis();
+        assertEquals("Wed 2004-06-09 11:20:30 +01:00", cache.print(millis));
+        DateTimeZone.setDefault(PARIS);
+        assertEquals("Wed 2004-06-09 12:20:30 +02:00", cache.print(millis));
+        Locale.setDefault(Locale.FRENCH);
+        assertEquals("mer. 2004-06-09 12:20:30 +02:00", cache.print(millis));
+    }
+
+    public void testPrintTo() throws Exception {
+        DateTimeFormatter f = ISODateTimeFormat.dateTime().withZoneUTC();
+        DateTimePrintCache cache = f.createPrintCache();
+        long millis = new DateTime(2004, 6, 9, 10, 20, 30, 40, UTC).getMillis();
+
+        StringBuffer sb = new StringBuffer("x");
+        cache.printTo(sb, millis);
+        assertEquals("x2004-06-09T10:20:30.040Z", sb.toString());
+
+        StringBuilder builder = new StringBuilder();
+        cache.printTo(builder, millis + 1);
+        assertEquals("2004-06-09T10:20:30.041Z", builder.toString());
+
+        CharArrayWriter writer = new CharArrayWriter();
+        cache.printTo(writer, millis + 2);
+        assertEquals("2004-06-09T10:20:30.042Z", writer.toString());
+
+        try {
+            cache.printTo(new char[10], 0, millis);
+            fail();
+        } catch (IndexOutOfBoundsException ex) {}
+        assertEquals("2004-06-09T10:20:30.043Z", cache.print(millis + 3));
+    }
+
+    public void testCustomPrinter() throws Exception {
+        long millis = new DateTime(2004, 6, 9, 10, 20, 30, 40, UTC).getMillis();
+        char[] text = new char[400];
+        Arrays.fill(text, 'a');
+        DateTimeFormatter f = new DateTimeFormatterBuilder()
+            .append(ISODateTimeFormat.dateTime().withZoneUTC().getPrinter())
+            .append(new TestDateTimeFormatter.FixedTextPrinter(text, 1))
+            .toFormatter().withZoneUTC();
+        DateTimePrintCache cache = f.createPrintCache();
+        assertEquals(f.print(millis), cache.print(millis));
+        assertEquals(424, cache.print(millis + 1).length());
+        StringBuilder builder = new StringBuilder();
+        cache.printTo(builder, millis);
+        assertEquals(f.print(millis), builder.toString());
+
+        final char[] invalid = new char[0];
+        f = new DateTimeFormatter(new TestDateTimeFormatter.FixedTextPrinter(invalid, 1) {
+            public void printTo(StringBuffer buf, long instant, Chronology chrono,
+                    int displayOffset, DateTimeZone displayZone, Locale locale) {
+                buf.append(invalid, 1, 1);
+            }
+        }, null);
+        cache = f.createPrintCache();
+        try {
+            cache.print(millis);
+            fail();
+        } catch (IndexOutOfBoundsException ex) {}
+    }
+
+    public void testExtremes() {
+        DateTimeFormatter f = ISODateTimeFormat.dateTime().withZone(PARIS);
+        DateTimePrintCache cache = f.createPrintCache();
+        assertEquals(f.print(Long.MAX_VALUE), cache.print(Long.MAX_VALUE));
+        assertEquals(f.print(Long.MIN_VALUE), cache.print(Long.MIN_VALUE));
+        assertEquals(f.print(0L), cache.print(0L));
+    }
+
+    public void testCreatePrintCache_invalid() {
+        try {
+            ISODateTimeFormat.dateTime().createPrintCache(DurationFieldType.days());
+            fail();
+        } catch (IllegalArgumentException ex) {}
+        try {
+            ISODateTimeFormat.dateTime().createPrintCache(null);
+            fail();
+        } catch (IllegalArgumentException ex) {}
+        try {
+            new DateTimeFormatter(null, ISODateTimeFormat.dateTime().getParser()).createPrintCache();
+            fail();
+        } catch (UnsupportedOperationException ex) {}
+    }
+
+}
@@ -0,0 +1,274 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.format;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
+
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.MutableDateTime;
+import org.joda.time.chrono.BuddhistChronology;
+
+/**
+ * This class is a Junit unit test for the fixed width ISO fast path,
+ * checking that it behaves exactly as the generic formatters.
+ *
+ * @author Stephen Colebourne
+ */
+public class TestFixedISODateTime extends TestCase {
+
+    private static final String[] TEXTS = {
+        "2004-06-09T10:20:30.040Z",
+        "2004-06-09T10:20:30.040+01:00",
+        "2004-06-09T10:20:30.040-05:30",
+        "2004-06-09T10:20:30.040-00:00",
+        "2004-06-09T10:20:30Z",
+        "2004-06-09T10:20:30+01:00",
+        "2004-06-09T10:20:30",
+        "2004-06-09T10:20:30.040",
+        "2004-06-09T10:20:30.4Z",
+        "2004-06-09T10:20:30.45Z",
+        "2004-06-09T10:20:30.4567Z",
+        "2004-06-09T10:20:30.123456789Z",
+        "2004-06-09T10:20:30.1234567890Z",
+        "2004-06-09T10:20:30,040Z",
+        "2004-06-09T10:20:30.Z",
+        "2004-06-09T10:20:30.040z",
+        "2004-06-09T10:20:30.040+01",
+        "2004-06-09T10:20:30.040+0100",
+        "2004-06-09T10:20:30.040+01:00:30",
+        "2004-06-09T10:20:30.040+24:00",
+        "2004-06-09T10:20:30.040Zx",
+        "2004-06-09T10:20:30.040 ",
+        "2004-02-29T10:20:30.040Z",
+        "2005-02-29T10:20:30.040Z",
+        "1900-02-29T10:20:30.040Z",
+        "2000-02-29T10:20:30.040Z",
+        "2004-04-31T10:20:30.040Z",
+        "2004-13-09T10:20:30.040Z",
+        "2004-00-09T10:20:30.040Z",
+        "2004-06-00T10:20:30.040Z",
+        "2004-06-09T24:00:00.000Z",
+        "2004-06-09T10:60:30.040Z",
+        "2004-06-09T10:20:60.040Z",
+        "0000-01-01T00:00:00.000Z",
+        "9999-12-31T23:59:59.999Z",
+        "12004-06-09T10:20:30.040Z",
+        "-2004-06-09T10:20:30.040Z",
+        "+2004-06-09T10:20:30.040Z",
+        "2004-6-09T10:20:30.040Z",
+        "2004-06-09 10:20:30.040Z",
+        "2004-06-09T10:20",
+        "2004-06-09",
+        "T10:20:30",
+        "2004-06-0xT10:20:30.040Z",
+        "2004-06-09T10:20:30.0x0Z",
+        "",
+    };
+
+    private DateTimeZone originalDateTimeZone = null;
+    private TimeZone originalTimeZone = null;
+    private Locale originalLocale = null;
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(suite());
+    }
+
+    public static TestSuite suite() {
+        return new TestSuite(TestFixedISODateTime.class);
+    }
+
+    public TestFixedISODateTime(String name) {
+        super(name);
+    }
+
+    protected void setUp() throws Exception {
+        originalDateTimeZone = DateTimeZone.getDefault();
+        originalTimeZone = TimeZone.getDefault();
+        originalLocale = Locale.getDefault();
+        DateTimeZone.setDefault(DateTimeZone.forID("Europe/London"));
+        TimeZone.setDefault(TimeZone.getTimeZone("Europe/London"));
+        Locale.setDefault(Locale.UK);
+    }
+
+    protected void tearDown() throws Exception {
+        DateTimeZone.setDefault(originalDateTimeZone);
+        TimeZone.setDefault(originalTimeZone);
+        Locale.setDefault(originalLocale);
+        originalDateTimeZone = null;
+        originalTimeZone = null;
+        originalLocale = null;
+    }
+
+    //-----------------------------------------------------------------------
+    private static DateTimeFormatter genericDateTime() {
+        return new DateTimeFormatterBuilder()
+            .append(ISODateTimeFormat.date())
+            .append(ISODateTimeFormat.tTime())
+            .toFormatter();
+    }
+
+    private static DateTimeFormatter genericDateTimeNoMillis() {
+        return new DateTimeFormatterBuilder()
+            .append(ISODateTimeFormat.date())
+            .append(ISODateTimeFormat.tTimeNoMillis())
+            .toFormatter();
+    }
+
+    private static DateTimeFormatter genericDateTimeParser() {
+        DateTimeParser time = new DateTimeFormatterBuilder()
+            .appendLiteral('T')
+            .append(ISODateTimeFormat.timeElementParser())
+            .appendOptional(new DateTimeFormatterBuilder().appendTimeZoneOffset("Z", true, 2, 4).toParser())
+            .toParser();
+        return new DateTimeFormatterBuilder()
+            .append(null, new DateTimeParser[] {time, ISODateTimeFormat.dateOptionalTimeParser().getParser()})
+            .toFormatter();
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_dateTime_parse() {
+        assertSameParse(genericDateTime(), ISODateTimeFormat.dateTime());
+    }
+
+    public void test_dateTimeNoMillis_parse() {
+        assertSameParse(genericDateTimeNoMillis(), ISODateTimeFormat.dateTimeNoMillis());
+    }
+
+    public void test_dateTimeParser_parse() {
+        assertSameParse(genericDateTimeParser(), ISODateTimeFormat.dateTimeParser());
+    }
+
+    public void test_parse_values() {
+        DateTimeFormatter f = ISODateTimeFormat.dateTimeParser().withOffsetParsed();
+        assertEquals(new DateTime(2004, 6, 9, 10, 20, 30, 123, DateTimeZone.forOffsetHoursMinutes(-5, 30)),
+            f.parseDateTime("2004-06-09T10:20:30.123456-05:30"));
+        assertEquals(new DateTime(2004, 6, 9, 10, 20, 30, 0, DateTimeZone.UTC),
+            f.parseDateTime("2004-06-09T10:20:30Z"));
+        assertEquals(new DateTime(2004, 6, 9, 10, 20, 30, 400),
+            f.parseDateTime("2004-06-09T10:20:30,4"));
+    }
+
+    public void test_parseInto_retainsMillis() {
+        DateTimeFormatter[] fs = new DateTimeFormatter[] {
+            genericDateTimeParser(), ISODateTimeFormat.dateTimeParser(),
+            genericDateTimeNoMillis(), ISODateTimeFormat.dateTimeNoMillis(),
+        };
+        for (int i = 0; i < fs.length; i++) {
+            MutableDateTime mdt = new MutableDateTime(2010, 1, 31, 1, 2, 3, 456);
+            assertEquals(20, fs[i].parseInto(mdt, "2004-02-29T10:20:30Z", 0));
+            assertEquals(new DateTime(2004, 2, 29, 10, 20, 30, 456, DateTimeZone.UTC).getMillis(), mdt.getMillis());
+        }
+    }
+
+    public void test_parse_otherChronology() {
+        DateTimeFormatter f = ISODateTimeFormat.dateTime().withChronology(BuddhistChronology.getInstanceUTC());
+        DateTimeFormatter g = genericDateTime().withChronology(BuddhistChronology.getInstanceUTC());
+        assertEquals(g.parseMillis("2547-06-09T10:20:30.040Z"), f.parseMillis("2547-06-09T10:20:30.040Z"));
+    }
+
+    public void test_parse_embedded() {
+        // fast path is only used when the layout extends to the end of the text
+        DateTimeFormatter f = new DateTimeFormatterBuilder()
+            .append(ISODateTimeFormat.dateTimeNoMillis())
+            .appendLiteral(" x")
+            .toFormatter().withZoneUTC();
+        assertEquals(new DateTime(2004, 6, 9, 10, 20, 30, 0, DateTimeZone.UTC).getMillis(),
+            f.parseMillis("2004-06-09T10:20:30Z x"));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_print() {
+        DateTimeZone[] zones = new DateTimeZone[] {
+            DateTimeZone.UTC,
+            DateTimeZone.forID("Europe/London"),
+            DateTimeZone.forID("America/New_York"),
+            DateTimeZone.forOffsetHoursMinutes(5, 30),
+            DateTimeZone.forOffsetHoursMinutes(-3, 15),
+            DateTimeZone.forOffsetMillis(-34567),
+        };
+        DateTimeFormatter[][] pairs = new DateTimeFormatter[][] {
+            {genericDateTime(), ISODateTimeFormat.dateTime()},
+            {genericDateTimeNoMillis(), ISODateTimeFormat.dateTimeNoMillis()},
+        };
+        Random random = new Random(0);
+        char[] chars = new char[64];
+        byte[] bytes = new byte[64];
+        for (int i = 0; i < 2000; i++) {
+            // years -1000 to 11000 to cover the edges of the fast path
+            long millis = -93692592000000L + (long) (random.nextDouble() * 378691200000000L);
+            DateTimeZone zone = zones[i % zones.length];
+            for (int j = 0; j < pairs.length; j++) {
+                DateTimeFormatter generic = pairs[j][0].withZone(zone);
+                DateTimeFormatter fixed = pairs[j][1].withZone(zone);
+                String expected = generic.print(millis);
+                assertEquals(expected, fixed.print(millis));
+                assertEquals(expected, new String(chars, 0, fixed.printTo(chars, 0, millis)));
+                assertEquals(expected, new String(bytes, 0, fixed.printTo(bytes, 0, millis)));
+            }
+        }
+    }
+
+    public void test_print_edges() {
+        DateTimeFormatter f = ISODateTimeFormat.dateTime().withZoneUTC();
+        assertEquals("0000-01-01T00:00:00.000Z", f.print(new DateTime(0, 1, 1, 0, 0, 0, 0, DateTimeZone.UTC)));
+        assertEquals("9999-12-31T23:59:59.999Z", f.print(new DateTime(9999, 12, 31, 23, 59, 59, 999, DateTimeZone.UTC)));
+        assertEquals("10000-01-01T00:00:00.000Z", f.print(new DateTime(10000, 1, 1, 0, 0, 0, 0, DateTimeZone.UTC)));
+        assertEquals("-0001-12-31T23:59:59.999Z", f.print(new DateTime(-1, 12, 31, 23, 59, 59, 999, DateTimeZone.UTC)));
+        assertEquals("2004-06-09T10:20:30.040+05:30", ISODateTimeFormat.dateTime().print(
+            new DateTime(2004, 6, 9, 10, 20, 30, 40, DateTimeZone.forOffsetHoursMinutes(5, 30))));
+        assertEquals("2547-06-09T10:20:30.040Z", ISODateTimeFormat.dateTime().print(
+            new DateTime(2547, 6, 9, 10, 20, 30, 40, BuddhistChronology.getInstanceUTC())));
+    }
+
+    //-----------------------------------------------------------------------
+    private void assertSameParse(DateTimeFormatter generic, DateTimeFormatter fixed) {
+        DateTimeFormatter[][] variants = new DateTimeFormatter[][] {
+            {generic, fixed},
+            {generic.withOffsetParsed(), fixed.withOffsetParsed()},
+            {generic.withZone(DateTimeZone.forID("America/New_York")),
+                fixed.withZone(DateTimeZone.forID("America/New_York"))},
+        };
+        for (int i = 0; i < TEXTS.length; i++) {
+            String text = TEXTS[i];
+            for (int j = 0; j < variants.length; j++) {
+                Object expected = parse(variants[j][0], text);
+                Object actual = parse(variants[j][1], text);
+                assertEquals(text, expected, actual);
+
+                DateTimeParserBucket expectedBucket = new DateTimeParserBucket(0L, null, null, null, 2000);
+                DateTimeParserBucket actualBucket = new DateTimeParserBucket(0L, null, null, null, 2000);
+                assertEquals(text,
+                    variants[j][0].getParser().parseInto(expectedBucket, text, 0),
+                    variants[j][1].getParser().parseInto(actualBucket, text, 0));
+            }
+        }
+    }
+
+    private static Object parse(DateTimeFormatter f, String text) {
+        try {
+            return f.parseDateTime(text);
+        } catch (IllegalArgumentException ex) {
+            return ex.getMessage();
+        }
+    }
+
+}
@@ -0,0 +1,179 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.format;
+
+import java.util.Locale;
+
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * This class is a Junit unit test for FormatterCache.
+ *
+ * @author Stephen Colebourne
+ */
+public class TestFormatterCache extends TestCase {
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(suite());
+    }
+
+    public static TestSuite suite() {
+        return new TestSuite(TestFormatterCache.class);
+    }
+
+    public TestFormatterCache(String name) {
+        super(name);
+    }
+
+    //-----------------------------------------------------------------------
+    public void testGetPut() {
+        FormatterCache<String, String> cache = new FormatterCache<String, String>("test", 10);
+        assertEquals("test", cache.getName());
+        assertEquals(10, cache.getMaxSize());
+        assertEquals(null, cache.get("a"));
+        assertEquals("A", cache.put("a", "A"));
+        assertEquals("A", cache.put("a", "B"));
+        assertEquals("A", cache.get("a"));
+        assertEquals("A", cache.get("a"));
+        assertEquals(1, cache.size());
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(0, cache.getEvictionCount());
+        assertEquals("FormatterCache[test,size=1,maxSize=10,hits=2,misses=1,evictions=0]", cache.toString());
+
+        cache.resetStatistics();
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(null, cache.get("a"));
+    }
+
+    public void testEviction() {
+        FormatterCache<String, String> cache = new FormatterCache<String, String>("test", 3);
+        for (int i = 0; i < 10; i++) {
+            String key = "k" + i;
+            assertEquals(key, cache.put(key, key));
+            // the value just added is never evicted
+            assertEquals(key, cache.get(key));
+            assertTrue(cache.size() <= 3);
+        }
+        assertEquals(3, cache.size());
+        assertEquals(7, cache.getEvictionCount());
+
+        cache.setMaxSize(1);
+        assertEquals(1, cache.size());
+        assertEquals(9, cache.getEvictionCount());
+
+        cache.setMaxSize(0);
+        assertEquals(0, cache.size());
+        assertEquals("x", cache.put("x", "x"));
+        assertEquals(0, cache.size());
+        assertEquals(null, cache.get("x"));
+
+        try {
+            cache.setMaxSize(-1);
+            fail();
+        } catch (IllegalArgumentException ex) {}
+    }
+
+    public void testConcurrent() throws Exception {
+        final FormatterCache<Integer, Integer> cache = new FormatterCache<Integer, Integer>("test", 50);
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread() {
+                public void run() {
+                    for (int i = 0; i < 10000; i++) {
+                        Integer key = new Integer(i % 100);
+                        Integer value = cache.get(key);
+                        if (value == null) {
+                            value = cache.put(key, key);
+                        }
+                        if (value.equals(key) == false) {
+                            throw new IllegalStateException();
+                        }
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        for (int t = 0; t < threads.length; t++) {
+            threads[t].join();
+        }
+        assertEquals(80000, cache.getHitCount() + cache.getMissCount());
+        assertTrue(cache.size() <= 50 + threads.length);
+    }
+
+    public void testGetSizeProperty() {
+        String property = "org.joda.time.format.TestFormatterCache.Size";
+        assertEquals(7, FormatterCache.getSizeProperty(property, 7));
+        try {
+            System.setProperty(property, " 42 ");
+            assertEquals(42, FormatterCache.getSizeProperty(property, 7));
+            System.setProperty(property, "-3");
+            assertEquals(0, FormatterCache.getSizeProperty(property, 7));
+            System.setProperty(property, "many");
+            assertEquals(7, FormatterCache.getSizeProperty(property, 7));
+        } finally {
+            System.getProperties().remove(property);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void testDateTimeFormatPatternCache() {
+        FormatterCache<String, DateTimeFormatter> cache = DateTimeFormat.getPatternCache();
+        assertEquals("pattern", cache.getName());
+        int maxSize = cache.getMaxSize();
+        try {
+            DateTimeFormatter f = DateTimeFormat.forPattern("yyyy/MM/dd 'cache test'");
+            long hits = cache.getHitCount();
+            assertSame(f, DateTimeFormat.forPattern("yyyy/MM/dd 'cache test'"));
+            assertEquals(hits + 1, cache.getHitCount());
+
+            cache.setMaxSize(0);
+            DateTimeFormatter g = DateTimeFormat.forPattern("yyyy/MM/dd 'cache test'");
+            assertNotSame(f, g);
+            assertEquals("2004/06/09 cache test", g.withZoneUTC().print(1086739200000L));
+        } finally {
+            cache.setMaxSize(maxSize);
+        }
+    }
+
+    public void testDateTimeFormatStyleCache() {
+        FormatterCache<String, DateTimeFormatter> cache = DateTimeFormat.getStyleCache();
+        assertEquals("style", cache.getName());
+        assertSame(DateTimeFormat.forStyle("MS"), DateTimeFormat.forStyle("MS"));
+        // a style and locales not used by other tests
+        DateTimeFormatter f = DateTimeFormat.forStyle("L-").withZoneUTC();
+        Locale ireland = new Locale("en", "IE");
+        Locale austria = new Locale("de", "AT");
+        cache.clear();
+        long misses = cache.getMissCount();
+        long hits = cache.getHitCount();
+        String en = DateTimeFormat.patternForStyle("L-", ireland);
+        String de = DateTimeFormat.patternForStyle("L-", austria);
+        assertEquals(DateTimeFormat.forPattern(en).withLocale(ireland).withZoneUTC().print(1086739200000L),
+            f.withLocale(ireland).print(1086739200000L));
+        assertEquals(DateTimeFormat.forPattern(de).withLocale(austria).withZoneUTC().print(1086739200000L),
+            f.withLocale(austria).print(1086739200000L));
+        f.withLocale(ireland).print(1086739200000L);
+        assertEquals(misses + 2, cache.getMissCount());
+        assertEquals(hits + 1, cache.getHitCount());
+        assertEquals(2, cache.size());
+    }
+
+}
@@ -38,6 +38,8 @@ public class TestAll extends TestCase {
         suite.addTest(TestBuilder.suite());
         suite.addTest(TestCompiler.suite());
         suite.addTest(TestFixedDateTimeZone.suite());
+        suite.addTest(TestCachedDateTimeZone.suite());
+        suite.addTest(TestZoneInfoProvider.suite());
         return suite;
     }
 
@@ -0,0 +1,137 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.tz;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.joda.time.DateTimeZone;
+
+/**
+ * Test cases for CachedDateTimeZone.
+ *
+ * @author Stephen Colebourne
+ */
+public class TestCachedDateTimeZone extends TestCase {
+
+    /** 1900-01-01 */
+    private static final long START_1900 = -2208988800000L;
+    /** 2101-01-01 */
+    private static final long END_2100 = 4133980800000L;
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(suite());
+    }
+
+    public static TestSuite suite() {
+        return new TestSuite(TestCachedDateTimeZone.class);
+    }
+
+    public TestCachedDateTimeZone(String name) {
+        super(name);
+    }
+
+    //-----------------------------------------------------------------------
+    private void assertSameAsUncached(DateTimeZone uncached, CachedDateTimeZone zone, long instant) {
+        assertEquals(uncached.getOffset(instant), zone.getOffset(instant));
+        assertEquals(uncached.getStandardOffset(instant), zone.getStandardOffset(instant));
+        assertEquals(uncached.isStandardOffset(instant), zone.isStandardOffset(instant));
+        assertEquals(uncached.getNameKey(instant), zone.getNameKey(instant));
+        assertEquals(uncached.getOffsetFromLocal(instant), zone.getOffsetFromLocal(instant));
+    }
+
+    private void assertSameLocalAsUncached(DateTimeZone uncached, CachedDateTimeZone zone, long transition) {
+        // local instants either side of the gap or overlap
+        int[] offsets = new int[] {
+            uncached.getOffset(transition - 1), uncached.getOffset(transition), 0};
+        for (int i = 0; i < offsets.length; i++) {
+            for (long millis = -3; millis <= 3; millis++) {
+                long instantLocal = transition + offsets[i] + millis;
+                assertEquals(uncached.getOffsetFromLocal(instantLocal), zone.getOffsetFromLocal(instantLocal));
+            }
+            for (long minutes = -90; minutes <= 90; minutes += 15) {
+                long instantLocal = transition + offsets[i] + minutes * 60000L;
+                assertEquals(uncached.getOffsetFromLocal(instantLocal), zone.getOffsetFromLocal(instantLocal));
+            }
+        }
+    }
+
+    private void assertSameAsUncached(String id) {
+        CachedDateTimeZone zone = CachedDateTimeZone.forZone(DateTimeZone.forID(id), 1900, 2100);
+        assertEquals(true, zone.isCompiled());
+        DateTimeZone uncached = zone.getUncachedZone();
+        assertEquals(false, uncached instanceof CachedDateTimeZone);
+
+        // every transition, either side, from before the range to after it
+        long instant = START_1900 - 86400000L * 400;
+        while (instant < END_2100 + 86400000L * 400) {
+            assertSameAsUncached(uncached, zone, instant - 1);
+            assertSameAsUncached(uncached, zone, instant);
+            assertSameAsUncached(uncached, zone, instant + 1);
+            assertSameLocalAsUncached(uncached, zone, instant);
+            long next = uncached.nextTransition(instant);
+            instant = (next == instant ? instant + 86400000L * 30 : next);
+        }
+        Random random = new Random(0);
+        for (int i = 0; i < 2000; i++) {
+            assertSameAsUncached(uncached, zone, START_1900 + (long) (random.nextDouble() * (END_2100 - START_1900)));
+        }
+        assertSameAsUncached(uncached, zone, START_1900);
+        assertSameAsUncached(uncached, zone, END_2100 - 1);
+        assertSameAsUncached(uncached, zone, END_2100);
+        assertSameAsUncached(uncached, zone, Long.MIN_VALUE);
+        assertSameAsUncached(uncached, zone, Long.MAX_VALUE);
+    }
+
+    public void testCompiled() {
+        assertSameAsUncached("Europe/London");
+        assertSameAsUncached("America/New_York");
+        assertSameAsUncached("Australia/Sydney");
+        assertSameAsUncached("Asia/Kathmandu");
+        assertSameAsUncached("America/Sao_Paulo");
+        assertSameAsUncached("Asia/Tokyo");
+        assertSameAsUncached("America/Anguilla");
+    }
+
+    public void testCompiled_fixed() {
+        DateTimeZone fixed = DateTimeZone.forOffsetHoursMinutes(5, 30);
+        CachedDateTimeZone zone = CachedDateTimeZone.forZone(fixed, 2000, 2000);
+        assertEquals(true, zone.isCompiled());
+        assertSameAsUncached(fixed, zone, 946684800000L);
+        assertSameAsUncached(fixed, zone, 0L);
+    }
+
+    public void testForZone() {
+        DateTimeZone london = DateTimeZone.forID("Europe/London");
+        CachedDateTimeZone cached = CachedDateTimeZone.forZone(london);
+        assertEquals(false, cached.isCompiled());
+        assertSame(cached, CachedDateTimeZone.forZone(cached));
+
+        CachedDateTimeZone compiled = CachedDateTimeZone.forZone(cached, 2000, 2010);
+        assertEquals(true, compiled.isCompiled());
+        assertSame(cached.getUncachedZone(), compiled.getUncachedZone());
+        assertEquals("Europe/London", compiled.getID());
+        assertEquals(cached, compiled);
+        assertEquals(cached.hashCode(), compiled.hashCode());
+        try {
+            CachedDateTimeZone.forZone(london, 2010, 2000);
+            fail();
+        } catch (IllegalArgumentException ex) {}
+    }
+
+}
@@ -94,6 +94,49 @@ public class TestCompiler extends TestCase {
         TestBuilder.testReverseTransitions(tz, TestBuilder.AMERICA_LOS_ANGELES_DATA);
     }
 
+    public void testCompileDatabase() throws Exception {
+        File tempDir = createDataFile(AMERICA_LOS_ANGELES_FILE);
+        File dbFile = new File(makeTempDir(), "tzdb");
+        dbFile.deleteOnExit();
+
+        ZoneInfoCompiler.main(new String[] {
+            "-src", tempDir.getAbsolutePath(),
+            "-db", dbFile.getAbsolutePath(),
+            "tzdata"
+        });
+
+        Provider provider = new ZoneInfoDatabaseProvider(dbFile);
+        assertEquals(true, provider.getAvailableIDs().contains("America/Los_Angeles"));
+        assertEquals(true, provider.getAvailableIDs().contains("UTC"));
+        assertSame(DateTimeZone.UTC, provider.getZone("UTC"));
+        assertEquals(null, provider.getZone("Europe/London"));
+        assertEquals(null, provider.getZone(null));
+
+        DateTimeZone tz = provider.getZone("America/Los_Angeles");
+        assertSame(tz, provider.getZone("America/Los_Angeles"));
+        assertEquals("America/Los_Angeles", tz.getID());
+        assertEquals(false, tz.isFixed());
+        TestBuilder.testForwardTransitions(tz, TestBuilder.AMERICA_LOS_ANGELES_DATA);
+        TestBuilder.testReverseTransitions(tz, TestBuilder.AMERICA_LOS_ANGELES_DATA);
+        assertEquals(compileAndLoad(AMERICA_LOS_ANGELES_FILE).getZone("America/Los_Angeles"), tz);
+    }
+
+    public void testCompileDatabase_invalid() throws Exception {
+        File file = createDataFile(AMERICA_LOS_ANGELES_FILE);
+        try {
+            new ZoneInfoDatabaseProvider(new File(file, "tzdata"));
+            fail();
+        } catch (IOException ex) {}
+        try {
+            new ZoneInfoDatabaseProvider(new File(file, "missing"));
+            fail();
+        } catch (IOException ex) {}
+        try {
+            new ZoneInfoDatabaseProvider();
+            fail();
+        } catch (IOException ex) {}
+    }
+
     private Provider compileAndLoad(String data) throws Exception {
         File tempDir = createDataFile(data);
         File destDir = makeTempDir();
@@ -0,0 +1,225 @@
+/*
+ *  Copyright 2001-2011 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.time.tz;
+
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.joda.time.DateTimeZone;
+
+/**
+ * Test cases for ZoneInfoProvider.
+ *
+ * @author Stephen Colebourne
+ */
+public class TestZoneInfoProvider extends TestCase {
+
+    private static final String CACHE_SIZE = "org.joda.time.tz.ZoneInfoProvider.CacheSize";
+    private static final String PINNED_ZONES = "org.joda.time.tz.ZoneInfoProvider.PinnedZones";
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(suite());
+    }
+
+    public static TestSuite suite() {
+        return new TestSuite(TestZoneInfoProvider.class);
+    }
+
+    public TestZoneInfoProvider(String name) {
+        super(name);
+    }
+
+    protected void tearDown() throws Exception {
+        System.getProperties().remove(CACHE_SIZE);
+        System.getProperties().remove(PINNED_ZONES);
+    }
+
+    //-----------------------------------------------------------------------
+    public void testSoftReferences() throws Exception {
+        ZoneInfoProvider provider = new ZoneInfoProvider("org/joda/time/tz/data");
+        assertEquals(0, provider.getCacheSize());
+        assertEquals(0, provider.getPinnedZones().size());
+        DateTimeZone london = provider.getZone("Europe/London");
+        assertEquals("Europe/London", london.getID());
+        assertEquals(1, provider.getLoadCount());
+        provider.getZone("GB");
+        assertEquals(1, provider.getLoadCount());
+        assertSame(DateTimeZone.UTC, provider.getZone("UTC"));
+        assertEquals(null, provider.getZone("Nowhere/Unknown"));
+        assertEquals(0, provider.getEvictionCount());
+    }
+
+    public void testStrongCache() throws Exception {
+        System.setProperty(CACHE_SIZE, " 2 ");
+        System.setProperty(PINNED_ZONES, "Europe/Paris, Asia/Tokyo");
+        ZoneInfoProvider provider = new ZoneInfoProvider("org/joda/time/tz/data");
+        assertEquals(2, provider.getCacheSize());
+        assertEquals(2, provider.getPinnedZones().size());
+        assertEquals(true, provider.getPinnedZones().contains("Asia/Tokyo"));
+
+        DateTimeZone paris = provider.getZone("Europe/Paris");
+        DateTimeZone tokyo = provider.getZone("Asia/Tokyo");
+        DateTimeZone london = provider.getZone("Europe/London");
+        DateTimeZone newYork = provider.getZone("America/New_York");
+        assertEquals(4, provider.getLoadCount());
+        assertEquals(0, provider.getEvictionCount());
+
+        // London is used, so New York is the least recently used
+        assertSame(london, provider.getZone("Europe/London"));
+        provider.getZone("Australia/Sydney");
+        assertEquals(5, provider.getLoadCount());
+        assertEquals(1, provider.getEvictionCount());
+        assertSame(london, provider.getZone("Europe/London"));
+        assertSame(paris, provider.getZone("Europe/Paris"));
+        assertSame(tokyo, provider.getZone("Asia/Tokyo"));
+        assertEquals(5, provider.getLoadCount());
+
+        // pinned zones are never evicted
+        provider.getZone("America/Chicago");
+        provider.getZone("America/Denver");
+        provider.getZone("America/Phoenix");
+        assertEquals(8, provider.getLoadCount());
+        assertEquals(4, provider.getEvictionCount());
+        assertSame(paris, provider.getZone("Europe/Paris"));
+        assertSame(tokyo, provider.getZone("Asia/Tokyo"));
+        assertEquals(8, provider.getLoadCount());
+
+        // an evicted zone is softly referenced, as without the cache
+        DateTimeZone evicted = provider.getZone("America/New_York");
+        assertEquals(newYork, evicted);
+    }
+
+    public void testStrongCachePromotion() throws Exception {
+        System.setProperty(CACHE_SIZE, "2");
+        ZoneInfoProvider provider = new ZoneInfoProvider("org/joda/time/tz/data");
+        DateTimeZone paris = provider.getZone("Europe/Paris");
+        DateTimeZone berlin = provider.getZone("Europe/Berlin");
+        DateTimeZone rome = provider.getZone("Europe/Rome");
+        assertEquals(3, provider.getLoadCount());
+        assertEquals(1, provider.getEvictionCount());
+
+        // Paris was evicted, using it again holds it strongly and evicts Berlin
+        for (int i = 0; i < 1000; i++) {
+            assertSame(paris, provider.getZone("Europe/Paris"));
+        }
+        assertEquals(3, provider.getLoadCount());
+        assertEquals(2, provider.getEvictionCount());
+
+        // Berlin is promoted, evicting Rome as Paris was used more recently
+        assertSame(berlin, provider.getZone("Europe/Berlin"));
+        assertEquals(3, provider.getEvictionCount());
+        assertSame(paris, provider.getZone("Europe/Paris"));
+        assertSame(berlin, provider.getZone("Europe/Berlin"));
+        assertEquals(3, provider.getEvictionCount());
+
+        // each use counts, so Paris is now the least recently used
+        provider.getZone("Europe/Madrid");
+        assertEquals(4, provider.getLoadCount());
+        assertEquals(4, provider.getEvictionCount());
+        assertSame(berlin, provider.getZone("Europe/Berlin"));
+        assertEquals(4, provider.getEvictionCount());
+        assertSame(rome, provider.getZone("Europe/Rome"));
+        assertEquals(5, provider.getEvictionCount());
+        assertEquals(4, provider.getLoadCount());
+    }
+
+    public void testStrongCacheMoreZonesInUse() throws Exception {
+        System.setProperty(CACHE_SIZE, "2");
+        ZoneInfoProvider provider = new ZoneInfoProvider("org/joda/time/tz/data");
+        String[] ids = {"Europe/Paris", "Europe/Berlin", "Europe/Rome", "Europe/Madrid", "Europe/Vienna"};
+        DateTimeZone[] zones = new DateTimeZone[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            zones[i] = provider.getZone(ids[i]);
+        }
+        assertEquals(5, provider.getLoadCount());
+        assertEquals(3, provider.getEvictionCount());
+
+        // each zone is promoted in turn, evicting another, without being loaded again
+        for (int loop = 0; loop < 100; loop++) {
+            for (int i = 0; i < ids.length; i++) {
+                assertSame(zones[i], provider.getZone(ids[i]));
+            }
+        }
+        assertEquals(5, provider.getLoadCount());
+        assertEquals(503, provider.getEvictionCount());
+
+        // the two most recently used zones are held strongly
+        assertSame(zones[3], provider.getZone(ids[3]));
+        assertSame(zones[4], provider.getZone(ids[4]));
+        assertEquals(503, provider.getEvictionCount());
+    }
+
+    public void testStrongCacheMoreZonesInUse_threads() throws Exception {
+        System.setProperty(CACHE_SIZE, "2");
+        final ZoneInfoProvider provider = new ZoneInfoProvider("org/joda/time/tz/data");
+        final String[] ids = {"Europe/Paris", "Europe/Berlin", "Europe/Rome", "Europe/Madrid", "Europe/Vienna"};
+        final DateTimeZone[] zones = new DateTimeZone[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            zones[i] = provider.getZone(ids[i]);
+        }
+        final int[] failures = new int[1];
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            final int start = t;
+            threads[t] = new Thread() {
+                public void run() {
+                    for (int i = 0; i < 10000; i++) {
+                        int index = (start + i) % ids.length;
+                        if (provider.getZone(ids[index]) != zones[index]) {
+                            synchronized (failures) {
+                                failures[0]++;
+                            }
+                        }
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        for (int t = 0; t < threads.length; t++) {
+            threads[t].join();
+        }
+        assertEquals(0, failures[0]);
+        assertEquals(5, provider.getLoadCount());
+    }
+
+    public void testPinnedAliases() throws Exception {
+        System.setProperty(PINNED_ZONES, "GB,US/Eastern,Nowhere/Unknown,Europe/Paris");
+        ZoneInfoProvider provider = new ZoneInfoProvider("org/joda/time/tz/data");
+        assertEquals(3, provider.getPinnedZones().size());
+        assertEquals(true, provider.getPinnedZones().contains("Europe/London"));
+        assertEquals(true, provider.getPinnedZones().contains("America/New_York"));
+        assertEquals(true, provider.getPinnedZones().contains("Europe/Paris"));
+
+        // zones loaded by an alias are pinned
+        DateTimeZone london = provider.getZone("GB");
+        assertEquals("Europe/London", london.getID());
+        DateTimeZone newYork = provider.getZone("US/Eastern");
+        assertEquals(2, provider.getLoadCount());
+        assertSame(london, provider.getZone("Europe/London"));
+        assertSame(newYork, provider.getZone("America/New_York"));
+        assertEquals(2, provider.getLoadCount());
+    }
+
+    public void testInvalidProperties() throws Exception {
+        System.setProperty(CACHE_SIZE, "many");
+        ZoneInfoProvider provider = new ZoneInfoProvider("org/joda/time/tz/data");
+        assertEquals(0, provider.getCacheSize());
+        System.setProperty(CACHE_SIZE, "-5");
+        provider = new ZoneInfoProvider("org/joda/time/tz/data");
+        assertEquals(0, provider.getCacheSize());
+    }
+
+}